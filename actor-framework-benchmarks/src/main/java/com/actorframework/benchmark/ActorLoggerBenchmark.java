@@ -0,0 +1,74 @@
+package com.actorframework.benchmark;
+
+import com.actorframework.core.actor.AbstractActor;
+import com.actorframework.core.logging.ActorLogger;
+import com.actorframework.core.logging.LogOverflowStrategy;
+import com.actorframework.core.message.Message;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût, sur le thread de l'acteur, des deux événements journalisés par message traité
+ * (MESSAGE_RECEIVED puis MESSAGE_SENT), pour 64 acteurs et 4 threads.
+ * Avec le logger synchrone (verrou + String.format + PrintWriter auto-flush),
+ * la même mesure donnait environ 24 µs par message, contre environ 160 ns en DROP.
+ * Le benchmark produit plus vite que le disque : en BLOCK il mesure donc le débit
+ * du thread d'écriture vers le journal binaire (environ 0,4 µs par message sur un thread), et en DROP la plupart
+ * des événements sont abandonnés (nombre affiché à la fin de chaque itération).
+ *
+ * <pre>
+ * java -jar actor-framework-benchmarks/target/benchmarks.jar ActorLoggerBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@Threads(4)
+public class ActorLoggerBenchmark {
+    
+    @Param({"DROP", "BLOCK"})
+    private LogOverflowStrategy overflowStrategy;
+    
+    private ActorLogger actorLogger;
+    private final AbstractActor[] actors = new AbstractActor[64];
+    private final Message message = new Message("PERFORM_ACTION", "SCORE", true);
+    
+    @Setup
+    public void setUp() throws IOException {
+        String logDir = Files.createTempDirectory("actor-logs").toString();
+        actorLogger = new ActorLogger(logDir, ActorLogger.DEFAULT_BUFFER_SIZE, overflowStrategy,
+                                      ActorLogger.DEFAULT_FLUSH_SIZE, ActorLogger.DEFAULT_FLUSH_INTERVAL);
+        for (int i = 0; i < actors.length; i++) {
+            actors[i] = new AbstractActor("bench-player-" + i) { };
+        }
+    }
+    
+    @TearDown(Level.Iteration)
+    public void reportDrops() {
+        System.out.println();
+        System.out.println("Dropped events: " + actorLogger.getDroppedCount());
+    }
+    
+    @TearDown
+    public void tearDown() {
+        actorLogger.close();
+    }
+    
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+    
+    @Benchmark
+    public void receiveAndReply(Cursor cursor) {
+        AbstractActor actor = actors[cursor.next++ & (actors.length - 1)];
+        actorLogger.logMessageReceived(actor, message);
+        actorLogger.logMessageSent(actor, message, "Action performed: SCORE");
+    }
+}
@@ -0,0 +1,105 @@
+package com.actorframework.benchmark;
+
+import com.actorframework.core.actor.AbstractActor;
+import com.actorframework.core.actor.Actor;
+import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.dispatch.Dispatcher;
+import com.actorframework.core.dispatch.DispatcherMode;
+import com.actorframework.core.dispatch.MailboxConfig;
+import com.actorframework.core.logging.ActorLogger;
+import com.actorframework.core.message.Message;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare le pool de threads et les threads virtuels sur un grand nombre de matchs simultanés.
+ * Chaque action de jeu simule l'appel bloquant que fait ScoreboardActor vers le service Player
+ * (ask distant / HTTP) par une attente de {@code remoteLatencyMillis}.
+ *
+ * <pre>
+ * mvn -pl actor-framework-benchmarks -am package -DskipTests
+ * java -jar actor-framework-benchmarks/target/benchmarks.jar DispatcherBenchmark
+ * </pre>
+ * Le mode VIRTUAL_THREADS nécessite une JVM 21+ (sinon il retombe sur le pool de threads).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DispatcherBenchmark {
+    
+    @Param({"THREAD_POOL", "VIRTUAL_THREADS"})
+    private DispatcherMode mode;
+    
+    @Param({"10000"})
+    private int games;
+    
+    @Param({"1"})
+    private int remoteLatencyMillis;
+    
+    private ActorSystem actorSystem;
+    private final List<Actor> scoreboards = new ArrayList<>();
+    
+    @Setup
+    public void setUp() {
+        ActorLogger actorLogger = ActorLogger.disabled();
+        Dispatcher dispatcher = Dispatcher.create(mode, actorLogger,
+            Runtime.getRuntime().availableProcessors() * 2, Dispatcher.DEFAULT_THROUGHPUT);
+        dispatcher.setDefaultMailboxConfig(MailboxConfig.unbounded());
+        actorSystem = new ActorSystem(actorLogger, dispatcher);
+        
+        for (int i = 0; i < games; i++) {
+            SimulatedScoreboardActor scoreboard = new SimulatedScoreboardActor("scoreboard-" + i, remoteLatencyMillis);
+            actorSystem.createActor(scoreboard);
+            scoreboards.add(scoreboard);
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        actorSystem.shutdown();
+        scoreboards.clear();
+    }
+    
+    /**
+     * Une action de jeu sur chacun des matchs, attente de toutes les réponses
+     */
+    @Benchmark
+    public Object playerActionOnEveryGame() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[scoreboards.size()];
+        for (int i = 0; i < futures.length; i++) {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            actorSystem.sendMessageWithCallback(scoreboards.get(i), new Message("PLAYER_ACTION", 2, true), future);
+            futures[i] = future;
+        }
+        return CompletableFuture.allOf(futures).join();
+    }
+    
+    static class SimulatedScoreboardActor extends AbstractActor {
+        private final int remoteLatencyMillis;
+        private int score;
+        
+        SimulatedScoreboardActor(String actorId, int remoteLatencyMillis) {
+            super(actorId);
+            this.remoteLatencyMillis = remoteLatencyMillis;
+        }
+        
+        @Override
+        protected Object onReceive(Message message) {
+            try {
+                // Équivalent du tell/ask bloquant vers le PlayerActor distant
+                Thread.sleep(remoteLatencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            score += (Integer) message.getPayload();
+            return score;
+        }
+    }
+}
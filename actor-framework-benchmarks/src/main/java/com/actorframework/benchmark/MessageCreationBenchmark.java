@@ -0,0 +1,76 @@
+package com.actorframework.benchmark;
+
+import com.actorframework.core.message.Message;
+import com.actorframework.core.message.NodeSequenceIdGenerator;
+import com.actorframework.core.message.RandomMessageIdGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût de création d'un {@link Message} sur 1, 8 et 32 threads :
+ * <ul>
+ *   <li>{@code legacyUuid} : ancien constructeur (UUID.randomUUID() + LocalDateTime.now())</li>
+ *   <li>{@code tell} : message sans identifiant (attribué seulement s'il est lu)</li>
+ *   <li>{@code askNodeSequence} / {@code askRandom} : message dont l'identifiant est lu (ask, envoi distant)</li>
+ * </ul>
+ * Les allocations par message sont mesurées avec le profileur GC :
+ * <pre>
+ * java -jar actor-framework-benchmarks/target/benchmarks.jar MessageCreationBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class MessageCreationBenchmark {
+    
+    @State(Scope.Benchmark)
+    public static class Generators {
+        // Partagés entre les threads, comme le générateur global de Message
+        final NodeSequenceIdGenerator nodeSequence = new NodeSequenceIdGenerator(1);
+        final RandomMessageIdGenerator random = new RandomMessageIdGenerator();
+    }
+    
+    @Benchmark
+    public Message legacyUuid(Blackhole blackhole) {
+        blackhole.consume(UUID.randomUUID().toString());
+        blackhole.consume(LocalDateTime.now());
+        return new Message("PERFORM_ACTION", "SCORE", false);
+    }
+    
+    @Benchmark
+    public Message tell() {
+        return new Message("PERFORM_ACTION", "SCORE", false);
+    }
+    
+    @Benchmark
+    public Message askNodeSequence(Generators generators) {
+        Message message = new Message("GET_STATS", null, true);
+        message.setMessageId(generators.nodeSequence.nextId());
+        return message;
+    }
+    
+    @Benchmark
+    public Message askRandom(Generators generators) {
+        Message message = new Message("GET_STATS", null, true);
+        message.setMessageId(generators.random.nextId());
+        return message;
+    }
+    
+    @Threads(1)
+    public static class OneThread extends MessageCreationBenchmark {
+    }
+    
+    @Threads(8)
+    public static class EightThreads extends MessageCreationBenchmark {
+    }
+    
+    @Threads(32)
+    public static class ThirtyTwoThreads extends MessageCreationBenchmark {
+    }
+}
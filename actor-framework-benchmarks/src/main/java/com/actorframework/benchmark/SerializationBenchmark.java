@@ -0,0 +1,68 @@
+package com.actorframework.benchmark;
+
+import com.actorframework.core.message.Message;
+import com.actorframework.core.serialization.BinaryMessageSerializer;
+import com.actorframework.core.serialization.JsonMessageSerializer;
+import com.actorframework.core.serialization.MessageSerializer;
+import com.actorframework.core.serialization.PayloadTypeRegistry;
+import com.actorframework.core.serialization.SerializationFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare JSON (Jackson) et le format binaire sur un PERFORM_ACTION typique
+ * envoyé par ScoreboardActor au service Player : temps d'encodage / décodage.
+ * La taille d'un message encodé est affichée au démarrage de chaque format.
+ *
+ * <pre>
+ * java -jar actor-framework-benchmarks/target/benchmarks.jar SerializationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+    
+    @Param({"JSON", "BINARY"})
+    private SerializationFormat format;
+    
+    private MessageSerializer serializer;
+    private Message message;
+    private byte[] encoded;
+    
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        serializer = format == SerializationFormat.BINARY
+            ? new BinaryMessageSerializer(new PayloadTypeRegistry(), objectMapper)
+            : new JsonMessageSerializer(objectMapper);
+        
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("action", "SCORE");
+        payload.put("points", 3);
+        message = new Message("PERFORM_ACTION", payload, false);
+        message.setSenderPath("/user/ScoreboardActor/game-42");
+        message.setReceiverPath("remote://nba-player-service/user/PlayerActor/player-23");
+        
+        encoded = serializer.serialize(message);
+        System.out.println();
+        System.out.println(format + ": " + encoded.length + " bytes per message");
+    }
+    
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(message);
+    }
+    
+    @Benchmark
+    public Message decode() {
+        return serializer.deserialize(encoded, Message.class);
+    }
+}
@@ -1,19 +1,31 @@
 package com.actorframework.core.actor;
 
 import com.actorframework.core.message.Message;
+import com.actorframework.core.pubsub.EventStream;
+import com.actorframework.core.scheduling.ActorScheduler;
+import com.actorframework.core.scheduling.Cancellable;
 import com.actorframework.core.supervision.SupervisorStrategy;
 import com.actorframework.core.supervision.DefaultSupervisorStrategy;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 /**
  * Classe abstraite de base pour tous les acteurs.
  * Fournit une implémentation par défaut des fonctionnalités communes.
+ * Les messages sont dispatchés vers les méthodes annotées {@link MessageHandler}
+ * (par type de message ou par classe du payload), sinon vers {@link #onReceive}.
+ * Un acteur créé par l'{@link ActorSystem} peut se planifier des messages
+ * ({@link #scheduleOnce}, {@link #scheduleAtFixedRate}), annulés automatiquement à son arrêt,
+ * et s'abonner à des sujets du flux d'événements ({@link #subscribe}, {@link #publish}), désabonné à son arrêt.
+ * Un acteur {@link StatefulActor} répond au message {@link StatefulActor#SNAPSHOT} par son état.
  */
 @Getter
 public abstract class AbstractActor implements Actor {
@@ -25,6 +37,16 @@ public abstract class AbstractActor implements Actor {
     protected String actorPath;
     protected final AtomicBoolean active = new AtomicBoolean(false);
     protected SupervisorStrategy supervisorStrategy;
+    // Gestionnaires @MessageHandler de la classe, construits une fois par classe
+    @Getter(AccessLevel.NONE)
+    private final HandlerTable handlers = HandlerTable.forClass(getClass());
+    // Référence vers soi-même, planificateur et flux d'événements partagés, fournis par l'ActorSystem à la création
+    @Getter(AccessLevel.NONE)
+    private volatile ActorRef self;
+    @Getter(AccessLevel.NONE)
+    private volatile ActorScheduler scheduler;
+    @Getter(AccessLevel.NONE)
+    private volatile EventStream eventStream;
     
     public AbstractActor() {
         this.actorId = UUID.randomUUID().toString();
@@ -74,10 +96,109 @@ public abstract class AbstractActor implements Actor {
     @Override
     public void stop() {
         if (active.compareAndSet(true, false)) {
+            cancelTimers();
             postStop();
         }
     }
     
+    /**
+     * Rattache l'acteur à son système (appelé par {@link ActorSystem#createActor(Actor)})
+     */
+    void attach(ActorRef self, ActorScheduler scheduler, EventStream eventStream) {
+        this.self = self;
+        this.scheduler = scheduler;
+        this.eventStream = eventStream;
+    }
+    
+    /**
+     * Référence vers cet acteur, null s'il n'a pas été créé par un ActorSystem
+     */
+    protected ActorRef self() {
+        return self;
+    }
+    
+    /**
+     * Se renvoie un message après le délai donné, via la boîte aux lettres
+     */
+    protected Cancellable scheduleOnce(Duration delay, Message message) {
+        return requireScheduler().scheduleOnce(self, delay, message);
+    }
+    
+    /**
+     * Se renvoie périodiquement un message du type donné (ex: {@code TICK}), sans payload
+     */
+    protected Cancellable scheduleAtFixedRate(Duration initialDelay, Duration interval, String messageType) {
+        return scheduleAtFixedRate(initialDelay, interval, () -> new Message(messageType, null));
+    }
+    
+    /**
+     * Se renvoie périodiquement un nouveau message construit par la fabrique
+     */
+    protected Cancellable scheduleAtFixedRate(Duration initialDelay, Duration interval,
+                                              Supplier<Message> messageFactory) {
+        return requireScheduler().scheduleAtFixedRate(self, initialDelay, interval, messageFactory);
+    }
+    
+    /**
+     * Annule toutes les minuteries de cet acteur
+     */
+    protected void cancelTimers() {
+        if (scheduler != null) {
+            scheduler.cancelAll(getActorPath());
+        }
+    }
+    
+    /**
+     * S'abonne à un sujet du flux d'événements : chaque événement publié arrive comme un message
+     * dont le type est le sujet
+     */
+    protected void subscribe(String topic) {
+        requireEventStream().subscribe(topic, self);
+    }
+    
+    /**
+     * S'abonne aux événements d'une classe (remis aux gestionnaires typés par cette classe)
+     */
+    protected void subscribe(Class<?> eventClass) {
+        requireEventStream().subscribe(eventClass, self);
+    }
+    
+    /**
+     * S'abonne à un sujet publié par les instances d'un autre service
+     */
+    protected void subscribeRemote(String serviceName, String topic) {
+        requireEventStream().subscribeRemote(serviceName, topic, self);
+    }
+    
+    protected void unsubscribe(String topic) {
+        requireEventStream().unsubscribe(topic, self);
+    }
+    
+    /**
+     * Publie un événement sur le sujet de sa classe
+     */
+    protected void publish(Object event) {
+        requireEventStream().publish(event);
+    }
+    
+    protected void publish(String topic, Object event) {
+        requireEventStream().publish(topic, event);
+    }
+    
+    private EventStream requireEventStream() {
+        if (eventStream == null || self == null) {
+            throw new IllegalStateException("Actor " + getActorPath() + " is not attached to an ActorSystem");
+        }
+        return eventStream;
+    }
+    
+    private ActorScheduler requireScheduler() {
+        if (scheduler == null || self == null) {
+            throw new IllegalStateException("Actor " + getActorPath() + " is not attached to an ActorSystem");
+        }
+        return scheduler;
+    }
+    
     @Override
     public SupervisorStrategy getSupervisorStrategy() {
         return supervisorStrategy;
@@ -96,16 +217,33 @@ public abstract class AbstractActor implements Actor {
         
         try {
             logger.debug("Actor {} received message: {}", actorId, message);
-            return onReceive(message);
+            if (this instanceof StatefulActor<?> stateful && StatefulActor.SNAPSHOT.equals(message.getMessageType())) {
+                return stateful.snapshotState();
+            }
+            HandlerTable.Handler handler = handlers.find(message);
+            return handler != null ? invoke(handler, message) : onReceive(message);
         } catch (Exception e) {
             onError(e, message);
             throw e;
         }
     }
     
+    private Object invoke(HandlerTable.Handler handler, Message message) {
+        try {
+            return handler.invoke(this, message);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Handler failed for message " + message.getMessageType(), e);
+        }
+    }
+    
     /**
-     * Méthode à implémenter par les sous-classes pour définir le comportement de l'acteur.
+     * Traite les messages sans gestionnaire {@link MessageHandler}.
+     * Les sous-classes peuvent la redéfinir (dispatch manuel) ; par défaut le message est ignoré.
      */
-    protected abstract Object onReceive(Message message);
+    protected Object onReceive(Message message) {
+        logger.warn("Actor {} has no handler for message type {}", actorId, message.getMessageType());
+        return null;
+    }
 }
-
@@ -0,0 +1,10 @@
+package com.actorframework.core.actor;
+
+/**
+ * Recrée un acteur à partir de son identifiant et de son état capturé ({@link StatefulActor})
+ */
+@FunctionalInterface
+public interface ActorFactory<S> {
+    
+    Actor create(String actorId, S state);
+}
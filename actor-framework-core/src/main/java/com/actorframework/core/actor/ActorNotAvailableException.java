@@ -0,0 +1,22 @@
+package com.actorframework.core.actor;
+
+import lombok.Getter;
+
+/**
+ * Levée lorsqu'un message ne peut pas être remis : acteur arrêté, inconnu ou service injoignable.
+ */
+@Getter
+public class ActorNotAvailableException extends RuntimeException {
+    
+    private final String actorPath;
+    
+    public ActorNotAvailableException(String actorPath, String reason) {
+        super("Actor " + actorPath + " is not available: " + reason);
+        this.actorPath = actorPath;
+    }
+    
+    public ActorNotAvailableException(String actorPath, Throwable cause) {
+        super("Actor " + actorPath + " is not available: " + cause.getMessage(), cause);
+        this.actorPath = actorPath;
+    }
+}
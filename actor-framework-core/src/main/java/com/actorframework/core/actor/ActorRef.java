@@ -2,6 +2,9 @@ package com.actorframework.core.actor;
 
 import com.actorframework.core.message.Message;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Référence vers un acteur, permettant l'envoi de messages sans exposer l'acteur directement.
  * Inspiré d'Akka ActorRef.
@@ -18,14 +21,30 @@ public interface ActorRef {
      */
     void tell(Message message);
     
+    /**
+     * Envoie plusieurs messages dans l'ordre (fire-and-forget) ; une référence locale
+     * les dépose en une fois dans la boîte aux lettres
+     */
+    default void tellAll(List<Message> messages) {
+        messages.forEach(this::tell);
+    }
+    
     /**
      * Envoie un message de manière synchrone et attend une réponse
+     * @return La réponse, ou null si l'acteur n'a pas répondu (délai dépassé, erreur)
      */
     Object ask(Message message, long timeoutMillis);
     
+    /**
+     * Envoie un message et retourne immédiatement un futur complété par la réponse.
+     * Le futur échoue avec {@link AskTimeoutException} si le délai est dépassé,
+     * {@link ActorNotAvailableException} si l'acteur est injoignable,
+     * ou l'exception levée par l'acteur.
+     */
+    <T> CompletableFuture<T> askAsync(Message message, long timeoutMillis);
+    
     /**
      * Vérifie si l'acteur référencé est disponible
      */
     boolean isAvailable();
 }
-
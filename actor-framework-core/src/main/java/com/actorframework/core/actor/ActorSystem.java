@@ -1,13 +1,24 @@
 package com.actorframework.core.actor;
 
+import com.actorframework.core.dispatch.Dispatcher;
+import com.actorframework.core.dispatch.Envelope;
+import com.actorframework.core.dispatch.Mailbox;
 import com.actorframework.core.message.Message;
 import com.actorframework.core.logging.ActorLogger;
+import com.actorframework.core.persistence.EventJournal;
+import com.actorframework.core.pubsub.EventStream;
+import com.actorframework.core.scheduling.ActorScheduler;
+import com.actorframework.core.sharding.ActorSharding;
+import com.actorframework.core.sharding.SnapshotStore;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Système d'acteurs gérant le cycle de vie et la communication entre acteurs.
@@ -18,25 +29,68 @@ public class ActorSystem {
     
     private final Map<String, Actor> actors = new ConcurrentHashMap<>();
     private final Map<String, ActorRef> actorRefs = new ConcurrentHashMap<>();
-    private final ExecutorService executorService;
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final Map<String, ActorType<?>> actorTypes = new ConcurrentHashMap<>();
+    private final Dispatcher dispatcher;
     private final ActorLogger actorLogger;
-    private final AtomicInteger actorCounter = new AtomicInteger(0);
+    /**
+     * Planificateur partagé : un seul thread de minuterie quel que soit le nombre d'acteurs
+     */
+    @Getter
+    private final ActorScheduler scheduler;
+    /**
+     * Flux d'événements par sujet, partagé par les acteurs du système
+     */
+    @Getter
+    private final EventStream eventStream = new EventStream();
+    /**
+     * Passivation des acteurs inactifs, null tant que {@link #enableSharding} n'a pas été appelé
+     */
+    @Getter
+    private volatile ActorSharding sharding;
+    /**
+     * Journal des acteurs {@link EventSourcedActor}, null tant que {@link #enablePersistence} n'a pas été appelé
+     */
+    @Getter
+    private volatile EventJournal eventJournal;
+    private volatile int snapshotEvery;
     
     public ActorSystem(ActorLogger actorLogger) {
+        this(actorLogger, new Dispatcher(actorLogger));
+    }
+    
+    public ActorSystem(ActorLogger actorLogger, Dispatcher dispatcher) {
+        this(actorLogger, dispatcher, new ActorScheduler());
+    }
+    
+    public ActorSystem(ActorLogger actorLogger, Dispatcher dispatcher, ActorScheduler scheduler) {
         this.actorLogger = actorLogger;
-        int corePoolSize = Runtime.getRuntime().availableProcessors();
-        this.executorService = new ThreadPoolExecutor(
-            corePoolSize,
-            corePoolSize * 2,
-            60L,
-            TimeUnit.SECONDS,
-            new LinkedBlockingQueue<>(1000),
-            r -> {
-                Thread t = new Thread(r, "ActorSystem-" + actorCounter.incrementAndGet());
-                t.setDaemon(true);
-                return t;
-            }
-        );
+        this.dispatcher = dispatcher;
+        this.scheduler = scheduler;
+    }
+    
+    /**
+     * Active le sharding : les acteurs avec état d'un type enregistré, créés ensuite, sont passivés
+     * après {@code passivateAfter} sans message et réactivés au message suivant
+     */
+    public ActorSharding enableSharding(SnapshotStore snapshotStore, int numberOfShards, Duration passivateAfter) {
+        if (sharding != null) {
+            throw new IllegalStateException("Sharding is already enabled");
+        }
+        sharding = new ActorSharding(this, snapshotStore, numberOfShards, passivateAfter, scheduler.getTimer());
+        return sharding;
+    }
+    
+    /**
+     * Active la persistance : les acteurs {@link EventSourcedActor} créés ensuite écrivent leurs événements
+     * dans le journal et reprennent leur état au démarrage (instantané tous les {@code snapshotEvery} événements)
+     */
+    public void enablePersistence(EventJournal journal, int snapshotEvery) {
+        if (eventJournal != null) {
+            throw new IllegalStateException("Persistence is already enabled");
+        }
+        this.snapshotEvery = snapshotEvery;
+        this.eventJournal = journal;
     }
     
     /**
@@ -64,8 +118,20 @@ public class ActorSystem {
         }
         
         actors.put(path, actor);
+        mailboxes.put(path, dispatcher.createMailbox(actor));
         ActorRef ref = new LocalActorRef(actor, this);
+        // Acteur passivable : référence stable qui survit à la passivation
+        ActorSharding currentSharding = sharding;
+        if (currentSharding != null && currentSharding.manages(actor)) {
+            ref = currentSharding.register(actor, ref);
+        }
         actorRefs.put(path, ref);
+        if (actor instanceof AbstractActor abstractActor) {
+            abstractActor.attach(ref, scheduler, eventStream);
+        }
+        if (actor instanceof EventSourcedActor<?> eventSourced) {
+            eventSourced.attachJournal(eventJournal, snapshotEvery);
+        }
         
         actor.preStart();
         actorLogger.logActorCreation(actor);
@@ -75,10 +141,42 @@ public class ActorSystem {
     }
     
     /**
-     * Obtient une référence vers un acteur par son chemin
+     * Enregistre un type d'acteur recréable à partir de son état (nom : nom simple de la classe)
+     * @throws IllegalArgumentException si un type de même nom est déjà enregistré
+     */
+    public <S> ActorType<S> registerActorType(Class<? extends Actor> actorClass, Class<S> stateType,
+                                              ActorFactory<S> factory) {
+        ActorType<S> actorType = new ActorType<>(actorClass.getSimpleName(), stateType, factory);
+        if (actorTypes.putIfAbsent(actorType.name(), actorType) != null) {
+            throw new IllegalArgumentException("Actor type " + actorType.name() + " is already registered");
+        }
+        return actorType;
+    }
+    
+    /**
+     * Type d'acteur enregistré sous ce nom, null s'il est inconnu
+     */
+    public ActorType<?> getActorType(String name) {
+        return name != null ? actorTypes.get(name) : null;
+    }
+    
+    /**
+     * Chemins des acteurs en cours d'exécution
+     */
+    public Set<String> getActorPaths() {
+        return Set.copyOf(actors.keySet());
+    }
+    
+    /**
+     * Obtient une référence vers un acteur par son chemin (y compris un acteur passivé)
      */
     public ActorRef getActorRef(String path) {
-        return actorRefs.get(path);
+        ActorRef ref = actorRefs.get(path);
+        ActorSharding currentSharding = sharding;
+        if (ref == null && currentSharding != null) {
+            ref = currentSharding.getRef(path);
+        }
+        return ref;
     }
     
     /**
@@ -89,36 +187,80 @@ public class ActorSystem {
     }
     
     /**
-     * Envoie un message à un acteur de manière asynchrone
+     * Envoie un message à un acteur de manière asynchrone (dépôt dans sa boîte aux lettres)
      */
     public void sendMessage(Actor actor, Message message) {
-        executorService.submit(() -> {
-            try {
-                actorLogger.logMessageReceived(actor, message);
-                actor.receive(message);
-            } catch (Exception e) {
-                log.error("Error processing message in actor {}", actor.getActorPath(), e);
-                actor.onError(e, message);
-            }
-        });
+        Mailbox mailbox = mailboxes.get(actor.getActorPath());
+        if (mailbox == null) {
+            log.warn("No mailbox for actor {}, message {} dropped", actor.getActorPath(), message.peekMessageId());
+            return;
+        }
+        mailbox.enqueue(new Envelope(message, null));
+    }
+    
+    /**
+     * Dépose plusieurs messages d'un coup dans la boîte d'un acteur (un seul réveil pour le lot)
+     */
+    public void sendMessages(Actor actor, List<Message> messages) {
+        Mailbox mailbox = mailboxes.get(actor.getActorPath());
+        if (mailbox == null) {
+            log.warn("No mailbox for actor {}, {} messages dropped", actor.getActorPath(), messages.size());
+            return;
+        }
+        List<Envelope> envelopes = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            envelopes.add(new Envelope(message, null));
+        }
+        mailbox.enqueueAll(envelopes);
     }
     
     /**
      * Envoie un message avec callback pour les communications synchrones
      */
     public void sendMessageWithCallback(Actor actor, Message message, CompletableFuture<Object> future) {
-        executorService.submit(() -> {
-            try {
-                actorLogger.logMessageReceived(actor, message);
-                Object response = actor.receive(message);
-                future.complete(response);
-                actorLogger.logMessageSent(actor, message, response);
-            } catch (Exception e) {
-                log.error("Error processing message in actor {}", actor.getActorPath(), e);
-                actor.onError(e, message);
-                future.completeExceptionally(e);
-            }
-        });
+        Mailbox mailbox = mailboxes.get(actor.getActorPath());
+        if (mailbox == null) {
+            future.completeExceptionally(
+                new IllegalStateException("No mailbox for actor " + actor.getActorPath()));
+            return;
+        }
+        mailbox.enqueue(new Envelope(message, future));
+    }
+    
+    /**
+     * Suspend la livraison à un acteur (voir {@link Mailbox#fence}) : il traite les messages déjà reçus
+     * puis {@code barrier}, dont la réponse complète le futur ; les messages suivants sont mis de côté
+     * jusqu'à {@link #resumeDelivery} ou {@link #takeFencedMessages}.
+     */
+    public CompletableFuture<Object> fence(String path, Message barrier) {
+        Mailbox mailbox = mailboxes.get(path);
+        if (mailbox == null) {
+            return CompletableFuture.failedFuture(new ActorNotAvailableException(path, "actor is not running"));
+        }
+        barrier.setRequiresResponse(true);
+        barrier.setReceiverPath(path);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        mailbox.fence(new Envelope(barrier, future));
+        return future;
+    }
+    
+    /**
+     * Lève la suspension : les messages mis de côté sont livrés à l'acteur, dans l'ordre
+     */
+    public void resumeDelivery(String path) {
+        Mailbox mailbox = mailboxes.get(path);
+        if (mailbox != null) {
+            mailbox.resume();
+        }
+    }
+    
+    /**
+     * Retire les messages non traités d'un acteur suspendu, pour les transmettre ailleurs ;
+     * sa boîte est fermée, l'acteur reste à arrêter
+     */
+    public List<Envelope> takeFencedMessages(String path) {
+        Mailbox mailbox = mailboxes.get(path);
+        return mailbox != null ? mailbox.drainFenced() : List.of();
     }
     
     /**
@@ -127,11 +269,24 @@ public class ActorSystem {
     public void stopActor(String path) {
         Actor actor = actors.remove(path);
         if (actor != null) {
+            Mailbox mailbox = mailboxes.remove(path);
+            if (mailbox != null) {
+                mailbox.close();
+            }
+            scheduler.cancelAll(path);
             actor.stop();
             actorRefs.remove(path);
             actorLogger.logActorStopped(actor);
             log.info("Stopped actor at path {}", path);
         }
+        ActorSharding currentSharding = sharding;
+        if (currentSharding != null) {
+            currentSharding.actorStopped(path);
+        }
+        // Un acteur passivé reste abonné : sa référence stable le réactive au prochain événement
+        if (currentSharding == null || !currentSharding.contains(path)) {
+            eventStream.unsubscribeAll(path);
+        }
     }
     
     /**
@@ -139,18 +294,16 @@ public class ActorSystem {
      */
     public void shutdown() {
         log.info("Shutting down ActorSystem...");
+        if (sharding != null) {
+            sharding.stop();
+        }
+        scheduler.shutdown();
+        mailboxes.values().forEach(Mailbox::close);
         actors.values().forEach(Actor::stop);
         actors.clear();
         actorRefs.clear();
-        executorService.shutdown();
-        try {
-            if (!executorService.awaitTermination(10, TimeUnit.SECONDS)) {
-                executorService.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            executorService.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
+        mailboxes.clear();
+        dispatcher.shutdown();
     }
     
     /**
@@ -161,5 +314,19 @@ public class ActorSystem {
             .filter(Actor::isActive)
             .count();
     }
+    
+    /**
+     * Obtient le nombre de messages refusés par des boîtes pleines, par type d'acteur
+     */
+    public Map<String, Long> getRejectedMessageCounts() {
+        return dispatcher.getRejectedMessageCounts();
+    }
+    
+    /**
+     * Obtient le nombre de messages en attente dans la boîte d'un acteur
+     */
+    public int getMailboxSize(String path) {
+        Mailbox mailbox = mailboxes.get(path);
+        return mailbox != null ? mailbox.size() : 0;
+    }
 }
-
@@ -0,0 +1,36 @@
+package com.actorframework.core.actor;
+
+/**
+ * Type d'acteur enregistré dans l'{@link ActorSystem} : nom (segment du chemin
+ * {@code /user/<type>/<id>}), classe de son état et fabrique.
+ * Permet de recréer un acteur sur un autre nœud à partir de son état.
+ */
+public record ActorType<S>(String name, Class<S> stateType, ActorFactory<S> factory) {
+    
+    private static final String USER_PREFIX = "/user/";
+    
+    /**
+     * Crée une instance de l'acteur ; l'état doit être du type déclaré (ou null)
+     */
+    public Actor create(String actorId, Object state) {
+        return factory.create(actorId, stateType.cast(state));
+    }
+    
+    /**
+     * Chemin d'un acteur de ce type
+     */
+    public String actorPath(String actorId) {
+        return USER_PREFIX + name + "/" + actorId;
+    }
+    
+    /**
+     * Nom du type d'un chemin {@code /user/<type>/<id>}, null si le chemin n'a pas cette forme
+     */
+    public static String nameOf(String actorPath) {
+        if (actorPath == null || !actorPath.startsWith(USER_PREFIX)) {
+            return null;
+        }
+        int end = actorPath.indexOf('/', USER_PREFIX.length());
+        return end > USER_PREFIX.length() ? actorPath.substring(USER_PREFIX.length(), end) : null;
+    }
+}
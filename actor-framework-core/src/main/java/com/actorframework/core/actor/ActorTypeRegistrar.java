@@ -0,0 +1,10 @@
+package com.actorframework.core.actor;
+
+/**
+ * Enregistre des types d'acteurs applicatifs. Chaque bean de ce type est appliqué
+ * à l'{@link ActorSystem} au démarrage du service.
+ */
+public interface ActorTypeRegistrar {
+    
+    void registerActorTypes(ActorSystem actorSystem);
+}
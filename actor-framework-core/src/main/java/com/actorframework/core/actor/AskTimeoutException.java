@@ -0,0 +1,20 @@
+package com.actorframework.core.actor;
+
+import lombok.Getter;
+
+/**
+ * Levée lorsqu'un acteur ne répond pas à un ask dans le délai imparti.
+ * Inspiré d'Akka AskTimeoutException.
+ */
+@Getter
+public class AskTimeoutException extends RuntimeException {
+    
+    private final String actorPath;
+    private final long timeoutMillis;
+    
+    public AskTimeoutException(String actorPath, long timeoutMillis) {
+        super("Ask to actor " + actorPath + " timed out after " + timeoutMillis + " ms");
+        this.actorPath = actorPath;
+        this.timeoutMillis = timeoutMillis;
+    }
+}
@@ -0,0 +1,110 @@
+package com.actorframework.core.actor;
+
+import com.actorframework.core.persistence.EventJournal;
+import com.actorframework.core.persistence.Snapshot;
+
+/**
+ * Acteur avec état persisté par événements : chaque changement d'état est un événement
+ * ({@link #persist}) écrit dans l'{@link EventJournal} de l'{@link ActorSystem}, puis appliqué
+ * ({@link #applyEvent}). Un instantané de l'état ({@link #snapshotState}) est écrit à la création,
+ * puis tous les {@code snapshotEvery} événements ou à la demande ({@link #saveSnapshot}).
+ * Au démarrage ({@link #preStart}), l'acteur reprend son dernier instantané puis rejoue les événements suivants.
+ * Le flux de l'acteur est identifié par son chemin. Sans journal (persistance désactivée, tests),
+ * les événements sont seulement appliqués.
+ */
+public abstract class EventSourcedActor<S> extends AbstractActor implements StatefulActor<S> {
+    
+    public static final int DEFAULT_SNAPSHOT_EVERY = 1000;
+    
+    private final Class<S> stateType;
+    // Journal fourni par l'ActorSystem à la création (null si la persistance est désactivée)
+    private volatile EventJournal journal;
+    private volatile int snapshotEvery;
+    private long lastSequenceNr;
+    
+    protected EventSourcedActor(String actorId, Class<S> stateType) {
+        super(actorId);
+        this.stateType = stateType;
+    }
+    
+    /**
+     * Rattache l'acteur au journal (appelé par {@link ActorSystem#createActor(Actor)}, avant {@link #preStart})
+     */
+    void attachJournal(EventJournal journal, int snapshotEvery) {
+        this.journal = journal;
+        this.snapshotEvery = snapshotEvery;
+    }
+    
+    /**
+     * Applique un événement à l'état, lors de {@link #persist} comme lors de la reprise
+     */
+    protected abstract void applyEvent(Object event);
+    
+    /**
+     * Remplace l'état par celui d'un instantané
+     */
+    protected abstract void restoreState(S state);
+    
+    /**
+     * Écrit l'événement dans le journal puis l'applique
+     */
+    protected void persist(Object event) {
+        EventJournal current = journal;
+        if (current != null) {
+            lastSequenceNr = current.append(getActorPath(), event);
+        }
+        applyEvent(event);
+        if (current != null && snapshotEvery > 0 && lastSequenceNr % snapshotEvery == 0) {
+            saveSnapshot();
+        }
+    }
+    
+    /**
+     * Écrit un instantané de l'état courant (ex: changement d'état qui n'est pas un événement)
+     */
+    protected void saveSnapshot() {
+        EventJournal current = journal;
+        if (current != null) {
+            current.saveSnapshot(getActorPath(), lastSequenceNr, snapshotState());
+        }
+    }
+    
+    /**
+     * Numéro du dernier événement persisté ou rejoué
+     */
+    public long getLastSequenceNr() {
+        return lastSequenceNr;
+    }
+    
+    /**
+     * Reprend l'état persisté avant que l'acteur ne traite son premier message
+     */
+    @Override
+    public void preStart() {
+        super.preStart();
+        recover();
+    }
+    
+    private void recover() {
+        EventJournal current = journal;
+        if (current == null) {
+            return;
+        }
+        String persistenceId = getActorPath();
+        Snapshot<S> snapshot = current.loadSnapshot(persistenceId, stateType);
+        if (snapshot == null && current.getHighestSequenceNr(persistenceId) == 0) {
+            // Nouvel acteur (ou reçu d'une autre réplique) : son état initial est le premier instantané
+            saveSnapshot();
+            return;
+        }
+        long fromSequenceNr = 1;
+        if (snapshot != null) {
+            restoreState(snapshot.state());
+            fromSequenceNr = snapshot.sequenceNr() + 1;
+        }
+        long replayed = current.replay(persistenceId, fromSequenceNr, this::applyEvent);
+        lastSequenceNr = current.getHighestSequenceNr(persistenceId);
+        logger.info("Actor {} recovered: snapshot at {}, {} events replayed",
+                    actorId, snapshot != null ? snapshot.sequenceNr() : "none", replayed);
+    }
+}
@@ -0,0 +1,183 @@
+package com.actorframework.core.actor;
+
+import com.actorframework.core.message.Message;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Table des gestionnaires {@link MessageHandler} d'une classe d'acteur.
+ * Construite une seule fois par classe (voir {@link #forClass}) : le dispatch d'un message
+ * se réduit ensuite à une recherche dans une table de hachage, sans réflexion.
+ */
+final class HandlerTable {
+    
+    private static final ClassValue<HandlerTable> TABLES = new ClassValue<>() {
+        @Override
+        protected HandlerTable computeValue(Class<?> actorClass) {
+            return new HandlerTable(actorClass);
+        }
+    };
+    
+    private static final Handler NO_HANDLER = new Handler(null, false);
+    private static final MethodType HANDLER_TYPE =
+        MethodType.methodType(Object.class, Object.class, Object.class, Message.class);
+    
+    private final Map<Class<?>, Handler> byPayloadClass = new HashMap<>();
+    private final Map<String, Handler> byMessageType = new HashMap<>();
+    // Résolution des sous-classes de payload (ex: implémentations d'une interface), mise en cache
+    private final ClassValue<Handler> resolvedPayloadClasses = new ClassValue<>() {
+        @Override
+        protected Handler computeValue(Class<?> payloadClass) {
+            return resolve(payloadClass);
+        }
+    };
+    
+    static HandlerTable forClass(Class<?> actorClass) {
+        return TABLES.get(actorClass);
+    }
+    
+    private HandlerTable(Class<?> actorClass) {
+        // Les gestionnaires des sous-classes masquent ceux des classes parentes
+        for (Class<?> type = actorClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                MessageHandler annotation = method.getAnnotation(MessageHandler.class);
+                if (annotation != null && !method.isBridge()) {
+                    register(actorClass, method, annotation.value());
+                }
+            }
+        }
+    }
+    
+    private void register(Class<?> actorClass, Method method, String messageType) {
+        if (Modifier.isStatic(method.getModifiers())) {
+            throw new IllegalStateException("@MessageHandler method must not be static: " + method);
+        }
+        Class<?>[] parameters = method.getParameterTypes();
+        boolean typed = messageType.isEmpty();
+        if (parameters.length > 2
+                || (parameters.length == 2 && parameters[1] != Message.class)
+                || (typed && (parameters.length == 0 || parameters[0] == Message.class))) {
+            throw new IllegalStateException("Unsupported @MessageHandler signature: " + method);
+        }
+        
+        Handler handler = new Handler(toMethodHandle(actorClass, method), 
+            parameters.length == 1 && parameters[0] == Message.class);
+        if (typed) {
+            byPayloadClass.putIfAbsent(box(parameters[0]), handler);
+        } else {
+            byMessageType.putIfAbsent(messageType, handler);
+        }
+    }
+    
+    /**
+     * Adapte la méthode à la forme commune (acteur, payload, message) -> réponse
+     */
+    private static MethodHandle toMethodHandle(Class<?> actorClass, Method method) {
+        MethodHandle handle;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            handle = lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access @MessageHandler method " + method, e);
+        }
+        
+        Class<?>[] parameters = method.getParameterTypes();
+        if (parameters.length == 0) {
+            // (acteur) -> (acteur, payload, message)
+            handle = MethodHandles.dropArguments(handle, 1, Object.class, Message.class);
+        } else if (parameters.length == 1) {
+            // (acteur, payload) -> (acteur, payload, message)
+            handle = MethodHandles.dropArguments(handle, 2, Message.class);
+        }
+        if (method.getReturnType() == void.class) {
+            handle = MethodHandles.filterReturnValue(handle, MethodHandles.constant(Object.class, null));
+        }
+        return handle.asType(HANDLER_TYPE);
+    }
+    
+    private static Class<?> box(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+    
+    boolean isEmpty() {
+        return byPayloadClass.isEmpty() && byMessageType.isEmpty();
+    }
+    
+    /**
+     * Gestionnaire du message : d'abord par type de message, puis par classe du payload
+     * @return null si aucun gestionnaire ne correspond
+     */
+    Handler find(Message message) {
+        String messageType = message.getMessageType();
+        if (messageType != null) {
+            Handler handler = byMessageType.get(messageType);
+            if (handler != null) {
+                return handler;
+            }
+        }
+        Object payload = message.getPayload();
+        if (payload == null || byPayloadClass.isEmpty()) {
+            return null;
+        }
+        Handler handler = byPayloadClass.get(payload.getClass());
+        if (handler == null) {
+            handler = resolvedPayloadClasses.get(payload.getClass());
+        }
+        return handler != NO_HANDLER ? handler : null;
+    }
+    
+    /**
+     * Gestionnaire le plus spécifique : classes parentes de la plus proche à la plus lointaine,
+     * puis interfaces en largeur (dans l'ordre de déclaration), et Object en dernier
+     */
+    private Handler resolve(Class<?> payloadClass) {
+        Queue<Class<?>> interfaces = new ArrayDeque<>();
+        for (Class<?> type = payloadClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            Handler handler = byPayloadClass.get(type);
+            if (handler != null) {
+                return handler;
+            }
+            interfaces.addAll(Arrays.asList(type.getInterfaces()));
+        }
+        Set<Class<?>> visited = new HashSet<>();
+        Class<?> type;
+        while ((type = interfaces.poll()) != null) {
+            if (!visited.add(type)) {
+                continue;
+            }
+            Handler handler = byPayloadClass.get(type);
+            if (handler != null) {
+                return handler;
+            }
+            interfaces.addAll(Arrays.asList(type.getInterfaces()));
+        }
+        return byPayloadClass.getOrDefault(Object.class, NO_HANDLER);
+    }
+    
+    static final class Handler {
+        
+        private final MethodHandle method;
+        private final boolean messageOnly;
+        
+        private Handler(MethodHandle method, boolean messageOnly) {
+            this.method = method;
+            this.messageOnly = messageOnly;
+        }
+        
+        Object invoke(Actor actor, Message message) throws Throwable {
+            Object payload = messageOnly ? message : message.getPayload();
+            return method.invokeExact((Object) actor, payload, message);
+        }
+    }
+}
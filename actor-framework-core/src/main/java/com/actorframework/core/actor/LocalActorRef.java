@@ -4,8 +4,11 @@ import com.actorframework.core.message.Message;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Implémentation d'ActorRef pour les acteurs locaux (même microservice).
@@ -26,7 +29,7 @@ public class LocalActorRef implements ActorRef {
     public void tell(Message message) {
         if (!actor.isActive()) {
             log.warn("Actor {} is not active, message {} will be dropped", 
-                     actor.getActorPath(), message.getMessageId());
+                     actor.getActorPath(), message.peekMessageId());
             return;
         }
         
@@ -36,11 +39,39 @@ public class LocalActorRef implements ActorRef {
         actorSystem.sendMessage(actor, message);
     }
     
+    @Override
+    public void tellAll(List<Message> messages) {
+        if (!actor.isActive()) {
+            log.warn("Actor {} is not active, {} messages will be dropped", actor.getActorPath(), messages.size());
+            return;
+        }
+        
+        String senderPath = Thread.currentThread().getName();
+        for (Message message : messages) {
+            message.setSenderPath(senderPath);
+            message.setReceiverPath(actor.getActorPath());
+        }
+        
+        actorSystem.sendMessages(actor, messages);
+    }
+    
     @Override
     public Object ask(Message message, long timeoutMillis) {
+        try {
+            return askAsync(message, timeoutMillis).join();
+        } catch (CompletionException e) {
+            log.error("Error waiting for response from actor {}", actor.getActorPath(), e.getCause());
+            return null;
+        }
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> askAsync(Message message, long timeoutMillis) {
         if (!actor.isActive()) {
             log.warn("Actor {} is not active, cannot process ask message", actor.getActorPath());
-            return null;
+            return CompletableFuture.failedFuture(
+                new ActorNotAvailableException(actor.getActorPath(), "actor is not active"));
         }
         
         message.setRequiresResponse(true);
@@ -50,12 +81,17 @@ public class LocalActorRef implements ActorRef {
         CompletableFuture<Object> future = new CompletableFuture<>();
         actorSystem.sendMessageWithCallback(actor, message, future);
         
-        try {
-            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
-        } catch (Exception e) {
-            log.error("Error waiting for response from actor {}", actor.getActorPath(), e);
-            return null;
-        }
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        future.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).whenComplete((response, error) -> {
+            if (error == null) {
+                result.complete(response);
+            } else if (error instanceof TimeoutException) {
+                result.completeExceptionally(new AskTimeoutException(actor.getActorPath(), timeoutMillis));
+            } else {
+                result.completeExceptionally(error);
+            }
+        });
+        return (CompletableFuture<T>) result;
     }
     
     @Override
@@ -63,4 +99,3 @@ public class LocalActorRef implements ActorRef {
         return actor.isActive();
     }
 }
-
@@ -0,0 +1,29 @@
+package com.actorframework.core.actor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Déclare une méthode d'un {@link AbstractActor} comme gestionnaire de messages.
+ * <ul>
+ *   <li>Sans valeur : la méthode reçoit les messages dont le payload est du type de son premier
+ *       paramètre (message typé, ex: {@code handle(PlayerAction action)}).</li>
+ *   <li>Avec une valeur : la méthode reçoit les messages de ce {@code messageType}
+ *       (ex: {@code @MessageHandler("GET_STATS")}), le payload étant passé tel quel.</li>
+ * </ul>
+ * Signatures acceptées : {@code ()}, {@code (payload)}, {@code (payload, Message)} ou {@code (Message)}.
+ * Une méthode {@code void} répond null.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MessageHandler {
+    
+    /**
+     * Type de message traité (vide : dispatch sur la classe du payload)
+     */
+    String value() default "";
+}
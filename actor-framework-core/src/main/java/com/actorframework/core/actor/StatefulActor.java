@@ -0,0 +1,17 @@
+package com.actorframework.core.actor;
+
+/**
+ * Acteur dont l'état peut être capturé pour être recréé ailleurs (autre réplique, voir {@link ActorType}).
+ * La capture est demandée par un message {@link #SNAPSHOT} : elle est prise sur le thread de l'acteur,
+ * entre deux messages, sans concurrence avec ses gestionnaires.
+ * L'état doit être sérialisable en JSON (record ou bean Jackson).
+ */
+public interface StatefulActor<S> {
+    
+    /**
+     * Type du message de capture, traité par {@link AbstractActor} avant les gestionnaires
+     */
+    String SNAPSHOT = "__SNAPSHOT__";
+    
+    S snapshotState();
+}
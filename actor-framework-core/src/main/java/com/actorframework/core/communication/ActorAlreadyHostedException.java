@@ -0,0 +1,18 @@
+package com.actorframework.core.communication;
+
+import lombok.Getter;
+
+/**
+ * Levée quand une réplique reçoit un acteur qu'elle héberge déjà (voir {@link ActorHandoff#receive}) :
+ * l'acteur en place et son historique sont conservés.
+ */
+@Getter
+public class ActorAlreadyHostedException extends RuntimeException {
+    
+    private final String actorPath;
+    
+    public ActorAlreadyHostedException(String actorPath) {
+        super("Actor " + actorPath + " is already hosted on this node");
+        this.actorPath = actorPath;
+    }
+}
@@ -0,0 +1,245 @@
+package com.actorframework.core.communication;
+
+import com.actorframework.core.actor.Actor;
+import com.actorframework.core.actor.ActorNotAvailableException;
+import com.actorframework.core.actor.ActorRef;
+import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.actor.ActorType;
+import com.actorframework.core.actor.StatefulActor;
+import com.actorframework.core.discovery.ConsistentHashRing;
+import com.actorframework.core.discovery.MembershipListener;
+import com.actorframework.core.dispatch.Envelope;
+import com.actorframework.core.message.Message;
+import com.actorframework.core.persistence.EventJournal;
+import com.actorframework.core.sharding.ActorSharding;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Crée les acteurs sur leur réplique propriétaire ({@link ActorPlacement}) et les déplace
+ * quand les répliques du service changent.
+ * <ul>
+ *   <li>{@link #spawn} crée l'acteur localement, ou le transmet à la réplique propriétaire</li>
+ *   <li>à chaque changement d'instances, les acteurs locaux dont le propriétaire a changé
+ *       sont suspendus ({@link ActorSystem#fence}), capturés ({@link StatefulActor#SNAPSHOT}),
+ *       transmis au nouveau propriétaire puis arrêtés</li>
+ * </ul>
+ * Seuls les acteurs dont le type est enregistré dans l'{@link ActorSystem} peuvent être transmis ;
+ * les autres restent sur leur nœud. Les messages reçus après la capture sont mis de côté : ils sont
+ * renvoyés au nouveau propriétaire une fois le transfert acquitté, ou livrés sur place s'il échoue.
+ * Le flux persisté d'un acteur transmis ({@link EventJournal}) n'est supprimé de son ancienne réplique
+ * qu'après l'acquittement du transfert. Une réplique qui héberge déjà l'acteur refuse le transfert (409) :
+ * sa copie est conservée et l'expéditeur abandonne la sienne comme après un transfert réussi.
+ */
+@Slf4j
+public class ActorHandoff implements MembershipListener {
+    
+    public static final String HANDOFF_ENDPOINT = "/api/actors/handoff";
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+    
+    private final ActorSystem actorSystem;
+    private final ActorRegistry actorRegistry;
+    private final ActorPlacement placement;
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    // Acteurs en cours de transfert, pour ne pas les transmettre deux fois
+    private final Set<String> inTransfer = ConcurrentHashMap.newKeySet();
+    
+    public ActorHandoff(ActorSystem actorSystem, ActorRegistry actorRegistry, ActorPlacement placement,
+                        WebClient webClient, ObjectMapper objectMapper, Duration timeout) {
+        this.actorSystem = actorSystem;
+        this.actorRegistry = actorRegistry;
+        this.placement = placement;
+        this.webClient = webClient;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+    }
+    
+    /**
+     * Crée un acteur d'un type enregistré sur sa réplique propriétaire
+     * @return La référence de l'acteur (locale ou distante) une fois créé
+     * @throws IllegalArgumentException si le type n'est pas enregistré
+     */
+    public CompletableFuture<ActorRef> spawn(Class<? extends Actor> actorClass, String actorId, Object state) {
+        ActorType<?> actorType = requireActorType(actorClass.getSimpleName());
+        String path = actorType.actorPath(actorId);
+        String ownerUrl = placement.ownerUrl(path);
+        if (ownerUrl == null) {
+            return CompletableFuture.completedFuture(activate(actorType, actorId, state));
+        }
+        log.info("Spawning actor {} on owner {}", path, ownerUrl);
+        return transfer(ownerUrl, new ActorTransfer(actorType.name(), actorId, state))
+            .thenApply(done -> actorRegistry.resolveActor(path));
+    }
+    
+    /**
+     * Reçoit un acteur transmis par une autre réplique ({@link #HANDOFF_ENDPOINT}).
+     * L'acteur est créé ici même si ce nœud ne s'en croit pas propriétaire :
+     * l'expéditeur a déjà pu voir une nouvelle réplique que ce nœud ne connaît pas encore.
+     * @throws ActorAlreadyHostedException si l'acteur est déjà en place ici (actif ou passivé),
+     *         par exemple renvoyé après un transfert acquitté trop tard : il reçoit les messages
+     *         routés vers ce nœud depuis, sa copie et son historique font donc foi
+     */
+    public ActorRef receive(ActorTransfer transfer) {
+        ActorType<?> actorType = requireActorType(transfer.actorType());
+        String path = actorType.actorPath(transfer.actorId());
+        if (actorSystem.getActorRef(path) != null) {
+            throw new ActorAlreadyHostedException(path);
+        }
+        Object state = transfer.state() != null
+            ? objectMapper.convertValue(transfer.state(), actorType.stateType())
+            : null;
+        log.info("Received actor {} from another replica", path);
+        // L'état transmis remplace l'historique laissé ici par un ancien passage de l'acteur
+        deleteHistory(path);
+        return activate(actorType, transfer.actorId(), state);
+    }
+    
+    @Override
+    public void membershipChanged(String serviceName, ConsistentHashRing ring) {
+        if (placement.getServiceName().equals(serviceName)) {
+            rebalance();
+        }
+    }
+    
+    /**
+     * Transmet à leur propriétaire les acteurs locaux que ce nœud ne possède plus
+     */
+    public void rebalance() {
+        Set<String> paths = new HashSet<>(actorSystem.getActorPaths());
+        ActorSharding sharding = actorSystem.getSharding();
+        if (sharding != null) {
+            // Un acteur passivé est réactivé par la capture, puis transmis
+            paths.addAll(sharding.getPassivatedPaths());
+        }
+        for (String path : paths) {
+            String ownerUrl = placement.ownerUrl(path);
+            if (ownerUrl != null) {
+                handOff(path, ownerUrl);
+            }
+        }
+    }
+    
+    private void handOff(String path, String ownerUrl) {
+        ActorType<?> actorType = actorSystem.getActorType(ActorType.nameOf(path));
+        Actor actor = actorSystem.getActor(path);
+        ActorRef ref = actorSystem.getActorRef(path);
+        // Sans instance en mémoire, la référence est celle d'un acteur passivé (donc avec état)
+        if (actorType == null || ref == null || (actor != null && !(actor instanceof StatefulActor<?>))) {
+            log.debug("Actor {} is not transferable, keeping it on this node", path);
+            return;
+        }
+        if (!inTransfer.add(path)) {
+            return;
+        }
+        String actorId = path.substring(path.lastIndexOf('/') + 1);
+        log.info("Handing off actor {} to {}", path, ownerUrl);
+        // Un acteur passivé est d'abord réactivé : la suspension porte sur sa boîte aux lettres
+        CompletableFuture<?> running = actor != null
+            ? CompletableFuture.completedFuture(null)
+            : ref.askAsync(new Message(StatefulActor.SNAPSHOT, null), timeout.toMillis());
+        running
+            .thenCompose(ignored -> actorSystem.fence(path, new Message(StatefulActor.SNAPSHOT, null))
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS))
+            .thenCompose(state -> transfer(ownerUrl, new ActorTransfer(actorType.name(), actorId, state)))
+            .whenComplete((done, error) -> {
+                inTransfer.remove(path);
+                if (error != null) {
+                    log.warn("Handoff of actor {} to {} failed, keeping it on this node: {}",
+                             path, ownerUrl, error.getMessage());
+                    actorSystem.resumeDelivery(path);
+                    return;
+                }
+                List<Envelope> pending = actorSystem.takeFencedMessages(path);
+                actorRegistry.unregisterActor(path);
+                actorSystem.stopActor(path);
+                deleteHistory(path);
+                forward(path, pending);
+            });
+    }
+    
+    /**
+     * Renvoie au nouveau propriétaire, dans l'ordre, les messages reçus pendant le transfert
+     */
+    private void forward(String path, List<Envelope> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        ActorRef target = actorRegistry.resolveActor(path);
+        if (target == null) {
+            log.warn("Owner of actor {} is unknown, {} messages received during its handoff are dropped",
+                     path, pending.size());
+            ActorNotAvailableException cause = new ActorNotAvailableException(path, "actor was handed off");
+            pending.stream()
+                .filter(Envelope::requiresResponse)
+                .forEach(envelope -> envelope.getFuture().completeExceptionally(cause));
+            return;
+        }
+        log.debug("Forwarding {} messages received during handoff of actor {}", pending.size(), path);
+        for (Envelope envelope : pending) {
+            if (!envelope.requiresResponse()) {
+                target.tell(envelope.getMessage());
+                continue;
+            }
+            target.askAsync(envelope.getMessage(), timeout.toMillis()).whenComplete((response, error) -> {
+                if (error != null) {
+                    envelope.getFuture().completeExceptionally(error);
+                } else {
+                    envelope.getFuture().complete(response);
+                }
+            });
+        }
+    }
+    
+    private void deleteHistory(String path) {
+        EventJournal journal = actorSystem.getEventJournal();
+        if (journal != null) {
+            journal.delete(path);
+        }
+    }
+    
+    /**
+     * Transmet un acteur ; déjà hébergé par le destinataire (409), il n'a pas à y être recréé
+     */
+    private CompletableFuture<Void> transfer(String ownerUrl, ActorTransfer transfer) {
+        return webClient.post()
+            .uri(ownerUrl + HANDOFF_ENDPOINT)
+            .bodyValue(transfer)
+            .retrieve()
+            .toBodilessEntity()
+            .timeout(timeout)
+            .then()
+            .onErrorResume(WebClientResponseException.Conflict.class, e -> {
+                log.info("Actor {}/{} is already hosted by {}", transfer.actorType(), transfer.actorId(), ownerUrl);
+                return Mono.empty();
+            })
+            .toFuture();
+    }
+    
+    private ActorRef activate(ActorType<?> actorType, String actorId, Object state) {
+        Actor actor = actorType.create(actorId, state);
+        ActorRef ref = actorSystem.createActor(actor);
+        actorRegistry.registerLocalActor(actor.getActorPath(), ref);
+        return ref;
+    }
+    
+    private ActorType<?> requireActorType(String name) {
+        ActorType<?> actorType = actorSystem.getActorType(name);
+        if (actorType == null) {
+            throw new IllegalArgumentException("Unknown actor type: " + name);
+        }
+        return actorType;
+    }
+}
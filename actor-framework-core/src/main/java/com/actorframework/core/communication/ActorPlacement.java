@@ -0,0 +1,64 @@
+package com.actorframework.core.communication;
+
+import com.actorframework.core.discovery.ConsistentHashRing;
+import com.actorframework.core.discovery.ServiceEndpoint;
+import com.actorframework.core.discovery.ServiceInstanceResolver;
+import lombok.Getter;
+
+import java.util.function.Supplier;
+
+/**
+ * Placement des acteurs entre les répliques d'un service : la réplique propriétaire d'un chemin
+ * d'acteur est donnée par l'anneau de hachage cohérent des instances listées dans Eureka.
+ * Toutes les répliques qui voient les mêmes instances calculent le même propriétaire, sans coordination.
+ * Tant que ce nœud n'apparaît pas dans l'anneau (démarrage, Eureka absent, placement désactivé),
+ * il se considère propriétaire de tous les acteurs qu'il héberge.
+ */
+public class ActorPlacement {
+    
+    @Getter
+    private final String serviceName;
+    @Getter
+    private final boolean enabled;
+    private final ServiceInstanceResolver instanceResolver;
+    // URL de ce nœud telle que listée dans Eureka (port connu une fois le serveur web démarré)
+    private final Supplier<String> localUrl;
+    
+    public ActorPlacement(ServiceInstanceResolver instanceResolver, String serviceName,
+                          Supplier<String> localUrl, boolean enabled) {
+        this.instanceResolver = instanceResolver;
+        this.serviceName = serviceName;
+        this.localUrl = localUrl;
+        this.enabled = enabled;
+    }
+    
+    /**
+     * URL de ce nœud telle que listée dans Eureka, null si inconnue
+     */
+    public String getLocalUrl() {
+        return localUrl.get();
+    }
+    
+    /**
+     * L'acteur doit être hébergé par ce nœud
+     */
+    public boolean isLocal(String actorPath) {
+        return ownerUrl(actorPath) == null;
+    }
+    
+    /**
+     * URL de la réplique propriétaire de l'acteur, ou null si c'est ce nœud
+     */
+    public String ownerUrl(String actorPath) {
+        String url = enabled ? getLocalUrl() : null;
+        if (url == null) {
+            return null;
+        }
+        ConsistentHashRing ring = instanceResolver.getRing(serviceName);
+        if (!ring.contains(url)) {
+            return null;
+        }
+        ServiceEndpoint owner = ring.owner(actorPath);
+        return owner == null || owner.getUrl().equals(url) ? null : owner.getUrl();
+    }
+}
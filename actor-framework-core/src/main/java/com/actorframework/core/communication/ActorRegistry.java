@@ -1,6 +1,8 @@
 package com.actorframework.core.communication;
 
 import com.actorframework.core.actor.ActorRef;
+import com.actorframework.core.actor.ActorType;
+import com.actorframework.core.discovery.ServiceInstanceResolver;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.client.discovery.DiscoveryClient;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -11,18 +13,40 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Registre des acteurs permettant de résoudre les références d'acteurs locaux et distants.
  * Utilise Eureka pour la découverte de services.
+ * La résolution est une recherche en mémoire : instances en cache dans le {@link ServiceInstanceResolver},
+ * santé des services tenue à jour en tâche de fond par le {@link ServiceHealthMonitor}.
+ * Avec un {@link ActorPlacement}, un chemin local ({@code /user/...}) dont une autre réplique
+ * du service est propriétaire est résolu vers cette réplique.
  */
 @Slf4j
 public class ActorRegistry {
     
-    private final DiscoveryClient discoveryClient;
-    private final WebClient.Builder webClientBuilder;
+    private final ActorTransport transport;
+    private final ServiceInstanceResolver instanceResolver;
+    private final ActorPlacement placement;
     private final Map<String, ActorRef> localActors = new ConcurrentHashMap<>();
     private final Map<String, ActorRef> remoteActors = new ConcurrentHashMap<>();
     
     public ActorRegistry(DiscoveryClient discoveryClient, WebClient.Builder webClientBuilder) {
-        this.discoveryClient = discoveryClient;
-        this.webClientBuilder = webClientBuilder;
+        this(discoveryClient, webClientBuilder, new HttpActorTransport(webClientBuilder.build(), null));
+    }
+    
+    public ActorRegistry(DiscoveryClient discoveryClient, WebClient.Builder webClientBuilder,
+                         ActorTransport transport) {
+        this(discoveryClient, webClientBuilder, transport, null);
+    }
+    
+    public ActorRegistry(DiscoveryClient discoveryClient, WebClient.Builder webClientBuilder,
+                         ActorTransport transport, ServiceInstanceResolver instanceResolver) {
+        this(discoveryClient, webClientBuilder, transport, instanceResolver, null);
+    }
+    
+    public ActorRegistry(DiscoveryClient discoveryClient, WebClient.Builder webClientBuilder,
+                         ActorTransport transport, ServiceInstanceResolver instanceResolver,
+                         ActorPlacement placement) {
+        this.transport = transport;
+        this.instanceResolver = instanceResolver != null ? instanceResolver : new ServiceInstanceResolver(discoveryClient);
+        this.placement = placement;
     }
     
     /**
@@ -33,6 +57,13 @@ public class ActorRegistry {
         log.debug("Registered local actor: {}", path);
     }
     
+    /**
+     * Acteur enregistré sur ce nœud, sans résolution distante
+     */
+    public ActorRef getLocalActor(String path) {
+        return localActors.get(path);
+    }
+    
     /**
      * Résout une référence d'acteur (local ou distant)
      */
@@ -49,6 +80,15 @@ public class ActorRegistry {
             return cachedRemote;
         }
         
+        // Chemin local hébergé par une autre réplique de ce service
+        if (ActorType.nameOf(path) != null) {
+            if (placement != null && !placement.isLocal(path)) {
+                return remoteRef(path, placement.getServiceName(), path);
+            }
+            log.warn("Could not resolve actor at path: {}", path);
+            return null;
+        }
+        
         // Essayer de résoudre un acteur distant
         // Format attendu: /service-name/actor-path
         if (path.startsWith("/")) {
@@ -57,12 +97,16 @@ public class ActorRegistry {
                 String serviceName = parts[1];
                 String actorPath = "/" + parts[2];
                 
-                // Vérifier si le service est disponible via Eureka
-                if (isServiceAvailable(serviceName)) {
-                    WebClient webClient = webClientBuilder.build();
-                    ActorRef remoteRef = new RemoteActorRef(serviceName, actorPath, webClient, discoveryClient);
-                    remoteActors.put(path, remoteRef);
-                    return remoteRef;
+                // Acteur de ce service dont ce nœud est propriétaire : pas d'aller-retour réseau
+                if (placement != null && serviceName.equals(placement.getServiceName())
+                        && placement.isLocal(actorPath)) {
+                    localRef = localActors.get(actorPath);
+                    if (localRef != null) {
+                        return localRef;
+                    }
+                } else if (isServiceAvailable(serviceName)) {
+                    // Vérifier si le service est disponible via Eureka
+                    return remoteRef(path, serviceName, actorPath);
                 }
             }
         }
@@ -71,13 +115,15 @@ public class ActorRegistry {
         return null;
     }
     
+    private ActorRef remoteRef(String path, String serviceName, String actorPath) {
+        ActorRef remoteRef = new RemoteActorRef(serviceName, actorPath, transport, instanceResolver);
+        remoteActors.put(path, remoteRef);
+        instanceResolver.watch(serviceName);
+        return remoteRef;
+    }
+    
     private boolean isServiceAvailable(String serviceName) {
-        try {
-            return !discoveryClient.getInstances(serviceName).isEmpty();
-        } catch (Exception e) {
-            log.error("Error checking service availability for {}", serviceName, e);
-            return false;
-        }
+        return instanceResolver.isServiceAvailable(serviceName);
     }
     
     /**
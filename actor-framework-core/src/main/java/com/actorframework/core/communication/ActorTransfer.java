@@ -0,0 +1,8 @@
+package com.actorframework.core.communication;
+
+/**
+ * Acteur transmis à une autre réplique : type enregistré, identifiant et état capturé.
+ * Corps JSON de {@link ActorHandoff#HANDOFF_ENDPOINT}.
+ */
+public record ActorTransfer(String actorType, String actorId, Object state) {
+}
@@ -0,0 +1,38 @@
+package com.actorframework.core.communication;
+
+import com.actorframework.core.message.Message;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Transport des messages vers les acteurs d'un autre microservice.
+ * Le chemin du destinataire est porté par {@code message.getReceiverPath()}.
+ */
+public interface ActorTransport {
+    
+    /**
+     * Envoie un message sans attendre de réponse (tell)
+     * @param serviceUrl URL de l'instance cible (ex: http://10.0.0.5:8081)
+     */
+    void send(String serviceUrl, Message message);
+    
+    /**
+     * Envoie un message et retourne un futur complété par la réponse (ask).
+     * Le futur échoue avec AskTimeoutException ou ActorNotAvailableException.
+     */
+    CompletableFuture<Object> request(String serviceUrl, Message message, long timeoutMillis);
+    
+    /**
+     * Futur complété quand les tell confiés avant l'appel pour cette instance ont été livrés
+     * (transport qui les diffère, voir {@link RemoteMessageBatcher})
+     */
+    default CompletableFuture<Void> flush(String serviceUrl) {
+        return CompletableFuture.completedFuture(null);
+    }
+    
+    /**
+     * Libère les ressources du transport (connexions, threads)
+     */
+    default void shutdown() {
+    }
+}
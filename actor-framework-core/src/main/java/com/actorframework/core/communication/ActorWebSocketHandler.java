@@ -0,0 +1,154 @@
+package com.actorframework.core.communication;
+
+import com.actorframework.core.actor.ActorNotAvailableException;
+import com.actorframework.core.actor.ActorRef;
+import com.actorframework.core.actor.AskTimeoutException;
+import com.actorframework.core.dispatch.MailboxOverflowException;
+import com.actorframework.core.message.Message;
+import com.actorframework.core.serialization.MessageSerializer;
+import com.actorframework.core.serialization.SerializationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Extrémité serveur du transport WebSocket ({@link WebSocketActorTransport}).
+ * Chaque trame MESSAGE est remise à l'acteur local ; les ask reçoivent une trame REPLY ou ERROR
+ * portant l'identifiant du message d'origine.
+ * Les trames texte sont lues en JSON, les trames binaires avec le format binaire ;
+ * la réponse utilise le même format que la trame reçue.
+ */
+@Slf4j
+public class ActorWebSocketHandler extends AbstractWebSocketHandler {
+    
+    private static final int SEND_TIME_LIMIT_MILLIS = 10_000;
+    
+    private final InboundMessageRouter router;
+    private final MessageSerializer textSerializer;
+    private final MessageSerializer binarySerializer;
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    
+    public ActorWebSocketHandler(InboundMessageRouter router, MessageSerializer textSerializer,
+                                 MessageSerializer binarySerializer) {
+        this.router = router;
+        this.textSerializer = textSerializer;
+        this.binarySerializer = binarySerializer;
+    }
+    
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        // Les réponses sont écrites depuis les threads des acteurs : envois sérialisés par le décorateur
+        sessions.put(session.getId(), new ConcurrentWebSocketSessionDecorator(
+            session, SEND_TIME_LIMIT_MILLIS, WebSocketActorTransport.MAX_FRAME_SIZE));
+        log.info("Actor WebSocket connection opened from {}", session.getRemoteAddress());
+    }
+    
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage textMessage) {
+        handleFrame(session, textMessage.getPayload().getBytes(StandardCharsets.UTF_8), textSerializer);
+    }
+    
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage binaryMessage) {
+        ByteBuffer payload = binaryMessage.getPayload();
+        byte[] data = new byte[payload.remaining()];
+        payload.get(data);
+        handleFrame(session, data, binarySerializer);
+    }
+    
+    private void handleFrame(WebSocketSession session, byte[] data, MessageSerializer serializer) {
+        TransportFrame frame;
+        try {
+            frame = serializer.deserialize(data, TransportFrame.class);
+        } catch (SerializationException e) {
+            log.warn("Invalid frame received on actor WebSocket connection: {}", e.getMessage());
+            return;
+        }
+        if (frame.getType() != TransportFrame.Type.MESSAGE || frame.getMessage() == null) {
+            log.warn("Unexpected frame {} on actor WebSocket connection", frame.getType());
+            return;
+        }
+        
+        WebSocketSession replySession = sessions.getOrDefault(session.getId(), session);
+        Message message = frame.getMessage();
+        ActorRef actorRef = message.getReceiverPath() != null ? router.resolveReceiver(message) : null;
+        
+        if (!message.isRequiresResponse()) {
+            if (actorRef == null) {
+                log.warn("Dropping message {} for unknown actor {}", message.getMessageId(), message.getReceiverPath());
+                return;
+            }
+            try {
+                actorRef.tell(message);
+            } catch (MailboxOverflowException e) {
+                log.warn("Message {} rejected: {}", message.getMessageId(), e.getMessage());
+            }
+            return;
+        }
+        
+        if (actorRef == null) {
+            reply(replySession, serializer, TransportFrame.error(message.getMessageId(),
+                TransportFrame.ErrorCode.NOT_AVAILABLE, "actor not found: " + message.getReceiverPath()));
+            return;
+        }
+        CompletableFuture<Object> response = router.ask(actorRef, message);
+        if (response == null) {
+            reply(replySession, serializer, TransportFrame.error(message.getMessageId(),
+                TransportFrame.ErrorCode.NOT_AVAILABLE, "too many in-flight asks"));
+            return;
+        }
+        response.whenComplete((result, error) -> reply(replySession, serializer, error == null
+            ? TransportFrame.reply(message.getMessageId(), result)
+            : toErrorFrame(message.getMessageId(), error)));
+    }
+    
+    private TransportFrame toErrorFrame(long correlationId, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        TransportFrame.ErrorCode code;
+        if (cause instanceof AskTimeoutException) {
+            code = TransportFrame.ErrorCode.TIMEOUT;
+        } else if (cause instanceof ActorNotAvailableException || cause instanceof MailboxOverflowException) {
+            code = TransportFrame.ErrorCode.NOT_AVAILABLE;
+        } else {
+            code = TransportFrame.ErrorCode.FAILED;
+        }
+        return TransportFrame.error(correlationId, code, cause.getMessage());
+    }
+    
+    private void reply(WebSocketSession session, MessageSerializer serializer, TransportFrame frame) {
+        try {
+            byte[] data = serializer.serialize(frame);
+            WebSocketMessage<?> message = serializer.isBinary()
+                ? new BinaryMessage(data)
+                : new TextMessage(data);
+            session.sendMessage(message);
+        } catch (SerializationException e) {
+            log.error("Could not serialize reply to {}: {}", frame.getCorrelationId(), e.getMessage());
+            if (frame.getType() == TransportFrame.Type.REPLY) {
+                reply(session, serializer, TransportFrame.error(frame.getCorrelationId(),
+                    TransportFrame.ErrorCode.FAILED, "response is not serializable"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.warn("Could not send reply to {}: {}", frame.getCorrelationId(), e.getMessage());
+        }
+    }
+    
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        sessions.remove(session.getId());
+        log.info("Actor WebSocket connection from {} closed ({})", session.getRemoteAddress(), status);
+    }
+}
@@ -0,0 +1,18 @@
+package com.actorframework.core.communication;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Réponse de {@link RemoteMessageBatcher#BATCH_ENDPOINT} : nombre de messages déposés,
+ * et identifiants de ceux qui ne l'ont pas été (acteur inconnu, boîte aux lettres pleine, message invalide)
+ */
+@Data
+public class BatchResult {
+    private int accepted;
+    private List<Long> notFound = new ArrayList<>();
+    private List<Long> rejected = new ArrayList<>();
+    private List<Long> invalid = new ArrayList<>();
+}
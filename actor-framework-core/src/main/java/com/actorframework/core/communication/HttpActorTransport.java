@@ -0,0 +1,105 @@
+package com.actorframework.core.communication;
+
+import com.actorframework.core.actor.ActorNotAvailableException;
+import com.actorframework.core.actor.AskTimeoutException;
+import com.actorframework.core.message.Message;
+import com.actorframework.core.serialization.JsonMessageSerializer;
+import com.actorframework.core.serialization.MessageSerializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Transport HTTP : POST sur {@code /api/actors/message} via WebClient.
+ * Les tell passent par le RemoteMessageBatcher s'il est fourni ; un ask attend alors que les tell
+ * déjà confiés au batcher pour la même instance soient acquittés, pour ne pas les doubler.
+ * Le corps est encodé par le {@link MessageSerializer} (JSON par défaut) et son type de contenu
+ * est annoncé au service distant (Content-Type / Accept).
+ */
+@Slf4j
+public class HttpActorTransport implements ActorTransport {
+    
+    public static final String MESSAGE_ENDPOINT = "/api/actors/message";
+    
+    private final WebClient webClient;
+    private final RemoteMessageBatcher batcher;
+    private final MessageSerializer serializer;
+    private final MediaType mediaType;
+    
+    public HttpActorTransport(WebClient webClient, RemoteMessageBatcher batcher) {
+        this(webClient, batcher, new JsonMessageSerializer());
+    }
+    
+    /**
+     * @param batcher Regroupe les tell par instance de service (null : un POST par message)
+     */
+    public HttpActorTransport(WebClient webClient, RemoteMessageBatcher batcher, MessageSerializer serializer) {
+        this.webClient = webClient;
+        this.batcher = batcher;
+        this.serializer = serializer;
+        this.mediaType = MediaType.parseMediaType(serializer.getContentType());
+    }
+    
+    @Override
+    public void send(String serviceUrl, Message message) {
+        if (batcher != null) {
+            batcher.send(serviceUrl, message);
+            return;
+        }
+        
+        webClient.post()
+            .uri(serviceUrl + MESSAGE_ENDPOINT)
+            .contentType(mediaType)
+            .body(Mono.fromCallable(() -> serializer.serialize(message)), byte[].class)
+            .retrieve()
+            .bodyToMono(Void.class)
+            .timeout(Duration.ofSeconds(5))
+            .subscribe(
+                result -> log.debug("Message {} sent successfully to remote actor {}", 
+                    message.getMessageId(), message.getReceiverPath()),
+                error -> log.error("Failed to send message {} to remote actor {}: {}", 
+                    message.getMessageId(), message.getReceiverPath(), error.getMessage())
+            );
+    }
+    
+    @Override
+    public CompletableFuture<Object> request(String serviceUrl, Message message, long timeoutMillis) {
+        String path = message.getReceiverPath();
+        Mono<Void> pendingTells = Mono.fromFuture(flush(serviceUrl), true);
+        return pendingTells.then(webClient.post()
+            .uri(serviceUrl + MESSAGE_ENDPOINT)
+            .contentType(mediaType)
+            .accept(mediaType)
+            .body(Mono.fromCallable(() -> serializer.serialize(message)), byte[].class)
+            .retrieve()
+            .bodyToMono(byte[].class))
+            .map(body -> serializer.deserialize(body, Object.class))
+            .timeout(Duration.ofMillis(timeoutMillis))
+            .onErrorMap(TimeoutException.class, e -> new AskTimeoutException(path, timeoutMillis))
+            .onErrorMap(WebClientResponseException.GatewayTimeout.class,
+                e -> new AskTimeoutException(path, timeoutMillis))
+            .onErrorMap(WebClientResponseException.NotFound.class,
+                e -> new ActorNotAvailableException(path, "actor not found on " + serviceUrl))
+            .onErrorMap(WebClientRequestException.class, e -> new ActorNotAvailableException(path, e))
+            .toFuture();
+    }
+    
+    @Override
+    public CompletableFuture<Void> flush(String serviceUrl) {
+        return batcher != null ? batcher.flush(serviceUrl) : CompletableFuture.completedFuture(null);
+    }
+    
+    @Override
+    public void shutdown() {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.actorframework.core.communication;
+
+import com.actorframework.core.actor.ActorRef;
+import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.message.Message;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Remet aux acteurs locaux les messages reçus d'autres services, quel que soit le transport
+ * (HTTP via ActorController ou WebSocket via ActorWebSocketHandler).
+ * Borne le nombre d'ask distants en cours de traitement.
+ */
+@Slf4j
+public class InboundMessageRouter {
+    
+    private final ActorSystem actorSystem;
+    private final ActorRegistry actorRegistry;
+    private final long askTimeoutMillis;
+    private final int maxInFlightAsks;
+    private final Semaphore inFlightAsks;
+    
+    public InboundMessageRouter(ActorSystem actorSystem, ActorRegistry actorRegistry,
+                                long askTimeoutMillis, int maxInFlightAsks) {
+        this.actorSystem = actorSystem;
+        this.actorRegistry = actorRegistry;
+        this.askTimeoutMillis = askTimeoutMillis;
+        this.maxInFlightAsks = maxInFlightAsks;
+        this.inFlightAsks = new Semaphore(maxInFlightAsks);
+    }
+    
+    /**
+     * Résout l'acteur local destinataire d'un message reçu à distance
+     * @return La référence, ou null si aucun acteur local ne correspond
+     */
+    public ActorRef resolveReceiver(Message message) {
+        // Extraire le chemin local de l'acteur (sans le préfixe du service)
+        String receiverPath = message.getReceiverPath();
+        if (receiverPath.contains("/user/")) {
+            int index = receiverPath.indexOf("/user/");
+            receiverPath = receiverPath.substring(index);
+        }
+        
+        // Résoudre l'acteur local destinataire, sans renvoi vers une autre réplique :
+        // deux répliques qui ne voient pas encore les mêmes instances se renverraient le message
+        ActorRef actorRef = actorRegistry.getLocalActor(receiverPath);
+        if (actorRef == null) {
+            // Essayer aussi avec le chemin complet depuis actorSystem
+            actorRef = actorSystem.getActorRef(receiverPath);
+        }
+        
+        if (actorRef == null) {
+            log.warn("Could not resolve actor at path: {}", receiverPath);
+        }
+        return actorRef;
+    }
+    
+    /**
+     * Transmet un ask distant à l'acteur local
+     * @return Le futur de la réponse, ou null si trop d'ask sont déjà en cours
+     */
+    public CompletableFuture<Object> ask(ActorRef actorRef, Message message) {
+        if (!inFlightAsks.tryAcquire()) {
+            log.warn("Too many in-flight asks ({}), rejecting message {}", 
+                     maxInFlightAsks, message.getMessageId());
+            return null;
+        }
+        try {
+            return actorRef.askAsync(message, askTimeoutMillis)
+                .whenComplete((response, error) -> inFlightAsks.release());
+        } catch (RuntimeException e) {
+            inFlightAsks.release();
+            throw e;
+        }
+    }
+    
+    /**
+     * Nombre d'ask distants en cours de traitement
+     */
+    public int getInFlightAsks() {
+        return maxInFlightAsks - inFlightAsks.availablePermits();
+    }
+}
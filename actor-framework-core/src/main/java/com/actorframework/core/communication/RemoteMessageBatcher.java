@@ -0,0 +1,324 @@
+package com.actorframework.core.communication;
+
+import com.actorframework.core.message.Message;
+import com.actorframework.core.serialization.JsonMessageSerializer;
+import com.actorframework.core.serialization.MessageSerializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Regroupe les tell distants à destination d'une même instance de service.
+ * Les messages sont envoyés en un seul POST sur {@code /api/actors/batch} dès que le lot
+ * atteint {@code maxBatchSize} ou après {@code linger}.
+ * Un seul lot est en vol par instance : l'ordre des messages vers un même destinataire est conservé.
+ * Un lot en échec (connexion, 5xx, délai {@code requestTimeout}) est renvoyé jusqu'à {@code maxRetries} fois
+ * avec un délai doublé à chaque tentative, avant les lots suivants ; la livraison est donc « au moins une fois ».
+ * La réponse du service ({@link BatchResult}) est lue : les messages refusés par une boîte aux lettres pleine
+ * sont renvoyés de la même façon, ceux dont l'acteur est inconnu ou invalides sont journalisés et abandonnés.
+ * Un ask doit attendre {@link #flush(String)} pour ne pas doubler les tell envoyés avant lui.
+ */
+@Slf4j
+public class RemoteMessageBatcher {
+    
+    public static final String BATCH_ENDPOINT = "/api/actors/batch";
+    public static final int DEFAULT_MAX_RETRIES = 3;
+    public static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofMillis(100);
+    public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(5);
+    
+    private final WebClient webClient;
+    private final MessageSerializer serializer;
+    private final MediaType mediaType;
+    private final int maxBatchSize;
+    private final Duration linger;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final Duration requestTimeout;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, Outbox> outboxes = new ConcurrentHashMap<>();
+    private final LongAdder droppedMessages = new LongAdder();
+    
+    public RemoteMessageBatcher(WebClient webClient, int maxBatchSize, Duration linger) {
+        this(webClient, new JsonMessageSerializer(), maxBatchSize, linger);
+    }
+    
+    public RemoteMessageBatcher(WebClient webClient, MessageSerializer serializer, int maxBatchSize, Duration linger) {
+        this(webClient, serializer, maxBatchSize, linger, DEFAULT_MAX_RETRIES, DEFAULT_RETRY_BACKOFF);
+    }
+    
+    public RemoteMessageBatcher(WebClient webClient, MessageSerializer serializer, int maxBatchSize, Duration linger,
+                                int maxRetries, Duration retryBackoff) {
+        this(webClient, serializer, maxBatchSize, linger, maxRetries, retryBackoff, DEFAULT_REQUEST_TIMEOUT);
+    }
+    
+    public RemoteMessageBatcher(WebClient webClient, MessageSerializer serializer, int maxBatchSize, Duration linger,
+                                int maxRetries, Duration retryBackoff, Duration requestTimeout) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries must not be negative");
+        }
+        this.webClient = webClient;
+        this.serializer = serializer;
+        this.mediaType = MediaType.parseMediaType(serializer.getContentType());
+        this.maxBatchSize = maxBatchSize;
+        this.linger = linger;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+        this.requestTimeout = requestTimeout;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "RemoteMessageBatcher");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+    
+    /**
+     * Ajoute un message au lot en cours pour l'instance donnée
+     */
+    public void send(String serviceUrl, Message message) {
+        outboxes.computeIfAbsent(serviceUrl, Outbox::new).add(message);
+    }
+    
+    /**
+     * Envoie sans attendre les messages en attente pour l'instance donnée.
+     * Le futur est complété quand tous les messages ajoutés avant l'appel ont été acquittés
+     * ou abandonnés après les nouvelles tentatives.
+     */
+    public CompletableFuture<Void> flush(String serviceUrl) {
+        Outbox outbox = outboxes.get(serviceUrl);
+        return outbox != null ? outbox.flush() : CompletableFuture.completedFuture(null);
+    }
+    
+    /**
+     * Nombre de messages abandonnés : lot en échec ou boîte aux lettres pleine après épuisement
+     * des nouvelles tentatives, acteur inconnu du service ou message invalide
+     */
+    public long getDroppedCount() {
+        return droppedMessages.sum();
+    }
+    
+    /**
+     * Envoie les lots en attente puis arrête le planificateur
+     */
+    public void shutdown() {
+        outboxes.values().forEach(Outbox::trySend);
+        scheduler.shutdown();
+    }
+    
+    /**
+     * File des messages en attente pour une instance de service
+     */
+    private class Outbox {
+        
+        private final String serviceUrl;
+        private final Queue<Message> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger(0);
+        private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+        private final AtomicBoolean sending = new AtomicBoolean(false);
+        private final AtomicLong enqueued = new AtomicLong(0);
+        private final Queue<FlushWaiter> waiters = new ConcurrentLinkedQueue<>();
+        
+        // Modifié uniquement par l'envoi en vol
+        private volatile long settled;
+        
+        Outbox(String serviceUrl) {
+            this.serviceUrl = serviceUrl;
+        }
+        
+        void add(Message message) {
+            queue.offer(message);
+            enqueued.incrementAndGet();
+            if (size.incrementAndGet() >= maxBatchSize) {
+                trySend();
+            } else if (flushScheduled.compareAndSet(false, true)) {
+                scheduler.schedule(() -> {
+                    flushScheduled.set(false);
+                    trySend();
+                }, linger.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        
+        /**
+         * Envoie le prochain lot si aucun n'est en vol.
+         * Sinon, la fin de l'envoi en cours relancera l'envoi.
+         */
+        void trySend() {
+            if (!sending.compareAndSet(false, true)) {
+                return;
+            }
+            List<Message> batch = drain();
+            if (batch.isEmpty()) {
+                sending.set(false);
+                if (!queue.isEmpty()) {
+                    trySend();
+                }
+                return;
+            }
+            post(batch, 0);
+        }
+        
+        CompletableFuture<Void> flush() {
+            FlushWaiter waiter = new FlushWaiter(enqueued.get());
+            if (settled >= waiter.target) {
+                return CompletableFuture.completedFuture(null);
+            }
+            waiters.offer(waiter);
+            trySend();
+            // L'envoi en vol a pu se terminer avant l'enregistrement
+            completeWaiters();
+            return waiter.future;
+        }
+        
+        private void post(List<Message> batch, int attempt) {
+            webClient.post()
+                .uri(serviceUrl + BATCH_ENDPOINT)
+                .contentType(mediaType)
+                .accept(MediaType.APPLICATION_JSON)
+                .body(Mono.fromCallable(() -> serializer.serialize(batch)), byte[].class)
+                .retrieve()
+                .bodyToMono(BatchResult.class)
+                // Service sans corps de réponse : tout le lot est considéré comme déposé
+                .switchIfEmpty(Mono.fromSupplier(BatchResult::new))
+                .timeout(requestTimeout)
+                .subscribe(
+                    result -> onResult(batch, attempt, result),
+                    error -> onFailure(batch, attempt, error)
+                );
+        }
+        
+        private void onResult(List<Message> batch, int attempt, BatchResult result) {
+            if (!result.getNotFound().isEmpty()) {
+                log.warn("{} messages dropped by {}: no such actor (ids {})",
+                    result.getNotFound().size(), serviceUrl, result.getNotFound());
+                droppedMessages.add(result.getNotFound().size());
+            }
+            if (!result.getInvalid().isEmpty()) {
+                log.warn("{} messages dropped by {}: invalid in a batch (ids {})",
+                    result.getInvalid().size(), serviceUrl, result.getInvalid());
+                droppedMessages.add(result.getInvalid().size());
+            }
+            if (result.getRejected().isEmpty()) {
+                log.debug("Batch of {} messages sent to {}", batch.size(), serviceUrl);
+                onSettled(batch.size());
+                return;
+            }
+            
+            Set<Long> rejectedIds = new HashSet<>(result.getRejected());
+            List<Message> rejected = new ArrayList<>(rejectedIds.size());
+            for (Message message : batch) {
+                if (rejectedIds.contains(message.peekMessageId())) {
+                    rejected.add(message);
+                }
+            }
+            // Les messages déposés sont acquittés, les refusés sont renvoyés avant les lots suivants
+            settled += batch.size() - rejected.size();
+            if (!retry(rejected, attempt, "mailbox full")) {
+                log.warn("Dropping {} messages rejected by full mailboxes on {} after {} attempts",
+                    rejected.size(), serviceUrl, attempt + 1);
+                droppedMessages.add(rejected.size());
+                onSettled(rejected.size());
+            }
+        }
+        
+        private void onFailure(List<Message> batch, int attempt, Throwable error) {
+            if (isRetryable(error) && retry(batch, attempt, error.getMessage())) {
+                return;
+            }
+            log.error("Dropping batch of {} messages to {} after {} attempts: {}",
+                batch.size(), serviceUrl, attempt + 1, error.getMessage());
+            droppedMessages.add(batch.size());
+            onSettled(batch.size());
+        }
+        
+        /**
+         * Renvoie le lot avant tout autre : l'envoi reste marqué en vol pendant l'attente
+         * @return false si les nouvelles tentatives sont épuisées
+         */
+        private boolean retry(List<Message> batch, int attempt, String reason) {
+            if (attempt >= maxRetries) {
+                return false;
+            }
+            long delay = retryBackoff.toMillis() << attempt;
+            log.warn("Failed to deliver {} messages to {} (attempt {}), retrying in {} ms: {}",
+                batch.size(), serviceUrl, attempt + 1, delay, reason);
+            try {
+                scheduler.schedule(() -> post(batch, attempt + 1), delay, TimeUnit.MILLISECONDS);
+                return true;
+            } catch (RejectedExecutionException e) {
+                log.debug("Batcher stopped, no retry for batch to {}", serviceUrl);
+                return false;
+            }
+        }
+        
+        private void onSettled(int count) {
+            settled += count;
+            completeWaiters();
+            sending.set(false);
+            if (!queue.isEmpty()) {
+                trySend();
+            }
+        }
+        
+        private void completeWaiters() {
+            long done = settled;
+            for (FlushWaiter waiter : waiters) {
+                if (waiter.target <= done && waiters.remove(waiter)) {
+                    waiter.future.complete(null);
+                }
+            }
+        }
+        
+        private List<Message> drain() {
+            List<Message> batch = new ArrayList<>();
+            Message message;
+            while (batch.size() < maxBatchSize && (message = queue.poll()) != null) {
+                batch.add(message);
+            }
+            size.addAndGet(-batch.size());
+            return batch;
+        }
+    }
+    
+    /**
+     * Les erreurs 4xx (lot refusé par le service) ne sont pas renvoyées
+     */
+    private static boolean isRetryable(Throwable error) {
+        return !(error instanceof WebClientResponseException response) || response.getStatusCode().is5xxServerError();
+    }
+    
+    /**
+     * Attente d'un flush : nombre de messages ajoutés au moment de l'appel
+     */
+    private static class FlushWaiter {
+        
+        private final long target;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        
+        FlushWaiter(long target) {
+            this.target = target;
+        }
+    }
+}
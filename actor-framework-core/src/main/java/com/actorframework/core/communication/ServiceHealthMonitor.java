@@ -0,0 +1,221 @@
+package com.actorframework.core.communication;
+
+import com.actorframework.core.scheduling.Cancellable;
+import com.actorframework.core.scheduling.HashedWheelTimer;
+import com.netflix.appinfo.InstanceInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.netflix.eureka.EurekaServiceInstance;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * État de santé des instances des services distants, tenu en mémoire.
+ * Les instances des services surveillés sont sondées en tâche de fond ({@code /actuator/health},
+ * planifié sur la minuterie partagée) ; le statut Eureka d'une instance (heartbeat) prime sur la sonde.
+ * {@link #isServiceAvailable} ne fait aucune entrée/sortie : le cache local du client Eureka
+ * et le dernier résultat de sonde suffisent. Un résultat plus ancien que {@code ttl} n'est plus
+ * pris en compte : l'instance est alors considérée disponible tant qu'Eureka la liste.
+ */
+@Slf4j
+public class ServiceHealthMonitor implements Closeable {
+    
+    public static final String HEALTH_ENDPOINT = "/actuator/health";
+    public static final Duration DEFAULT_PROBE_INTERVAL = Duration.ofSeconds(10);
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+    public static final Duration DEFAULT_PROBE_TIMEOUT = Duration.ofSeconds(2);
+    
+    private final DiscoveryClient discoveryClient;
+    private final WebClient webClient;
+    private final HashedWheelTimer timer;
+    private final Duration probeInterval;
+    private final long ttlNanos;
+    private final Duration probeTimeout;
+    private final Set<String> watchedServices = ConcurrentHashMap.newKeySet();
+    private final Map<String, InstanceHealth> instances = new ConcurrentHashMap<>();
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private volatile Cancellable nextProbe;
+    private volatile boolean closed;
+    
+    public ServiceHealthMonitor(DiscoveryClient discoveryClient, WebClient webClient, HashedWheelTimer timer) {
+        this(discoveryClient, webClient, timer, DEFAULT_PROBE_INTERVAL, DEFAULT_TTL, DEFAULT_PROBE_TIMEOUT);
+    }
+    
+    public ServiceHealthMonitor(DiscoveryClient discoveryClient, WebClient webClient, HashedWheelTimer timer,
+                                Duration probeInterval, Duration ttl, Duration probeTimeout) {
+        this.discoveryClient = discoveryClient;
+        this.webClient = webClient;
+        this.timer = timer;
+        this.probeInterval = probeInterval;
+        this.ttlNanos = ttl.toNanos();
+        this.probeTimeout = probeTimeout;
+    }
+    
+    /**
+     * URL de base d'une instance, telle qu'utilisée par les transports
+     */
+    public static String baseUrl(ServiceInstance instance) {
+        return "http://" + instance.getHost() + ":" + instance.getPort();
+    }
+    
+    /**
+     * Ajoute un service aux sondes périodiques (sondé immédiatement la première fois)
+     */
+    public void watch(String serviceName) {
+        if (closed || !watchedServices.add(serviceName)) {
+            return;
+        }
+        if (started.compareAndSet(false, true)) {
+            scheduleNextProbe();
+        }
+        probeService(serviceName);
+    }
+    
+    /**
+     * Au moins une instance du service est disponible (aucune entrée/sortie)
+     */
+    public boolean isServiceAvailable(String serviceName) {
+        for (ServiceInstance instance : getInstances(serviceName)) {
+            if (isInstanceAvailable(instance)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Disponibilité d'une instance : statut Eureka, puis dernier résultat de sonde s'il est récent
+     */
+    public boolean isInstanceAvailable(ServiceInstance instance) {
+        if (!isUpInEureka(instance)) {
+            return false;
+        }
+        InstanceHealth health = instances.get(baseUrl(instance));
+        return health == null || health.isAvailable(System.nanoTime(), ttlNanos);
+    }
+    
+    private List<ServiceInstance> getInstances(String serviceName) {
+        try {
+            return discoveryClient.getInstances(serviceName);
+        } catch (Exception e) {
+            log.warn("Error listing instances of service {}: {}", serviceName, e.getMessage());
+            return List.of();
+        }
+    }
+    
+    private static boolean isUpInEureka(ServiceInstance instance) {
+        return !(instance instanceof EurekaServiceInstance eureka)
+            || eureka.getInstanceInfo().getStatus() == InstanceInfo.InstanceStatus.UP;
+    }
+    
+    private void scheduleNextProbe() {
+        if (closed) {
+            return;
+        }
+        try {
+            nextProbe = timer.schedule(this::probeAll, probeInterval);
+        } catch (IllegalStateException e) {
+            log.debug("Health probes stopped: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Sonde toutes les instances connues et oublie celles qui ne sont plus listées
+     */
+    private void probeAll() {
+        try {
+            Set<String> listed = new HashSet<>();
+            for (String serviceName : watchedServices) {
+                listed.addAll(probeService(serviceName));
+            }
+            instances.keySet().retainAll(listed);
+        } finally {
+            scheduleNextProbe();
+        }
+    }
+    
+    private Set<String> probeService(String serviceName) {
+        Set<String> urls = new HashSet<>();
+        for (ServiceInstance instance : getInstances(serviceName)) {
+            String url = baseUrl(instance);
+            urls.add(url);
+            InstanceHealth health = instances.computeIfAbsent(url, key -> new InstanceHealth());
+            if (!isUpInEureka(instance)) {
+                health.update(false);
+            } else {
+                probe(url, health);
+            }
+        }
+        return urls;
+    }
+    
+    /**
+     * Appel non bloquant de l'endpoint de santé ; une seule sonde en cours par instance
+     */
+    private void probe(String url, InstanceHealth health) {
+        if (!health.probing.compareAndSet(false, true)) {
+            return;
+        }
+        webClient.get()
+            .uri(url + HEALTH_ENDPOINT)
+            .retrieve()
+            .toBodilessEntity()
+            .timeout(probeTimeout)
+            .doFinally(signal -> health.probing.set(false))
+            .subscribe(
+                response -> health.update(true),
+                error -> {
+                    if (health.update(false)) {
+                        log.warn("Instance {} is unhealthy: {}", url, error.getMessage());
+                    }
+                }
+            );
+    }
+    
+    /**
+     * Arrête les sondes périodiques
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Cancellable probe = nextProbe;
+        if (probe != null) {
+            probe.cancel();
+        }
+    }
+    
+    /**
+     * Dernier résultat de sonde d'une instance
+     */
+    private static final class InstanceHealth {
+        
+        private final AtomicBoolean probing = new AtomicBoolean(false);
+        private volatile boolean up = true;
+        private volatile long checkedAt;
+        private volatile boolean checked;
+        
+        /**
+         * @return true si l'état a changé
+         */
+        boolean update(boolean up) {
+            boolean changed = !checked || this.up != up;
+            this.up = up;
+            this.checkedAt = System.nanoTime();
+            this.checked = true;
+            return changed;
+        }
+        
+        boolean isAvailable(long now, long ttlNanos) {
+            return !checked || now - checkedAt > ttlNanos || up;
+        }
+    }
+}
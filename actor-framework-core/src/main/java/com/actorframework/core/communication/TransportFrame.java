@@ -0,0 +1,47 @@
+package com.actorframework.core.communication;
+
+import com.actorframework.core.message.Message;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Trame échangée sur la connexion WebSocket entre deux services.
+ * Les réponses sont corrélées aux ask par l'identifiant du message d'origine.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransportFrame {
+    
+    public enum Type {
+        MESSAGE, // Message vers un acteur (tell ou ask)
+        REPLY,   // Réponse à un ask
+        ERROR    // Échec d'un ask
+    }
+    
+    public enum ErrorCode {
+        TIMEOUT,       // L'acteur n'a pas répondu à temps
+        NOT_AVAILABLE, // Acteur inconnu ou surchargé
+        FAILED         // L'acteur a levé une exception
+    }
+    
+    private Type type;
+    private long correlationId;
+    private Message message;
+    private Object payload;
+    private ErrorCode errorCode;
+    private String error;
+    
+    public static TransportFrame message(Message message) {
+        return new TransportFrame(Type.MESSAGE, message.getMessageId(), message, null, null, null);
+    }
+    
+    public static TransportFrame reply(long correlationId, Object payload) {
+        return new TransportFrame(Type.REPLY, correlationId, null, payload, null, null);
+    }
+    
+    public static TransportFrame error(long correlationId, ErrorCode errorCode, String error) {
+        return new TransportFrame(Type.ERROR, correlationId, null, null, errorCode, error);
+    }
+}
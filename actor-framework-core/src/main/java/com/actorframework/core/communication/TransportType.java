@@ -0,0 +1,9 @@
+package com.actorframework.core.communication;
+
+/**
+ * Transport utilisé pour joindre les acteurs distants.
+ */
+public enum TransportType {
+    HTTP,      // Un POST par ask, tell regroupés par lots
+    WEBSOCKET  // Une connexion multiplexée par instance, repli sur HTTP si indisponible
+}
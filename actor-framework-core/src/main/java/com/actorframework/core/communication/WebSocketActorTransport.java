@@ -0,0 +1,401 @@
+package com.actorframework.core.communication;
+
+import com.actorframework.core.actor.ActorNotAvailableException;
+import com.actorframework.core.actor.AskTimeoutException;
+import com.actorframework.core.message.Message;
+import com.actorframework.core.serialization.MessageSerializer;
+import com.actorframework.core.serialization.SerializationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+import org.springframework.web.reactive.socket.client.WebSocketClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.WebsocketClientSpec;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Transport WebSocket : une connexion persistante par instance de service distante,
+ * sur laquelle tous les messages sont multiplexés (voir {@link TransportFrame}).
+ * Les trames sont encodées par le {@link MessageSerializer} : trames binaires pour un format binaire,
+ * trames texte pour JSON.
+ * Les réponses aux ask sont corrélées par {@code messageId}.
+ * Tant que la connexion n'est pas ouverte (établissement, coupure, pair sans WebSocket),
+ * les messages passent par le transport de repli (HTTP) et une reconnexion est tentée.
+ * À l'ouverture, les trames sont mises en attente jusqu'à ce que les tell et ask déjà partis
+ * par le repli vers cette instance soient livrés : un message WebSocket ne double pas un lot HTTP.
+ * À la fermeture, les tell encore en attente dans le tampon de la connexion sont renvoyés par le repli,
+ * dans l'ordre. Le protocole n'acquitte pas les tell : ceux déjà écrits sur la socket quand elle tombe
+ * peuvent être perdus, et les ask en cours échouent avec {@link ActorNotAvailableException}.
+ */
+@Slf4j
+public class WebSocketActorTransport implements ActorTransport {
+    
+    public static final String WEBSOCKET_ENDPOINT = "/api/actors/ws";
+    public static final int MAX_FRAME_SIZE = 512 * 1024;
+    
+    private static final Duration MIN_RECONNECT_DELAY = Duration.ofMillis(500);
+    private static final Duration MAX_RECONNECT_DELAY = Duration.ofSeconds(30);
+    
+    private final MessageSerializer serializer;
+    private final ActorTransport fallback;
+    private final WebSocketClient client;
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+    
+    public WebSocketActorTransport(MessageSerializer serializer, ActorTransport fallback) {
+        this.serializer = serializer;
+        this.fallback = fallback;
+        this.client = new ReactorNettyWebSocketClient(HttpClient.create(),
+            () -> WebsocketClientSpec.builder().maxFramePayloadLength(MAX_FRAME_SIZE));
+    }
+    
+    @Override
+    public void send(String serviceUrl, Message message) {
+        Connection connection = connection(serviceUrl);
+        if (connection.isOpen() && connection.emit(TransportFrame.message(message), message)) {
+            return;
+        }
+        Lock lock = connection.fallbackLock.readLock();
+        lock.lock();
+        try {
+            if (!connection.isOpen() || !connection.emit(TransportFrame.message(message), message)) {
+                fallback.send(serviceUrl, message);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public CompletableFuture<Object> request(String serviceUrl, Message message, long timeoutMillis) {
+        Connection connection = connection(serviceUrl);
+        if (connection.isOpen()) {
+            CompletableFuture<Object> result = requestOverSocket(connection, message, timeoutMillis);
+            if (result != null) {
+                return result;
+            }
+        }
+        Lock lock = connection.fallbackLock.readLock();
+        lock.lock();
+        try {
+            CompletableFuture<Object> result = connection.isOpen()
+                ? requestOverSocket(connection, message, timeoutMillis)
+                : null;
+            return result != null ? result : connection.trackFallback(
+                fallback.request(serviceUrl, message, timeoutMillis));
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public CompletableFuture<Void> flush(String serviceUrl) {
+        return fallback.flush(serviceUrl);
+    }
+    
+    /**
+     * @return null si la trame n'a pas pu être émise
+     */
+    private CompletableFuture<Object> requestOverSocket(Connection connection, Message message, long timeoutMillis) {
+        String path = message.getReceiverPath();
+        long messageId = message.getMessageId();
+        PendingAsk pending = new PendingAsk(path);
+        connection.pendingAsks.put(messageId, pending);
+        if (!connection.emit(TransportFrame.message(message), null)) {
+            connection.pendingAsks.remove(messageId);
+            return null;
+        }
+        
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        pending.future.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).whenComplete((response, error) -> {
+            connection.pendingAsks.remove(messageId);
+            if (error == null) {
+                result.complete(response);
+            } else if (error instanceof TimeoutException) {
+                result.completeExceptionally(new AskTimeoutException(path, timeoutMillis));
+            } else {
+                result.completeExceptionally(error);
+            }
+        });
+        return result;
+    }
+    
+    private static byte[] payloadBytes(WebSocketMessage message) {
+        DataBuffer buffer = message.getPayload();
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        return bytes;
+    }
+    
+    private Connection connection(String serviceUrl) {
+        Connection connection = connections.computeIfAbsent(serviceUrl, Connection::new);
+        connection.connectIfNeeded();
+        return connection;
+    }
+    
+    @Override
+    public void shutdown() {
+        connections.values().forEach(Connection::close);
+        fallback.shutdown();
+    }
+    
+    private enum State {
+        DISCONNECTED, CONNECTING, OPEN
+    }
+    
+    /**
+     * Trame à écrire sur une connexion ; {@code tell} : le message d'un tell, renvoyé par le repli
+     * si la connexion tombe avant que la trame ait été écrite
+     */
+    private record Outbound(long sequence, byte[] data, Message tell) {
+    }
+    
+    /**
+     * Ask en attente de réponse sur une connexion
+     */
+    private static class PendingAsk {
+        
+        private final String actorPath;
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        
+        PendingAsk(String actorPath) {
+            this.actorPath = actorPath;
+        }
+    }
+    
+    /**
+     * Connexion WebSocket vers une instance de service
+     */
+    private class Connection {
+        
+        private final String serviceUrl;
+        private final AtomicReference<State> state = new AtomicReference<>(State.DISCONNECTED);
+        private final Map<Long, PendingAsk> pendingAsks = new ConcurrentHashMap<>();
+        private final Set<CompletableFuture<?>> fallbackInFlight = ConcurrentHashMap.newKeySet();
+        // Tell émis dans le tampon de la connexion et pas encore écrits sur la socket, par ordre d'émission
+        private final NavigableMap<Long, Message> unwrittenTells = new ConcurrentSkipListMap<>();
+        
+        // Lecture : envoi par le repli ; écriture : bascule vers la connexion ouverte ou vers le repli
+        private final ReadWriteLock fallbackLock = new ReentrantReadWriteLock();
+        // Modifiés sous le moniteur de la connexion
+        private Sinks.Many<Outbound> outbound;
+        private long nextSequence = 0;
+        private volatile Disposable subscription;
+        private volatile long nextAttemptAt = 0;
+        private volatile Duration reconnectDelay = MIN_RECONNECT_DELAY;
+        private volatile boolean closed = false;
+        
+        Connection(String serviceUrl) {
+            this.serviceUrl = serviceUrl;
+        }
+        
+        boolean isOpen() {
+            return state.get() == State.OPEN;
+        }
+        
+        /**
+         * Lance l'établissement de la connexion en arrière-plan si elle n'est pas ouverte
+         */
+        void connectIfNeeded() {
+            if (closed || state.get() != State.DISCONNECTED || System.currentTimeMillis() < nextAttemptAt) {
+                return;
+            }
+            if (!state.compareAndSet(State.DISCONNECTED, State.CONNECTING)) {
+                return;
+            }
+            
+            Sinks.Many<Outbound> sink = Sinks.many().unicast().onBackpressureBuffer();
+            synchronized (this) {
+                outbound = sink;
+            }
+            URI uri = URI.create(serviceUrl.replaceFirst("^http", "ws") + WEBSOCKET_ENDPOINT);
+            log.debug("Opening actor WebSocket connection to {}", uri);
+            
+            subscription = client.execute(uri, session -> onOpen(session, sink))
+                .subscribe(
+                    done -> { },
+                    error -> onClosed(error),
+                    () -> onClosed(null)
+                );
+        }
+        
+        /**
+         * Ask parti par le repli, attendu avant la bascule vers la connexion
+         */
+        CompletableFuture<Object> trackFallback(CompletableFuture<Object> future) {
+            fallbackInFlight.add(future);
+            future.whenComplete((response, error) -> fallbackInFlight.remove(future));
+            return future;
+        }
+        
+        /**
+         * Les trames émises après la bascule restent dans le sink (tampon) jusqu'à la fin du repli
+         */
+        private Mono<Void> onOpen(WebSocketSession session, Sinks.Many<Outbound> sink) {
+            CompletableFuture<Void> drained;
+            Lock lock = fallbackLock.writeLock();
+            lock.lock();
+            try {
+                state.set(State.OPEN);
+                drained = fallbackDrained();
+            } finally {
+                lock.unlock();
+            }
+            reconnectDelay = MIN_RECONNECT_DELAY;
+            log.info("Actor WebSocket connection opened to {}", serviceUrl);
+            
+            Mono<Void> output = session.send(Mono.fromFuture(drained, true).thenMany(sink.asFlux())
+                .doOnNext(frame -> {
+                    if (frame.tell() != null) {
+                        unwrittenTells.remove(frame.sequence());
+                    }
+                })
+                .map(frame -> serializer.isBinary()
+                    ? session.binaryMessage(factory -> factory.wrap(frame.data()))
+                    : session.textMessage(new String(frame.data(), StandardCharsets.UTF_8))));
+            Mono<Void> input = session.receive()
+                .map(WebSocketActorTransport::payloadBytes)
+                .doOnNext(this::onFrame)
+                .then();
+            // Fermée par le pair, la connexion se termine même si l'écriture attend encore le repli
+            return Mono.firstWithSignal(output, input);
+        }
+        
+        private CompletableFuture<Void> fallbackDrained() {
+            CompletableFuture<?>[] pending = fallbackInFlight.stream()
+                .map(future -> future.handle((response, error) -> null))
+                .toArray(CompletableFuture[]::new);
+            return CompletableFuture.allOf(fallback.flush(serviceUrl), CompletableFuture.allOf(pending));
+        }
+        
+        private void onFrame(byte[] data) {
+            TransportFrame frame;
+            try {
+                frame = serializer.deserialize(data, TransportFrame.class);
+            } catch (SerializationException e) {
+                log.warn("Invalid frame received from {}: {}", serviceUrl, e.getMessage());
+                return;
+            }
+            
+            PendingAsk pending = pendingAsks.remove(frame.getCorrelationId());
+            if (pending == null) {
+                log.debug("No pending ask for frame {} (already timed out?)", frame.getCorrelationId());
+                return;
+            }
+            
+            if (frame.getType() == TransportFrame.Type.REPLY) {
+                pending.future.complete(frame.getPayload());
+            } else if (frame.getErrorCode() == TransportFrame.ErrorCode.TIMEOUT) {
+                pending.future.completeExceptionally(new TimeoutException(frame.getError()));
+            } else if (frame.getErrorCode() == TransportFrame.ErrorCode.NOT_AVAILABLE) {
+                pending.future.completeExceptionally(
+                    new ActorNotAvailableException(pending.actorPath, frame.getError()));
+            } else {
+                pending.future.completeExceptionally(new IllegalStateException(
+                    "Remote actor " + pending.actorPath + " failed: " + frame.getError()));
+            }
+        }
+        
+        /**
+         * Écrit une trame sur la connexion.
+         * Les émissions sont sérialisées : le sink n'accepte qu'un seul émetteur à la fois.
+         * @param tell Le message si la trame est un tell (suivi jusqu'à son écriture), sinon null
+         * @return false si la trame n'a pas pu être émise
+         */
+        boolean emit(TransportFrame frame, Message tell) {
+            byte[] data;
+            try {
+                data = serializer.serialize(frame);
+            } catch (SerializationException e) {
+                log.error("Message {} is not serializable: {}", frame.getCorrelationId(), e.getMessage());
+                return false;
+            }
+            synchronized (this) {
+                Sinks.Many<Outbound> sink = outbound;
+                if (sink == null) {
+                    return false;
+                }
+                long sequence = nextSequence++;
+                if (tell != null) {
+                    unwrittenTells.put(sequence, tell);
+                }
+                if (sink.tryEmitNext(new Outbound(sequence, data, tell)).isSuccess()) {
+                    return true;
+                }
+                unwrittenTells.remove(sequence);
+                return false;
+            }
+        }
+        
+        private void onClosed(Throwable error) {
+            if (error != null) {
+                log.warn("Actor WebSocket connection to {} failed: {}", serviceUrl, error.getMessage());
+            } else {
+                log.info("Actor WebSocket connection to {} closed", serviceUrl);
+            }
+            
+            // Reconnexion avec délai exponentiel (pair sans WebSocket, instance arrêtée)
+            nextAttemptAt = System.currentTimeMillis() + reconnectDelay.toMillis();
+            Duration doubled = reconnectDelay.multipliedBy(2);
+            reconnectDelay = doubled.compareTo(MAX_RECONNECT_DELAY) > 0 ? MAX_RECONNECT_DELAY : doubled;
+            
+            // Bascule vers le repli : les tell restés dans le tampon partent avant les suivants
+            Lock lock = fallbackLock.writeLock();
+            lock.lock();
+            try {
+                List<Message> unwritten;
+                synchronized (this) {
+                    outbound = null;
+                    state.set(State.DISCONNECTED);
+                    unwritten = new ArrayList<>(unwrittenTells.values());
+                    unwrittenTells.clear();
+                }
+                if (!unwritten.isEmpty()) {
+                    log.info("Resending {} unwritten tells to {} over the fallback transport",
+                             unwritten.size(), serviceUrl);
+                    unwritten.forEach(message -> fallback.send(serviceUrl, message));
+                }
+            } finally {
+                lock.unlock();
+            }
+            
+            pendingAsks.forEach((id, pending) -> pending.future.completeExceptionally(
+                new ActorNotAvailableException(pending.actorPath, "connection to " + serviceUrl + " closed")));
+            pendingAsks.clear();
+        }
+        
+        void close() {
+            closed = true;
+            synchronized (this) {
+                if (outbound != null) {
+                    outbound.tryEmitComplete();
+                }
+            }
+            Disposable current = subscription;
+            if (current != null) {
+                current.dispose();
+            }
+        }
+    }
+}
@@ -1,30 +1,306 @@
 package com.actorframework.core.config;
 
 import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.actor.ActorTypeRegistrar;
+import com.actorframework.core.communication.ActorHandoff;
+import com.actorframework.core.communication.ActorPlacement;
 import com.actorframework.core.communication.ActorRegistry;
+import com.actorframework.core.communication.ActorTransport;
+import com.actorframework.core.communication.HttpActorTransport;
+import com.actorframework.core.communication.InboundMessageRouter;
+import com.actorframework.core.communication.RemoteMessageBatcher;
+import com.actorframework.core.communication.ServiceHealthMonitor;
+import com.actorframework.core.communication.TransportType;
+import com.actorframework.core.communication.WebSocketActorTransport;
+import com.actorframework.core.discovery.ServiceInstanceResolver;
+import com.actorframework.core.dispatch.Dispatcher;
+import com.actorframework.core.logging.ActorJournal;
 import com.actorframework.core.logging.ActorLogger;
+import com.actorframework.core.message.Message;
+import com.actorframework.core.message.MessageIdGenerator;
+import com.actorframework.core.message.MessageIdStrategy;
+import com.actorframework.core.message.NodeSequenceIdGenerator;
+import com.actorframework.core.message.RandomMessageIdGenerator;
+import com.actorframework.core.persistence.ActorRecovery;
+import com.actorframework.core.persistence.EventJournal;
+import com.actorframework.core.persistence.FileEventJournal;
+import com.actorframework.core.pubsub.EventStreamBridge;
+import com.actorframework.core.scheduling.ActorScheduler;
+import com.actorframework.core.scheduling.HashedWheelTimer;
+import com.actorframework.core.serialization.BinaryMessageHttpMessageConverter;
+import com.actorframework.core.serialization.BinaryMessageSerializer;
+import com.actorframework.core.serialization.JsonMessageSerializer;
+import com.actorframework.core.serialization.MessageSerializer;
+import com.actorframework.core.serialization.PayloadTypeRegistrar;
+import com.actorframework.core.serialization.PayloadTypeRegistry;
+import com.actorframework.core.serialization.SerializationFormat;
+import com.actorframework.core.sharding.InMemorySnapshotStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.client.serviceregistry.Registration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.nio.file.Paths;
+
 @Configuration
+@EnableConfigurationProperties(ActorFrameworkProperties.class)
 public class ActorFrameworkConfig {
     
     @Bean
-    public ActorLogger actorLogger() {
-        return new ActorLogger();
+    public ActorLogger actorLogger(ActorFrameworkProperties properties, Environment environment) {
+        ActorFrameworkProperties.LoggingProperties settings = properties.getLogging();
+        String journalName = StringUtils.hasText(settings.getJournalName())
+            ? settings.getJournalName()
+            : environment.getProperty("spring.application.name", ActorLogger.DEFAULT_JOURNAL_NAME);
+        ActorJournal journal = new ActorJournal(Paths.get(settings.getDirectory()), journalName,
+            settings.getSegmentSize().toBytes(), settings.getMaxSegments());
+        return new ActorLogger(journal, settings.getBufferSize(), settings.getOverflowStrategy(),
+                               settings.getFlushSize(), settings.getFlushInterval());
+    }
+    
+    /**
+     * Stratégie d'identifiants des messages, installée sur {@link Message} au démarrage
+     */
+    @Bean
+    public MessageIdGenerator messageIdGenerator(ActorFrameworkProperties properties) {
+        ActorFrameworkProperties.MessageProperties settings = properties.getMessage();
+        MessageIdGenerator generator;
+        if (settings.getIdStrategy() == MessageIdStrategy.RANDOM) {
+            generator = new RandomMessageIdGenerator();
+        } else if (settings.getNodeId() >= 0) {
+            generator = new NodeSequenceIdGenerator(settings.getNodeId());
+        } else {
+            generator = NodeSequenceIdGenerator.withRandomNodeId();
+        }
+        Message.setIdGenerator(generator);
+        return generator;
+    }
+    
+    @Bean
+    public Dispatcher dispatcher(ActorLogger actorLogger, ActorFrameworkProperties properties) {
+        ActorFrameworkProperties.DispatcherProperties settings = properties.getDispatcher();
+        Dispatcher dispatcher = Dispatcher.create(
+            settings.getMode(), actorLogger, settings.resolvePoolSize(), settings.getThroughput());
+        dispatcher.setDefaultMailboxConfig(properties.getMailbox().toDefaultConfig());
+        properties.getMailbox().getTypes().forEach(dispatcher::registerMailboxConfig);
+        return dispatcher;
+    }
+    
+    /**
+     * Planificateur partagé des messages différés et périodiques (roue hachée, un seul thread)
+     */
+    @Bean
+    public ActorScheduler actorScheduler(ActorFrameworkProperties properties) {
+        ActorFrameworkProperties.SchedulerProperties settings = properties.getScheduler();
+        return new ActorScheduler(new HashedWheelTimer(settings.getTickDuration(), settings.getWheelSize()));
+    }
+    
+    /**
+     * Système d'acteurs, avec les types d'acteurs des ActorTypeRegistrar des services,
+     * la persistance des acteurs par événements et la passivation des acteurs inactifs
+     */
+    @Bean
+    public ActorSystem actorSystem(ActorLogger actorLogger, Dispatcher dispatcher, ActorScheduler actorScheduler,
+                                   ObjectProvider<ActorTypeRegistrar> registrars,
+                                   ObjectProvider<EventJournal> eventJournal,
+                                   ObjectMapper objectMapper,
+                                   ActorFrameworkProperties properties) {
+        ActorSystem actorSystem = new ActorSystem(actorLogger, dispatcher, actorScheduler);
+        registrars.orderedStream().forEach(registrar -> registrar.registerActorTypes(actorSystem));
+        EventJournal journal = eventJournal.getIfAvailable();
+        if (journal != null) {
+            actorSystem.enablePersistence(journal, properties.getPersistence().getSnapshotEvery());
+        }
+        ActorFrameworkProperties.ShardingProperties sharding = properties.getSharding();
+        if (sharding.isEnabled()) {
+            actorSystem.enableSharding(new InMemorySnapshotStore(objectMapper),
+                sharding.getNumberOfShards(), sharding.getPassivateAfter());
+        }
+        return actorSystem;
+    }
+    
+    /**
+     * Journal d'événements local de ce nœud ; son nom doit rester le même d'un démarrage à l'autre
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "actor.persistence", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public EventJournal eventJournal(PayloadTypeRegistry payloadTypeRegistry, ObjectMapper objectMapper,
+                                     ActorFrameworkProperties properties, Environment environment) {
+        ActorFrameworkProperties.PersistenceProperties settings = properties.getPersistence();
+        String journalName = settings.getJournalName();
+        if (!StringUtils.hasText(journalName)) {
+            String port = environment.getProperty("server.port");
+            journalName = environment.getProperty("spring.application.name", "application")
+                + (StringUtils.hasText(port) ? "-" + port : "");
+        }
+        return new FileEventJournal(Paths.get(settings.getDirectory()), journalName, payloadTypeRegistry,
+            objectMapper, settings.getSegmentSize().toBytes(), settings.isFsync());
+    }
+    
+    /**
+     * Recrée au démarrage les acteurs persistés dans le journal
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "actor.persistence", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public ActorRecovery actorRecovery(ActorSystem actorSystem, ActorRegistry actorRegistry,
+                                       EventJournal eventJournal, ActorFrameworkProperties properties) {
+        return new ActorRecovery(actorSystem, actorRegistry, eventJournal,
+                                 properties.getPersistence().isLazyRecovery());
+    }
+    
+    /**
+     * Types de payload connus du format binaire, complétés par les PayloadTypeRegistrar des services
+     */
+    @Bean
+    public PayloadTypeRegistry payloadTypeRegistry(ObjectProvider<PayloadTypeRegistrar> registrars) {
+        PayloadTypeRegistry registry = new PayloadTypeRegistry();
+        registrars.orderedStream().forEach(registrar -> registrar.registerPayloadTypes(registry));
+        return registry;
+    }
+    
+    @Bean
+    public JsonMessageSerializer jsonMessageSerializer(ObjectMapper objectMapper,
+                                                       PayloadTypeRegistry payloadTypeRegistry) {
+        return new JsonMessageSerializer(objectMapper, payloadTypeRegistry);
+    }
+    
+    @Bean
+    public BinaryMessageSerializer binaryMessageSerializer(PayloadTypeRegistry payloadTypeRegistry,
+                                                           ObjectMapper objectMapper) {
+        return new BinaryMessageSerializer(payloadTypeRegistry, objectMapper);
     }
     
+    /**
+     * Accepte le format binaire sur ActorController (ajouté aux convertisseurs de Spring MVC)
+     */
     @Bean
-    public ActorSystem actorSystem(ActorLogger actorLogger) {
-        return new ActorSystem(actorLogger);
+    public BinaryMessageHttpMessageConverter binaryMessageHttpMessageConverter(
+            BinaryMessageSerializer binaryMessageSerializer) {
+        return new BinaryMessageHttpMessageConverter(binaryMessageSerializer);
+    }
+    
+    /**
+     * Transport vers les acteurs distants : HTTP, ou WebSocket multiplexé avec repli sur HTTP
+     */
+    @Bean
+    public ActorTransport actorTransport(WebClient.Builder webClientBuilder,
+                                         JsonMessageSerializer jsonMessageSerializer,
+                                         BinaryMessageSerializer binaryMessageSerializer,
+                                         ActorFrameworkProperties properties) {
+        ActorFrameworkProperties.RemoteProperties remote = properties.getRemote();
+        MessageSerializer serializer = remote.getSerialization() == SerializationFormat.BINARY
+            ? binaryMessageSerializer
+            : jsonMessageSerializer;
+        WebClient webClient = webClientBuilder.build();
+        RemoteMessageBatcher batcher = remote.getBatch().isEnabled()
+            ? new RemoteMessageBatcher(webClient, serializer, remote.getBatch().getMaxSize(), remote.getBatch().getLinger(),
+                                       remote.getBatch().getMaxRetries(), remote.getBatch().getRetryBackoff(),
+                                       remote.getBatch().getRequestTimeout())
+            : null;
+        ActorTransport http = new HttpActorTransport(webClient, batcher, serializer);
+        if (remote.getTransport() == TransportType.WEBSOCKET) {
+            return new WebSocketActorTransport(serializer, http);
+        }
+        return http;
     }
     
     @Bean
     public ActorRegistry actorRegistry(
             org.springframework.cloud.client.discovery.DiscoveryClient discoveryClient,
-            WebClient.Builder webClientBuilder) {
-        return new ActorRegistry(discoveryClient, webClientBuilder);
+            WebClient.Builder webClientBuilder,
+            ActorTransport actorTransport,
+            ServiceInstanceResolver serviceInstanceResolver,
+            ActorPlacement actorPlacement) {
+        return new ActorRegistry(discoveryClient, webClientBuilder, actorTransport, serviceInstanceResolver,
+                                 actorPlacement);
+    }
+    
+    /**
+     * Réplique propriétaire de chaque acteur de ce service ; l'URL de ce nœud est celle
+     * de son enregistrement Eureka
+     */
+    @Bean
+    public ActorPlacement actorPlacement(ServiceInstanceResolver serviceInstanceResolver,
+                                         ObjectProvider<Registration> registration,
+                                         Environment environment,
+                                         ActorFrameworkProperties properties) {
+        String serviceName = environment.getProperty("spring.application.name", "application");
+        return new ActorPlacement(serviceInstanceResolver, serviceName, () -> {
+            Registration local = registration.getIfAvailable();
+            return local != null && local.getPort() > 0 ? ServiceHealthMonitor.baseUrl(local) : null;
+        }, properties.getRemote().getPlacement().isEnabled());
+    }
+    
+    /**
+     * Création des acteurs sur leur réplique et transfert quand les répliques changent
+     */
+    @Bean
+    public ActorHandoff actorHandoff(ActorSystem actorSystem, ActorRegistry actorRegistry,
+                                     ActorPlacement actorPlacement,
+                                     ServiceInstanceResolver serviceInstanceResolver,
+                                     WebClient.Builder webClientBuilder,
+                                     ObjectMapper objectMapper,
+                                     ActorFrameworkProperties properties) {
+        ActorHandoff handoff = new ActorHandoff(actorSystem, actorRegistry, actorPlacement,
+            webClientBuilder.build(), objectMapper, properties.getRemote().getPlacement().getHandoffTimeout());
+        serviceInstanceResolver.addMembershipListener(handoff);
+        return handoff;
+    }
+    
+    /**
+     * Instances des services en cache (rafraîchies à chaque mise à jour du registre Eureka)
+     * et répartition de charge côté client
+     */
+    @Bean
+    public ServiceInstanceResolver serviceInstanceResolver(
+            org.springframework.cloud.client.discovery.DiscoveryClient discoveryClient,
+            ServiceHealthMonitor serviceHealthMonitor,
+            ActorFrameworkProperties properties) {
+        ActorFrameworkProperties.RemoteProperties remote = properties.getRemote();
+        return new ServiceInstanceResolver(discoveryClient, remote.getLoadBalancing(), serviceHealthMonitor,
+                                           remote.getPlacement().getVirtualNodes());
+    }
+    
+    /**
+     * Santé des services distants, sondée sur la minuterie partagée des acteurs
+     */
+    @Bean
+    public ServiceHealthMonitor serviceHealthMonitor(
+            org.springframework.cloud.client.discovery.DiscoveryClient discoveryClient,
+            WebClient.Builder webClientBuilder,
+            ActorScheduler actorScheduler,
+            ActorFrameworkProperties properties) {
+        ActorFrameworkProperties.HealthProperties health = properties.getRemote().getHealth();
+        return new ServiceHealthMonitor(discoveryClient, webClientBuilder.build(), actorScheduler.getTimer(),
+            health.getProbeInterval(), health.getTtl(), health.getProbeTimeout());
+    }
+    
+    /**
+     * Pont du flux d'événements vers les autres services (acteur {@value EventStreamBridge#PATH})
+     */
+    @Bean
+    public EventStreamBridge eventStreamBridge(ActorSystem actorSystem, ActorRegistry actorRegistry,
+                                               ActorTransport actorTransport,
+                                               ServiceInstanceResolver serviceInstanceResolver,
+                                               ActorPlacement actorPlacement,
+                                               ActorFrameworkProperties properties) {
+        EventStreamBridge bridge = new EventStreamBridge(actorSystem.getEventStream(), actorTransport,
+            serviceInstanceResolver, actorPlacement::getLocalUrl, properties.getEvents().getSubscriptionLease());
+        actorRegistry.registerLocalActor(bridge.getActorPath(), actorSystem.createActor(bridge));
+        return bridge;
+    }
+    
+    @Bean
+    public InboundMessageRouter inboundMessageRouter(ActorSystem actorSystem, ActorRegistry actorRegistry,
+                                                     ActorFrameworkProperties properties) {
+        return new InboundMessageRouter(actorSystem, actorRegistry,
+            properties.getRemote().getAskTimeout().toMillis(), properties.getRemote().getMaxInFlightAsks());
     }
     
     @Bean
@@ -32,4 +308,3 @@ public class ActorFrameworkConfig {
         return WebClient.builder();
     }
 }
-
@@ -0,0 +1,318 @@
+package com.actorframework.core.config;
+
+import com.actorframework.core.actor.EventSourcedActor;
+import com.actorframework.core.communication.ActorHandoff;
+import com.actorframework.core.communication.ServiceHealthMonitor;
+import com.actorframework.core.communication.TransportType;
+import com.actorframework.core.discovery.ConsistentHashRing;
+import com.actorframework.core.discovery.LoadBalancingStrategy;
+import com.actorframework.core.dispatch.Dispatcher;
+import com.actorframework.core.dispatch.DispatcherMode;
+import com.actorframework.core.dispatch.MailboxConfig;
+import com.actorframework.core.dispatch.OverflowStrategy;
+import com.actorframework.core.logging.ActorJournal;
+import com.actorframework.core.logging.ActorLogger;
+import com.actorframework.core.logging.LogOverflowStrategy;
+import com.actorframework.core.message.MessageIdStrategy;
+import com.actorframework.core.persistence.FileEventJournal;
+import com.actorframework.core.pubsub.EventStreamBridge;
+import com.actorframework.core.scheduling.HashedWheelTimer;
+import com.actorframework.core.serialization.SerializationFormat;
+import com.actorframework.core.sharding.ActorSharding;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Propriétés de configuration du framework d'acteurs (préfixe {@code actor}).
+ */
+@Data
+@ConfigurationProperties(prefix = "actor")
+public class ActorFrameworkProperties {
+    
+    private DispatcherProperties dispatcher = new DispatcherProperties();
+    private MailboxProperties mailbox = new MailboxProperties();
+    private RemoteProperties remote = new RemoteProperties();
+    private MessageProperties message = new MessageProperties();
+    private LoggingProperties logging = new LoggingProperties();
+    private SchedulerProperties scheduler = new SchedulerProperties();
+    private ShardingProperties sharding = new ShardingProperties();
+    private PersistenceProperties persistence = new PersistenceProperties();
+    private EventsProperties events = new EventsProperties();
+    
+    @Data
+    public static class DispatcherProperties {
+        /**
+         * Mode d'exécution : thread-pool ou virtual-threads (Java 21+)
+         */
+        private DispatcherMode mode = DispatcherMode.THREAD_POOL;
+        
+        /**
+         * Nombre de threads du pool (0 = 2 x nombre de processeurs)
+         */
+        private int poolSize = 0;
+        
+        /**
+         * Nombre maximum de messages traités par acteur avant de céder le thread
+         */
+        private int throughput = Dispatcher.DEFAULT_THROUGHPUT;
+        
+        public int resolvePoolSize() {
+            return poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors() * 2;
+        }
+    }
+    
+    /**
+     * Configuration par défaut des boîtes aux lettres, surchargeable par type d'acteur :
+     * <pre>
+     * actor.mailbox.capacity: 1000
+     * actor.mailbox.types.ScoreboardActor.overflow-strategy: drop-oldest
+     * </pre>
+     */
+    @Data
+    public static class MailboxProperties {
+        private int capacity = MailboxConfig.DEFAULT_CAPACITY;
+        private OverflowStrategy overflowStrategy = OverflowStrategy.BLOCK;
+        private Duration blockTimeout = Duration.ofMillis(500);
+        private Map<String, MailboxConfig> types = new HashMap<>();
+        
+        public MailboxConfig toDefaultConfig() {
+            return new MailboxConfig(capacity, overflowStrategy, blockTimeout);
+        }
+    }
+    
+    /**
+     * Logs des acteurs, écrits de façon asynchrone par un thread dédié dans un journal binaire par nœud
+     */
+    @Data
+    public static class LoggingProperties {
+        private String directory = ActorLogger.DEFAULT_LOG_DIR;
+        
+        /**
+         * Nom du journal (préfixe des segments), par défaut spring.application.name
+         */
+        private String journalName;
+        
+        /**
+         * Taille d'un segment avant rotation, et nombre de segments conservés
+         */
+        private DataSize segmentSize = DataSize.ofBytes(ActorJournal.DEFAULT_SEGMENT_SIZE);
+        private int maxSegments = ActorJournal.DEFAULT_MAX_SEGMENTS;
+        
+        /**
+         * Nombre d'événements dans le tampon circulaire (puissance de 2)
+         */
+        private int bufferSize = ActorLogger.DEFAULT_BUFFER_SIZE;
+        
+        /**
+         * Tampon plein : drop (événement abandonné et compté) ou block (l'acteur attend)
+         */
+        private LogOverflowStrategy overflowStrategy = LogOverflowStrategy.DROP;
+        
+        /**
+         * Les fichiers sont vidés tous les flush-size événements ou toutes les flush-interval
+         */
+        private int flushSize = ActorLogger.DEFAULT_FLUSH_SIZE;
+        private Duration flushInterval = ActorLogger.DEFAULT_FLUSH_INTERVAL;
+    }
+    
+    /**
+     * Minuterie partagée des acteurs (roue hachée)
+     */
+    @Data
+    public static class SchedulerProperties {
+        /**
+         * Durée d'un tick : précision des messages planifiés
+         */
+        private Duration tickDuration = HashedWheelTimer.DEFAULT_TICK_DURATION;
+        
+        /**
+         * Nombre de cases de la roue (puissance de 2)
+         */
+        private int wheelSize = HashedWheelTimer.DEFAULT_WHEEL_SIZE;
+    }
+    
+    /**
+     * Passivation des acteurs avec état inactifs (PlayerActor, CoachActor, ScoreboardActor)
+     */
+    @Data
+    public static class ShardingProperties {
+        private boolean enabled = true;
+        
+        /**
+         * Nombre de shards entre lesquels les acteurs sont répartis (par identifiant)
+         */
+        private int numberOfShards = ActorSharding.DEFAULT_NUMBER_OF_SHARDS;
+        
+        /**
+         * Durée sans message après laquelle un acteur est passivé (état capturé, acteur retiré de la mémoire)
+         */
+        private Duration passivateAfter = ActorSharding.DEFAULT_PASSIVATE_AFTER;
+    }
+    
+    /**
+     * Journal d'événements des acteurs persistants et des données des services
+     */
+    @Data
+    public static class PersistenceProperties {
+        private boolean enabled = true;
+        private String directory = FileEventJournal.DEFAULT_DIRECTORY;
+        
+        /**
+         * Nom du journal, propre à chaque réplique (par défaut : {spring.application.name}-{server.port})
+         */
+        private String journalName;
+        
+        /**
+         * Nombre d'événements d'un flux entre deux instantanés (0 : instantanés explicites seulement)
+         */
+        private int snapshotEvery = EventSourcedActor.DEFAULT_SNAPSHOT_EVERY;
+        private DataSize segmentSize = DataSize.ofBytes(FileEventJournal.DEFAULT_SEGMENT_SIZE);
+        
+        /**
+         * Force chaque lot d'écritures sur disque (fsync) : survit à une coupure de courant, au prix de la latence
+         */
+        private boolean fsync = false;
+        
+        /**
+         * Avec le sharding, les acteurs repris au démarrage sont créés à leur premier message
+         * (false : tous créés au démarrage, ex: matchs en cours dont le chronomètre doit repartir)
+         */
+        private boolean lazyRecovery = true;
+    }
+    
+    /**
+     * Flux d'événements entre services
+     */
+    @Data
+    public static class EventsProperties {
+        /**
+         * Durée d'une souscription à un sujet d'un autre service, renouvelée tous les tiers de bail ;
+         * les événements ne sont plus transmis à une instance qui ne la renouvelle pas (arrêtée)
+         */
+        private Duration subscriptionLease = EventStreamBridge.DEFAULT_LEASE;
+    }
+    
+    @Data
+    public static class MessageProperties {
+        /**
+         * Stratégie d'identifiants : node-sequence (nœud + séquence) ou random
+         */
+        private MessageIdStrategy idStrategy = MessageIdStrategy.NODE_SEQUENCE;
+        
+        /**
+         * Identifiant du nœud pour node-sequence (0 à 32767, -1 = tiré au hasard au démarrage)
+         */
+        private int nodeId = -1;
+    }
+    
+    @Data
+    public static class RemoteProperties {
+        /**
+         * Transport vers les autres services (websocket : connexion multiplexée, repli sur HTTP)
+         */
+        private TransportType transport = TransportType.WEBSOCKET;
+        
+        /**
+         * Format des messages envoyés (binary : BinaryMessageSerializer, json : Jackson).
+         * Les deux formats sont toujours acceptés en réception.
+         */
+        private SerializationFormat serialization = SerializationFormat.BINARY;
+        
+        /**
+         * Répartition entre les instances d'un service : round-robin, least-outstanding
+         * ou power-of-two-choices
+         */
+        private LoadBalancingStrategy loadBalancing = LoadBalancingStrategy.POWER_OF_TWO_CHOICES;
+        
+        /**
+         * Nombre maximum d'ask distants en cours de traitement sur ce service (au-delà : 503)
+         */
+        private int maxInFlightAsks = 1000;
+        
+        /**
+         * Délai de réponse accordé à un acteur local pour un ask reçu à distance
+         */
+        private Duration askTimeout = Duration.ofSeconds(5);
+        
+        private BatchProperties batch = new BatchProperties();
+        private HealthProperties health = new HealthProperties();
+        private PlacementProperties placement = new PlacementProperties();
+    }
+    
+    /**
+     * Placement des acteurs entre les répliques d'un service (anneau de hachage cohérent)
+     */
+    @Data
+    public static class PlacementProperties {
+        /**
+         * Désactivé : chaque nœud héberge les acteurs qu'il crée et les messages vont à n'importe quelle réplique
+         */
+        private boolean enabled = true;
+        
+        /**
+         * Nombre de points de l'anneau par instance (plus il est grand, plus la répartition est régulière)
+         */
+        private int virtualNodes = ConsistentHashRing.DEFAULT_VIRTUAL_NODES;
+        
+        /**
+         * Délai accordé à la capture et au transfert d'un acteur vers sa nouvelle réplique
+         */
+        private Duration handoffTimeout = ActorHandoff.DEFAULT_TIMEOUT;
+    }
+    
+    /**
+     * Santé des instances distantes, sondée en tâche de fond (resolveActor reste en mémoire)
+     */
+    @Data
+    public static class HealthProperties {
+        /**
+         * Intervalle entre deux sondes /actuator/health d'une instance
+         */
+        private Duration probeInterval = ServiceHealthMonitor.DEFAULT_PROBE_INTERVAL;
+        
+        /**
+         * Durée de validité d'un résultat de sonde ; au-delà, seul le statut Eureka compte
+         */
+        private Duration ttl = ServiceHealthMonitor.DEFAULT_TTL;
+        
+        private Duration probeTimeout = ServiceHealthMonitor.DEFAULT_PROBE_TIMEOUT;
+    }
+    
+    /**
+     * Regroupement des tell distants vers une même instance de service
+     */
+    @Data
+    public static class BatchProperties {
+        private boolean enabled = true;
+        
+        /**
+         * Nombre maximum de messages par lot
+         */
+        private int maxSize = 100;
+        
+        /**
+         * Délai d'attente maximum avant l'envoi d'un lot incomplet
+         */
+        private Duration linger = Duration.ofMillis(5);
+        
+        /**
+         * Nombre de nouvelles tentatives d'un lot en échec avant abandon
+         */
+        private int maxRetries = 3;
+        
+        /**
+         * Délai avant la première nouvelle tentative, doublé à chaque échec
+         */
+        private Duration retryBackoff = Duration.ofMillis(100);
+        
+        /**
+         * Délai maximum d'un POST de lot (au-delà, il est renvoyé comme un échec)
+         */
+        private Duration requestTimeout = Duration.ofSeconds(5);
+    }
+}
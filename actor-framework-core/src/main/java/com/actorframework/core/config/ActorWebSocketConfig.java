@@ -0,0 +1,43 @@
+package com.actorframework.core.config;
+
+import com.actorframework.core.communication.ActorWebSocketHandler;
+import com.actorframework.core.communication.InboundMessageRouter;
+import com.actorframework.core.communication.WebSocketActorTransport;
+import com.actorframework.core.serialization.BinaryMessageSerializer;
+import com.actorframework.core.serialization.JsonMessageSerializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+/**
+ * Expose l'extrémité WebSocket {@code /api/actors/ws} utilisée par le transport inter-services.
+ */
+@Configuration
+@EnableWebSocket
+public class ActorWebSocketConfig implements WebSocketConfigurer {
+    
+    private final ActorWebSocketHandler actorWebSocketHandler;
+    
+    public ActorWebSocketConfig(InboundMessageRouter inboundMessageRouter,
+                                JsonMessageSerializer jsonMessageSerializer,
+                                BinaryMessageSerializer binaryMessageSerializer) {
+        this.actorWebSocketHandler = new ActorWebSocketHandler(
+            inboundMessageRouter, jsonMessageSerializer, binaryMessageSerializer);
+    }
+    
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(actorWebSocketHandler, WebSocketActorTransport.WEBSOCKET_ENDPOINT);
+    }
+    
+    @Bean
+    public ServletServerContainerFactoryBean createWebSocketContainer() {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxTextMessageBufferSize(WebSocketActorTransport.MAX_FRAME_SIZE);
+        container.setMaxBinaryMessageBufferSize(WebSocketActorTransport.MAX_FRAME_SIZE);
+        return container;
+    }
+}
@@ -2,13 +2,28 @@ package com.actorframework.core.controller;
 
 import com.actorframework.core.actor.ActorRef;
 import com.actorframework.core.actor.ActorSystem;
-import com.actorframework.core.communication.ActorRegistry;
+import com.actorframework.core.communication.ActorAlreadyHostedException;
+import com.actorframework.core.communication.ActorHandoff;
+import com.actorframework.core.communication.ActorTransfer;
+import com.actorframework.core.communication.BatchResult;
+import com.actorframework.core.communication.InboundMessageRouter;
+import com.actorframework.core.dispatch.MailboxOverflowException;
 import com.actorframework.core.message.Message;
+import com.actorframework.core.serialization.BinaryMessageSerializer;
+import com.actorframework.core.serialization.JsonMessageSerializer;
+import com.actorframework.core.sharding.ActorSharding;
+import com.actorframework.core.sharding.ShardStats;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/actors")
@@ -16,49 +31,99 @@ import org.springframework.web.bind.annotation.*;
 public class ActorController {
     
     private final ActorSystem actorSystem;
-    private final ActorRegistry actorRegistry;
+    private final InboundMessageRouter inboundMessageRouter;
+    private final JsonMessageSerializer jsonMessageSerializer;
+    private final ActorHandoff actorHandoff;
     
     /**
-     * Endpoint pour recevoir des messages d'acteurs distants
+     * Endpoint pour recevoir des messages d'acteurs distants.
+     * Les ask sont traités de manière asynchrone : le thread servlet est libéré
+     * et la réponse HTTP est complétée quand l'acteur répond.
+     * Le format (JSON ou binaire) est négocié via les en-têtes Content-Type et Accept.
      */
-    @PostMapping("/message")
-    public ResponseEntity<Object> receiveMessage(@RequestBody Message message) {
+    @PostMapping(value = "/message", produces = {MediaType.APPLICATION_JSON_VALUE, BinaryMessageSerializer.CONTENT_TYPE})
+    public CompletableFuture<ResponseEntity<Object>> receiveMessage(@RequestBody Message message) {
         log.info("Received message from remote actor: {}", message.getSenderPath());
         
-        // Extraire le chemin local de l'acteur (sans le préfixe du service)
-        String receiverPath = message.getReceiverPath();
-        if (receiverPath == null) {
+        if (message.getReceiverPath() == null) {
             log.warn("Receiver path is null in message: {}", message.getMessageId());
-            return ResponseEntity.badRequest().build();
-        }
-        
-        // Si le chemin contient un préfixe de service, l'enlever
-        if (receiverPath.contains("/user/")) {
-            int index = receiverPath.indexOf("/user/");
-            receiverPath = receiverPath.substring(index);
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
         }
         
-        // Résoudre l'acteur local destinataire
-        ActorRef actorRef = actorRegistry.resolveActor(receiverPath);
-        if (actorRef == null) {
-            // Essayer aussi avec le chemin complet depuis actorSystem
-            actorRef = actorSystem.getActorRef(receiverPath);
-        }
+        // Corps JSON lu par Spring MVC : restaurer les payloads des messages typés
+        jsonMessageSerializer.restoreTypedPayloads(message);
         
+        ActorRef actorRef = inboundMessageRouter.resolveReceiver(message);
         if (actorRef == null) {
-            log.warn("Could not resolve actor at path: {}", receiverPath);
-            return ResponseEntity.notFound().build();
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
         }
         
-        // Si une réponse est requise, utiliser ask
+        // Si une réponse est requise, utiliser ask (asynchrone, borné en nombre)
         if (message.isRequiresResponse()) {
-            Object response = actorRef.ask(message, 5000);
-            return ResponseEntity.ok(response);
+            CompletableFuture<Object> response = inboundMessageRouter.ask(actorRef, message);
+            if (response == null) {
+                return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build());
+            }
+            return response.thenApply(ResponseEntity::ok);
         } else {
             // Sinon, utiliser tell (asynchrone)
             actorRef.tell(message);
-            return ResponseEntity.accepted().build();
+            return CompletableFuture.completedFuture(ResponseEntity.accepted().build());
+        }
+    }
+    
+    /**
+     * Endpoint pour recevoir un lot de tell d'acteurs distants (voir RemoteMessageBatcher).
+     * Les messages sont déposés dans l'ordre du lot, ce qui préserve l'ordre par destinataire.
+     */
+    @PostMapping(value = "/batch", produces = {MediaType.APPLICATION_JSON_VALUE, BinaryMessageSerializer.CONTENT_TYPE})
+    public ResponseEntity<BatchResult> receiveBatch(@RequestBody List<Message> messages) {
+        log.debug("Received batch of {} messages", messages.size());
+        
+        jsonMessageSerializer.restoreTypedPayloads(messages);
+        
+        BatchResult result = new BatchResult();
+        for (Message message : messages) {
+            if (message.getReceiverPath() == null || message.isRequiresResponse()) {
+                log.warn("Invalid message {} in batch (ask or missing receiver)", message.getMessageId());
+                result.getInvalid().add(message.getMessageId());
+                continue;
+            }
+            
+            ActorRef actorRef = inboundMessageRouter.resolveReceiver(message);
+            if (actorRef == null) {
+                result.getNotFound().add(message.getMessageId());
+                continue;
+            }
+            
+            try {
+                actorRef.tell(message);
+                result.setAccepted(result.getAccepted() + 1);
+            } catch (MailboxOverflowException e) {
+                result.getRejected().add(message.getMessageId());
+            }
+        }
+        return ResponseEntity.accepted().body(result);
+    }
+    
+    /**
+     * Endpoint recevant un acteur créé ou déplacé par une autre réplique du service (voir ActorHandoff).
+     * 409 si l'acteur est déjà hébergé ici.
+     */
+    @PostMapping("/handoff")
+    public ResponseEntity<Void> receiveHandoff(@RequestBody ActorTransfer transfer) {
+        try {
+            actorHandoff.receive(transfer);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected actor handoff: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (ActorAlreadyHostedException e) {
+            log.warn("Rejected actor handoff: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
+        return ResponseEntity.status(HttpStatus.CREATED).build();
     }
     
     /**
@@ -68,12 +133,27 @@ public class ActorController {
     public ResponseEntity<ActorSystemInfo> getActorSystemInfo() {
         ActorSystemInfo info = new ActorSystemInfo();
         info.setActiveActorCount(actorSystem.getActiveActorCount());
+        ActorSharding sharding = actorSystem.getSharding();
+        info.setPassivatedActorCount(sharding != null ? sharding.getPassivatedPaths().size() : 0);
+        info.setRejectedMessages(actorSystem.getRejectedMessageCounts());
+        info.setInFlightAsks(inboundMessageRouter.getInFlightAsks());
         return ResponseEntity.ok(info);
     }
     
+    /**
+     * Compteurs des shards : acteurs en mémoire, passivés (taille de leurs états), activations et passivations
+     */
+    @GetMapping("/shards")
+    public ResponseEntity<List<ShardStats>> getShardStats() {
+        ActorSharding sharding = actorSystem.getSharding();
+        return ResponseEntity.ok(sharding != null ? sharding.getShardStats() : List.of());
+    }
+    
     @lombok.Data
     public static class ActorSystemInfo {
         private int activeActorCount;
+        private int passivatedActorCount;
+        private java.util.Map<String, Long> rejectedMessages;
+        private int inFlightAsks;
     }
 }
-
@@ -0,0 +1,54 @@
+package com.actorframework.core.controller;
+
+import com.actorframework.core.actor.ActorNotAvailableException;
+import com.actorframework.core.actor.AskTimeoutException;
+import com.actorframework.core.dispatch.MailboxOverflowException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Traduit les erreurs du framework d'acteurs en réponses HTTP pour tous les contrôleurs.
+ * Une boîte aux lettres pleine donne un 503 avec Retry-After plutôt qu'une erreur 500,
+ * un ask sans réponse donne un 504 et un acteur injoignable un 404.
+ */
+@Slf4j
+@RestControllerAdvice
+public class ActorExceptionHandler {
+    
+    @ExceptionHandler(MailboxOverflowException.class)
+    public ResponseEntity<Map<String, Object>> handleMailboxOverflow(MailboxOverflowException e) {
+        log.warn("Backpressure: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(errorBody("Actor overloaded", e.getActorPath(), e));
+    }
+    
+    @ExceptionHandler(AskTimeoutException.class)
+    public ResponseEntity<Map<String, Object>> handleAskTimeout(AskTimeoutException e) {
+        log.warn("Ask timeout: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+            .body(errorBody("Actor did not respond in time", e.getActorPath(), e));
+    }
+    
+    @ExceptionHandler(ActorNotAvailableException.class)
+    public ResponseEntity<Map<String, Object>> handleActorNotAvailable(ActorNotAvailableException e) {
+        log.warn("Actor not available: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .body(errorBody("Actor not available", e.getActorPath(), e));
+    }
+    
+    private Map<String, Object> errorBody(String error, String actorPath, Exception e) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", error);
+        body.put("actorPath", actorPath);
+        body.put("message", e.getMessage());
+        return body;
+    }
+}
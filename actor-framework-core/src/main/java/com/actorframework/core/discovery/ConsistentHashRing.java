@@ -0,0 +1,107 @@
+package com.actorframework.core.discovery;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Anneau de hachage cohérent sur les instances d'un service : décide quelle instance
+ * possède une clé (typiquement le chemin d'un acteur).
+ * Chaque instance occupe {@code virtualNodes} points de l'anneau ; une clé appartient à la première
+ * instance rencontrée dans le sens horaire. Quand une instance arrive ou part, seules les clés
+ * de ses segments changent de propriétaire (environ 1/n des clés).
+ * Immuable : reconstruit par le {@link ServiceInstanceResolver} quand les instances listées changent.
+ */
+public final class ConsistentHashRing {
+    
+    public static final int DEFAULT_VIRTUAL_NODES = 128;
+    
+    private static final ConsistentHashRing EMPTY = new ConsistentHashRing(List.of(), DEFAULT_VIRTUAL_NODES);
+    
+    private final long[] points;
+    private final ServiceEndpoint[] owners;
+    private final Set<String> members;
+    
+    public ConsistentHashRing(List<ServiceEndpoint> endpoints, int virtualNodes) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("virtualNodes must be positive");
+        }
+        // Points triés par hachage, les instances ordonnées par URL pour départager les collisions
+        Point[] ring = new Point[endpoints.size() * virtualNodes];
+        int index = 0;
+        for (ServiceEndpoint endpoint : endpoints) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring[index++] = new Point(hash(endpoint.getUrl() + "#" + i), endpoint);
+            }
+        }
+        Arrays.sort(ring, Comparator.comparingLong(Point::hash)
+            .thenComparing(point -> point.endpoint().getUrl()));
+        this.points = new long[ring.length];
+        this.owners = new ServiceEndpoint[ring.length];
+        for (int i = 0; i < ring.length; i++) {
+            points[i] = ring[i].hash();
+            owners[i] = ring[i].endpoint();
+        }
+        this.members = endpoints.stream().map(ServiceEndpoint::getUrl).collect(Collectors.toUnmodifiableSet());
+    }
+    
+    public static ConsistentHashRing empty() {
+        return EMPTY;
+    }
+    
+    /**
+     * Instance propriétaire de la clé, null si l'anneau est vide
+     */
+    public ServiceEndpoint owner(String key) {
+        if (points.length == 0) {
+            return null;
+        }
+        int index = Arrays.binarySearch(points, hash(key));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+    
+    /**
+     * L'instance d'URL donnée fait partie de l'anneau
+     */
+    public boolean contains(String url) {
+        return members.contains(url);
+    }
+    
+    /**
+     * URL des instances de l'anneau
+     */
+    public Set<String> getMembers() {
+        return members;
+    }
+    
+    public boolean isEmpty() {
+        return points.length == 0;
+    }
+    
+    /**
+     * Hachage 64 bits : FNV-1a sur l'UTF-8 de la clé, puis mélange final de MurmurHash3
+     * (les chemins d'acteurs ne diffèrent souvent que par leurs derniers caractères)
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+    
+    private record Point(long hash, ServiceEndpoint endpoint) {
+    }
+}
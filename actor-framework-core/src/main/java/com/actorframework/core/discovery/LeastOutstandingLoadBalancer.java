@@ -0,0 +1,27 @@
+package com.actorframework.core.discovery;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Instance ayant le moins de requêtes en cours.
+ * Le parcours commence à une position tournante : à charge égale, les instances alternent.
+ */
+public class LeastOutstandingLoadBalancer implements LoadBalancer {
+    
+    private final AtomicInteger start = new AtomicInteger(0);
+    
+    @Override
+    public ServiceEndpoint choose(List<ServiceEndpoint> endpoints) {
+        int size = endpoints.size();
+        int offset = Math.floorMod(start.getAndIncrement(), size);
+        ServiceEndpoint best = null;
+        for (int i = 0; i < size; i++) {
+            ServiceEndpoint candidate = endpoints.get((offset + i) % size);
+            if (best == null || candidate.getOutstandingRequests() < best.getOutstandingRequests()) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,15 @@
+package com.actorframework.core.discovery;
+
+import java.util.List;
+
+/**
+ * Choix d'une instance parmi celles d'un service (une instance de LoadBalancer par service)
+ */
+@FunctionalInterface
+public interface LoadBalancer {
+    
+    /**
+     * @param endpoints instances disponibles, jamais vide
+     */
+    ServiceEndpoint choose(List<ServiceEndpoint> endpoints);
+}
@@ -0,0 +1,23 @@
+package com.actorframework.core.discovery;
+
+/**
+ * Stratégie de répartition des requêtes entre les instances d'un service
+ * ({@code actor.remote.load-balancing})
+ */
+public enum LoadBalancingStrategy {
+    ROUND_ROBIN,          // Chaque instance à tour de rôle
+    LEAST_OUTSTANDING,    // Instance ayant le moins de requêtes en cours
+    POWER_OF_TWO_CHOICES; // La moins chargée de deux instances tirées au hasard
+    
+    public LoadBalancer newLoadBalancer() {
+        switch (this) {
+            case ROUND_ROBIN:
+                return new RoundRobinLoadBalancer();
+            case LEAST_OUTSTANDING:
+                return new LeastOutstandingLoadBalancer();
+            case POWER_OF_TWO_CHOICES:
+            default:
+                return new PowerOfTwoChoicesLoadBalancer();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.actorframework.core.discovery;
+
+/**
+ * Notifié par le {@link ServiceInstanceResolver} quand les instances listées d'un service changent
+ * (arrivée ou départ d'une réplique), après reconstruction de son anneau
+ */
+@FunctionalInterface
+public interface MembershipListener {
+    
+    void membershipChanged(String serviceName, ConsistentHashRing ring);
+}
@@ -0,0 +1,29 @@
+package com.actorframework.core.discovery;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Deux instances tirées au hasard, la moins chargée l'emporte.
+ * Presque aussi efficace que le moins de requêtes en cours, sans parcourir toutes les instances
+ * ni concentrer les requêtes simultanées sur la même instance.
+ */
+public class PowerOfTwoChoicesLoadBalancer implements LoadBalancer {
+    
+    @Override
+    public ServiceEndpoint choose(List<ServiceEndpoint> endpoints) {
+        int size = endpoints.size();
+        if (size == 1) {
+            return endpoints.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceEndpoint a = endpoints.get(first);
+        ServiceEndpoint b = endpoints.get(second);
+        return b.getOutstandingRequests() < a.getOutstandingRequests() ? b : a;
+    }
+}
@@ -0,0 +1,17 @@
+package com.actorframework.core.discovery;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tourniquet : chaque instance reçoit une requête à son tour
+ */
+public class RoundRobinLoadBalancer implements LoadBalancer {
+    
+    private final AtomicInteger next = new AtomicInteger(0);
+    
+    @Override
+    public ServiceEndpoint choose(List<ServiceEndpoint> endpoints) {
+        return endpoints.get(Math.floorMod(next.getAndIncrement(), endpoints.size()));
+    }
+}
@@ -0,0 +1,49 @@
+package com.actorframework.core.discovery;
+
+import lombok.Getter;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Instance d'un service telle que vue par le {@link ServiceInstanceResolver} :
+ * URL de base et nombre de requêtes en cours (pour les stratégies de répartition).
+ * L'objet est conservé d'un rafraîchissement à l'autre tant que l'instance reste listée.
+ */
+@Getter
+public class ServiceEndpoint {
+    
+    private final String url;
+    private volatile ServiceInstance instance;
+    @Getter(lombok.AccessLevel.NONE)
+    private final AtomicInteger outstanding = new AtomicInteger(0);
+    
+    public ServiceEndpoint(String url, ServiceInstance instance) {
+        this.url = url;
+        this.instance = instance;
+    }
+    
+    /**
+     * Nombre de requêtes envoyées à cette instance et encore sans réponse
+     */
+    public int getOutstandingRequests() {
+        return outstanding.get();
+    }
+    
+    void update(ServiceInstance instance) {
+        this.instance = instance;
+    }
+    
+    void acquire() {
+        outstanding.incrementAndGet();
+    }
+    
+    void release() {
+        outstanding.decrementAndGet();
+    }
+    
+    @Override
+    public String toString() {
+        return url + " (" + outstanding.get() + " in flight)";
+    }
+}
@@ -0,0 +1,315 @@
+package com.actorframework.core.discovery;
+
+import com.actorframework.core.communication.ServiceHealthMonitor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.ApplicationListener;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Résolution des instances d'un service avec répartition de charge côté client.
+ * La liste des instances est mise en cache par service et rafraîchie à chaque mise à jour
+ * du registre Eureka ({@link HeartbeatEvent}) : le choix d'une instance ne consulte pas la découverte.
+ * Les instances signalées indisponibles par le {@link ServiceHealthMonitor} sont écartées
+ * tant qu'il en reste au moins une saine.
+ * Les requêtes passées par {@link #call} / {@link #callAsync} sont comptées par instance
+ * pour les stratégies fondées sur la charge.
+ * Chaque service a aussi un {@link ConsistentHashRing} sur ses instances listées ({@link #owner}) :
+ * il place les acteurs avec état sur une réplique, sans tenir compte de la charge ni de la santé.
+ */
+@Slf4j
+public class ServiceInstanceResolver implements ApplicationListener<HeartbeatEvent> {
+    
+    private final DiscoveryClient discoveryClient;
+    @Getter
+    private final LoadBalancingStrategy strategy;
+    @Getter
+    private final ServiceHealthMonitor healthMonitor;
+    private final int virtualNodes;
+    private final Map<String, ServiceInstances> services = new ConcurrentHashMap<>();
+    private final List<MembershipListener> membershipListeners = new CopyOnWriteArrayList<>();
+    
+    public ServiceInstanceResolver(DiscoveryClient discoveryClient) {
+        this(discoveryClient, LoadBalancingStrategy.POWER_OF_TWO_CHOICES, null);
+    }
+    
+    public ServiceInstanceResolver(DiscoveryClient discoveryClient, LoadBalancingStrategy strategy,
+                                   ServiceHealthMonitor healthMonitor) {
+        this(discoveryClient, strategy, healthMonitor, ConsistentHashRing.DEFAULT_VIRTUAL_NODES);
+    }
+    
+    public ServiceInstanceResolver(DiscoveryClient discoveryClient, LoadBalancingStrategy strategy,
+                                   ServiceHealthMonitor healthMonitor, int virtualNodes) {
+        this.discoveryClient = discoveryClient;
+        this.strategy = strategy;
+        this.healthMonitor = healthMonitor;
+        this.virtualNodes = virtualNodes;
+    }
+    
+    /**
+     * Choisit une instance du service
+     * @return null si aucune instance n'est connue
+     */
+    public ServiceEndpoint choose(String serviceName) {
+        ServiceInstances instances = instancesOf(serviceName);
+        if (instances.endpoints.isEmpty()) {
+            return null;
+        }
+        List<ServiceEndpoint> candidates = healthy(instances.endpoints);
+        // Aucune instance saine : on tente quand même une instance listée
+        return instances.loadBalancer.choose(candidates.isEmpty() ? instances.endpoints : candidates);
+    }
+    
+    /**
+     * URL d'une instance du service, ou l'URL de repli si aucune instance n'est connue
+     */
+    public String resolveUrl(String serviceName, String fallbackUrl) {
+        ServiceEndpoint endpoint = choose(serviceName);
+        if (endpoint == null) {
+            log.warn("Service {} not found in discovery, using fallback URL: {}", serviceName, fallbackUrl);
+            return fallbackUrl;
+        }
+        return endpoint.getUrl();
+    }
+    
+    /**
+     * Exécute une requête réactive sur une instance du service, comptée jusqu'à sa terminaison
+     */
+    public <T> Mono<T> call(String serviceName, String fallbackUrl, Function<String, Mono<T>> request) {
+        return Mono.defer(() -> {
+            ServiceEndpoint endpoint = choose(serviceName);
+            if (endpoint == null) {
+                return request.apply(resolveUrl(serviceName, fallbackUrl));
+            }
+            endpoint.acquire();
+            return request.apply(endpoint.getUrl()).doFinally(signal -> endpoint.release());
+        });
+    }
+    
+    /**
+     * Exécute une requête asynchrone sur une instance du service, comptée jusqu'à sa terminaison
+     */
+    public <T> CompletableFuture<T> callAsync(String serviceName, String fallbackUrl,
+                                              Function<String, CompletableFuture<T>> request) {
+        return callAsync(choose(serviceName), serviceName, fallbackUrl, request);
+    }
+    
+    private <T> CompletableFuture<T> callAsync(ServiceEndpoint endpoint, String serviceName, String fallbackUrl,
+                                               Function<String, CompletableFuture<T>> request) {
+        if (endpoint == null) {
+            return request.apply(resolveUrl(serviceName, fallbackUrl));
+        }
+        endpoint.acquire();
+        CompletableFuture<T> future;
+        try {
+            future = request.apply(endpoint.getUrl());
+        } catch (RuntimeException e) {
+            endpoint.release();
+            throw e;
+        }
+        future.whenComplete((result, error) -> endpoint.release());
+        return future;
+    }
+    
+    /**
+     * Instance propriétaire d'une clé sur l'anneau du service (même réponse sur toutes les répliques
+     * qui voient les mêmes instances)
+     * @return null si aucune instance n'est connue
+     */
+    public ServiceEndpoint owner(String serviceName, String key) {
+        return instancesOf(serviceName).ring.owner(key);
+    }
+    
+    /**
+     * URL de l'instance propriétaire de la clé, ou l'URL de repli si aucune instance n'est connue
+     */
+    public String ownerUrl(String serviceName, String key, String fallbackUrl) {
+        ServiceEndpoint endpoint = owner(serviceName, key);
+        if (endpoint == null) {
+            log.warn("Service {} not found in discovery, using fallback URL: {}", serviceName, fallbackUrl);
+            return fallbackUrl;
+        }
+        return endpoint.getUrl();
+    }
+    
+    /**
+     * Exécute une requête asynchrone sur l'instance propriétaire de la clé, comptée jusqu'à sa terminaison
+     */
+    public <T> CompletableFuture<T> callOwnerAsync(String serviceName, String key, String fallbackUrl,
+                                                   Function<String, CompletableFuture<T>> request) {
+        return callAsync(owner(serviceName, key), serviceName, fallbackUrl, request);
+    }
+    
+    /**
+     * Anneau des instances listées du service
+     */
+    public ConsistentHashRing getRing(String serviceName) {
+        return instancesOf(serviceName).ring;
+    }
+    
+    /**
+     * Ajoute un observateur des changements d'instances des services en cache
+     */
+    public void addMembershipListener(MembershipListener listener) {
+        membershipListeners.add(listener);
+    }
+    
+    /**
+     * Au moins une instance du service est connue et disponible (aucune entrée/sortie)
+     */
+    public boolean isServiceAvailable(String serviceName) {
+        return !healthy(instancesOf(serviceName).endpoints).isEmpty();
+    }
+    
+    /**
+     * Instances connues d'un service
+     */
+    public List<ServiceEndpoint> getEndpoints(String serviceName) {
+        return instancesOf(serviceName).endpoints;
+    }
+    
+    /**
+     * Fait surveiller la santé des instances du service
+     */
+    public void watch(String serviceName) {
+        if (healthMonitor != null) {
+            healthMonitor.watch(serviceName);
+        }
+    }
+    
+    /**
+     * Le registre Eureka local a été rafraîchi : recharge les services en cache
+     */
+    @Override
+    public void onApplicationEvent(HeartbeatEvent event) {
+        refreshAll();
+    }
+    
+    public void refreshAll() {
+        services.keySet().forEach(this::refresh);
+    }
+    
+    /**
+     * Recharge les instances d'un service ; les compteurs des instances toujours listées sont conservés.
+     * Si l'ensemble des instances a changé, l'anneau est reconstruit et les observateurs sont notifiés.
+     * La comparaison se fait dans la mise à jour atomique du cache : deux rafraîchissements concurrents
+     * ne notifient pas deux fois le même changement. Les observateurs sont appelés hors du verrou du cache.
+     */
+    public void refresh(String serviceName) {
+        boolean[] changed = new boolean[1];
+        ServiceInstances refreshed = services.compute(serviceName, (name, current) -> {
+            if (current == null) {
+                return load(name);
+            }
+            ServiceInstances next = current.refresh(lookup(name), virtualNodes);
+            changed[0] = next.ring != current.ring;
+            return next;
+        });
+        // Un changement plus récent a déjà remplacé cet anneau : il notifiera lui-même
+        if (changed[0] && services.get(serviceName) == refreshed) {
+            log.info("Membership of service {} changed: {}", serviceName, refreshed.ring.getMembers());
+            for (MembershipListener listener : membershipListeners) {
+                try {
+                    listener.membershipChanged(serviceName, refreshed.ring);
+                } catch (RuntimeException e) {
+                    log.warn("Membership listener failed for service {}", serviceName, e);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Instances en cache, y compris une liste vide : les services sont rechargés à chaque {@link HeartbeatEvent}
+     */
+    private ServiceInstances instancesOf(String serviceName) {
+        return services.computeIfAbsent(serviceName, this::load);
+    }
+    
+    private ServiceInstances load(String serviceName) {
+        return new ServiceInstances(strategy.newLoadBalancer(), List.of(), ConsistentHashRing.empty())
+            .refresh(lookup(serviceName), virtualNodes);
+    }
+    
+    private List<ServiceInstance> lookup(String serviceName) {
+        try {
+            List<ServiceInstance> instances = discoveryClient.getInstances(serviceName);
+            return instances != null ? instances : List.of();
+        } catch (Exception e) {
+            log.warn("Error discovering service {}: {}", serviceName, e.getMessage());
+            return List.of();
+        }
+    }
+    
+    private List<ServiceEndpoint> healthy(List<ServiceEndpoint> endpoints) {
+        if (healthMonitor == null || endpoints.isEmpty()) {
+            return endpoints;
+        }
+        List<ServiceEndpoint> healthy = null;
+        for (int i = 0; i < endpoints.size(); i++) {
+            ServiceEndpoint endpoint = endpoints.get(i);
+            boolean available = healthMonitor.isInstanceAvailable(endpoint.getInstance());
+            if (!available && healthy == null) {
+                healthy = new ArrayList<>(endpoints.subList(0, i));
+            } else if (available && healthy != null) {
+                healthy.add(endpoint);
+            }
+        }
+        if (healthy == null) {
+            return endpoints;
+        }
+        return healthy;
+    }
+    
+    /**
+     * Instances d'un service, répartiteur et anneau associés (immuables, remplacés à chaque rafraîchissement)
+     */
+    private static final class ServiceInstances {
+        
+        private final LoadBalancer loadBalancer;
+        private final List<ServiceEndpoint> endpoints;
+        private final ConsistentHashRing ring;
+        
+        ServiceInstances(LoadBalancer loadBalancer, List<ServiceEndpoint> endpoints, ConsistentHashRing ring) {
+            this.loadBalancer = loadBalancer;
+            this.endpoints = endpoints;
+            this.ring = ring;
+        }
+        
+        ServiceInstances refresh(List<ServiceInstance> instances, int virtualNodes) {
+            Map<String, ServiceEndpoint> previous = new HashMap<>();
+            endpoints.forEach(endpoint -> previous.put(endpoint.getUrl(), endpoint));
+            List<ServiceEndpoint> refreshed = new ArrayList<>(instances.size());
+            for (ServiceInstance instance : instances) {
+                String url = ServiceHealthMonitor.baseUrl(instance);
+                ServiceEndpoint endpoint = previous.get(url);
+                if (endpoint != null) {
+                    endpoint.update(instance);
+                } else {
+                    endpoint = new ServiceEndpoint(url, instance);
+                }
+                refreshed.add(endpoint);
+            }
+            // L'anneau n'est reconstruit que si l'ensemble des instances a changé
+            Set<String> members = new HashSet<>();
+            refreshed.forEach(endpoint -> members.add(endpoint.getUrl()));
+            ConsistentHashRing updatedRing = members.equals(ring.getMembers())
+                ? ring
+                : new ConsistentHashRing(refreshed, virtualNodes);
+            return new ServiceInstances(loadBalancer, List.copyOf(refreshed), updatedRing);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.actorframework.core.dispatch;
+
+import com.actorframework.core.actor.Actor;
+import com.actorframework.core.logging.ActorLogger;
+import com.actorframework.core.message.Message;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dispatcher exécutant les boîtes aux lettres des acteurs sur un exécuteur partagé
+ * (pool de threads plateforme ou threads virtuels, voir {@link DispatcherMode}).
+ * Le pool ne reçoit plus une tâche par message mais une tâche par boîte planifiée,
+ * qui traite jusqu'à {@code throughput} messages avant de céder le thread.
+ * La configuration des boîtes aux lettres peut être définie par type d'acteur
+ * (nom simple de la classe, ex: {@code ScoreboardActor}).
+ * Inspiré des dispatchers d'Akka.
+ */
+@Slf4j
+public class Dispatcher {
+    
+    public static final int DEFAULT_THROUGHPUT = 5;
+    
+    private final ExecutorService executorService;
+    private final ActorLogger actorLogger;
+    @Getter
+    private final int throughput;
+    @Getter
+    private MailboxConfig defaultMailboxConfig = new MailboxConfig();
+    private final Map<String, MailboxConfig> mailboxConfigs = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> rejectedByActorType = new ConcurrentHashMap<>();
+    
+    public Dispatcher(ActorLogger actorLogger) {
+        this(actorLogger, Runtime.getRuntime().availableProcessors() * 2, DEFAULT_THROUGHPUT);
+    }
+    
+    public Dispatcher(ActorLogger actorLogger, int poolSize, int throughput) {
+        this(actorLogger, newThreadPool(poolSize), throughput);
+    }
+    
+    public Dispatcher(ActorLogger actorLogger, ExecutorService executorService, int throughput) {
+        if (throughput <= 0) {
+            throw new IllegalArgumentException("throughput must be positive");
+        }
+        this.actorLogger = actorLogger;
+        this.executorService = executorService;
+        this.throughput = throughput;
+    }
+    
+    /**
+     * Crée un dispatcher exécutant chaque boîte planifiée sur un thread virtuel.
+     * Un ask bloquant depuis un acteur ne monopolise alors plus un thread plateforme.
+     * Sur une JVM antérieure à Java 21, le pool de threads classique est utilisé.
+     */
+    public static Dispatcher virtualThreads(ActorLogger actorLogger, int poolSize, int throughput) {
+        if (!VirtualThreads.isSupported()) {
+            log.warn("Virtual threads require Java 21+ (running {}), falling back to a thread pool",
+                     Runtime.version().feature());
+            return new Dispatcher(actorLogger, poolSize, throughput);
+        }
+        return new Dispatcher(actorLogger, VirtualThreads.newThreadPerTaskExecutor("ActorSystem-virtual-"), throughput);
+    }
+    
+    /**
+     * Crée un dispatcher selon le mode demandé
+     */
+    public static Dispatcher create(DispatcherMode mode, ActorLogger actorLogger, int poolSize, int throughput) {
+        if (mode == DispatcherMode.VIRTUAL_THREADS) {
+            return virtualThreads(actorLogger, poolSize, throughput);
+        }
+        return new Dispatcher(actorLogger, poolSize, throughput);
+    }
+    
+    private static ExecutorService newThreadPool(int poolSize) {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("poolSize must be positive");
+        }
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        // File non bornée : elle contient au plus une entrée par acteur ayant des messages en attente
+        return new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            r -> {
+                Thread t = new Thread(r, "ActorSystem-" + threadCounter.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        );
+    }
+    
+    /**
+     * Définit la configuration utilisée pour les types d'acteurs non configurés
+     */
+    public void setDefaultMailboxConfig(MailboxConfig config) {
+        this.defaultMailboxConfig = config;
+    }
+    
+    /**
+     * Définit la configuration de boîte aux lettres d'un type d'acteur
+     */
+    public void registerMailboxConfig(String actorType, MailboxConfig config) {
+        mailboxConfigs.put(actorType, config);
+    }
+    
+    /**
+     * Crée la boîte aux lettres d'un acteur rattachée à ce dispatcher
+     */
+    public Mailbox createMailbox(Actor actor) {
+        MailboxConfig config = mailboxConfigs.getOrDefault(actorType(actor), defaultMailboxConfig);
+        return new Mailbox(actor, this, config);
+    }
+    
+    void recordRejection(Actor actor) {
+        rejectedByActorType.computeIfAbsent(actorType(actor), type -> new LongAdder()).increment();
+    }
+    
+    /**
+     * Nombre de messages refusés par débordement, par type d'acteur
+     */
+    public Map<String, Long> getRejectedMessageCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        rejectedByActorType.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+    
+    /**
+     * Nombre total de messages refusés par débordement
+     */
+    public long getRejectedMessageCount() {
+        return rejectedByActorType.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+    
+    private static String actorType(Actor actor) {
+        return actor.getClass().getSimpleName();
+    }
+    
+    void execute(Mailbox mailbox) {
+        executorService.execute(mailbox);
+    }
+    
+    /**
+     * Traite un message pour un acteur (appelé depuis le thread de la boîte)
+     */
+    void invoke(Actor actor, Envelope envelope) {
+        Message message = envelope.getMessage();
+        try {
+            actorLogger.logMessageReceived(actor, message);
+            Object response = actor.receive(message);
+            if (envelope.requiresResponse()) {
+                envelope.getFuture().complete(response);
+                actorLogger.logMessageSent(actor, message, response);
+            }
+        } catch (Exception e) {
+            log.error("Error processing message in actor {}", actor.getActorPath(), e);
+            actor.onError(e, message);
+            if (envelope.requiresResponse()) {
+                envelope.getFuture().completeExceptionally(e);
+            }
+        }
+    }
+    
+    /**
+     * Arrête le pool de threads
+     */
+    public void shutdown() {
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(10, TimeUnit.SECONDS)) {
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
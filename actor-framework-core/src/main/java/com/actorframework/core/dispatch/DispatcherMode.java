@@ -0,0 +1,9 @@
+package com.actorframework.core.dispatch;
+
+/**
+ * Mode d'exécution des boîtes aux lettres.
+ */
+public enum DispatcherMode {
+    THREAD_POOL,     // Pool fixe de threads plateforme
+    VIRTUAL_THREADS  // Un thread virtuel par boîte planifiée (Java 21+)
+}
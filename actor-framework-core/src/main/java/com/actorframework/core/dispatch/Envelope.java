@@ -0,0 +1,23 @@
+package com.actorframework.core.dispatch;
+
+import com.actorframework.core.message.Message;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Enveloppe d'un message déposé dans une boîte aux lettres.
+ * Le futur est null pour les messages fire-and-forget (tell).
+ */
+@Getter
+@RequiredArgsConstructor
+public class Envelope {
+    
+    private final Message message;
+    private final CompletableFuture<Object> future;
+    
+    public boolean requiresResponse() {
+        return future != null;
+    }
+}
@@ -0,0 +1,303 @@
+package com.actorframework.core.dispatch;
+
+import com.actorframework.core.actor.Actor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Boîte aux lettres d'un acteur.
+ * Les messages sont mis en file puis traités par le dispatcher sur un seul thread à la fois,
+ * par lots de {@code throughput} messages. L'état de l'acteur n'a donc pas besoin de verrou.
+ * Une boîte bornée applique sa {@link OverflowStrategy} lorsqu'elle est pleine.
+ * Une boîte peut être suspendue par une barrière ({@link #fence}) : les messages arrivés ensuite
+ * sont mis de côté, et le traitement s'arrête après la barrière.
+ * Inspiré d'Akka Mailbox.
+ */
+@Slf4j
+public class Mailbox implements Runnable {
+    
+    @Getter
+    private final Actor actor;
+    private final Dispatcher dispatcher;
+    @Getter
+    private final MailboxConfig config;
+    private final BlockingQueue<Envelope> queue;
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final AtomicLong rejectedCount = new AtomicLong(0);
+    private volatile Fence fence;
+    
+    public Mailbox(Actor actor, Dispatcher dispatcher) {
+        this(actor, dispatcher, MailboxConfig.unbounded());
+    }
+    
+    public Mailbox(Actor actor, Dispatcher dispatcher, MailboxConfig config) {
+        this.actor = actor;
+        this.dispatcher = dispatcher;
+        this.config = config;
+        this.queue = config.isBounded()
+            ? new LinkedBlockingQueue<>(config.getCapacity())
+            : new LinkedBlockingQueue<>();
+    }
+    
+    /**
+     * Dépose un message dans la boîte et planifie son traitement si nécessaire.
+     * @throws MailboxOverflowException si la boîte est pleine et que la stratégie
+     *         impose de signaler l'émetteur d'un tell
+     */
+    public void enqueue(Envelope envelope) {
+        if (closed.get()) {
+            reject(envelope, new IllegalStateException("Mailbox of actor " + actor.getActorPath() + " is closed"));
+            return;
+        }
+        Fence current = fence;
+        if (current != null && current.hold(List.of(envelope))) {
+            return;
+        }
+        if (!queue.offer(envelope)) {
+            handleOverflow(envelope);
+        }
+        trySchedule();
+    }
+    
+    /**
+     * Dépose un lot de messages dans l'ordre, avec une seule planification pour tout le lot
+     * @throws MailboxOverflowException comme {@link #enqueue}, les messages suivants du lot sont alors abandonnés
+     */
+    public void enqueueAll(List<Envelope> envelopes) {
+        if (closed.get()) {
+            IllegalStateException cause = new IllegalStateException("Mailbox of actor " + actor.getActorPath() + " is closed");
+            envelopes.forEach(envelope -> reject(envelope, cause));
+            return;
+        }
+        Fence current = fence;
+        if (current != null && current.hold(envelopes)) {
+            return;
+        }
+        try {
+            for (Envelope envelope : envelopes) {
+                if (!queue.offer(envelope)) {
+                    handleOverflow(envelope);
+                }
+            }
+        } finally {
+            trySchedule();
+        }
+    }
+    
+    private void handleOverflow(Envelope envelope) {
+        switch (config.getOverflowStrategy()) {
+            case DROP_OLDEST:
+                while (!queue.offer(envelope)) {
+                    Envelope oldest = queue.poll();
+                    if (oldest != null) {
+                        reject(oldest, overflow());
+                    }
+                }
+                break;
+            case DROP_NEWEST:
+                reject(envelope, overflow());
+                break;
+            case BLOCK:
+                try {
+                    if (queue.offer(envelope, config.getBlockTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                        break;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                signalSender(envelope);
+                break;
+            case SIGNAL_SENDER:
+            default:
+                signalSender(envelope);
+                break;
+        }
+    }
+    
+    private void signalSender(Envelope envelope) {
+        MailboxOverflowException overflow = overflow();
+        reject(envelope, overflow);
+        if (!envelope.requiresResponse()) {
+            throw overflow;
+        }
+    }
+    
+    private MailboxOverflowException overflow() {
+        return new MailboxOverflowException(actor.getActorPath(), config.getCapacity());
+    }
+    
+    /**
+     * Traite au plus {@code throughput} messages puis rend la main au pool.
+     * Si des messages restent en attente, la boîte est replanifiée.
+     */
+    @Override
+    public void run() {
+        try {
+            int remaining = dispatcher.getThroughput();
+            Envelope envelope;
+            while (remaining-- > 0 && !closed.get() && !isHeld() && (envelope = queue.poll()) != null) {
+                dispatcher.invoke(actor, envelope);
+                Fence current = fence;
+                if (current != null && current.barrier == envelope) {
+                    current.reached = true;
+                }
+            }
+        } finally {
+            scheduled.set(false);
+            trySchedule();
+        }
+    }
+    
+    private void trySchedule() {
+        if (!queue.isEmpty() && !closed.get() && !isHeld() && scheduled.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(this);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                log.warn("Dispatcher rejected mailbox of actor {}: {}", actor.getActorPath(), e.getMessage());
+            }
+        }
+    }
+    
+    private boolean isHeld() {
+        Fence current = fence;
+        return current != null && current.reached;
+    }
+    
+    /**
+     * Suspend la boîte : les messages déjà déposés sont traités, puis la barrière, après laquelle
+     * le traitement s'arrête ; les messages arrivés entre-temps sont mis de côté.
+     * La barrière est un ask dont le futur est complété par la réponse de l'acteur.
+     * @throws IllegalStateException si la boîte est déjà suspendue
+     */
+    public synchronized void fence(Envelope barrier) {
+        if (fence != null) {
+            throw new IllegalStateException("Mailbox of actor " + actor.getActorPath() + " is already fenced");
+        }
+        fence = new Fence(barrier);
+        if (closed.get()) {
+            reject(barrier, new IllegalStateException("Mailbox of actor " + actor.getActorPath() + " is closed"));
+        } else if (!queue.offer(barrier)) {
+            reject(barrier, overflow());
+        }
+        trySchedule();
+    }
+    
+    /**
+     * Lève la barrière : les messages mis de côté sont déposés dans l'ordre, avant tout nouveau message
+     */
+    public synchronized void resume() {
+        Fence current = fence;
+        if (current == null) {
+            return;
+        }
+        synchronized (current) {
+            current.released = true;
+            for (Envelope envelope : current.held) {
+                if (!queue.offer(envelope)) {
+                    reject(envelope, overflow());
+                }
+            }
+            fence = null;
+        }
+        trySchedule();
+    }
+    
+    /**
+     * Retire de la boîte suspendue les messages non traités, dans leur ordre d'arrivée ;
+     * la boîte est ensuite fermée (l'acteur part ailleurs)
+     */
+    public synchronized List<Envelope> drainFenced() {
+        Fence current = fence;
+        List<Envelope> remaining = new ArrayList<>();
+        if (current == null) {
+            return remaining;
+        }
+        synchronized (current) {
+            current.released = true;
+            // Déposés avant la barrière par un émetteur concurrent de sa pose
+            queue.drainTo(remaining);
+            remaining.addAll(current.held);
+            closed.set(true);
+        }
+        return remaining;
+    }
+    
+    /**
+     * Ferme la boîte : les messages en attente sont abandonnés et les ask en cours échouent
+     */
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            Envelope envelope;
+            while ((envelope = queue.poll()) != null) {
+                reject(envelope, new IllegalStateException("Mailbox of actor " + actor.getActorPath() + " is closed"));
+            }
+        }
+    }
+    
+    private void reject(Envelope envelope, RuntimeException cause) {
+        if (cause instanceof MailboxOverflowException) {
+            rejectedCount.incrementAndGet();
+            dispatcher.recordRejection(actor);
+            log.debug("Message {} rejected by full mailbox of actor {}",
+                      envelope.getMessage().peekMessageId(), actor.getActorPath());
+        }
+        if (envelope.requiresResponse()) {
+            envelope.getFuture().completeExceptionally(cause);
+        }
+    }
+    
+    /**
+     * Nombre de messages en attente
+     */
+    public int size() {
+        return queue.size();
+    }
+    
+    /**
+     * Nombre de messages refusés pour cause de débordement
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+    
+    public boolean isClosed() {
+        return closed.get();
+    }
+    
+    /**
+     * Barrière posée sur la boîte et messages mis de côté depuis
+     */
+    private static final class Fence {
+        
+        private final Envelope barrier;
+        private final List<Envelope> held = new ArrayList<>();
+        private volatile boolean reached;
+        private boolean released;
+        
+        Fence(Envelope barrier) {
+            this.barrier = barrier;
+        }
+        
+        /**
+         * @return false si la barrière est levée : les messages vont dans la file
+         */
+        synchronized boolean hold(List<Envelope> envelopes) {
+            if (released) {
+                return false;
+            }
+            held.addAll(envelopes);
+            return true;
+        }
+    }
+}
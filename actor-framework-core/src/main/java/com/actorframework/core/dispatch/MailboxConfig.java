@@ -0,0 +1,31 @@
+package com.actorframework.core.dispatch;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * Configuration d'une boîte aux lettres : capacité et stratégie de débordement.
+ * Une capacité de 0 signifie une boîte non bornée.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailboxConfig {
+    
+    public static final int DEFAULT_CAPACITY = 1000;
+    
+    private int capacity = DEFAULT_CAPACITY;
+    private OverflowStrategy overflowStrategy = OverflowStrategy.BLOCK;
+    private Duration blockTimeout = Duration.ofMillis(500);
+    
+    public static MailboxConfig unbounded() {
+        return new MailboxConfig(0, OverflowStrategy.DROP_NEWEST, Duration.ZERO);
+    }
+    
+    public boolean isBounded() {
+        return capacity > 0;
+    }
+}
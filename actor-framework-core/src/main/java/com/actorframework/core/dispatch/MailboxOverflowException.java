@@ -0,0 +1,17 @@
+package com.actorframework.core.dispatch;
+
+import lombok.Getter;
+
+/**
+ * Levée lorsqu'un message est refusé par une boîte aux lettres pleine.
+ */
+@Getter
+public class MailboxOverflowException extends RuntimeException {
+    
+    private final String actorPath;
+    
+    public MailboxOverflowException(String actorPath, int capacity) {
+        super("Mailbox of actor " + actorPath + " is full (capacity " + capacity + ")");
+        this.actorPath = actorPath;
+    }
+}
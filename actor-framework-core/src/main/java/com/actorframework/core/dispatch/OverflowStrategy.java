@@ -0,0 +1,11 @@
+package com.actorframework.core.dispatch;
+
+/**
+ * Comportement d'une boîte aux lettres bornée lorsqu'elle est pleine.
+ */
+public enum OverflowStrategy {
+    DROP_OLDEST,  // Retirer le message le plus ancien pour faire de la place
+    DROP_NEWEST,  // Abandonner le nouveau message
+    BLOCK,        // Bloquer l'émetteur jusqu'au délai configuré, puis le signaler
+    SIGNAL_SENDER // Signaler immédiatement l'émetteur (MailboxOverflowException)
+}
@@ -0,0 +1,48 @@
+package com.actorframework.core.dispatch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Accès aux threads virtuels (Java 21+) sans imposer Java 21 à la compilation.
+ * Le projet est compilé en Java 17 : les API sont résolues par réflexion au démarrage.
+ */
+@Slf4j
+final class VirtualThreads {
+    
+    private VirtualThreads() {
+    }
+    
+    /**
+     * Vérifie si la JVM courante supporte les threads virtuels
+     */
+    static boolean isSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Crée un exécuteur lançant chaque tâche sur un nouveau thread virtuel nommé {@code prefix + n}
+     */
+    static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            Method newExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newExecutor.invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not available on Java "
+                + Runtime.version().feature(), e);
+        }
+    }
+}
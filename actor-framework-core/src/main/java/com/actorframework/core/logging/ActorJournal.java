@@ -0,0 +1,208 @@
+package com.actorframework.core.logging;
+
+import com.actorframework.core.serialization.BinaryWriter;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Journal binaire des événements d'acteurs, unique par nœud : remplace un fichier ouvert par acteur.
+ * Les enregistrements sont ajoutés à un segment {@code {name}-{index}.journal} via un {@link FileChannel} ;
+ * au-delà de {@code segmentSize} octets un nouveau segment est ouvert et seuls les
+ * {@code maxSegments} derniers sont conservés.
+ * <p>
+ * Format d'un segment : en-tête {@code AJNL} + version, puis des enregistrements
+ * {@code [longueur][CRC32C][corps]} dont le corps est écrit avec {@link BinaryWriter}.
+ * Un seul thread écrit dans le journal (celui de l'ActorLogger). Lecture : {@link ActorJournalReader}.
+ */
+@Slf4j
+public class ActorJournal implements Closeable {
+    
+    public static final String SEGMENT_SUFFIX = ".journal";
+    public static final long DEFAULT_SEGMENT_SIZE = 64L * 1024 * 1024;
+    public static final int DEFAULT_MAX_SEGMENTS = 16;
+    
+    static final int MAGIC = 0x414A4E4C; // "AJNL"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 5;
+    static final int RECORD_OVERHEAD = 8;
+    
+    private static final int WRITE_BUFFER_SIZE = 256 * 1024;
+    
+    @Getter
+    private final Path directory;
+    @Getter
+    private final String name;
+    private final long segmentSize;
+    private final int maxSegments;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+    private final BinaryWriter body = new BinaryWriter(256);
+    private final CRC32C crc = new CRC32C();
+    private FileChannel segment;
+    private long segmentIndex;
+    private long segmentBytes;
+    
+    public ActorJournal(Path directory, String name) {
+        this(directory, name, DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_SEGMENTS);
+    }
+    
+    /**
+     * Ouvre un nouveau segment pour ce nœud ; les segments au-delà des {@code maxSegments} derniers,
+     * laissés par les exécutions précédentes, sont supprimés.
+     * Si un autre journal utilise déjà ce nom dans le répertoire (verrou {@code {name}.lock}),
+     * un compteur est ajouté au nom ({@code {name}-2}, ...) : les noms, verrous et segments sont réutilisés
+     * d'une exécution à l'autre et restent soumis à la rétention.
+     */
+    public ActorJournal(Path directory, String name, long segmentSize, int maxSegments) {
+        if (segmentSize <= HEADER_SIZE || maxSegments <= 0) {
+            throw new IllegalArgumentException("segmentSize and maxSegments must be positive");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        try {
+            Files.createDirectories(directory);
+            String baseName = name;
+            FileChannel channel = openLock(name);
+            FileLock acquired = tryLock(channel);
+            for (int attempt = 1; acquired == null; attempt++) {
+                channel.close();
+                name = baseName + "-" + (attempt + 1);
+                channel = openLock(name);
+                acquired = tryLock(channel);
+            }
+            this.name = name;
+            this.lockChannel = channel;
+            this.lock = acquired;
+            this.segmentIndex = ActorJournalReader.segments(directory, name).stream()
+                .mapToLong(path -> ActorJournalReader.segmentIndex(path, this.name))
+                .max()
+                .orElse(0);
+            openNextSegment();
+            applyRetention();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open actor journal " + name + " in " + directory, e);
+        }
+    }
+    
+    private FileChannel openLock(String journalName) throws IOException {
+        return FileChannel.open(directory.resolve(journalName + ".lock"),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    }
+    
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Ajoute un événement au tampon d'écriture (écrit sur disque au prochain {@link #flush()}
+     * ou lorsque le tampon est plein)
+     */
+    void append(LogEvent event) throws IOException {
+        body.reset();
+        body.writeByte(event.kind.ordinal());
+        body.writeLong(event.timestamp);
+        body.writeLong(event.messageId);
+        body.writeString(event.actorId);
+        body.writeString(event.path);
+        body.writeString(event.messageType);
+        body.writeString(event.detail == null ? null : String.valueOf(event.detail));
+        
+        int recordSize = RECORD_OVERHEAD + body.size();
+        if (segmentBytes + writeBuffer.position() + recordSize > segmentSize
+                && segmentBytes + writeBuffer.position() > HEADER_SIZE) {
+            flush();
+            rotate();
+        }
+        ByteBuffer target = writeBuffer;
+        if (recordSize > writeBuffer.remaining()) {
+            flush();
+            if (recordSize > writeBuffer.capacity()) {
+                target = ByteBuffer.allocate(recordSize);
+            }
+        }
+        int start = target.position();
+        target.putInt(body.size());
+        target.putInt(0);
+        body.writeTo(target);
+        crc.reset();
+        crc.update(target.duplicate().position(start + RECORD_OVERHEAD).limit(target.position()));
+        target.putInt(start + 4, (int) crc.getValue());
+        if (target != writeBuffer) {
+            writeFully(target.flip());
+        }
+    }
+    
+    /**
+     * Écrit le tampon dans le segment courant
+     */
+    public void flush() throws IOException {
+        if (writeBuffer.position() > 0) {
+            writeFully(writeBuffer.flip());
+            writeBuffer.clear();
+        }
+    }
+    
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            segmentBytes += segment.write(buffer);
+        }
+    }
+    
+    private void rotate() throws IOException {
+        segment.close();
+        openNextSegment();
+        applyRetention();
+    }
+    
+    private void openNextSegment() throws IOException {
+        segmentIndex++;
+        Path path = directory.resolve(ActorJournalReader.segmentFileName(name, segmentIndex));
+        segment = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        segmentBytes = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).put((byte) VERSION).flip();
+        writeFully(header);
+        log.debug("Actor journal segment opened: {}", path);
+    }
+    
+    private void applyRetention() {
+        List<Path> segments = ActorJournalReader.segments(directory, name);
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            try {
+                Files.deleteIfExists(segments.get(i));
+            } catch (IOException e) {
+                log.warn("Failed to delete actor journal segment {}: {}", segments.get(i), e.getMessage());
+            }
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            segment.close();
+        } finally {
+            lock.release();
+            lockChannel.close();
+        }
+    }
+}
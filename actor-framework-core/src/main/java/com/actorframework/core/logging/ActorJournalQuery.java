@@ -0,0 +1,44 @@
+package com.actorframework.core.logging;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Outil en ligne de commande : affiche l'historique d'un acteur à partir des journaux d'un répertoire,
+ * au format des anciens fichiers par acteur.
+ * <pre>
+ * java -cp actor-framework-core/target/classes com.actorframework.core.logging.ActorJournalQuery \
+ *      logs/actors player-23 [--journal nba-player-service] [--tail 100]
+ * </pre>
+ */
+public final class ActorJournalQuery {
+    
+    private ActorJournalQuery() {
+    }
+    
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: ActorJournalQuery <directory> <actorId> [--journal <name>] [--tail <n>]");
+            System.exit(2);
+        }
+        Path directory = Paths.get(args[0]);
+        String actorId = args[1];
+        String journalName = null;
+        int tail = 0;
+        for (int i = 2; i + 1 < args.length; i += 2) {
+            if ("--journal".equals(args[i])) {
+                journalName = args[i + 1];
+            } else if ("--tail".equals(args[i])) {
+                tail = Integer.parseInt(args[i + 1]);
+            }
+        }
+        
+        if (tail > 0) {
+            ActorJournalReader.actorHistory(directory, journalName, actorId, tail)
+                .forEach(record -> System.out.println(record.toLogLine()));
+        } else {
+            ActorJournalReader.read(directory, journalName, record -> actorId.equals(record.actorId()),
+                record -> System.out.println(record.toLogLine()));
+        }
+    }
+}
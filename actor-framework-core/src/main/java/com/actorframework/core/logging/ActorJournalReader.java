@@ -0,0 +1,145 @@
+package com.actorframework.core.logging;
+
+import com.actorframework.core.serialization.BinaryReader;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Lecture des segments écrits par {@link ActorJournal}, du plus ancien au plus récent.
+ * Un enregistrement incomplet ou corrompu (fin du segment en cours d'écriture) termine la lecture du segment.
+ */
+public final class ActorJournalReader {
+    
+    private static final int MAX_RECORD_SIZE = 16 * 1024 * 1024;
+    
+    private ActorJournalReader() {
+    }
+    
+    static String segmentFileName(String journalName, long index) {
+        return String.format("%s-%010d%s", journalName, index, ActorJournal.SEGMENT_SUFFIX);
+    }
+    
+    static long segmentIndex(Path segment, String journalName) {
+        String fileName = segment.getFileName().toString();
+        return Long.parseLong(fileName.substring(journalName.length() + 1,
+            fileName.length() - ActorJournal.SEGMENT_SUFFIX.length()));
+    }
+    
+    /**
+     * Segments d'un journal (ou de tous les journaux du répertoire si {@code journalName} est null),
+     * triés par nom : par journal puis dans l'ordre d'écriture
+     */
+    public static List<Path> segments(Path directory, String journalName) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(path -> isSegmentOf(path.getFileName().toString(), journalName))
+                .sorted()
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static boolean isSegmentOf(String fileName, String journalName) {
+        if (!fileName.endsWith(ActorJournal.SEGMENT_SUFFIX)) {
+            return false;
+        }
+        if (journalName == null) {
+            return true;
+        }
+        String index = fileName.substring(0, fileName.length() - ActorJournal.SEGMENT_SUFFIX.length());
+        return index.startsWith(journalName + "-")
+            && index.substring(journalName.length() + 1).chars().allMatch(Character::isDigit);
+    }
+    
+    /**
+     * Transmet à {@code consumer} les enregistrements acceptés par {@code filter}
+     */
+    public static void read(Path directory, String journalName, Predicate<JournalRecord> filter,
+                            Consumer<JournalRecord> consumer) {
+        for (Path segment : segments(directory, journalName)) {
+            try (InputStream in = Files.newInputStream(segment)) {
+                readSegment(new DataInputStream(new BufferedInputStream(in, 64 * 1024)), filter, consumer);
+            } catch (IOException e) {
+                // Segment supprimé par la rétention pendant la lecture
+                if (Files.exists(segment)) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Historique d'un acteur : ses {@code limit} derniers événements (tous si {@code limit} <= 0)
+     */
+    public static List<JournalRecord> actorHistory(Path directory, String journalName, String actorId, int limit) {
+        Deque<JournalRecord> history = new ArrayDeque<>();
+        read(directory, journalName, record -> actorId.equals(record.actorId()), record -> {
+            history.addLast(record);
+            if (limit > 0 && history.size() > limit) {
+                history.removeFirst();
+            }
+        });
+        return new ArrayList<>(history);
+    }
+    
+    private static void readSegment(DataInputStream in, Predicate<JournalRecord> filter,
+                                    Consumer<JournalRecord> consumer) throws IOException {
+        try {
+            if (in.readInt() != ActorJournal.MAGIC || in.readUnsignedByte() != ActorJournal.VERSION) {
+                return;
+            }
+            CRC32C crc = new CRC32C();
+            while (true) {
+                int length = in.readInt();
+                int checksum = in.readInt();
+                if (length <= 0 || length > MAX_RECORD_SIZE) {
+                    return;
+                }
+                byte[] body = new byte[length];
+                in.readFully(body);
+                crc.reset();
+                crc.update(body);
+                if ((int) crc.getValue() != checksum) {
+                    return;
+                }
+                JournalRecord record = decode(body);
+                if (filter.test(record)) {
+                    consumer.accept(record);
+                }
+            }
+        } catch (EOFException e) {
+            // Fin du segment
+        }
+    }
+    
+    private static JournalRecord decode(byte[] body) {
+        BinaryReader in = new BinaryReader(body);
+        LogEvent.Kind kind = LogEvent.Kind.values()[in.readByte()];
+        long timestamp = in.readLong();
+        long messageId = in.readLong();
+        String actorId = in.readString();
+        String path = in.readString();
+        String messageType = in.readString();
+        String detail = in.readString();
+        return new JournalRecord(timestamp, kind.name(), actorId, path, messageType, messageId, detail);
+    }
+}
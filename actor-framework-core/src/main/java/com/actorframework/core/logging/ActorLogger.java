@@ -2,103 +2,242 @@ package com.actorframework.core.logging;
 
 import com.actorframework.core.actor.Actor;
 import com.actorframework.core.message.Message;
+import com.actorframework.core.message.MessageClock;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Système de logging dédié aux acteurs.
- * Écrit les logs dans des fichiers séparés par acteur.
+ * Écrit les événements de tous les acteurs du nœud dans un journal binaire segmenté ({@link ActorJournal}) ;
+ * l'historique d'un acteur se consulte avec {@link ActorJournalQuery}.
+ * Les événements sont déposés dans un tampon circulaire préalloué ({@link LogRingBuffer})
+ * puis encodés et écrits par un unique thread, par lots : le thread de l'acteur
+ * ne fait ni encodage ni entrée/sortie. Le journal est écrit tous les {@code flushSize}
+ * événements ou toutes les {@code flushInterval}.
+ * {@link #disabled()} fournit un logger sans journal ni thread d'écriture (benchmarks).
  */
 @Slf4j
 @Component
 public class ActorLogger {
     
-    private static final String LOG_DIR = "logs/actors/";
-    private final Map<String, PrintWriter> logWriters = new ConcurrentHashMap<>();
-    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
-    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    public static final String DEFAULT_LOG_DIR = "logs/actors/";
+    public static final String DEFAULT_JOURNAL_NAME = "actors";
+    public static final int DEFAULT_BUFFER_SIZE = 65536;
+    public static final int DEFAULT_FLUSH_SIZE = 512;
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(200);
+    
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    
+    private final boolean enabled;
+    private final ActorJournal journal;
+    private final LogRingBuffer ringBuffer;
+    private final LogOverflowStrategy overflowStrategy;
+    private final int flushSize;
+    private final long flushIntervalNanos;
+    private final LongAdder droppedEvents = new LongAdder();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    
+    // Accédé uniquement par le thread d'écriture
+    private long reportedDrops;
     
     public ActorLogger() {
-        // Créer le répertoire de logs
-        java.io.File dir = new java.io.File(LOG_DIR);
-        if (!dir.exists()) {
-            dir.mkdirs();
-        }
+        this(Paths.get(DEFAULT_LOG_DIR));
     }
     
-    private PrintWriter getLogWriter(String actorId) {
-        return logWriters.computeIfAbsent(actorId, id -> {
-            try {
-                String fileName = LOG_DIR + actorId + ".log";
-                FileWriter fileWriter = new FileWriter(fileName, true);
-                return new PrintWriter(fileWriter, true);
-            } catch (IOException e) {
-                log.error("Failed to create log file for actor {}", actorId, e);
-                return null;
-            }
-        });
+    /**
+     * Journal {@value #DEFAULT_JOURNAL_NAME} dans {@code logDir}, avec les réglages par défaut
+     */
+    public ActorLogger(Path logDir) {
+        this(new ActorJournal(logDir, DEFAULT_JOURNAL_NAME), DEFAULT_BUFFER_SIZE, LogOverflowStrategy.DROP,
+             DEFAULT_FLUSH_SIZE, DEFAULT_FLUSH_INTERVAL);
     }
     
-    private ReentrantLock getLock(String actorId) {
-        return locks.computeIfAbsent(actorId, id -> new ReentrantLock());
+    public ActorLogger(String logDir, int bufferSize, LogOverflowStrategy overflowStrategy,
+                       int flushSize, Duration flushInterval) {
+        this(new ActorJournal(Paths.get(logDir), DEFAULT_JOURNAL_NAME), bufferSize, overflowStrategy,
+             flushSize, flushInterval);
     }
     
-    private void writeLog(String actorId, String event, String details) {
-        ReentrantLock lock = getLock(actorId);
-        lock.lock();
-        try {
-            PrintWriter writer = getLogWriter(actorId);
-            if (writer != null) {
-                String timestamp = LocalDateTime.now().format(formatter);
-                writer.println(String.format("[%s] [%s] %s - %s", 
-                    timestamp, actorId, event, details));
-            }
-        } finally {
-            lock.unlock();
+    public ActorLogger(ActorJournal journal, int bufferSize, LogOverflowStrategy overflowStrategy,
+                       int flushSize, Duration flushInterval) {
+        if (flushSize <= 0) {
+            throw new IllegalArgumentException("flushSize must be positive");
         }
+        this.enabled = true;
+        this.journal = journal;
+        this.ringBuffer = new LogRingBuffer(bufferSize);
+        this.overflowStrategy = overflowStrategy;
+        this.flushSize = flushSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        
+        this.writerThread = new Thread(this::runWriter, "ActorLogger-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+    
+    private ActorLogger(LogOverflowStrategy overflowStrategy) {
+        this.enabled = false;
+        this.journal = null;
+        this.ringBuffer = null;
+        this.overflowStrategy = overflowStrategy;
+        this.flushSize = DEFAULT_FLUSH_SIZE;
+        this.flushIntervalNanos = DEFAULT_FLUSH_INTERVAL.toNanos();
+        this.writerThread = null;
+    }
+    
+    /**
+     * Logger qui ignore tous les événements : aucun fichier, verrou ni thread n'est créé
+     */
+    public static ActorLogger disabled() {
+        return new ActorLogger(LogOverflowStrategy.DROP);
     }
     
     public void logActorCreation(Actor actor) {
-        writeLog(actor.getActorId(), "ACTOR_CREATED", 
-            String.format("Actor created at path: %s", actor.getActorPath()));
+        publish(LogEvent.Kind.ACTOR_CREATED, actor.getActorId(), actor.getActorPath(), null, 0, null);
     }
     
     public void logActorStopped(Actor actor) {
-        writeLog(actor.getActorId(), "ACTOR_STOPPED", 
-            String.format("Actor stopped at path: %s", actor.getActorPath()));
+        publish(LogEvent.Kind.ACTOR_STOPPED, actor.getActorId(), actor.getActorPath(), null, 0, null);
     }
     
     public void logMessageReceived(Actor actor, Message message) {
-        writeLog(actor.getActorId(), "MESSAGE_RECEIVED", 
-            String.format("From: %s, Type: %s, ID: %s", 
-                message.getSenderPath(), message.getMessageType(), message.getMessageId()));
+        publish(LogEvent.Kind.MESSAGE_RECEIVED, actor.getActorId(),
+            message.getSenderPath(), message.getMessageType(), message.peekMessageId(), null);
     }
     
     public void logMessageSent(Actor actor, Message message, Object response) {
-        writeLog(actor.getActorId(), "MESSAGE_SENT", 
-            String.format("To: %s, Type: %s, Response: %s", 
-                message.getReceiverPath(), message.getMessageType(), response));
+        if (!enabled) {
+            return;
+        }
+        publish(LogEvent.Kind.MESSAGE_SENT, actor.getActorId(),
+            message.getReceiverPath(), message.getMessageType(), 0, snapshot(response));
     }
     
     public void logError(Actor actor, Throwable error, Message message) {
-        writeLog(actor.getActorId(), "ERROR", 
-            String.format("Error: %s, Message: %s", 
-                error.getMessage(), message != null ? message.getMessageId() : "N/A"));
+        publish(LogEvent.Kind.ERROR, actor.getActorId(), null, null,
+            message != null ? message.peekMessageId() : Message.NO_ID, error.getMessage());
+    }
+    
+    /**
+     * Journal du nœud, null si le logger est désactivé
+     */
+    public ActorJournal getJournal() {
+        return journal;
+    }
+    
+    /**
+     * Nombre d'événements abandonnés faute de place dans le tampon (stratégie DROP)
+     */
+    public long getDroppedCount() {
+        return droppedEvents.sum();
+    }
+    
+    /**
+     * Une réponse mutable (état de l'acteur) est convertie en texte tant qu'elle est cohérente ;
+     * les valeurs immuables sont converties plus tard par le thread d'écriture.
+     */
+    private static Object snapshot(Object response) {
+        if (response == null || response instanceof String || response instanceof Number
+                || response instanceof Boolean || response instanceof Enum) {
+            return response;
+        }
+        return String.valueOf(response);
+    }
+    
+    private void publish(LogEvent.Kind kind, String actorId, String path, String messageType,
+                         long messageId, Object detail) {
+        if (!enabled) {
+            return;
+        }
+        long sequence = claim();
+        if (sequence < 0) {
+            droppedEvents.increment();
+            return;
+        }
+        ringBuffer.slot(sequence).set(kind, actorId, MessageClock.epochNanos(), path, messageType, messageId, detail);
+        ringBuffer.publish(sequence);
+    }
+    
+    private long claim() {
+        long sequence = ringBuffer.tryClaim();
+        while (sequence < 0 && overflowStrategy == LogOverflowStrategy.BLOCK && running) {
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            sequence = ringBuffer.tryClaim();
+        }
+        return sequence;
+    }
+    
+    private void runWriter() {
+        long lastFlush = System.nanoTime();
+        int unflushed = 0;
+        while (running || !ringBuffer.isEmpty()) {
+            int drained = ringBuffer.drain(this::write, flushSize);
+            unflushed += drained;
+            long now = System.nanoTime();
+            if (unflushed >= flushSize || (unflushed > 0 && now - lastFlush >= flushIntervalNanos)) {
+                flushJournal();
+                unflushed = 0;
+                lastFlush = now;
+            }
+            if (drained == 0) {
+                reportDrops();
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            log.error("Failed to close actor journal", e);
+        }
+    }
+    
+    private void write(LogEvent event) {
+        try {
+            journal.append(event);
+        } catch (IOException e) {
+            log.error("Failed to write journal event for actor {}", event.actorId, e);
+        }
+    }
+    
+    private void flushJournal() {
+        try {
+            journal.flush();
+        } catch (IOException e) {
+            log.error("Failed to flush actor journal", e);
+        }
+    }
+    
+    private void reportDrops() {
+        long dropped = droppedEvents.sum();
+        if (dropped > reportedDrops) {
+            log.warn("ActorLogger buffer full: {} events dropped", dropped - reportedDrops);
+            reportedDrops = dropped;
+        }
     }
     
+    /**
+     * Écrit les événements en attente puis ferme le journal
+     */
     public void close() {
-        logWriters.values().forEach(PrintWriter::close);
-        logWriters.clear();
-        locks.clear();
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
-
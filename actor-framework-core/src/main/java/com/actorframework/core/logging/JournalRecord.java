@@ -0,0 +1,47 @@
+package com.actorframework.core.logging;
+
+import com.actorframework.core.message.Message;
+import com.actorframework.core.message.MessageClock;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Événement relu depuis le journal des acteurs.
+ * @param timestamp nanosecondes depuis l'epoch
+ * @param event ACTOR_CREATED, ACTOR_STOPPED, MESSAGE_RECEIVED, MESSAGE_SENT ou ERROR
+ * @param path chemin de l'acteur (création / arrêt), de l'émetteur (réception) ou du destinataire (envoi)
+ * @param detail réponse envoyée ou message d'erreur
+ */
+public record JournalRecord(long timestamp, String event, String actorId, String path,
+                            String messageType, long messageId, String detail) {
+    
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    
+    /**
+     * Ligne au format des anciens fichiers {@code logs/actors/{actorId}.log}
+     */
+    public String toLogLine() {
+        String time = FORMATTER.format(LocalDateTime.ofInstant(MessageClock.toInstant(timestamp), ZoneId.systemDefault()));
+        return "[" + time + "] [" + actorId + "] " + event + " - " + details();
+    }
+    
+    private String details() {
+        switch (event) {
+            case "ACTOR_CREATED":
+                return "Actor created at path: " + path;
+            case "ACTOR_STOPPED":
+                return "Actor stopped at path: " + path;
+            case "MESSAGE_RECEIVED":
+                return "From: " + path + ", Type: " + messageType + ", ID: " + messageId;
+            case "MESSAGE_SENT":
+                return "To: " + path + ", Type: " + messageType + ", Response: " + detail;
+            case "ERROR":
+                return "Error: " + detail + ", Message: "
+                    + (messageId == Message.NO_ID ? "N/A" : String.valueOf(messageId));
+            default:
+                return detail;
+        }
+    }
+}
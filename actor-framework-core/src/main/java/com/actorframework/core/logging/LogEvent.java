@@ -0,0 +1,40 @@
+package com.actorframework.core.logging;
+
+/**
+ * Case préallouée du tampon circulaire de l'ActorLogger.
+ * Remplie par le thread de l'acteur, lue puis vidée par le thread d'écriture
+ * qui l'encode dans le journal ({@link ActorJournal}).
+ */
+final class LogEvent {
+    
+    enum Kind {
+        ACTOR_CREATED,
+        ACTOR_STOPPED,
+        MESSAGE_RECEIVED,
+        MESSAGE_SENT,
+        ERROR
+    }
+    
+    Kind kind;
+    String actorId;
+    long timestamp;
+    String path;
+    String messageType;
+    long messageId;
+    Object detail;
+    
+    void set(Kind kind, String actorId, long timestamp, String path, String messageType,
+             long messageId, Object detail) {
+        this.kind = kind;
+        this.actorId = actorId;
+        this.timestamp = timestamp;
+        this.path = path;
+        this.messageType = messageType;
+        this.messageId = messageId;
+        this.detail = detail;
+    }
+    
+    void clear() {
+        set(null, null, 0, null, null, 0, null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.actorframework.core.logging;
+
+/**
+ * Comportement de l'ActorLogger lorsque son tampon circulaire est plein
+ */
+public enum LogOverflowStrategy {
+    DROP,  // L'événement est abandonné et compté (le thread de l'acteur n'attend jamais)
+    BLOCK  // Le thread de l'acteur attend qu'une case se libère
+}
@@ -0,0 +1,84 @@
+package com.actorframework.core.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Tampon circulaire borné, sans verrou : plusieurs producteurs, un seul consommateur.
+ * Un producteur réserve une séquence par CAS, remplit la case préallouée puis la publie ;
+ * le consommateur lit les cases publiées dans l'ordre des séquences.
+ * Inspiré du Disruptor (LMAX).
+ */
+final class LogRingBuffer {
+    
+    private final LogEvent[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong(0);
+    private final AtomicLong consumed = new AtomicLong(0);
+    
+    LogRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two");
+        }
+        this.slots = new LogEvent[capacity];
+        this.published = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new LogEvent();
+            published.set(i, -1);
+        }
+    }
+    
+    /**
+     * Réserve la prochaine case
+     * @return la séquence réservée, ou -1 si le tampon est plein
+     */
+    long tryClaim() {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed.get() >= slots.length) {
+                return -1;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        return sequence;
+    }
+    
+    LogEvent slot(long sequence) {
+        return slots[(int) sequence & mask];
+    }
+    
+    /**
+     * Rend la case visible au consommateur
+     */
+    void publish(long sequence) {
+        published.lazySet((int) sequence & mask, sequence);
+    }
+    
+    /**
+     * Transmet au plus {@code max} événements publiés, dans l'ordre (thread consommateur uniquement)
+     * @return le nombre d'événements lus
+     */
+    int drain(Consumer<LogEvent> handler, int max) {
+        long next = consumed.get();
+        int count = 0;
+        while (count < max && published.get((int) next & mask) == next) {
+            LogEvent event = slots[(int) next & mask];
+            try {
+                handler.accept(event);
+            } finally {
+                event.clear();
+                next++;
+                count++;
+                consumed.lazySet(next);
+            }
+        }
+        return count;
+    }
+    
+    boolean isEmpty() {
+        return consumed.get() == claimed.get();
+    }
+}
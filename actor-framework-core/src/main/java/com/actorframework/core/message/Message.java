@@ -3,44 +3,95 @@ package com.actorframework.core.message;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.io.Serializable;
-import java.time.LocalDateTime;
-import java.util.UUID;
 
 /**
  * Classe représentant un message échangé entre acteurs.
  * Tous les messages doivent être sérialisables pour la communication inter-microservices.
+ * L'identifiant (64 bits) est attribué à la première lecture par le {@link MessageIdGenerator}
+ * configuré : un tell qui n'est ni tracé ni envoyé à distance n'en consomme pas.
+ * L'horodatage est en nanosecondes depuis l'epoch ({@link MessageClock}).
+ * {@code equals}, {@code hashCode} et {@code toString} lisent les champs directement :
+ * ils n'attribuent pas d'identifiant.
  */
 @Data
+@EqualsAndHashCode(doNotUseGetters = true)
+@ToString(doNotUseGetters = true)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Message implements Serializable {
     
-    private String messageId;
+    /**
+     * Identifiant non encore attribué
+     */
+    public static final long NO_ID = 0L;
+    
+    private static volatile MessageIdGenerator idGenerator = NodeSequenceIdGenerator.withRandomNodeId();
+    
+    private long messageId;
     private String senderPath;
     private String receiverPath;
     private String messageType;
     private Object payload;
-    private LocalDateTime timestamp;
+    private long timestamp;
     private boolean requiresResponse;
     
     public Message(String messageType, Object payload) {
-        this.messageId = UUID.randomUUID().toString();
-        this.messageType = messageType;
-        this.payload = payload;
-        this.timestamp = LocalDateTime.now();
-        this.requiresResponse = false;
+        this(messageType, payload, false);
     }
     
     public Message(String messageType, Object payload, boolean requiresResponse) {
-        this.messageId = UUID.randomUUID().toString();
         this.messageType = messageType;
         this.payload = payload;
-        this.timestamp = LocalDateTime.now();
+        this.timestamp = MessageClock.epochNanos();
         this.requiresResponse = requiresResponse;
     }
+    
+    /**
+     * Remplace la stratégie d'identifiants (au démarrage, voir {@code ActorFrameworkConfig})
+     */
+    public static void setIdGenerator(MessageIdGenerator generator) {
+        idGenerator = generator;
+    }
+    
+    public static MessageIdGenerator getIdGenerator() {
+        return idGenerator;
+    }
+    
+    /**
+     * Identifiant du message, attribué au premier appel.
+     * Un message n'est manipulé que par un thread à la fois (remise via la boîte aux lettres
+     * ou le transport), l'attribution paresseuse n'a donc pas besoin de synchronisation.
+     */
+    public long getMessageId() {
+        if (messageId == NO_ID) {
+            messageId = idGenerator.nextId();
+        }
+        return messageId;
+    }
+    
+    /**
+     * Identifiant du message sans l'attribuer : {@link #NO_ID} s'il n'a pas encore été lu.
+     * Pour les traces et les journaux, qui ne doivent pas consommer d'identifiant.
+     */
+    public long peekMessageId() {
+        return messageId;
+    }
+    
+    /**
+     * Message typé : le payload est un objet métier (ex: un record) et le type de message
+     * est le nom simple de sa classe. Voir {@code @MessageHandler}.
+     */
+    public static Message of(Object payload) {
+        return of(payload, false);
+    }
+    
+    public static Message of(Object payload, boolean requiresResponse) {
+        return new Message(payload.getClass().getSimpleName(), payload, requiresResponse);
+    }
 }
-
@@ -0,0 +1,30 @@
+package com.actorframework.core.message;
+
+import java.time.Instant;
+
+/**
+ * Horloge des messages : nanosecondes depuis l'epoch, sans allocation.
+ * L'heure murale est lue une seule fois au chargement puis avancée avec {@link System#nanoTime()} :
+ * les horodatages d'un nœud sont croissants mais peuvent dériver de l'horloge système
+ * (ajustements NTP) sur une longue durée.
+ */
+public final class MessageClock {
+    
+    private static final long EPOCH_OFFSET_NANOS = computeOffset();
+    
+    private MessageClock() {
+    }
+    
+    public static long epochNanos() {
+        return System.nanoTime() + EPOCH_OFFSET_NANOS;
+    }
+    
+    public static Instant toInstant(long epochNanos) {
+        return Instant.ofEpochSecond(0, epochNanos);
+    }
+    
+    private static long computeOffset() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano() - System.nanoTime();
+    }
+}
@@ -0,0 +1,13 @@
+package com.actorframework.core.message;
+
+/**
+ * Stratégie d'attribution des identifiants de message.
+ * L'identifiant sert à corréler les réponses aux ask distants et à tracer les messages :
+ * il doit être unique parmi les messages émis par un même nœud et différent de {@link Message#NO_ID}.
+ * Voir {@link Message#setIdGenerator(MessageIdGenerator)}.
+ */
+@FunctionalInterface
+public interface MessageIdGenerator {
+    
+    long nextId();
+}
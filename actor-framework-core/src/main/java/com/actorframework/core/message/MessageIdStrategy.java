@@ -0,0 +1,9 @@
+package com.actorframework.core.message;
+
+/**
+ * Stratégies d'identifiants de message configurables ({@code actor.message.id-strategy})
+ */
+public enum MessageIdStrategy {
+    NODE_SEQUENCE, // Identifiant de nœud + séquence (défaut)
+    RANDOM         // Aléatoire, sans coordination entre nœuds
+}
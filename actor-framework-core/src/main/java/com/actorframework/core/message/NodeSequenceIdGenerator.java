@@ -0,0 +1,50 @@
+package com.actorframework.core.message;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Identifiants sur 64 bits : identifiant du nœud (15 bits) suivi d'une séquence croissante (48 bits).
+ * Le bit de signe reste à 0 : les identifiants sont toujours positifs.
+ * Un seul incrément atomique par identifiant, sans SecureRandom ni allocation
+ * (contrairement à {@code UUID.randomUUID()}). Stratégie par défaut.
+ */
+public class NodeSequenceIdGenerator implements MessageIdGenerator {
+    
+    public static final int NODE_BITS = 15;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final int SEQUENCE_BITS = 48;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    
+    private final long nodePrefix;
+    private final AtomicLong sequence = new AtomicLong(0);
+    
+    public NodeSequenceIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodePrefix = (long) nodeId << SEQUENCE_BITS;
+    }
+    
+    /**
+     * Générateur avec un identifiant de nœud tiré au hasard.
+     * Suffisant pour corréler les ask, qui ne comparent que des identifiants émis par le même nœud.
+     */
+    public static NodeSequenceIdGenerator withRandomNodeId() {
+        return new NodeSequenceIdGenerator(ThreadLocalRandom.current().nextInt(MAX_NODE_ID + 1));
+    }
+    
+    @Override
+    public long nextId() {
+        // La séquence commence à 1 : l'identifiant n'est jamais NO_ID, même pour le nœud 0
+        return nodePrefix | (sequence.incrementAndGet() & SEQUENCE_MASK);
+    }
+    
+    public static int nodeOf(long messageId) {
+        return (int) (messageId >>> SEQUENCE_BITS);
+    }
+    
+    public static long sequenceOf(long messageId) {
+        return messageId & SEQUENCE_MASK;
+    }
+}
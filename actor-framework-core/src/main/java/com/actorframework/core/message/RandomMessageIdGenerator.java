@@ -0,0 +1,20 @@
+package com.actorframework.core.message;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Identifiants aléatoires sur 64 bits (ThreadLocalRandom), sans état partagé entre threads.
+ * À utiliser lorsque les nœuds ne peuvent pas recevoir d'identifiant distinct ;
+ * les identifiants ne sont alors plus ordonnés.
+ */
+public class RandomMessageIdGenerator implements MessageIdGenerator {
+    
+    @Override
+    public long nextId() {
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong();
+        } while (id == Message.NO_ID);
+        return id;
+    }
+}
@@ -0,0 +1,85 @@
+package com.actorframework.core.persistence;
+
+import com.actorframework.core.actor.Actor;
+import com.actorframework.core.actor.ActorRef;
+import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.actor.ActorType;
+import com.actorframework.core.communication.ActorRegistry;
+import com.actorframework.core.sharding.ActorSharding;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Recrée au démarrage du service les acteurs dont le journal de ce nœud contient un flux.
+ * Chaque acteur d'un type enregistré ({@code /user/<type>/<id>}) est créé à partir de son dernier
+ * instantané, puis rejoue lui-même les événements suivants dans son {@code preStart}.
+ * Avec le sharding (et {@code lazy}), les acteurs ne sont pas créés : ils sont enregistrés comme passivés et créés
+ * au premier message, l'instantané et les événements suivants n'étant lus qu'à ce moment.
+ * Les autres flux (ex: données d'un service) sont repris par leur propriétaire.
+ */
+@Slf4j
+public class ActorRecovery implements ApplicationListener<ApplicationReadyEvent> {
+    
+    private final ActorSystem actorSystem;
+    private final ActorRegistry actorRegistry;
+    private final EventJournal journal;
+    private final boolean lazy;
+    
+    public ActorRecovery(ActorSystem actorSystem, ActorRegistry actorRegistry, EventJournal journal, boolean lazy) {
+        this.actorSystem = actorSystem;
+        this.actorRegistry = actorRegistry;
+        this.journal = journal;
+        this.lazy = lazy;
+    }
+    
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        recoverActors();
+    }
+    
+    /**
+     * @return Le nombre d'acteurs recréés
+     */
+    public int recoverActors() {
+        long start = System.nanoTime();
+        ActorSharding sharding = lazy ? actorSystem.getSharding() : null;
+        int recovered = 0;
+        for (String path : journal.getPersistenceIds()) {
+            ActorType<?> actorType = actorSystem.getActorType(ActorType.nameOf(path));
+            if (actorType == null || actorSystem.getActorRef(path) != null) {
+                continue;
+            }
+            try {
+                if (sharding != null) {
+                    ActorRef ref = sharding.registerPassivated(path, () -> loadState(path, actorType));
+                    actorRegistry.registerLocalActor(path, ref);
+                    recovered++;
+                    continue;
+                }
+                Snapshot<?> snapshot = journal.loadSnapshot(path, actorType.stateType());
+                if (snapshot == null) {
+                    log.warn("Persisted actor {} has no snapshot, not recovered", path);
+                    continue;
+                }
+                Actor actor = actorType.create(path.substring(path.lastIndexOf('/') + 1), snapshot.state());
+                ActorRef ref = actorSystem.createActor(actor);
+                actorRegistry.registerLocalActor(path, ref);
+                recovered++;
+            } catch (RuntimeException e) {
+                log.error("Failed to recover actor {}", path, e);
+            }
+        }
+        log.info("Recovered {} actors{} from the event journal in {} ms", recovered,
+                 sharding != null ? " (passivated)" : "", (System.nanoTime() - start) / 1_000_000);
+        return recovered;
+    }
+    
+    private Object loadState(String path, ActorType<?> actorType) {
+        Snapshot<?> snapshot = journal.loadSnapshot(path, actorType.stateType());
+        if (snapshot == null) {
+            throw new IllegalStateException("Persisted actor " + path + " has no snapshot");
+        }
+        return snapshot.state();
+    }
+}
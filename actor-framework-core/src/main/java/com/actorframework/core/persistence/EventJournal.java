@@ -0,0 +1,59 @@
+package com.actorframework.core.persistence;
+
+import java.io.Closeable;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Journal des événements des acteurs persistants, en ajout seul.
+ * Chaque flux ({@code persistenceId}, le chemin de l'acteur) est une suite d'événements numérotés
+ * à partir de 1 ; un instantané de l'état remplace les événements qui le précèdent.
+ * Les événements doivent être des types enregistrés dans le
+ * {@link com.actorframework.core.serialization.PayloadTypeRegistry} (ou des valeurs simples).
+ */
+public interface EventJournal extends Closeable {
+    
+    /**
+     * Ajoute un événement au flux
+     * @return Son numéro de séquence
+     * @throws IllegalArgumentException si le type de l'événement n'a pas d'encodage enregistré
+     */
+    long append(String persistenceId, Object event);
+    
+    /**
+     * Enregistre l'état du flux après l'événement {@code sequenceNr} (0 : avant tout événement) ;
+     * les événements précédents ne seront plus rejoués
+     * @throws IllegalArgumentException si le flux contient des événements plus récents
+     */
+    void saveSnapshot(String persistenceId, long sequenceNr, Object state);
+    
+    /**
+     * Dernier instantané du flux, null s'il n'en a pas
+     */
+    <S> Snapshot<S> loadSnapshot(String persistenceId, Class<S> stateType);
+    
+    /**
+     * Transmet dans l'ordre les événements du flux à partir de {@code fromSequenceNr}
+     * (ceux qui suivent le dernier instantané)
+     * @return Le nombre d'événements rejoués
+     */
+    long replay(String persistenceId, long fromSequenceNr, Consumer<Object> handler);
+    
+    /**
+     * Numéro du dernier événement (ou instantané) du flux, 0 s'il est inconnu
+     */
+    long getHighestSequenceNr(String persistenceId);
+    
+    /**
+     * Flux présents dans le journal
+     */
+    Set<String> getPersistenceIds();
+    
+    /**
+     * Supprime un flux (acteur transmis à une autre réplique)
+     */
+    void delete(String persistenceId);
+    
+    @Override
+    void close();
+}
@@ -0,0 +1,781 @@
+package com.actorframework.core.persistence;
+
+import com.actorframework.core.serialization.BinaryMessageSerializer;
+import com.actorframework.core.serialization.BinaryReader;
+import com.actorframework.core.serialization.BinaryWriter;
+import com.actorframework.core.serialization.PayloadTypeRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Journal d'événements sur fichiers locaux, unique par nœud (embarqué, sans base de données).
+ * Événements et instantanés de tous les flux sont ajoutés au segment courant {@code {name}-{index}.events} ;
+ * au-delà de {@code segmentSize} octets un nouveau segment est ouvert. Un segment n'est supprimé
+ * que lorsqu'aucun flux n'y a plus d'enregistrement utile (tous remplacés par des instantanés plus récents).
+ * <p>
+ * Format d'un segment : en-tête {@code EJNL} + version, puis des enregistrements
+ * {@code [longueur][CRC32C][corps]} ; le corps contient le type d'enregistrement, le flux, le numéro
+ * de séquence et la valeur encodée par le {@link BinaryMessageSerializer}.
+ * À l'ouverture, les segments sont parcourus une fois sans décoder les valeurs : seule la position
+ * des enregistrements utiles de chaque flux est gardée en mémoire, les événements sont relus à la demande.
+ * Un enregistrement incomplet (arrêt brutal pendant une écriture) termine la lecture de son segment ;
+ * chaque ouverture écrit dans un nouveau segment.
+ * <p>
+ * À chaque changement de segment et à la fermeture, un point de reprise ({@link SnapshotFile}, {@code {name}.snapshots})
+ * reprend le dernier instantané de chaque flux et la position de ses événements suivants : l'ouverture projette
+ * ce fichier en mémoire et n'indexe que les segments écrits après lui. Les instantanés repris ne retiennent plus
+ * leur segment, qui est supprimé dès qu'il ne contient plus d'événement utile.
+ * <p>
+ * Les valeurs sont encodées par le thread de l'acteur, puis un unique thread d'écriture regroupe les
+ * enregistrements en attente (group commit) : un seul {@code write} par lot, qui survit à l'arrêt du processus,
+ * et avec {@code fsync} un seul {@code force} par lot (survit à une coupure de courant).
+ * {@link #append}, {@link #saveSnapshot} et {@link #delete} rendent la main une fois leur lot écrit.
+ * Ce thread est le seul à modifier l'index ; les lectures se synchronisent sur le journal, que le thread
+ * d'écriture ne prend que pour publier un lot. Le point de reprise est construit hors de ce verrou.
+ */
+@Slf4j
+public class FileEventJournal implements EventJournal {
+    
+    public static final String DEFAULT_DIRECTORY = "data/journal";
+    public static final String SEGMENT_SUFFIX = ".events";
+    public static final String SNAPSHOT_SUFFIX = ".snapshots";
+    public static final long DEFAULT_SEGMENT_SIZE = 64L * 1024 * 1024;
+    
+    static final int MAGIC = 0x454A4E4C; // "EJNL"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 5;
+    static final int RECORD_OVERHEAD = 8;
+    
+    private static final int MAX_RECORD_SIZE = 16 * 1024 * 1024;
+    // Lecture d'un enregistrement : la plupart des événements tiennent dans une seule lecture
+    private static final int READ_AHEAD = 256;
+    private static final long[] NO_POSITIONS = new long[0];
+    // Index réservé aux instantanés du point de reprise (les segments sont numérotés à partir de 1)
+    private static final long SNAPSHOT_FILE_SEGMENT = 0;
+    private static final int MAX_BATCH = 256;
+    // Dernière requête traitée par le thread d'écriture
+    private static final Request CLOSE = new Request(null, null, 0, null);
+    
+    @Getter
+    private final Path directory;
+    @Getter
+    private final String name;
+    private final long segmentSize;
+    private final boolean fsync;
+    private final PayloadTypeRegistry registry;
+    private final BinaryMessageSerializer serializer;
+    private final ObjectMapper objectMapper;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    // Modifiés par le thread d'écriture sous le verrou du journal
+    private final Map<String, EventStream> streams = new HashMap<>();
+    // Segments lisibles par index ; le dernier est aussi le segment d'écriture
+    private final NavigableMap<Long, FileChannel> segments = new TreeMap<>();
+    private SnapshotFile snapshotFile;
+    // Lectures sous le verrou du journal
+    private final RecordReader reader = new RecordReader();
+    private final BlockingQueue<Request> requests = new LinkedBlockingQueue<>();
+    private final Thread writerThread;
+    // Gardé par requests : aucune requête n'est acceptée après la fermeture
+    private boolean closed;
+    
+    // Accédés uniquement par le thread d'écriture (une fois le journal ouvert)
+    private final RecordReader snapshotReader = new RecordReader();
+    private final BinaryWriter recordHeader = new BinaryWriter(64);
+    private final CRC32C crc = new CRC32C();
+    // Numéros de séquence des flux dont des enregistrements sont dans le lot, pas encore publiés
+    private final Map<String, Long> batchSequenceNrs = new HashMap<>();
+    private final List<Request> batched = new ArrayList<>();
+    private ByteBuffer writeBuffer = ByteBuffer.allocate(64 * 1024);
+    private FileChannel segment;
+    private long segmentIndex;
+    private long segmentBytes;
+    
+    public FileEventJournal(Path directory, String name, PayloadTypeRegistry registry, ObjectMapper objectMapper) {
+        this(directory, name, registry, objectMapper, DEFAULT_SEGMENT_SIZE, false);
+    }
+    
+    /**
+     * Ouvre le journal et indexe ses segments
+     * @throws IllegalStateException si un autre processus utilise déjà ce journal (verrou {@code {name}.lock})
+     */
+    public FileEventJournal(Path directory, String name, PayloadTypeRegistry registry, ObjectMapper objectMapper,
+                            long segmentSize, boolean fsync) {
+        if (segmentSize <= HEADER_SIZE || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("segmentSize must be between " + HEADER_SIZE + " and 2 GB");
+        }
+        this.directory = directory;
+        this.name = name;
+        this.segmentSize = segmentSize;
+        this.fsync = fsync;
+        this.registry = registry;
+        this.serializer = new BinaryMessageSerializer(registry, objectMapper);
+        this.objectMapper = objectMapper;
+        try {
+            Files.createDirectories(directory);
+            this.lockChannel = FileChannel.open(directory.resolve(name + ".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            this.lock = tryLock(lockChannel);
+            if (lock == null) {
+                lockChannel.close();
+                throw new IllegalStateException("Event journal " + name + " in " + directory
+                    + " is already in use (set actor.persistence.journal-name for each replica)");
+            }
+            long start = System.nanoTime();
+            long coveredSegment = loadSnapshotFile();
+            long records = 0;
+            for (Path path : segmentFiles()) {
+                long index = segmentIndex(path);
+                segments.put(index, FileChannel.open(path, StandardOpenOption.READ));
+                if (index > coveredSegment) {
+                    records += index(path, index);
+                }
+                segmentIndex = index;
+            }
+            segmentIndex = Math.max(segmentIndex, coveredSegment);
+            openNextSegment();
+            applyRetention();
+            log.info("Event journal {} opened: {} streams, {} records indexed in {} ms",
+                     name, streams.size(), records, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open event journal " + name + " in " + directory, e);
+        }
+        this.writerThread = new Thread(this::runWriter, "FileEventJournal-" + name + "-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+    
+    /**
+     * Reprend l'index des flux du point de reprise
+     * @return Le dernier segment couvert (0 sans point de reprise)
+     */
+    private long loadSnapshotFile() {
+        Path path = directory.resolve(name + SNAPSHOT_SUFFIX);
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try {
+            snapshotFile = SnapshotFile.open(path);
+        } catch (IOException e) {
+            log.error("Ignoring event journal snapshot file, all remaining segments will be indexed: {}", e.getMessage());
+            return 0;
+        }
+        snapshotFile.forEachStream((persistenceId, highestSequenceNr, eventPositions, stateOffset) -> {
+            EventStream stream = new EventStream();
+            stream.highestSequenceNr = highestSequenceNr;
+            stream.snapshotPosition = stateOffset >= 0 ? position(SNAPSHOT_FILE_SEGMENT, stateOffset) : -1;
+            stream.eventPositions = eventPositions;
+            stream.eventCount = eventPositions.length;
+            streams.put(persistenceId, stream);
+        });
+        return snapshotFile.getCoveredSegment();
+    }
+    
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+    
+    @Override
+    public long append(String persistenceId, Object event) {
+        if (event == null || !(registry.isRegistered(event.getClass()) || event instanceof String
+                || event instanceof Number || event instanceof Boolean)) {
+            throw new IllegalArgumentException("Event type has no registered binary codec: "
+                + (event == null ? null : event.getClass().getName()));
+        }
+        return submit(new Request(Kind.EVENT, persistenceId, 0, encode(event)));
+    }
+    
+    @Override
+    public void saveSnapshot(String persistenceId, long sequenceNr, Object state) {
+        submit(new Request(Kind.SNAPSHOT, persistenceId, sequenceNr, encode(state)));
+    }
+    
+    @Override
+    public synchronized <S> Snapshot<S> loadSnapshot(String persistenceId, Class<S> stateType) {
+        EventStream stream = streams.get(persistenceId);
+        if (stream == null || stream.snapshotPosition < 0) {
+            return null;
+        }
+        BinaryReader record = new BinaryReader(reader.snapshotBody(stream.snapshotPosition));
+        long sequenceNr = record.readVarLong();
+        Object state = serializer.readValue(record);
+        // État sans encodage enregistré : relu comme en JSON (Map), puis converti
+        S converted = state == null || stateType.isInstance(state)
+            ? stateType.cast(state)
+            : objectMapper.convertValue(state, stateType);
+        return new Snapshot<>(sequenceNr, converted);
+    }
+    
+    /**
+     * Les événements sont relus et transmis sous le verrou du journal
+     */
+    @Override
+    public synchronized long replay(String persistenceId, long fromSequenceNr, Consumer<Object> handler) {
+        EventStream stream = streams.get(persistenceId);
+        if (stream == null) {
+            return 0;
+        }
+        long replayed = 0;
+        long firstSequenceNr = stream.highestSequenceNr - stream.eventCount + 1;
+        for (int i = (int) Math.max(0, fromSequenceNr - firstSequenceNr); i < stream.eventCount; i++) {
+            BinaryReader record = reader.readRecord(stream.eventPositions[i]);
+            record.readVarLong();
+            handler.accept(serializer.readValue(record));
+            replayed++;
+        }
+        return replayed;
+    }
+    
+    @Override
+    public synchronized long getHighestSequenceNr(String persistenceId) {
+        EventStream stream = streams.get(persistenceId);
+        return stream != null ? stream.highestSequenceNr : 0;
+    }
+    
+    @Override
+    public synchronized Set<String> getPersistenceIds() {
+        return Set.copyOf(streams.keySet());
+    }
+    
+    @Override
+    public void delete(String persistenceId) {
+        submit(new Request(Kind.DELETE, persistenceId, 0, null));
+    }
+    
+    /**
+     * Écrit un point de reprise : passe au segment suivant, puis reprend les flux des segments précédents
+     */
+    public void checkpoint() {
+        submit(new Request(null, null, 0, null));
+    }
+    
+    /**
+     * Encode la valeur dans le thread appelant : le thread d'écriture ne fait que copier les octets
+     */
+    private byte[] encode(Object value) {
+        BinaryWriter out = new BinaryWriter(256);
+        serializer.writeValue(value, out);
+        return out.toByteArray();
+    }
+    
+    /**
+     * Confie la requête au thread d'écriture et attend que son lot soit écrit
+     * @return Le numéro de séquence attribué
+     */
+    private long submit(Request request) {
+        synchronized (requests) {
+            if (closed) {
+                throw new IllegalStateException("Event journal " + name + " is closed");
+            }
+            requests.add(request);
+        }
+        try {
+            return request.done.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    private void runWriter() {
+        List<Request> batch = new ArrayList<>(MAX_BATCH);
+        while (true) {
+            try {
+                batch.add(requests.take());
+            } catch (InterruptedException e) {
+                continue;
+            }
+            requests.drainTo(batch, MAX_BATCH - 1);
+            for (Request request : batch) {
+                if (request == CLOSE) {
+                    flushBatch();
+                    closeFiles();
+                    return;
+                }
+                process(request);
+            }
+            flushBatch();
+            batch.clear();
+        }
+    }
+    
+    private void process(Request request) {
+        try {
+            if (request.kind == null) {
+                flushBatch();
+                rotate();
+                request.done.complete(0L);
+                return;
+            }
+            Long batchSequenceNr = batchSequenceNrs.get(request.persistenceId);
+            EventStream stream = streams.get(request.persistenceId);
+            boolean known = batchSequenceNr != null || stream != null;
+            long highestSequenceNr = batchSequenceNr != null ? batchSequenceNr
+                : stream != null ? stream.highestSequenceNr : 0;
+            switch (request.kind) {
+                case EVENT -> request.sequenceNr = highestSequenceNr + 1;
+                case SNAPSHOT -> {
+                    if (request.sequenceNr < highestSequenceNr) {
+                        throw new IllegalArgumentException("Snapshot of " + request.persistenceId + " at sequence "
+                            + request.sequenceNr + " is older than its last event " + highestSequenceNr);
+                    }
+                }
+                case DELETE -> {
+                    if (!known) {
+                        request.done.complete(0L);
+                        return;
+                    }
+                }
+            }
+            write(request);
+            batchSequenceNrs.put(request.persistenceId, request.kind == Kind.DELETE ? 0 : request.sequenceNr);
+            batched.add(request);
+        } catch (IOException e) {
+            request.done.completeExceptionally(new UncheckedIOException("Cannot write to event journal " + name, e));
+        } catch (RuntimeException e) {
+            request.done.completeExceptionally(e);
+        }
+    }
+    
+    /**
+     * Ajoute un enregistrement au lot, qui est écrit d'abord s'il ne tient plus dans le segment courant
+     */
+    private void write(Request request) throws IOException {
+        recordHeader.reset();
+        recordHeader.writeByte(request.kind.ordinal());
+        recordHeader.writeString(request.persistenceId);
+        recordHeader.writeVarLong(request.sequenceNr);
+        int bodySize = recordHeader.size() + (request.value != null ? request.value.length : 0);
+        if (bodySize > MAX_RECORD_SIZE) {
+            throw new IllegalArgumentException("Journal record of " + request.persistenceId + " is too large: "
+                + bodySize + " bytes");
+        }
+        int recordSize = RECORD_OVERHEAD + bodySize;
+        if (segmentBytes + writeBuffer.position() + recordSize > segmentSize
+                && segmentBytes + writeBuffer.position() > HEADER_SIZE) {
+            flushBatch();
+            rotate();
+        }
+        if (writeBuffer.remaining() < recordSize) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(writeBuffer.position() + recordSize,
+                                                             writeBuffer.capacity() * 2));
+            writeBuffer = larger.put(writeBuffer.flip());
+        }
+        int start = writeBuffer.position();
+        request.position = position(segmentIndex, segmentBytes + start);
+        writeBuffer.putInt(bodySize);
+        writeBuffer.putInt(0);
+        recordHeader.writeTo(writeBuffer);
+        if (request.value != null) {
+            writeBuffer.put(request.value);
+        }
+        crc.reset();
+        crc.update(writeBuffer.array(), start + RECORD_OVERHEAD, bodySize);
+        writeBuffer.putInt(start + 4, (int) crc.getValue());
+    }
+    
+    /**
+     * Écrit le lot en un appel système, le publie dans l'index puis libère ses appelants
+     */
+    private void flushBatch() {
+        if (batched.isEmpty()) {
+            return;
+        }
+        try {
+            writeFully(writeBuffer.flip());
+            if (fsync) {
+                segment.force(false);
+            }
+            synchronized (this) {
+                for (Request request : batched) {
+                    apply(request.kind, request.persistenceId, request.position, request.sequenceNr);
+                }
+            }
+            for (Request request : batched) {
+                request.done.complete(request.sequenceNr);
+            }
+        } catch (IOException e) {
+            UncheckedIOException failure = new UncheckedIOException("Cannot write to event journal " + name, e);
+            batched.forEach(request -> request.done.completeExceptionally(failure));
+        } finally {
+            writeBuffer.clear();
+            batched.clear();
+            batchSequenceNrs.clear();
+        }
+    }
+    
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            segmentBytes += segment.write(buffer);
+        }
+    }
+    
+    private void apply(Kind kind, String persistenceId, long position, long sequenceNr) {
+        switch (kind) {
+            case EVENT -> streams.computeIfAbsent(persistenceId, id -> new EventStream())
+                .addEvent(position, sequenceNr);
+            case SNAPSHOT -> streams.computeIfAbsent(persistenceId, id -> new EventStream())
+                .snapshot(position, sequenceNr);
+            case DELETE -> streams.remove(persistenceId);
+        }
+    }
+    
+    /**
+     * Indexe les enregistrements d'un segment (sans décoder les valeurs)
+     * @return Le nombre d'enregistrements lus
+     */
+    private long index(Path path, long index) throws IOException {
+        long records = 0;
+        try (InputStream file = Files.newInputStream(path)) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(file, 64 * 1024));
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                log.warn("Skipping event journal segment {}: unknown format", path);
+                return 0;
+            }
+            long offset = HEADER_SIZE;
+            byte[] bytes = new byte[READ_AHEAD];
+            CRC32C check = new CRC32C();
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                int expectedCrc = in.readInt();
+                if (length < 0 || length > MAX_RECORD_SIZE) {
+                    log.warn("Corrupted record in event journal segment {} at offset {}", path, offset);
+                    break;
+                }
+                if (bytes.length < length) {
+                    bytes = new byte[Math.max(length, bytes.length * 2)];
+                }
+                in.readFully(bytes, 0, length);
+                check.reset();
+                check.update(bytes, 0, length);
+                if ((int) check.getValue() != expectedCrc) {
+                    log.warn("Corrupted record in event journal segment {} at offset {}", path, offset);
+                    break;
+                }
+                BinaryReader record = new BinaryReader(bytes);
+                Kind kind = Kind.values()[record.readByte()];
+                String persistenceId = record.readString();
+                long sequenceNr = record.readVarLong();
+                apply(kind, persistenceId, position(index, offset), sequenceNr);
+                offset += RECORD_OVERHEAD + length;
+                records++;
+            }
+        } catch (EOFException e) {
+            log.warn("Event journal segment {} ends with an incomplete record", path);
+        }
+        return records;
+    }
+    
+    private static long position(long segmentIndex, long offset) {
+        return segmentIndex << 32 | offset;
+    }
+    
+    private void rotate() throws IOException {
+        openNextSegment();
+        writeSnapshotFile(segmentIndex - 1);
+        applyRetention();
+    }
+    
+    /**
+     * Remplace le point de reprise par l'état courant des flux (segments jusqu'à {@code coveredSegment}).
+     * Le fichier est construit par le thread d'écriture hors du verrou du journal : seul ce thread modifie
+     * l'index, les lecteurs ne sont bloqués que pour basculer sur le nouveau fichier.
+     * En cas d'échec, les flux gardent leurs positions dans les segments et l'ancien point de reprise reste valide.
+     */
+    private void writeSnapshotFile(long coveredSegment) {
+        long start = System.nanoTime();
+        Path path = directory.resolve(name + SNAPSHOT_SUFFIX);
+        Path temporary = directory.resolve(name + SNAPSHOT_SUFFIX + ".tmp");
+        Map<EventStream, Integer> stateOffsets = new HashMap<>();
+        SnapshotFile written;
+        try {
+            try (SnapshotFile.Writer writer = new SnapshotFile.Writer(temporary, coveredSegment, streams.size())) {
+                for (Map.Entry<String, EventStream> entry : streams.entrySet()) {
+                    EventStream stream = entry.getValue();
+                    byte[] state = stream.snapshotPosition >= 0
+                        ? snapshotReader.snapshotBody(stream.snapshotPosition)
+                        : null;
+                    stateOffsets.put(stream, writer.add(entry.getKey(), stream.highestSequenceNr,
+                                                        stream.eventPositions, stream.eventCount, state));
+                }
+                writer.finish();
+            }
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            written = SnapshotFile.open(path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to write event journal snapshot file {}: {}", path, e.getMessage());
+            return;
+        }
+        synchronized (this) {
+            snapshotFile = written;
+            stateOffsets.forEach((stream, offset) -> {
+                if (offset >= 0) {
+                    stream.snapshotPosition = position(SNAPSHOT_FILE_SEGMENT, offset);
+                }
+            });
+        }
+        log.debug("Event journal snapshot file written: {} streams in {} ms",
+                  streams.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    private void openNextSegment() throws IOException {
+        segmentIndex++;
+        Path path = directory.resolve(String.format("%s-%010d%s", name, segmentIndex, SEGMENT_SUFFIX));
+        segment = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                                   StandardOpenOption.WRITE);
+        synchronized (this) {
+            segments.put(segmentIndex, segment);
+        }
+        segmentBytes = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).put((byte) VERSION).flip();
+        writeFully(header);
+        log.debug("Event journal segment opened: {}", path);
+    }
+    
+    /**
+     * Supprime les segments antérieurs au premier enregistrement utile de tous les flux
+     * (hors instantanés du point de reprise)
+     */
+    private void applyRetention() {
+        long oldestUsed = segmentIndex;
+        for (EventStream stream : streams.values()) {
+            oldestUsed = Math.min(oldestUsed, stream.firstPosition() >>> 32);
+        }
+        while (!segments.isEmpty() && segments.firstKey() < oldestUsed) {
+            Map.Entry<Long, FileChannel> oldest;
+            synchronized (this) {
+                oldest = segments.pollFirstEntry();
+            }
+            Path path = directory.resolve(String.format("%s-%010d%s", name, oldest.getKey(), SEGMENT_SUFFIX));
+            try {
+                oldest.getValue().close();
+                Files.deleteIfExists(path);
+                log.debug("Event journal segment deleted: {}", path);
+            } catch (IOException e) {
+                log.warn("Failed to delete event journal segment {}: {}", path, e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Segments de ce journal, dans l'ordre d'écriture
+     */
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                String fileName = path.getFileName().toString();
+                if (!fileName.startsWith(name + "-") || !fileName.endsWith(SEGMENT_SUFFIX)) {
+                    return false;
+                }
+                String index = fileName.substring(name.length() + 1, fileName.length() - SEGMENT_SUFFIX.length());
+                return !index.isEmpty() && index.chars().allMatch(Character::isDigit);
+            }).sorted().toList();
+        }
+    }
+    
+    private long segmentIndex(Path path) {
+        String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring(name.length() + 1, fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+    
+    /**
+     * Écrit les requêtes en attente et le point de reprise, puis ferme les segments
+     */
+    @Override
+    public void close() {
+        synchronized (requests) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            requests.add(CLOSE);
+        }
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void closeFiles() {
+        writeSnapshotFile(segmentIndex);
+        try {
+            segment.force(false);
+            synchronized (this) {
+                for (FileChannel channel : segments.values()) {
+                    channel.close();
+                }
+            }
+            lock.release();
+            lockChannel.close();
+        } catch (IOException e) {
+            log.warn("Error closing event journal {}: {}", name, e.getMessage());
+        }
+    }
+    
+    private enum Kind {
+        EVENT,    // événement d'un flux
+        SNAPSHOT, // état d'un flux, remplace les enregistrements précédents
+        DELETE    // suppression d'un flux
+    }
+    
+    /**
+     * Écriture confiée au thread d'écriture ; sans {@code kind}, point de reprise
+     */
+    private static final class Request {
+        
+        private final Kind kind;
+        private final String persistenceId;
+        private final byte[] value;
+        private final CompletableFuture<Long> done = new CompletableFuture<>();
+        // Attribué par le thread d'écriture pour un événement
+        private long sequenceNr;
+        private long position;
+        
+        Request(Kind kind, String persistenceId, long sequenceNr, byte[] value) {
+            this.kind = kind;
+            this.persistenceId = persistenceId;
+            this.sequenceNr = sequenceNr;
+            this.value = value;
+        }
+    }
+    
+    /**
+     * Relit les enregistrements avec un tampon réutilisé : une instance par thread lecteur
+     */
+    private final class RecordReader {
+        
+        private ByteBuffer buffer = ByteBuffer.allocate(READ_AHEAD);
+        
+        /**
+         * Corps d'un enregistrement, positionné après le type et le flux
+         */
+        BinaryReader readRecord(long position) {
+            BinaryReader record = new BinaryReader(readBody(position));
+            record.readByte();
+            record.readString();
+            return record;
+        }
+        
+        /**
+         * Numéro de séquence et valeur d'un instantané, depuis le point de reprise ou un segment
+         */
+        byte[] snapshotBody(long position) {
+            if (position >>> 32 == SNAPSHOT_FILE_SEGMENT) {
+                return snapshotFile.readState((int) position);
+            }
+            byte[] body = readBody(position);
+            BinaryReader record = new BinaryReader(body);
+            record.readByte();
+            record.readString();
+            return Arrays.copyOfRange(body, record.position(), body.length);
+        }
+        
+        private byte[] readBody(long position) {
+            FileChannel channel = segments.get(position >>> 32);
+            if (channel == null) {
+                throw new IllegalStateException("Event journal segment " + (position >>> 32) + " was deleted");
+            }
+            long offset = position & 0xFFFFFFFFL;
+            try {
+                buffer.clear();
+                readAtLeast(channel, offset, RECORD_OVERHEAD);
+                int length = buffer.getInt(0);
+                int recordSize = RECORD_OVERHEAD + length;
+                if (recordSize > buffer.capacity()) {
+                    ByteBuffer larger = ByteBuffer.allocate(recordSize);
+                    larger.put(buffer.flip());
+                    buffer = larger;
+                }
+                readAtLeast(channel, offset, recordSize);
+                return Arrays.copyOfRange(buffer.array(), RECORD_OVERHEAD, recordSize);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read event journal " + name, e);
+            }
+        }
+        
+        private void readAtLeast(FileChannel channel, long offset, int size) throws IOException {
+            while (buffer.position() < size) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new EOFException("Truncated record in event journal " + name + " at offset " + offset);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Enregistrements utiles d'un flux : dernier instantané et événements suivants
+     */
+    private static final class EventStream {
+        
+        private long highestSequenceNr;
+        private long snapshotPosition = -1;
+        private long[] eventPositions = NO_POSITIONS;
+        private int eventCount;
+        
+        void addEvent(long position, long sequenceNr) {
+            if (eventCount == eventPositions.length) {
+                eventPositions = Arrays.copyOf(eventPositions, Math.max(8, eventCount * 2));
+            }
+            eventPositions[eventCount++] = position;
+            highestSequenceNr = sequenceNr;
+        }
+        
+        void snapshot(long position, long sequenceNr) {
+            snapshotPosition = position;
+            highestSequenceNr = Math.max(highestSequenceNr, sequenceNr);
+            eventPositions = NO_POSITIONS;
+            eventCount = 0;
+        }
+        
+        long firstPosition() {
+            if (snapshotPosition >= 0 && snapshotPosition >>> 32 != SNAPSHOT_FILE_SEGMENT) {
+                return snapshotPosition;
+            }
+            return eventCount > 0 ? eventPositions[0] : Long.MAX_VALUE;
+        }
+    }
+}
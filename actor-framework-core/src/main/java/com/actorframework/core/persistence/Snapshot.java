@@ -0,0 +1,7 @@
+package com.actorframework.core.persistence;
+
+/**
+ * État d'un flux après l'événement {@code sequenceNr}
+ */
+public record Snapshot<S>(long sequenceNr, S state) {
+}
@@ -0,0 +1,170 @@
+package com.actorframework.core.persistence;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Point de reprise du {@link FileEventJournal} ({@code {name}.snapshots}) : dernier instantané de chaque flux
+ * et position de ses événements suivants, pour les segments jusqu'à {@code coveredSegment}.
+ * Format plat lu par projection mémoire ({@link FileChannel#map}) : à l'ouverture du journal, seul le
+ * répertoire des flux est parcouru ; un état n'est copié et décodé que lorsqu'il est demandé.
+ * <p>
+ * Format : en-tête {@code ESNP} + version, dernier segment couvert, nombre de flux ; pour chaque flux
+ * {@code [longueur][flux UTF-8][dernier numéro][nombre d'événements][positions][longueur de l'état][état]}
+ * (état : numéro de séquence puis valeur, comme le corps d'un enregistrement du journal, longueur -1 sans état) ;
+ * enfin le CRC32C de l'ensemble.
+ */
+final class SnapshotFile {
+    
+    static final int MAGIC = 0x45534E50; // "ESNP"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 17;
+    
+    private final ByteBuffer buffer;
+    private final long coveredSegment;
+    private final int streamCount;
+    
+    private SnapshotFile(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.coveredSegment = buffer.getLong(5);
+        this.streamCount = buffer.getInt(13);
+    }
+    
+    /**
+     * Projette le fichier en mémoire et vérifie son intégrité
+     * @throws IOException si le fichier est illisible, tronqué ou corrompu
+     */
+    static SnapshotFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + 4 || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid snapshot file " + path + " (" + size + " bytes)");
+            }
+            // La projection reste valide après la fermeture du canal
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int end = (int) size - 4;
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(0, end));
+            if (buffer.getInt(0) != MAGIC || buffer.get(4) != VERSION || (int) crc.getValue() != buffer.getInt(end)) {
+                throw new IOException("Corrupted snapshot file " + path);
+            }
+            return new SnapshotFile(buffer);
+        }
+    }
+    
+    long getCoveredSegment() {
+        return coveredSegment;
+    }
+    
+    int getStreamCount() {
+        return streamCount;
+    }
+    
+    /**
+     * Parcourt le répertoire des flux sans lire les états
+     */
+    void forEachStream(StreamVisitor visitor) {
+        ByteBuffer in = buffer.duplicate().position(HEADER_SIZE);
+        for (int i = 0; i < streamCount; i++) {
+            byte[] id = new byte[in.getInt()];
+            in.get(id);
+            long highestSequenceNr = in.getLong();
+            long[] eventPositions = new long[in.getInt()];
+            in.asLongBuffer().get(eventPositions);
+            in.position(in.position() + eventPositions.length * Long.BYTES);
+            int stateOffset = in.position();
+            int stateLength = in.getInt();
+            if (stateLength >= 0) {
+                in.position(in.position() + stateLength);
+            }
+            visitor.visit(new String(id, StandardCharsets.UTF_8), highestSequenceNr, eventPositions,
+                          stateLength >= 0 ? stateOffset : -1);
+        }
+    }
+    
+    /**
+     * État d'un flux (numéro de séquence puis valeur), copié depuis la projection
+     */
+    byte[] readState(int offset) {
+        byte[] state = new byte[buffer.getInt(offset)];
+        buffer.get(offset + 4, state);
+        return state;
+    }
+    
+    interface StreamVisitor {
+        /**
+         * @param stateOffset Position de l'état à passer à {@link #readState}, -1 si le flux n'a pas d'instantané
+         */
+        void visit(String persistenceId, long highestSequenceNr, long[] eventPositions, int stateOffset);
+    }
+    
+    /**
+     * Écriture séquentielle d'un point de reprise ; {@link #finish} écrit le CRC et force le fichier sur disque
+     */
+    static final class Writer implements Closeable {
+        
+        private final FileOutputStream file;
+        private final CheckedOutputStream checked;
+        private final DataOutputStream out;
+        
+        Writer(Path path, long coveredSegment, int streamCount) throws IOException {
+            this.file = new FileOutputStream(path.toFile());
+            this.checked = new CheckedOutputStream(new BufferedOutputStream(file, 64 * 1024), new CRC32C());
+            this.out = new DataOutputStream(checked);
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(coveredSegment);
+            out.writeInt(streamCount);
+        }
+        
+        /**
+         * @param state Numéro de séquence et valeur de l'instantané, null s'il n'y en a pas
+         * @return La position de l'état dans le fichier, -1 sans état
+         */
+        int add(String persistenceId, long highestSequenceNr, long[] eventPositions, int eventCount,
+                byte[] state) throws IOException {
+            byte[] id = persistenceId.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(id.length);
+            out.write(id);
+            out.writeLong(highestSequenceNr);
+            out.writeInt(eventCount);
+            for (int i = 0; i < eventCount; i++) {
+                out.writeLong(eventPositions[i]);
+            }
+            int stateOffset = out.size();
+            if (state == null) {
+                out.writeInt(-1);
+                return -1;
+            }
+            out.writeInt(state.length);
+            out.write(state);
+            // size() sature à Integer.MAX_VALUE : au-delà, les positions ne tiennent plus sur 32 bits
+            if (out.size() == Integer.MAX_VALUE) {
+                throw new IOException("Snapshot file exceeds 2 GB");
+            }
+            return stateOffset;
+        }
+        
+        void finish() throws IOException {
+            out.writeInt((int) checked.getChecksum().getValue());
+            out.flush();
+            file.getChannel().force(true);
+        }
+        
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
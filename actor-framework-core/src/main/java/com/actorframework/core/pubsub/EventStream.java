@@ -0,0 +1,254 @@
+package com.actorframework.core.pubsub;
+
+import com.actorframework.core.actor.ActorRef;
+import com.actorframework.core.dispatch.MailboxOverflowException;
+import com.actorframework.core.message.Message;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Flux d'événements de l'ActorSystem : publication par sujet, remise à tous les acteurs abonnés.
+ * Un sujet est un nom libre (ex: {@code scores/team-1}) ou le nom simple d'une classe d'événement
+ * ({@link #topicOf}) : l'événement est remis comme un message de type égal au sujet, les gestionnaires
+ * {@code @MessageHandler} typés par la classe du payload s'appliquent donc aussi.
+ * <p>
+ * Les abonnés d'un sujet forment un tableau immuable, remplacé en bloc à chaque abonnement :
+ * la publication lit le tableau sans verrou et dépose directement dans la boîte aux lettres de chaque abonné.
+ * {@link #publishAll} remet un lot d'événements en un seul dépôt par abonné.
+ * <p>
+ * Les sujets suivis par d'autres services ({@link #subscribeRemote}) passent par l'{@link EventStreamBridge} :
+ * une seule souscription par sujet et par instance, quel que soit le nombre d'abonnés locaux.
+ */
+@Slf4j
+public class EventStream {
+    
+    private static final ActorRef[] NO_SUBSCRIBERS = new ActorRef[0];
+    
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+    // Sujets de chaque abonné, pour le désabonner à son arrêt
+    private final Map<String, Set<String>> topicsByPath = new ConcurrentHashMap<>();
+    // Sujets d'autres services suivis par ce nœud, transmis au pont dès qu'il est démarré
+    private final Set<EventStreamBridge.RemoteTopic> remoteTopics = ConcurrentHashMap.newKeySet();
+    private volatile ActorRef bridge;
+    
+    /**
+     * Abonnés d'un sujet ; {@code forwarded} : des instances distantes y sont abonnées
+     */
+    private record Topic(ActorRef[] subscribers, boolean forwarded) {
+    }
+    
+    /**
+     * Sujet des événements d'une classe : son nom simple, comme le type des messages typés
+     */
+    public static String topicOf(Class<?> eventClass) {
+        return eventClass.getSimpleName();
+    }
+    
+    /**
+     * Abonne un acteur à un sujet (sans effet s'il y est déjà abonné)
+     */
+    public void subscribe(String topic, ActorRef subscriber) {
+        String path = subscriber.getPath();
+        topics.compute(topic, (name, current) -> {
+            ActorRef[] subscribers = current != null ? current.subscribers() : NO_SUBSCRIBERS;
+            if (indexOf(subscribers, path) >= 0) {
+                return current;
+            }
+            ActorRef[] updated = Arrays.copyOf(subscribers, subscribers.length + 1);
+            updated[subscribers.length] = subscriber;
+            return new Topic(updated, current != null && current.forwarded());
+        });
+        topicsByPath.computeIfAbsent(path, key -> ConcurrentHashMap.newKeySet()).add(topic);
+    }
+    
+    public void subscribe(Class<?> eventClass, ActorRef subscriber) {
+        subscribe(topicOf(eventClass), subscriber);
+    }
+    
+    /**
+     * Abonne un acteur à un sujet publié par un autre service (toutes ses instances)
+     */
+    public void subscribeRemote(String serviceName, String topic, ActorRef subscriber) {
+        subscribe(topic, subscriber);
+        EventStreamBridge.RemoteTopic remoteTopic = new EventStreamBridge.RemoteTopic(serviceName, topic);
+        if (remoteTopics.add(remoteTopic)) {
+            ActorRef currentBridge = bridge;
+            if (currentBridge != null) {
+                currentBridge.tell(new Message(EventStreamBridge.WATCH, remoteTopic));
+            }
+        }
+    }
+    
+    public void unsubscribe(String topic, ActorRef subscriber) {
+        Set<String> subscribed = topicsByPath.get(subscriber.getPath());
+        if (subscribed != null) {
+            subscribed.remove(topic);
+        }
+        remove(topic, subscriber.getPath());
+    }
+    
+    /**
+     * Désabonne un acteur de tous ses sujets (appelé à son arrêt par l'ActorSystem)
+     */
+    public void unsubscribeAll(String path) {
+        Set<String> subscribed = topicsByPath.remove(path);
+        if (subscribed != null) {
+            subscribed.forEach(topic -> remove(topic, path));
+        }
+    }
+    
+    private void remove(String topic, String path) {
+        topics.computeIfPresent(topic, (name, current) -> {
+            int index = indexOf(current.subscribers(), path);
+            if (index < 0) {
+                return current;
+            }
+            ActorRef[] subscribers = current.subscribers();
+            if (subscribers.length == 1 && !current.forwarded()) {
+                return null;
+            }
+            ActorRef[] updated = new ActorRef[subscribers.length - 1];
+            System.arraycopy(subscribers, 0, updated, 0, index);
+            System.arraycopy(subscribers, index + 1, updated, index, updated.length - index);
+            return new Topic(updated, current.forwarded());
+        });
+    }
+    
+    private static int indexOf(ActorRef[] subscribers, String path) {
+        for (int i = 0; i < subscribers.length; i++) {
+            if (subscribers[i].getPath().equals(path)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Publie un événement sur le sujet de sa classe
+     * @return Le nombre d'abonnés locaux auxquels il a été remis
+     */
+    public int publish(Object event) {
+        return publish(topicOf(event.getClass()), event);
+    }
+    
+    /**
+     * Publie un événement : remis aux abonnés locaux et transmis aux instances distantes abonnées
+     * @return Le nombre d'abonnés locaux auxquels il a été remis
+     */
+    public int publish(String topic, Object event) {
+        Topic current = topics.get(topic);
+        if (current == null) {
+            return 0;
+        }
+        int delivered = 0;
+        for (ActorRef subscriber : current.subscribers()) {
+            if (deliver(subscriber, List.of(new Message(topic, event)))) {
+                delivered++;
+            }
+        }
+        if (current.forwarded()) {
+            forward(topic, event);
+        }
+        return delivered;
+    }
+    
+    /**
+     * Publie un lot d'événements d'un même sujet : un seul dépôt par abonné, dans l'ordre du lot
+     * @return Le nombre d'abonnés locaux auxquels le lot a été remis
+     */
+    public int publishAll(String topic, List<?> events) {
+        Topic current = topics.get(topic);
+        if (current == null || events.isEmpty()) {
+            return 0;
+        }
+        int delivered = 0;
+        for (ActorRef subscriber : current.subscribers()) {
+            List<Message> messages = new ArrayList<>(events.size());
+            for (Object event : events) {
+                messages.add(new Message(topic, event));
+            }
+            if (deliver(subscriber, messages)) {
+                delivered++;
+            }
+        }
+        if (current.forwarded()) {
+            events.forEach(event -> forward(topic, event));
+        }
+        return delivered;
+    }
+    
+    /**
+     * Remet un événement reçu d'un autre service aux seuls abonnés locaux
+     */
+    int publishLocally(String topic, Object event) {
+        Topic current = topics.get(topic);
+        if (current == null) {
+            return 0;
+        }
+        int delivered = 0;
+        for (ActorRef subscriber : current.subscribers()) {
+            if (deliver(subscriber, List.of(new Message(topic, event)))) {
+                delivered++;
+            }
+        }
+        return delivered;
+    }
+    
+    // Un abonné saturé ne bloque ni l'éditeur ni les autres abonnés
+    private static boolean deliver(ActorRef subscriber, List<Message> messages) {
+        try {
+            subscriber.tellAll(messages);
+            return true;
+        } catch (MailboxOverflowException e) {
+            log.debug("Event dropped for subscriber {}: {}", subscriber.getPath(), e.getMessage());
+            return false;
+        }
+    }
+    
+    private void forward(String topic, Object event) {
+        ActorRef currentBridge = bridge;
+        if (currentBridge != null) {
+            currentBridge.tell(new Message(EventStreamBridge.FORWARD, new EventStreamBridge.ForwardedEvent(topic, event)));
+        }
+    }
+    
+    /**
+     * Le sujet a des abonnés locaux
+     */
+    public boolean hasSubscribers(String topic) {
+        Topic current = topics.get(topic);
+        return current != null && current.subscribers().length > 0;
+    }
+    
+    /**
+     * Nombre d'abonnés locaux d'un sujet
+     */
+    public int getSubscriberCount(String topic) {
+        Topic current = topics.get(topic);
+        return current != null ? current.subscribers().length : 0;
+    }
+    
+    /**
+     * Active ou non la transmission d'un sujet au pont (instances distantes abonnées)
+     */
+    void setForwarded(String topic, boolean forwarded) {
+        topics.compute(topic, (name, current) -> {
+            ActorRef[] subscribers = current != null ? current.subscribers() : NO_SUBSCRIBERS;
+            return subscribers.length == 0 && !forwarded ? null : new Topic(subscribers, forwarded);
+        });
+    }
+    
+    /**
+     * Rattache le pont vers les autres services ; les sujets distants déjà suivis lui sont transmis
+     */
+    void attachBridge(ActorRef bridgeRef) {
+        this.bridge = bridgeRef;
+        remoteTopics.forEach(remoteTopic -> bridgeRef.tell(new Message(EventStreamBridge.WATCH, remoteTopic)));
+    }
+}
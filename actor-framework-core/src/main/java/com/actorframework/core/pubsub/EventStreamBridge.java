@@ -0,0 +1,182 @@
+package com.actorframework.core.pubsub;
+
+import com.actorframework.core.actor.AbstractActor;
+import com.actorframework.core.actor.MessageHandler;
+import com.actorframework.core.communication.ActorTransport;
+import com.actorframework.core.discovery.ServiceEndpoint;
+import com.actorframework.core.discovery.ServiceInstanceResolver;
+import com.actorframework.core.message.Message;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Pont du flux d'événements entre services (un acteur par nœud, {@value #PATH}).
+ * <ul>
+ *   <li>Côté abonné : pour chaque service suivi, une souscription par instance distante, regroupant tous
+ *   les sujets suivis par les acteurs de ce nœud, renouvelée tous les tiers de bail ; les événements reçus
+ *   sont remis aux abonnés locaux.</li>
+ *   <li>Côté éditeur : les événements d'un sujet auquel des instances sont abonnées sont transmis une fois
+ *   à chacune, sur la connexion du transport des acteurs ; une souscription non renouvelée expire.</li>
+ * </ul>
+ * La transmission se fait sur le thread du pont : l'éditeur ne paie pas la sérialisation.
+ */
+@Slf4j
+public class EventStreamBridge extends AbstractActor {
+    
+    public static final String ACTOR_ID = "event-stream";
+    public static final String PATH = "/user/EventStreamBridge/" + ACTOR_ID;
+    public static final Duration DEFAULT_LEASE = Duration.ofSeconds(30);
+    
+    static final String WATCH = "EVENT_STREAM_WATCH";         // Sujet distant suivi par un acteur local
+    static final String FORWARD = "EVENT_STREAM_FORWARD";     // Événement local à transmettre aux abonnés distants
+    static final String SUBSCRIBE = "EVENT_STREAM_SUBSCRIBE"; // Souscription (ou renouvellement) d'une instance
+    static final String RENEW = "EVENT_STREAM_RENEW";         // Renouvellement et expiration des baux
+    
+    private final EventStream eventStream;
+    private final ActorTransport transport;
+    private final ServiceInstanceResolver instanceResolver;
+    private final Supplier<String> localUrl;
+    private final Duration lease;
+    // Côté abonné : sujets suivis, par service éditeur
+    private final Map<String, Set<String>> watchedTopics = new HashMap<>();
+    // Côté éditeur : instances abonnées par sujet, avec l'échéance de leur bail (System.nanoTime)
+    private final Map<String, Map<String, Long>> remoteSubscribers = new HashMap<>();
+    
+    /**
+     * Sujet d'un autre service suivi par ce nœud
+     */
+    record RemoteTopic(String serviceName, String topic) {
+    }
+    
+    /**
+     * Événement publié localement, à transmettre aux instances abonnées
+     */
+    record ForwardedEvent(String topic, Object event) {
+    }
+    
+    /**
+     * @param localUrl URL de ce nœud, à laquelle les éditeurs transmettent les événements (null si inconnue)
+     */
+    public EventStreamBridge(EventStream eventStream, ActorTransport transport,
+                             ServiceInstanceResolver instanceResolver, Supplier<String> localUrl, Duration lease) {
+        super(ACTOR_ID);
+        this.eventStream = eventStream;
+        this.transport = transport;
+        this.instanceResolver = instanceResolver;
+        this.localUrl = localUrl;
+        this.lease = lease;
+    }
+    
+    @Override
+    public void preStart() {
+        super.preStart();
+        Duration renewInterval = lease.dividedBy(3);
+        scheduleAtFixedRate(renewInterval, renewInterval, RENEW);
+        eventStream.attachBridge(self());
+    }
+    
+    @MessageHandler(WATCH)
+    private void watch(RemoteTopic remoteTopic) {
+        if (watchedTopics.computeIfAbsent(remoteTopic.serviceName(), name -> new LinkedHashSet<>())
+                .add(remoteTopic.topic())) {
+            instanceResolver.watch(remoteTopic.serviceName());
+            sendSubscription(remoteTopic.serviceName(), List.of(remoteTopic.topic()));
+        }
+    }
+    
+    @MessageHandler(RENEW)
+    private void renew() {
+        watchedTopics.forEach((serviceName, topics) -> {
+            // Sujets sans abonné local restant : la souscription expirera chez l'éditeur
+            topics.removeIf(topic -> !eventStream.hasSubscribers(topic));
+            if (!topics.isEmpty()) {
+                sendSubscription(serviceName, new ArrayList<>(topics));
+            }
+        });
+        watchedTopics.values().removeIf(Set::isEmpty);
+        expireSubscriptions();
+    }
+    
+    private void sendSubscription(String serviceName, List<String> topics) {
+        String url = localUrl.get();
+        if (url == null) {
+            log.debug("Local URL unknown, subscription to {} postponed", serviceName);
+            return;
+        }
+        for (ServiceEndpoint endpoint : instanceResolver.getEndpoints(serviceName)) {
+            if (endpoint.getUrl().equals(url)) {
+                continue;
+            }
+            Message message = new Message(SUBSCRIBE, Map.of("subscriber", url, "topics", topics));
+            message.setReceiverPath(PATH);
+            transport.send(endpoint.getUrl(), message);
+        }
+    }
+    
+    /**
+     * Souscription d'une instance distante : {@code subscriber} (son URL) et {@code topics}
+     */
+    @MessageHandler(SUBSCRIBE)
+    private void addSubscription(Map<String, Object> subscription) {
+        Object subscriber = subscription.get("subscriber");
+        if (!(subscriber instanceof String url) || !(subscription.get("topics") instanceof List<?> topics)) {
+            log.warn("Invalid event stream subscription: {}", subscription);
+            return;
+        }
+        long expiresAt = System.nanoTime() + lease.toNanos();
+        for (Object topic : topics) {
+            Map<String, Long> subscribers = remoteSubscribers.computeIfAbsent(String.valueOf(topic), name -> {
+                eventStream.setForwarded(name, true);
+                return new HashMap<>();
+            });
+            if (subscribers.put(url, expiresAt) == null) {
+                log.info("Instance {} subscribed to topic {}", url, topic);
+            }
+        }
+    }
+    
+    private void expireSubscriptions() {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<String, Map<String, Long>>> topics = remoteSubscribers.entrySet().iterator();
+        while (topics.hasNext()) {
+            Map.Entry<String, Map<String, Long>> topic = topics.next();
+            topic.getValue().values().removeIf(expiresAt -> expiresAt - now < 0);
+            if (topic.getValue().isEmpty()) {
+                topics.remove();
+                eventStream.setForwarded(topic.getKey(), false);
+                log.info("No remote subscriber left for topic {}", topic.getKey());
+            }
+        }
+    }
+    
+    @MessageHandler(FORWARD)
+    private void forward(ForwardedEvent forwarded) {
+        Map<String, Long> subscribers = remoteSubscribers.get(forwarded.topic());
+        if (subscribers == null) {
+            return;
+        }
+        for (String url : subscribers.keySet()) {
+            Message message = new Message(forwarded.topic(), forwarded.event());
+            message.setReceiverPath(PATH);
+            transport.send(url, message);
+        }
+    }
+    
+    /**
+     * Événement reçu d'un autre service : le type du message est son sujet
+     */
+    @Override
+    protected Object onReceive(Message message) {
+        eventStream.publishLocally(message.getMessageType(), message.getPayload());
+        return null;
+    }
+}
@@ -0,0 +1,202 @@
+package com.actorframework.core.scheduling;
+
+import com.actorframework.core.actor.ActorRef;
+import com.actorframework.core.message.Message;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Planificateur de messages partagé par tous les acteurs d'un {@code ActorSystem}.
+ * Au lieu d'exécuter du code sur un thread de minuterie, il dépose un message
+ * (ex: {@code TICK}) dans la boîte aux lettres de l'acteur : le traitement reste
+ * sur le thread de l'acteur et l'état n'a pas besoin de verrou.
+ * Les minuteries sont rattachées au chemin du destinataire et annulées à son arrêt.
+ */
+@Slf4j
+public class ActorScheduler {
+    
+    @Getter
+    private final HashedWheelTimer timer;
+    private final Map<String, Set<Cancellable>> timersByActor = new ConcurrentHashMap<>();
+    
+    public ActorScheduler() {
+        this(new HashedWheelTimer());
+    }
+    
+    public ActorScheduler(HashedWheelTimer timer) {
+        this.timer = timer;
+    }
+    
+    /**
+     * Envoie un message unique au destinataire après le délai donné
+     */
+    public Cancellable scheduleOnce(ActorRef target, Duration delay, Message message) {
+        OnceTimer once = new OnceTimer(target, message);
+        track(target, once);
+        once.timeout = timer.schedule(once, delay);
+        return once;
+    }
+    
+    /**
+     * Envoie un nouveau message au destinataire à intervalle fixe, sans dérive :
+     * chaque échéance est calculée à partir de la précédente et non de l'heure d'exécution.
+     */
+    public Cancellable scheduleAtFixedRate(ActorRef target, Duration initialDelay, Duration interval,
+                                           Supplier<Message> messageFactory) {
+        if (interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("interval must be positive");
+        }
+        PeriodicTimer periodic = new PeriodicTimer(target, interval.toNanos(), messageFactory);
+        track(target, periodic);
+        periodic.start(initialDelay.toNanos());
+        return periodic;
+    }
+    
+    /**
+     * Annule toutes les minuteries d'un acteur (appelé à son arrêt)
+     */
+    public void cancelAll(String actorPath) {
+        Set<Cancellable> timers = timersByActor.remove(actorPath);
+        if (timers != null) {
+            timers.forEach(Cancellable::cancel);
+        }
+    }
+    
+    /**
+     * Nombre de minuteries actives d'un acteur
+     */
+    public int getTimerCount(String actorPath) {
+        Set<Cancellable> timers = timersByActor.get(actorPath);
+        return timers != null ? timers.size() : 0;
+    }
+    
+    /**
+     * Arrête le thread de la roue
+     */
+    public void shutdown() {
+        timersByActor.clear();
+        timer.stop();
+    }
+    
+    private void track(ActorRef target, Cancellable cancellable) {
+        timersByActor.computeIfAbsent(target.getPath(), path -> ConcurrentHashMap.newKeySet()).add(cancellable);
+    }
+    
+    private void untrack(ActorRef target, Cancellable cancellable) {
+        timersByActor.computeIfPresent(target.getPath(), (path, timers) -> {
+            timers.remove(cancellable);
+            return timers.isEmpty() ? null : timers;
+        });
+    }
+    
+    /**
+     * Dépose le message ; une boîte pleine ou fermée ne doit pas interrompre la roue
+     */
+    private static void deliver(ActorRef target, Message message) {
+        try {
+            target.tell(message);
+        } catch (RuntimeException e) {
+            log.warn("Scheduled message {} to {} not delivered: {}",
+                     message.getMessageType(), target.getPath(), e.getMessage());
+        }
+    }
+    
+    private final class OnceTimer implements Cancellable, Runnable {
+        
+        private final ActorRef target;
+        private final Message message;
+        private volatile Cancellable timeout;
+        private volatile boolean cancelled;
+        
+        OnceTimer(ActorRef target, Message message) {
+            this.target = target;
+            this.message = message;
+        }
+        
+        @Override
+        public void run() {
+            untrack(target, this);
+            if (!cancelled) {
+                deliver(target, message);
+            }
+        }
+        
+        @Override
+        public boolean cancel() {
+            cancelled = true;
+            untrack(target, this);
+            Cancellable current = timeout;
+            return current == null || current.cancel();
+        }
+        
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+    
+    private final class PeriodicTimer implements Cancellable, Runnable {
+        
+        private final ActorRef target;
+        private final long intervalNanos;
+        private final Supplier<Message> messageFactory;
+        private long nextDeadline;
+        private volatile Cancellable timeout;
+        private volatile boolean cancelled;
+        
+        PeriodicTimer(ActorRef target, long intervalNanos, Supplier<Message> messageFactory) {
+            this.target = target;
+            this.intervalNanos = intervalNanos;
+            this.messageFactory = messageFactory;
+        }
+        
+        void start(long initialDelayNanos) {
+            nextDeadline = System.nanoTime() + initialDelayNanos;
+            reschedule();
+        }
+        
+        private void reschedule() {
+            timeout = timer.schedule(this, Duration.ofNanos(nextDeadline - System.nanoTime()));
+            // Annulation concurrente entre l'expiration et la replanification
+            if (cancelled) {
+                timeout.cancel();
+            }
+        }
+        
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            deliver(target, messageFactory.get());
+            nextDeadline += intervalNanos;
+            reschedule();
+        }
+        
+        @Override
+        public boolean cancel() {
+            if (cancelled) {
+                return false;
+            }
+            cancelled = true;
+            untrack(target, this);
+            // Annulation concurrente avant le premier start() : le timeout n'est pas encore planifié
+            Cancellable current = timeout;
+            if (current != null) {
+                current.cancel();
+            }
+            return true;
+        }
+        
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
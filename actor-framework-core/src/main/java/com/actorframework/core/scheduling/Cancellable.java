@@ -0,0 +1,15 @@
+package com.actorframework.core.scheduling;
+
+/**
+ * Minuterie annulable renvoyée par {@link HashedWheelTimer} et {@link ActorScheduler}
+ */
+public interface Cancellable {
+    
+    /**
+     * Annule la minuterie.
+     * @return false si elle était déjà annulée ou (pour un message unique) déjà délivrée
+     */
+    boolean cancel();
+    
+    boolean isCancelled();
+}
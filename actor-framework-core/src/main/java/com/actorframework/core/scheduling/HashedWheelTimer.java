@@ -0,0 +1,242 @@
+package com.actorframework.core.scheduling;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minuterie à roue hachée : un seul thread pour toutes les minuteries du nœud, quel que soit leur nombre.
+ * La roue avance d'une case tous les {@code tickDuration} ; une minuterie est rangée dans la case
+ * de son échéance avec le nombre de tours restants. Planifier et annuler coûtent O(1),
+ * la précision est celle d'un tick. Les tâches s'exécutent sur le thread de la roue
+ * et doivent donc être courtes (typiquement : déposer un message dans une boîte aux lettres).
+ * Le thread est démarré à la première planification.
+ * Inspiré du HashedWheelTimer de Netty.
+ */
+@Slf4j
+public class HashedWheelTimer {
+    
+    public static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(10);
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+    
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_STOPPED = 2;
+    
+    // Nombre maximum de minuteries transférées dans la roue par tick
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+    
+    @Getter
+    private final long tickNanos;
+    private final List<Timeout>[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+    private final AtomicLong scheduledCount = new AtomicLong(0);
+    private final Thread worker;
+    private volatile long startTime;
+    private long tick;
+    
+    public HashedWheelTimer() {
+        this(DEFAULT_TICK_DURATION, DEFAULT_WHEEL_SIZE);
+    }
+    
+    @SuppressWarnings("unchecked")
+    public HashedWheelTimer(Duration tickDuration, int wheelSize) {
+        if (tickDuration.toMillis() < 1) {
+            throw new IllegalArgumentException("tickDuration must be at least 1ms");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a positive power of two");
+        }
+        this.tickNanos = tickDuration.toNanos();
+        this.wheel = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        this.mask = wheelSize - 1;
+        this.worker = new Thread(this::run, "ActorSystem-timer");
+        this.worker.setDaemon(true);
+    }
+    
+    /**
+     * Planifie l'exécution d'une tâche après le délai donné (arrondi au tick supérieur)
+     */
+    public Cancellable schedule(Runnable task, Duration delay) {
+        return schedule(task, delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+    
+    public Cancellable schedule(Runnable task, long delay, TimeUnit unit) {
+        start();
+        if (state.get() == STATE_STOPPED) {
+            throw new IllegalStateException("Timer is stopped");
+        }
+        long deadline = System.nanoTime() - startTime + Math.max(0, unit.toNanos(delay));
+        Timeout timeout = new Timeout(task, deadline);
+        scheduledCount.incrementAndGet();
+        pendingTimeouts.offer(timeout);
+        return timeout;
+    }
+    
+    private void start() {
+        if (state.get() == STATE_INIT && state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+            startTime = System.nanoTime();
+            worker.start();
+        }
+    }
+    
+    /**
+     * Nombre de minuteries planifiées et ni expirées ni annulées
+     */
+    public long getPendingCount() {
+        return scheduledCount.get();
+    }
+    
+    /**
+     * Arrête le thread de la roue ; les minuteries en attente ne seront pas exécutées
+     */
+    public void stop() {
+        int previous = state.getAndSet(STATE_STOPPED);
+        if (previous != STATE_STARTED || Thread.currentThread() == worker) {
+            return;
+        }
+        worker.interrupt();
+        try {
+            worker.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void run() {
+        while (state.get() == STATE_STARTED) {
+            long deadline = waitForNextTick();
+            if (deadline < 0) {
+                break;
+            }
+            transferPendingTimeouts();
+            expire(wheel[(int) (tick & mask)], deadline);
+            tick++;
+        }
+    }
+    
+    /**
+     * Attend le prochain tick et retourne son échéance (relative à startTime), ou -1 si la roue est arrêtée
+     */
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long sleepNanos = deadline - (System.nanoTime() - startTime);
+            if (sleepNanos <= 0) {
+                return deadline;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (state.get() == STATE_STOPPED) {
+                    return -1;
+                }
+            }
+        }
+    }
+    
+    private void transferPendingTimeouts() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = pendingTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long expiryTick = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (expiryTick - tick) / wheel.length;
+            // Une échéance déjà passée est traitée au tick courant
+            long ticks = Math.max(expiryTick, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+    
+    private void expire(List<Timeout> bucket, long deadline) {
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<Timeout> due = null;
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            Timeout timeout = bucket.get(i);
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                if (due == null) {
+                    due = new ArrayList<>();
+                }
+                due.add(timeout);
+                continue;
+            }
+            timeout.remainingRounds--;
+            bucket.set(kept++, timeout);
+        }
+        bucket.subList(kept, bucket.size()).clear();
+        if (due != null) {
+            due.forEach(Timeout::expire);
+        }
+    }
+    
+    /**
+     * Minuterie planifiée dans la roue
+     */
+    private final class Timeout implements Cancellable {
+        
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger timeoutState = new AtomicInteger(WAITING);
+        // Accédé uniquement par le thread de la roue
+        private long remainingRounds;
+        
+        Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+        
+        @Override
+        public boolean cancel() {
+            // Retirée de sa case au prochain passage de la roue
+            if (timeoutState.compareAndSet(WAITING, CANCELLED)) {
+                scheduledCount.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+        
+        @Override
+        public boolean isCancelled() {
+            return timeoutState.get() == CANCELLED;
+        }
+        
+        void expire() {
+            if (!timeoutState.compareAndSet(WAITING, EXPIRED)) {
+                return;
+            }
+            scheduledCount.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable e) {
+                log.warn("Timer task {} failed", task, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.actorframework.core.serialization;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+
+/**
+ * Convertisseur Spring MVC pour le format binaire des acteurs.
+ * Il n'est choisi que si le client le demande explicitement (Content-Type / Accept) :
+ * les autres contrôleurs et les navigateurs continuent de recevoir du JSON.
+ */
+public class BinaryMessageHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+    
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(BinaryMessageSerializer.CONTENT_TYPE);
+    
+    private final BinaryMessageSerializer serializer;
+    
+    public BinaryMessageHttpMessageConverter(BinaryMessageSerializer serializer) {
+        super(MEDIA_TYPE);
+        this.serializer = serializer;
+    }
+    
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return true;
+    }
+    
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return mediaType != null && MEDIA_TYPE.includes(mediaType);
+    }
+    
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return mediaType != null && !mediaType.isWildcardType() && !mediaType.isWildcardSubtype()
+            && MEDIA_TYPE.isCompatibleWith(mediaType);
+    }
+    
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return serializer.deserialize(inputMessage.getBody().readAllBytes(), clazz);
+        } catch (SerializationException e) {
+            throw new HttpMessageNotReadableException(e.getMessage(), e, inputMessage);
+        }
+    }
+    
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        try {
+            outputMessage.getBody().write(serializer.serialize(value));
+        } catch (SerializationException e) {
+            throw new HttpMessageNotWritableException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.actorframework.core.serialization;
+
+import com.actorframework.core.message.Message;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Format binaire compact pour les messages entre services.
+ * Chaque valeur est précédée d'une étiquette d'un octet ; les types Java simples sont conservés
+ * (un {@code Integer} est relu comme un {@code Integer}, pas comme un nombre JSON).
+ * Les types enregistrés dans le {@link PayloadTypeRegistry} sont encodés par leur codec ;
+ * les autres objets sont convertis en Map par Jackson, comme avec le format JSON.
+ */
+public class BinaryMessageSerializer implements MessageSerializer {
+    
+    public static final String CONTENT_TYPE = "application/x-actor-binary";
+    
+    private static final int FORMAT_VERSION = 2;
+    
+    private static final int TAG_NULL = 0;
+    private static final int TAG_TRUE = 1;
+    private static final int TAG_FALSE = 2;
+    private static final int TAG_INT = 3;
+    private static final int TAG_LONG = 4;
+    private static final int TAG_DOUBLE = 5;
+    private static final int TAG_STRING = 6;
+    private static final int TAG_LIST = 7;
+    private static final int TAG_MAP = 8;
+    private static final int TAG_MESSAGE = 9;
+    private static final int TAG_REGISTERED = 10;
+    
+    private final PayloadTypeRegistry registry;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * @param objectMapper Convertit en Map les objets dont le type n'est pas enregistré
+     */
+    public BinaryMessageSerializer(PayloadTypeRegistry registry, ObjectMapper objectMapper) {
+        this.registry = registry;
+        this.objectMapper = objectMapper;
+    }
+    
+    @Override
+    public String getContentType() {
+        return CONTENT_TYPE;
+    }
+    
+    @Override
+    public boolean isBinary() {
+        return true;
+    }
+    
+    @Override
+    public byte[] serialize(Object value) {
+        BinaryWriter out = new BinaryWriter();
+        out.writeByte(FORMAT_VERSION);
+        writeValue(value, out);
+        return out.toByteArray();
+    }
+    
+    @Override
+    public <T> T deserialize(byte[] data, Class<T> type) {
+        BinaryReader in = new BinaryReader(data);
+        int version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new SerializationException("Unsupported binary format version " + version);
+        }
+        Object value = readValue(in);
+        if (value == null || type.isInstance(value)) {
+            return type.cast(value);
+        }
+        if (value instanceof Map) {
+            return objectMapper.convertValue(value, type);
+        }
+        throw new SerializationException("Expected " + type.getName() + " but read " + value.getClass().getName());
+    }
+    
+    /**
+     * Écrit une valeur précédée de son étiquette (utilisé aussi par les codecs pour les champs imbriqués)
+     */
+    public void writeValue(Object value, BinaryWriter out) {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.writeByte(TAG_INT);
+            out.writeSignedInt(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            out.writeByte(TAG_LONG);
+            out.writeSignedLong((Long) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof String) {
+            out.writeByte(TAG_STRING);
+            out.writeString((String) value);
+        } else if (value instanceof Enum) {
+            out.writeByte(TAG_STRING);
+            out.writeString(((Enum<?>) value).name());
+        } else if (value instanceof Message) {
+            out.writeByte(TAG_MESSAGE);
+            writeMessage((Message) value, out);
+        } else if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            out.writeByte(TAG_LIST);
+            out.writeVarInt(collection.size());
+            for (Object element : collection) {
+                writeValue(element, out);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(TAG_MAP);
+            out.writeVarInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                out.writeString(String.valueOf(entry.getKey()));
+                writeValue(entry.getValue(), out);
+            }
+        } else {
+            PayloadTypeRegistry.Registration<?> registration = registry.find(value.getClass());
+            if (registration != null) {
+                out.writeByte(TAG_REGISTERED);
+                out.writeVarInt(registration.typeId);
+                registration.write(value, out, this);
+            } else {
+                writeUnregistered(value, out);
+            }
+        }
+    }
+    
+    /**
+     * Type non enregistré : même représentation que le format JSON (Map de propriétés ou chaîne)
+     */
+    private void writeUnregistered(Object value, BinaryWriter out) {
+        Object converted;
+        try {
+            converted = objectMapper.convertValue(value, Object.class);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("Cannot encode value of type " + value.getClass().getName(), e);
+        }
+        if (converted == null || converted.getClass() == value.getClass()) {
+            out.writeByte(TAG_STRING);
+            out.writeString(String.valueOf(value));
+        } else {
+            writeValue(converted, out);
+        }
+    }
+    
+    private void writeMessage(Message message, BinaryWriter out) {
+        out.writeLong(message.getMessageId());
+        out.writeString(message.getSenderPath());
+        out.writeString(message.getReceiverPath());
+        out.writeString(message.getMessageType());
+        out.writeLong(message.getTimestamp());
+        out.writeBoolean(message.isRequiresResponse());
+        writeValue(message.getPayload(), out);
+    }
+    
+    /**
+     * Lit une valeur écrite par {@link #writeValue}
+     */
+    public Object readValue(BinaryReader in) {
+        int tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_TRUE:
+                return Boolean.TRUE;
+            case TAG_FALSE:
+                return Boolean.FALSE;
+            case TAG_INT:
+                return in.readSignedInt();
+            case TAG_LONG:
+                return in.readSignedLong();
+            case TAG_DOUBLE:
+                return in.readDouble();
+            case TAG_STRING:
+                return in.readString();
+            case TAG_LIST: {
+                int size = in.readVarInt();
+                List<Object> list = new ArrayList<>(Math.min(size, 1024));
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            }
+            case TAG_MAP: {
+                int size = in.readVarInt();
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    String key = in.readString();
+                    map.put(key, readValue(in));
+                }
+                return map;
+            }
+            case TAG_MESSAGE:
+                return readMessage(in);
+            case TAG_REGISTERED:
+                return registry.find(in.readVarInt()).codec.read(in, this);
+            default:
+                throw new SerializationException("Unknown value tag " + tag);
+        }
+    }
+    
+    private Message readMessage(BinaryReader in) {
+        Message message = new Message();
+        message.setMessageId(in.readLong());
+        message.setSenderPath(in.readString());
+        message.setReceiverPath(in.readString());
+        message.setMessageType(in.readString());
+        message.setTimestamp(in.readLong());
+        message.setRequiresResponse(in.readBoolean());
+        message.setPayload(readValue(in));
+        return message;
+    }
+}
@@ -0,0 +1,100 @@
+package com.actorframework.core.serialization;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Lecture du format produit par {@link BinaryWriter}.
+ */
+public class BinaryReader {
+    
+    private final byte[] buffer;
+    private int position;
+    
+    public BinaryReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+    
+    private void require(int length) {
+        if (length < 0 || position + length > buffer.length) {
+            throw new SerializationException("Unexpected end of binary message at offset " + position);
+        }
+    }
+    
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+    
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+    
+    public int readVarInt() {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new SerializationException("Malformed varint at offset " + position);
+    }
+    
+    public long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new SerializationException("Malformed varlong at offset " + position);
+    }
+    
+    public int readSignedInt() {
+        int value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+    
+    public long readSignedLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+    
+    public long readLong() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+    
+    public double readDouble() {
+        return Double.longBitsToDouble(readLong());
+    }
+    
+    public String readString() {
+        int length = readVarInt() - 1;
+        if (length < 0) {
+            return null;
+        }
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+    
+    /**
+     * Nombre d'octets déjà lus
+     */
+    public int position() {
+        return position;
+    }
+    
+    public boolean hasRemaining() {
+        return position < buffer.length;
+    }
+}
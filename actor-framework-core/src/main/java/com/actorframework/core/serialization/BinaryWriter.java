@@ -0,0 +1,124 @@
+package com.actorframework.core.serialization;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Tampon d'écriture du format binaire : entiers en varint (zigzag pour les signés),
+ * chaînes UTF-8 préfixées par leur longueur.
+ */
+public class BinaryWriter {
+    
+    private byte[] buffer;
+    private int position;
+    
+    public BinaryWriter() {
+        this(128);
+    }
+    
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+    
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+    
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+    
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+    
+    /**
+     * Entier positif sur 1 à 5 octets
+     */
+    public void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+    
+    /**
+     * Entier positif sur 1 à 10 octets
+     */
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+    
+    /**
+     * Entier signé encodé en zigzag (les petites valeurs négatives restent courtes)
+     */
+    public void writeSignedInt(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+    
+    public void writeSignedLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+    
+    /**
+     * Entier sur 8 octets fixes (identifiants, horodatages : plus court qu'un varint)
+     */
+    public void writeLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+    
+    public void writeDouble(double value) {
+        writeLong(Double.doubleToLongBits(value));
+    }
+    
+    /**
+     * Chaîne éventuellement nulle : longueur + 1 (0 pour null) puis octets UTF-8
+     */
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+    
+    public int size() {
+        return position;
+    }
+    
+    /**
+     * Vide le tampon pour le réutiliser sans réallocation
+     */
+    public void reset() {
+        position = 0;
+    }
+    
+    /**
+     * Copie le contenu écrit dans {@code target}
+     */
+    public void writeTo(ByteBuffer target) {
+        target.put(buffer, 0, position);
+    }
+    
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+}
@@ -0,0 +1,94 @@
+package com.actorframework.core.serialization;
+
+import com.actorframework.core.communication.TransportFrame;
+import com.actorframework.core.message.Message;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sérialisation JSON via Jackson (format historique de {@code /api/actors/message}).
+ * Les payloads non typés sont relus comme des {@code LinkedHashMap} ; ceux des messages typés
+ * dont le type est enregistré dans le {@link PayloadTypeRegistry} retrouvent leur classe.
+ */
+public class JsonMessageSerializer implements MessageSerializer {
+    
+    private final ObjectMapper objectMapper;
+    private final PayloadTypeRegistry registry;
+    
+    public JsonMessageSerializer() {
+        this(Jackson2ObjectMapperBuilder.json().build(), null);
+    }
+    
+    public JsonMessageSerializer(ObjectMapper objectMapper) {
+        this(objectMapper, null);
+    }
+    
+    /**
+     * @param registry Types des payloads typés à restaurer (null : payloads relus comme Map)
+     */
+    public JsonMessageSerializer(ObjectMapper objectMapper, PayloadTypeRegistry registry) {
+        this.objectMapper = objectMapper;
+        this.registry = registry;
+    }
+    
+    @Override
+    public String getContentType() {
+        return MediaType.APPLICATION_JSON_VALUE;
+    }
+    
+    @Override
+    public boolean isBinary() {
+        return false;
+    }
+    
+    @Override
+    public byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write JSON: " + e.getMessage(), e);
+        }
+    }
+    
+    @Override
+    public <T> T deserialize(byte[] data, Class<T> type) {
+        T value;
+        try {
+            value = objectMapper.readValue(data, type);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read JSON: " + e.getMessage(), e);
+        }
+        restoreTypedPayloads(value);
+        return value;
+    }
+    
+    /**
+     * Redonne leur classe aux payloads des messages typés lus en JSON
+     * (Message, TransportFrame ou liste de messages ; utilisé aussi pour les corps lus par Spring MVC)
+     */
+    public void restoreTypedPayloads(Object value) {
+        if (registry == null) {
+            return;
+        }
+        if (value instanceof Message) {
+            Message message = (Message) value;
+            Class<?> payloadType = registry.findByMessageType(message.getMessageType());
+            if (payloadType != null && message.getPayload() instanceof Map) {
+                try {
+                    message.setPayload(objectMapper.convertValue(message.getPayload(), payloadType));
+                } catch (IllegalArgumentException e) {
+                    throw new SerializationException("Invalid " + payloadType.getSimpleName() + " payload", e);
+                }
+            }
+        } else if (value instanceof TransportFrame) {
+            restoreTypedPayloads(((TransportFrame) value).getMessage());
+        } else if (value instanceof List) {
+            ((List<?>) value).forEach(this::restoreTypedPayloads);
+        }
+    }
+}
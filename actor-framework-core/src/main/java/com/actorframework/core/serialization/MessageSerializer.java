@@ -0,0 +1,28 @@
+package com.actorframework.core.serialization;
+
+/**
+ * Sérialisation des messages échangés entre services (corps HTTP et trames WebSocket).
+ * Couvre les {@code Message}, les lots de messages et les réponses aux ask.
+ */
+public interface MessageSerializer {
+    
+    /**
+     * Type de contenu annoncé dans les en-têtes HTTP (Content-Type / Accept)
+     */
+    String getContentType();
+    
+    /**
+     * Indique si le format est binaire (trames WebSocket binaires) ou textuel
+     */
+    boolean isBinary();
+    
+    /**
+     * @throws SerializationException si la valeur ne peut pas être encodée
+     */
+    byte[] serialize(Object value);
+    
+    /**
+     * @throws SerializationException si les données sont invalides ou d'un autre type
+     */
+    <T> T deserialize(byte[] data, Class<T> type);
+}
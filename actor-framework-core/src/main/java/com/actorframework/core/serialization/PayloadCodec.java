@@ -0,0 +1,13 @@
+package com.actorframework.core.serialization;
+
+/**
+ * Encodage binaire d'un type de payload enregistré dans le {@link PayloadTypeRegistry}.
+ * Les champs sont écrits et relus dans le même ordre ; les valeurs imbriquées
+ * passent par {@code serializer.writeValue} / {@code serializer.readValue}.
+ */
+public interface PayloadCodec<T> {
+    
+    void write(T value, BinaryWriter out, BinaryMessageSerializer serializer);
+    
+    T read(BinaryReader in, BinaryMessageSerializer serializer);
+}
@@ -0,0 +1,10 @@
+package com.actorframework.core.serialization;
+
+/**
+ * Enregistre des types de payload applicatifs. Chaque bean de ce type est appliqué
+ * au {@link PayloadTypeRegistry} au démarrage du service.
+ */
+public interface PayloadTypeRegistrar {
+    
+    void registerPayloadTypes(PayloadTypeRegistry registry);
+}
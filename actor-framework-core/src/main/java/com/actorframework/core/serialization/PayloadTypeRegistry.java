@@ -0,0 +1,127 @@
+package com.actorframework.core.serialization;
+
+import com.actorframework.core.communication.TransportFrame;
+import com.actorframework.core.message.Message;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registre des types de payload encodés par {@link BinaryMessageSerializer}.
+ * Chaque type reçoit un identifiant stable, identique sur tous les services qui l'échangent :
+ * seul cet identifiant circule, pas le nom de la classe.
+ * Les identifiants inférieurs à {@link #FIRST_APPLICATION_TYPE_ID} sont réservés au framework.
+ * <pre>
+ * registry.register(32, PlayerAction.class, new PlayerActionCodec());
+ * </pre>
+ */
+public class PayloadTypeRegistry {
+    
+    public static final int FIRST_APPLICATION_TYPE_ID = 32;
+    
+    private static final int TRANSPORT_FRAME_TYPE_ID = 1;
+    
+    private final Map<Class<?>, Registration<?>> byClass = new ConcurrentHashMap<>();
+    private final Map<Integer, Registration<?>> byId = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> byName = new ConcurrentHashMap<>();
+    
+    public PayloadTypeRegistry() {
+        add(TRANSPORT_FRAME_TYPE_ID, TransportFrame.class, new TransportFrameCodec());
+    }
+    
+    /**
+     * Enregistre un type de payload applicatif
+     * @throws IllegalArgumentException si l'identifiant est réservé ou déjà utilisé
+     */
+    public <T> void register(int typeId, Class<T> type, PayloadCodec<T> codec) {
+        if (typeId < FIRST_APPLICATION_TYPE_ID) {
+            throw new IllegalArgumentException("Type ids below " + FIRST_APPLICATION_TYPE_ID + " are reserved");
+        }
+        add(typeId, type, codec);
+    }
+    
+    private <T> void add(int typeId, Class<T> type, PayloadCodec<T> codec) {
+        Registration<T> registration = new Registration<>(typeId, type, codec);
+        if (byId.putIfAbsent(typeId, registration) != null) {
+            throw new IllegalArgumentException("Type id " + typeId + " is already registered");
+        }
+        if (byClass.putIfAbsent(type, registration) != null) {
+            byId.remove(typeId);
+            throw new IllegalArgumentException("Type " + type.getName() + " is already registered");
+        }
+        byName.put(type.getSimpleName(), type);
+    }
+    
+    /**
+     * Type enregistré correspondant au type d'un message typé ({@code Message.of})
+     * @return null si aucun type enregistré ne porte ce nom
+     */
+    public Class<?> findByMessageType(String messageType) {
+        return messageType != null ? byName.get(messageType) : null;
+    }
+    
+    /**
+     * Le type a un encodage binaire enregistré (sinon il est encodé comme en JSON et relu en Map)
+     */
+    public boolean isRegistered(Class<?> type) {
+        return byClass.containsKey(type);
+    }
+    
+    Registration<?> find(Class<?> type) {
+        return byClass.get(type);
+    }
+    
+    Registration<?> find(int typeId) {
+        Registration<?> registration = byId.get(typeId);
+        if (registration == null) {
+            throw new SerializationException("Unknown payload type id " + typeId);
+        }
+        return registration;
+    }
+    
+    static class Registration<T> {
+        
+        final int typeId;
+        final Class<T> type;
+        final PayloadCodec<T> codec;
+        
+        Registration(int typeId, Class<T> type, PayloadCodec<T> codec) {
+            this.typeId = typeId;
+            this.type = type;
+            this.codec = codec;
+        }
+        
+        void write(Object value, BinaryWriter out, BinaryMessageSerializer serializer) {
+            codec.write(type.cast(value), out, serializer);
+        }
+    }
+    
+    /**
+     * Trames du transport WebSocket
+     */
+    private static class TransportFrameCodec implements PayloadCodec<TransportFrame> {
+        
+        @Override
+        public void write(TransportFrame frame, BinaryWriter out, BinaryMessageSerializer serializer) {
+            out.writeByte(frame.getType().ordinal());
+            out.writeLong(frame.getCorrelationId());
+            serializer.writeValue(frame.getMessage(), out);
+            serializer.writeValue(frame.getPayload(), out);
+            out.writeByte(frame.getErrorCode() == null ? 0 : frame.getErrorCode().ordinal() + 1);
+            out.writeString(frame.getError());
+        }
+        
+        @Override
+        public TransportFrame read(BinaryReader in, BinaryMessageSerializer serializer) {
+            TransportFrame frame = new TransportFrame();
+            frame.setType(TransportFrame.Type.values()[in.readByte()]);
+            frame.setCorrelationId(in.readLong());
+            frame.setMessage((Message) serializer.readValue(in));
+            frame.setPayload(serializer.readValue(in));
+            int errorCode = in.readByte();
+            frame.setErrorCode(errorCode == 0 ? null : TransportFrame.ErrorCode.values()[errorCode - 1]);
+            frame.setError(in.readString());
+            return frame;
+        }
+    }
+}
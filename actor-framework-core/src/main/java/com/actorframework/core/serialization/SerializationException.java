@@ -0,0 +1,15 @@
+package com.actorframework.core.serialization;
+
+/**
+ * Exception levée lorsqu'un message ne peut pas être encodé ou décodé.
+ */
+public class SerializationException extends RuntimeException {
+    
+    public SerializationException(String message) {
+        super(message);
+    }
+    
+    public SerializationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
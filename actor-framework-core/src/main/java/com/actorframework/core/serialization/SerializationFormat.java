@@ -0,0 +1,9 @@
+package com.actorframework.core.serialization;
+
+/**
+ * Format utilisé pour les messages envoyés aux autres services.
+ */
+public enum SerializationFormat {
+    JSON,   // Jackson, lisible et compatible avec tout client HTTP
+    BINARY  // BinaryMessageSerializer, compact et typé
+}
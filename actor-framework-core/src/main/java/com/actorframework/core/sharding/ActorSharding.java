@@ -0,0 +1,482 @@
+package com.actorframework.core.sharding;
+
+import com.actorframework.core.actor.Actor;
+import com.actorframework.core.actor.ActorNotAvailableException;
+import com.actorframework.core.actor.ActorRef;
+import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.actor.ActorType;
+import com.actorframework.core.actor.StatefulActor;
+import com.actorframework.core.message.Message;
+import com.actorframework.core.scheduling.Cancellable;
+import com.actorframework.core.scheduling.HashedWheelTimer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Sharding des acteurs avec état : les acteurs {@link StatefulActor} d'un type enregistré
+ * ({@link ActorType}) sont répartis en shards selon leur identifiant.
+ * Un acteur sans message depuis {@code passivateAfter} est passivé : son état est capturé
+ * ({@link StatefulActor#SNAPSHOT}) dans le {@link SnapshotStore} et l'acteur est retiré de la mémoire.
+ * Les références restent valides : le message suivant recrée l'acteur à partir de son état,
+ * de façon transparente pour l'expéditeur. La réactivation (chargement de l'état, reprise) se fait
+ * hors du thread de l'expéditeur ; les messages reçus pendant la passivation ou la réactivation sont
+ * mis de côté puis remis à l'acteur réactivé, dans l'ordre.
+ * Les inactifs sont recherchés périodiquement sur la minuterie partagée.
+ */
+@Slf4j
+public class ActorSharding {
+    
+    public static final int DEFAULT_NUMBER_OF_SHARDS = 100;
+    public static final Duration DEFAULT_PASSIVATE_AFTER = Duration.ofMinutes(10);
+    
+    private static final Duration MAX_SWEEP_INTERVAL = Duration.ofMinutes(1);
+    private static final Duration MIN_SWEEP_INTERVAL = Duration.ofMillis(10);
+    private static final long SNAPSHOT_TIMEOUT_MILLIS = 5000;
+    
+    private final ActorSystem actorSystem;
+    @Getter
+    private final SnapshotStore snapshotStore;
+    @Getter
+    private final int numberOfShards;
+    @Getter
+    private final Duration passivateAfter;
+    private final HashedWheelTimer timer;
+    private final Duration sweepInterval;
+    private final Map<String, Entity> entities = new ConcurrentHashMap<>();
+    private final AtomicLongArray activations;
+    private final AtomicLongArray passivations;
+    private volatile Cancellable nextSweep;
+    private volatile boolean stopped;
+    
+    public ActorSharding(ActorSystem actorSystem, SnapshotStore snapshotStore, int numberOfShards,
+                         Duration passivateAfter, HashedWheelTimer timer) {
+        if (numberOfShards <= 0) {
+            throw new IllegalArgumentException("numberOfShards must be positive");
+        }
+        this.actorSystem = actorSystem;
+        this.snapshotStore = snapshotStore;
+        this.numberOfShards = numberOfShards;
+        this.passivateAfter = passivateAfter;
+        this.timer = timer;
+        Duration half = passivateAfter.dividedBy(2);
+        this.sweepInterval = half.compareTo(MAX_SWEEP_INTERVAL) > 0 ? MAX_SWEEP_INTERVAL
+            : half.compareTo(MIN_SWEEP_INTERVAL) < 0 ? MIN_SWEEP_INTERVAL : half;
+        this.activations = new AtomicLongArray(numberOfShards);
+        this.passivations = new AtomicLongArray(numberOfShards);
+        scheduleSweep();
+    }
+    
+    /**
+     * Shard d'un acteur, d'après son identifiant
+     */
+    public int shardOf(String actorId) {
+        return Math.floorMod(actorId.hashCode(), numberOfShards);
+    }
+    
+    /**
+     * L'acteur peut être passivé : il sait capturer son état et son type sait le recréer
+     */
+    public boolean manages(Actor actor) {
+        return actor instanceof StatefulActor<?>
+            && actorSystem.getActorType(ActorType.nameOf(actor.getActorPath())) != null;
+    }
+    
+    /**
+     * Enregistre un acteur créé ou réactivé (appelé par {@link ActorSystem#createActor(Actor)})
+     * @return La référence stable à exposer à la place de la référence locale
+     */
+    public ActorRef register(Actor actor, ActorRef localRef) {
+        String path = actor.getActorPath();
+        Entity entity = entities.computeIfAbsent(path,
+            key -> new Entity(key, actor.getActorId(), shardOf(actor.getActorId()), new ShardedActorRef(this, key)));
+        synchronized (entity) {
+            entity.localRef = localRef;
+            // Réactivation : l'entité passe ACTIVE une fois les messages mis de côté remis
+            if (entity.state != EntityState.ACTIVATING) {
+                entity.state = EntityState.ACTIVE;
+            }
+            entity.snapshotBytes = 0;
+            entity.stateLoader = null;
+            entity.touch();
+        }
+        activations.incrementAndGet(entity.shard);
+        return entity.ref;
+    }
+    
+    /**
+     * Enregistre un acteur passivé sans le créer (reprise au démarrage du service) :
+     * il sera créé au premier message, avec l'état fourni par {@code stateLoader}
+     * @return La référence stable de l'acteur
+     */
+    public ActorRef registerPassivated(String path, Supplier<?> stateLoader) {
+        String actorId = path.substring(path.lastIndexOf('/') + 1);
+        Entity entity = entities.computeIfAbsent(path,
+            key -> new Entity(key, actorId, shardOf(actorId), new ShardedActorRef(this, key)));
+        synchronized (entity) {
+            if (entity.state == EntityState.ACTIVATING
+                    || entity.state == EntityState.ACTIVE && entity.localRef != null) {
+                return entity.ref;
+            }
+            entity.state = EntityState.PASSIVATED;
+            entity.stateLoader = stateLoader;
+        }
+        return entity.ref;
+    }
+    
+    /**
+     * Un acteur a été arrêté (appelé par {@link ActorSystem#stopActor}) : hors passivation,
+     * il est oublié avec son état
+     */
+    public void actorStopped(String path) {
+        Entity entity = entities.get(path);
+        if (entity == null) {
+            return;
+        }
+        synchronized (entity) {
+            if (entity.state == EntityState.PASSIVATING) {
+                return;
+            }
+            if (entity.state == EntityState.PASSIVATED) {
+                snapshotStore.delete(path);
+            }
+            if (!entity.pending.isEmpty()) {
+                log.warn("Actor {} stopped, {} pending messages dropped", path, entity.pending.size());
+                failPending(entity, new ActorNotAvailableException(path, "actor was stopped"));
+            }
+            entity.state = EntityState.REMOVED;
+            entities.remove(path);
+        }
+    }
+    
+    /**
+     * Référence stable vers un acteur géré, actif ou passivé ; null s'il est inconnu
+     */
+    public ActorRef getRef(String path) {
+        Entity entity = entities.get(path);
+        return entity != null ? entity.ref : null;
+    }
+    
+    public boolean contains(String path) {
+        return entities.containsKey(path);
+    }
+    
+    /**
+     * Chemins des acteurs passivés (hors mémoire)
+     */
+    public Set<String> getPassivatedPaths() {
+        return entities.values().stream()
+            .filter(entity -> entity.state == EntityState.PASSIVATED)
+            .map(entity -> entity.path)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+    
+    /**
+     * Compteurs des shards non vides ou ayant déjà eu une activation
+     */
+    public List<ShardStats> getShardStats() {
+        int[] active = new int[numberOfShards];
+        int[] passivated = new int[numberOfShards];
+        long[] bytes = new long[numberOfShards];
+        for (Entity entity : entities.values()) {
+            if (entity.state == EntityState.PASSIVATED) {
+                passivated[entity.shard]++;
+                bytes[entity.shard] += entity.snapshotBytes;
+            } else {
+                active[entity.shard]++;
+            }
+        }
+        List<ShardStats> stats = new ArrayList<>();
+        for (int shard = 0; shard < numberOfShards; shard++) {
+            if (active[shard] > 0 || passivated[shard] > 0 || activations.get(shard) > 0) {
+                stats.add(new ShardStats(shard, active[shard], passivated[shard], bytes[shard],
+                                         activations.get(shard), passivations.get(shard)));
+            }
+        }
+        return stats;
+    }
+    
+    /**
+     * Passive un acteur actif : capture de son état sur son thread, stockage puis arrêt
+     * @return false si l'acteur est inconnu ou n'est pas actif
+     */
+    public boolean passivate(String path) {
+        Entity entity = entities.get(path);
+        if (entity == null) {
+            return false;
+        }
+        ActorRef localRef;
+        synchronized (entity) {
+            if (entity.state != EntityState.ACTIVE) {
+                return false;
+            }
+            entity.state = EntityState.PASSIVATING;
+            localRef = entity.localRef;
+        }
+        // Terminée hors du thread de l'acteur : l'arrêt ferme sa boîte aux lettres
+        localRef.askAsync(new Message(StatefulActor.SNAPSHOT, null), SNAPSHOT_TIMEOUT_MILLIS)
+            .whenCompleteAsync((state, error) -> completePassivation(entity, state, error));
+        return true;
+    }
+    
+    private void completePassivation(Entity entity, Object state, Throwable error) {
+        long bytes = 0;
+        if (error == null) {
+            try {
+                bytes = snapshotStore.save(entity.path, state);
+            } catch (RuntimeException e) {
+                error = e;
+            }
+        }
+        if (error != null) {
+            log.warn("Passivation of actor {} failed, keeping it in memory: {}", entity.path, error.getMessage());
+            synchronized (entity) {
+                entity.state = EntityState.ACTIVE;
+                entity.touch();
+                deliverPending(entity, entity.localRef);
+            }
+            return;
+        }
+        
+        actorSystem.stopActor(entity.path);
+        synchronized (entity) {
+            entity.state = EntityState.PASSIVATED;
+            entity.localRef = null;
+            entity.snapshotBytes = bytes;
+            passivations.incrementAndGet(entity.shard);
+            log.debug("Passivated actor {} ({} bytes)", entity.path, bytes);
+            // Messages arrivés pendant la passivation : réactivation immédiate
+            if (!entity.pending.isEmpty()) {
+                startActivation(entity);
+            }
+        }
+    }
+    
+    void tell(String path, Message message) {
+        Entity entity = entities.get(path);
+        if (entity == null) {
+            log.warn("Actor {} is not available, message {} will be dropped", path, message.peekMessageId());
+            return;
+        }
+        synchronized (entity) {
+            switch (entity.state) {
+                case ACTIVE -> {
+                    entity.touch();
+                    entity.localRef.tell(message);
+                }
+                case PASSIVATING, ACTIVATING -> entity.pending.add(new Deferred(message, 0, null));
+                case PASSIVATED -> {
+                    entity.pending.add(new Deferred(message, 0, null));
+                    startActivation(entity);
+                }
+                default -> log.warn("Actor {} was stopped, message {} will be dropped", path, message.peekMessageId());
+            }
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> ask(String path, Message message, long timeoutMillis) {
+        Entity entity = entities.get(path);
+        if (entity == null) {
+            return CompletableFuture.failedFuture(new ActorNotAvailableException(path, "actor is not registered"));
+        }
+        synchronized (entity) {
+            switch (entity.state) {
+                case ACTIVE -> {
+                    entity.touch();
+                    return entity.localRef.askAsync(message, timeoutMillis);
+                }
+                case PASSIVATING, ACTIVATING -> {
+                    CompletableFuture<Object> result = new CompletableFuture<>();
+                    entity.pending.add(new Deferred(message, timeoutMillis, result));
+                    return (CompletableFuture<T>) result;
+                }
+                case PASSIVATED -> {
+                    CompletableFuture<Object> result = new CompletableFuture<>();
+                    entity.pending.add(new Deferred(message, timeoutMillis, result));
+                    startActivation(entity);
+                    return (CompletableFuture<T>) result;
+                }
+                default -> {
+                    return CompletableFuture.failedFuture(new ActorNotAvailableException(path, "actor was stopped"));
+                }
+            }
+        }
+    }
+    
+    /**
+     * Lance la réactivation d'un acteur passivé hors du thread appelant (verrou de l'entité détenu) :
+     * les messages sont mis de côté jusqu'à sa fin
+     */
+    private void startActivation(Entity entity) {
+        entity.state = EntityState.ACTIVATING;
+        CompletableFuture.runAsync(() -> completeActivation(entity));
+    }
+    
+    private void completeActivation(Entity entity) {
+        ActorRef localRef;
+        try {
+            localRef = activate(entity);
+        } catch (RuntimeException e) {
+            log.warn("Reactivation of actor {} failed: {}", entity.path, e.getMessage());
+            synchronized (entity) {
+                if (entity.state == EntityState.ACTIVATING) {
+                    entity.state = EntityState.PASSIVATED;
+                    failPending(entity, new ActorNotAvailableException(entity.path, e));
+                }
+            }
+            return;
+        }
+        synchronized (entity) {
+            if (entity.state == EntityState.ACTIVATING) {
+                entity.state = EntityState.ACTIVE;
+                entity.touch();
+                deliverPending(entity, localRef);
+            }
+        }
+    }
+    
+    /**
+     * Recrée un acteur passivé à partir de son état
+     */
+    private ActorRef activate(Entity entity) {
+        ActorType<?> actorType = actorSystem.getActorType(ActorType.nameOf(entity.path));
+        if (actorType == null) {
+            throw new IllegalStateException("Actor type of " + entity.path + " is no longer registered");
+        }
+        Object state = entity.stateLoader != null ? entity.stateLoader.get()
+            : snapshotStore.load(entity.path, actorType.stateType());
+        // createActor rappelle register, qui renseigne la nouvelle référence locale
+        actorSystem.createActor(actorType.create(entity.actorId, state));
+        snapshotStore.delete(entity.path);
+        log.debug("Reactivated actor {}", entity.path);
+        return entity.localRef;
+    }
+    
+    private void deliverPending(Entity entity, ActorRef ref) {
+        List<Deferred> pending = new ArrayList<>(entity.pending);
+        entity.pending.clear();
+        pending.forEach(deferred -> deferred.deliver(ref));
+    }
+    
+    private void failPending(Entity entity, ActorNotAvailableException error) {
+        List<Deferred> pending = new ArrayList<>(entity.pending);
+        entity.pending.clear();
+        for (Deferred deferred : pending) {
+            if (deferred.result != null) {
+                deferred.result.completeExceptionally(error);
+            } else {
+                log.warn("Actor {} is not available, message {} will be dropped",
+                         entity.path, deferred.message.peekMessageId());
+            }
+        }
+    }
+    
+    private void scheduleSweep() {
+        if (stopped) {
+            return;
+        }
+        try {
+            nextSweep = timer.schedule(this::sweep, sweepInterval);
+        } catch (IllegalStateException e) {
+            log.debug("Passivation sweeps stopped: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Passive les acteurs inactifs depuis passivateAfter dont la boîte aux lettres est vide
+     */
+    private void sweep() {
+        try {
+            long now = System.nanoTime();
+            long idleNanos = passivateAfter.toNanos();
+            for (Entity entity : entities.values()) {
+                if (entity.state == EntityState.ACTIVE && now - entity.lastActivity > idleNanos
+                        && actorSystem.getMailboxSize(entity.path) == 0) {
+                    passivate(entity.path);
+                }
+            }
+        } finally {
+            scheduleSweep();
+        }
+    }
+    
+    /**
+     * Arrête les recherches d'acteurs inactifs
+     */
+    public void stop() {
+        stopped = true;
+        Cancellable sweep = nextSweep;
+        if (sweep != null) {
+            sweep.cancel();
+        }
+    }
+    
+    private enum EntityState {
+        ACTIVE,       // en mémoire
+        PASSIVATING,  // capture de l'état en cours, messages mis de côté
+        PASSIVATED,   // hors mémoire, état dans le SnapshotStore (ou à charger, acteur repris)
+        ACTIVATING,   // recréation en cours hors du thread de l'expéditeur, messages mis de côté
+        REMOVED       // arrêté
+    }
+    
+    /**
+     * Acteur géré : état de passivation, dernière activité et messages en attente.
+     * Les transitions se font sous le verrou de l'entité.
+     */
+    private static final class Entity {
+        
+        private final String path;
+        private final String actorId;
+        private final int shard;
+        private final ActorRef ref;
+        private final List<Deferred> pending = new ArrayList<>();
+        private volatile EntityState state = EntityState.ACTIVE;
+        private volatile ActorRef localRef;
+        private volatile long lastActivity;
+        private long snapshotBytes;
+        // Acteur repris au démarrage, jamais créé : son état n'est pas dans le SnapshotStore
+        private Supplier<?> stateLoader;
+        
+        Entity(String path, String actorId, int shard, ActorRef ref) {
+            this.path = path;
+            this.actorId = actorId;
+            this.shard = shard;
+            this.ref = ref;
+        }
+        
+        void touch() {
+            lastActivity = System.nanoTime();
+        }
+    }
+    
+    /**
+     * Message mis de côté pendant une passivation ou une réactivation ; sans {@code result}, un tell
+     */
+    private record Deferred(Message message, long timeoutMillis, CompletableFuture<Object> result) {
+        
+        void deliver(ActorRef ref) {
+            if (result == null) {
+                ref.tell(message);
+                return;
+            }
+            ref.askAsync(message, timeoutMillis).whenComplete((response, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(response);
+                }
+            });
+        }
+    }
+}
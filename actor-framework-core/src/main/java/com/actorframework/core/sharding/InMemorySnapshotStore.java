@@ -0,0 +1,52 @@
+package com.actorframework.core.sharding;
+
+import com.actorframework.core.serialization.SerializationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * États des acteurs passivés gardés en mémoire, encodés en JSON : quelques centaines d'octets
+ * par acteur au lieu de l'acteur, de sa boîte aux lettres et de ses objets d'état.
+ * Les états sont perdus à l'arrêt du service.
+ */
+public class InMemorySnapshotStore implements SnapshotStore {
+    
+    private final ObjectMapper objectMapper;
+    private final Map<String, byte[]> snapshots = new ConcurrentHashMap<>();
+    
+    public InMemorySnapshotStore(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+    
+    @Override
+    public long save(String actorPath, Object state) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(state);
+            snapshots.put(actorPath, bytes);
+            return bytes.length;
+        } catch (IOException e) {
+            throw new SerializationException("Cannot encode state of actor " + actorPath, e);
+        }
+    }
+    
+    @Override
+    public <S> S load(String actorPath, Class<S> stateType) {
+        byte[] bytes = snapshots.get(actorPath);
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(bytes, stateType);
+        } catch (IOException e) {
+            throw new SerializationException("Cannot decode state of actor " + actorPath, e);
+        }
+    }
+    
+    @Override
+    public void delete(String actorPath) {
+        snapshots.remove(actorPath);
+    }
+}
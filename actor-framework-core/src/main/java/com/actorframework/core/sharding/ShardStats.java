@@ -0,0 +1,9 @@
+package com.actorframework.core.sharding;
+
+/**
+ * Compteurs d'un shard : acteurs en mémoire, acteurs passivés (et taille de leurs états),
+ * nombre d'activations (créations et réactivations) et de passivations depuis le démarrage
+ */
+public record ShardStats(int shardId, int activeActors, int passivatedActors, long snapshotBytes,
+                         long activations, long passivations) {
+}
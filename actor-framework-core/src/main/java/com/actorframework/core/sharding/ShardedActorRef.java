@@ -0,0 +1,54 @@
+package com.actorframework.core.sharding;
+
+import com.actorframework.core.actor.ActorRef;
+import com.actorframework.core.message.Message;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Référence stable vers un acteur géré par l'{@link ActorSharding} : elle survit à la passivation,
+ * et le message suivant réactive l'acteur. Seul le chemin est retenu, pas l'instance de l'acteur.
+ */
+@Slf4j
+final class ShardedActorRef implements ActorRef {
+    
+    private final ActorSharding sharding;
+    private final String path;
+    
+    ShardedActorRef(ActorSharding sharding, String path) {
+        this.sharding = sharding;
+        this.path = path;
+    }
+    
+    @Override
+    public String getPath() {
+        return path;
+    }
+    
+    @Override
+    public void tell(Message message) {
+        sharding.tell(path, message);
+    }
+    
+    @Override
+    public Object ask(Message message, long timeoutMillis) {
+        try {
+            return this.<Object>askAsync(message, timeoutMillis).join();
+        } catch (CompletionException e) {
+            log.error("Error waiting for response from actor {}", path, e.getCause());
+            return null;
+        }
+    }
+    
+    @Override
+    public <T> CompletableFuture<T> askAsync(Message message, long timeoutMillis) {
+        return sharding.ask(path, message, timeoutMillis);
+    }
+    
+    @Override
+    public boolean isAvailable() {
+        return sharding.contains(path);
+    }
+}
@@ -0,0 +1,20 @@
+package com.actorframework.core.sharding;
+
+/**
+ * Stockage des états des acteurs passivés ({@link ActorSharding}), indexés par chemin d'acteur
+ */
+public interface SnapshotStore {
+    
+    /**
+     * Enregistre (ou remplace) l'état d'un acteur
+     * @return La taille de l'état stocké, en octets
+     */
+    long save(String actorPath, Object state);
+    
+    /**
+     * État enregistré d'un acteur, null s'il n'y en a pas
+     */
+    <S> S load(String actorPath, Class<S> stateType);
+    
+    void delete(String actorPath);
+}
@@ -1,10 +1,32 @@
 package com.actorframework.core.actor;
 
+import com.actorframework.core.dispatch.Dispatcher;
+import com.actorframework.core.dispatch.Envelope;
+import com.actorframework.core.dispatch.MailboxConfig;
+import com.actorframework.core.dispatch.MailboxOverflowException;
+import com.actorframework.core.dispatch.OverflowStrategy;
 import com.actorframework.core.logging.ActorLogger;
 import com.actorframework.core.message.Message;
+import com.actorframework.core.pubsub.EventStream;
+import com.actorframework.core.scheduling.Cancellable;
+import com.actorframework.core.sharding.ActorSharding;
+import com.actorframework.core.sharding.InMemorySnapshotStore;
+import com.actorframework.core.sharding.ShardStats;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -13,9 +35,12 @@ class ActorSystemTest {
     private ActorSystem actorSystem;
     private ActorLogger actorLogger;
     
+    @TempDir
+    Path logDir;
+    
     @BeforeEach
     void setUp() {
-        actorLogger = new ActorLogger();
+        actorLogger = new ActorLogger(logDir);
         actorSystem = new ActorSystem(actorLogger);
     }
     
@@ -46,6 +71,27 @@ class ActorSystemTest {
         assertEquals("Received: Hello", response);
     }
     
+    @Test
+    void testAskAsyncCompletesWithResponse() {
+        TestActor actor = new TestActor("test-1");
+        ActorRef ref = actorSystem.createActor(actor);
+        
+        String response = ref.<String>askAsync(new Message("TEST", "Hello", true), 5000).join();
+        
+        assertEquals("Received: Hello", response);
+    }
+    
+    @Test
+    void testAskAsyncFailsWithTimeout() {
+        BlockingActor actor = new BlockingActor("blocking-1");
+        ActorRef ref = actorSystem.createActor(actor);
+        
+        CompletionException error = assertThrows(CompletionException.class,
+            () -> ref.askAsync(new Message("WAIT", null, true), 100).join());
+        assertInstanceOf(AskTimeoutException.class, error.getCause());
+        actor.release.countDown();
+    }
+    
     @Test
     void testStopActor() {
         TestActor actor = new TestActor("test-1");
@@ -56,6 +102,188 @@ class ActorSystemTest {
         assertFalse(actor.isActive());
     }
     
+    @Test
+    void testMessagesProcessedOneAtATime() throws Exception {
+        CounterActor actor = new CounterActor("counter-1");
+        ActorRef ref = actorSystem.createActor(actor);
+        
+        int senders = 8;
+        int messagesPerSender = 1000;
+        Thread[] threads = new Thread[senders];
+        for (int i = 0; i < senders; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < messagesPerSender; j++) {
+                    ref.tell(new Message("INCREMENT", null));
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        // Le ask est déposé après tous les tell : il voit donc tous les incréments
+        Object count = ref.ask(new Message("GET", null, true), 5000);
+        assertEquals(senders * messagesPerSender, count);
+        assertEquals(1, actor.maxConcurrency);
+    }
+    
+    @Test
+    void testFullMailboxSignalsSender() throws Exception {
+        Dispatcher dispatcher = new Dispatcher(actorLogger, 2, Dispatcher.DEFAULT_THROUGHPUT);
+        dispatcher.registerMailboxConfig("BlockingActor",
+            new MailboxConfig(1, OverflowStrategy.SIGNAL_SENDER, Duration.ZERO));
+        ActorSystem boundedSystem = new ActorSystem(actorLogger, dispatcher);
+        try {
+            BlockingActor actor = new BlockingActor("blocking-1");
+            ActorRef ref = boundedSystem.createActor(actor);
+            
+            ref.tell(new Message("WAIT", null));
+            assertTrue(actor.started.await(5, TimeUnit.SECONDS));
+            ref.tell(new Message("QUEUED", null));
+            
+            assertThrows(MailboxOverflowException.class, () -> ref.tell(new Message("OVERFLOW", null)));
+            assertEquals(1L, boundedSystem.getRejectedMessageCounts().get("BlockingActor"));
+            
+            actor.release.countDown();
+        } finally {
+            boundedSystem.shutdown();
+        }
+    }
+    
+    @Test
+    void testMessageHandlersDispatchByTypeAndPayloadClass() {
+        HandlerActor actor = new HandlerActor("handler-1");
+        ActorRef ref = actorSystem.createActor(actor);
+        
+        ref.tell(Message.of(new Add(3)));
+        ref.tell(new Message("ADD", 4));
+        
+        assertEquals(7, ref.ask(new Message("GET", null, true), 5000));
+        assertEquals("Unhandled: OTHER", ref.ask(new Message("OTHER", null, true), 5000));
+    }
+    
+    @Test
+    void testPublishedEventsDeliveredToEachSubscriberUntilStopped() {
+        EventStream eventStream = actorSystem.getEventStream();
+        ActorRef first = actorSystem.createActor(new HandlerActor("handler-1"));
+        ActorRef second = actorSystem.createActor(new HandlerActor("handler-2"));
+        eventStream.subscribe(Add.class, first);
+        eventStream.subscribe(Add.class, second);
+        
+        assertEquals(2, eventStream.publish(new Add(2)));
+        assertEquals(2, eventStream.publishAll(EventStream.topicOf(Add.class), List.of(new Add(1), new Add(3))));
+        
+        assertEquals(6, first.ask(new Message("GET", null, true), 5000));
+        assertEquals(6, second.ask(new Message("GET", null, true), 5000));
+        
+        actorSystem.stopActor(second.getPath());
+        assertEquals(1, eventStream.getSubscriberCount(EventStream.topicOf(Add.class)));
+        assertEquals(1, eventStream.publish(new Add(1)));
+        assertEquals(7, first.ask(new Message("GET", null, true), 5000));
+    }
+    
+    @Test
+    void testScheduledTicksDeliveredThroughMailboxAndCancelledOnStop() throws Exception {
+        TickingActor actor = new TickingActor("ticking-1");
+        actorSystem.createActor(actor);
+        
+        actor.startTicking();
+        assertTrue(actor.ticks.await(5, TimeUnit.SECONDS));
+        assertEquals(1, actorSystem.getScheduler().getTimerCount(actor.getActorPath()));
+        
+        actorSystem.stopActor(actor.getActorPath());
+        assertEquals(0, actorSystem.getScheduler().getTimerCount(actor.getActorPath()));
+        assertTrue(actor.timer.isCancelled());
+    }
+    
+    @Test
+    void testIdleActorPassivatedAndReactivatedWithItsState() throws Exception {
+        actorSystem.registerActorType(SavingsActor.class, Integer.class, SavingsActor::new);
+        ActorSharding sharding = actorSystem.enableSharding(
+            new InMemorySnapshotStore(new ObjectMapper()), 10, Duration.ofMillis(50));
+        ActorRef ref = actorSystem.createActor(new SavingsActor("savings-1", 0));
+        String path = ref.getPath();
+        assertEquals(5, ref.ask(new Message("DEPOSIT", 5, true), 5000));
+        
+        long deadline = System.currentTimeMillis() + 5000;
+        // L'acteur est arrêté avant que son entité ne passe à l'état passivé
+        while (!sharding.getPassivatedPaths().contains(path) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertNull(actorSystem.getActor(path));
+        assertEquals(Set.of(path), sharding.getPassivatedPaths());
+        assertSame(ref, actorSystem.getActorRef(path));
+        
+        // Le message suivant recrée l'acteur à partir de son état
+        assertEquals(8, ref.ask(new Message("DEPOSIT", 3, true), 5000));
+        assertNotNull(actorSystem.getActor(path));
+        ShardStats stats = sharding.getShardStats().get(0);
+        assertEquals(sharding.shardOf("savings-1"), stats.shardId());
+        assertEquals(2, stats.activations());
+        assertEquals(1, stats.passivations());
+    }
+    
+    @Test
+    void testReactivationRunsOffTheSenderThreadAndKeepsMessageOrder() throws Exception {
+        actorSystem.registerActorType(SavingsActor.class, Integer.class, SavingsActor::new);
+        ActorSharding sharding = actorSystem.enableSharding(
+            new InMemorySnapshotStore(new ObjectMapper()), 10, Duration.ofMinutes(10));
+        String path = "/user/SavingsActor/savings-3";
+        CountDownLatch loading = new CountDownLatch(1);
+        ActorRef ref = sharding.registerPassivated(path, () -> {
+            try {
+                loading.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 10;
+        });
+        
+        // L'état se charge hors du thread de l'expéditeur : les messages sont mis de côté
+        ref.tell(new Message("DEPOSIT", 5));
+        CompletableFuture<Object> balance = ref.askAsync(new Message("DEPOSIT", 1, true), 5000);
+        assertFalse(balance.isDone());
+        assertNull(actorSystem.getActor(path));
+        
+        loading.countDown();
+        assertEquals(16, balance.get(5, TimeUnit.SECONDS));
+        assertEquals(17, ref.ask(new Message("DEPOSIT", 1, true), 5000));
+    }
+    
+    @Test
+    void testMostSpecificPayloadHandlerIsChosen() {
+        ActorRef ref = actorSystem.createActor(new OverlappingHandlerActor("overlap-1"));
+        
+        assertEquals("number", ref.ask(Message.of(5, true), 5000));
+        assertEquals("number", ref.ask(Message.of(new BigDecimal("1.5"), true), 5000));
+        assertEquals("comparable", ref.ask(Message.of("text", true), 5000));
+        assertEquals("object", ref.ask(Message.of(List.of(1), true), 5000));
+    }
+    
+    @Test
+    void testFencedActorHoldsMessagesReceivedAfterItsSnapshot() throws Exception {
+        ActorRef ref = actorSystem.createActor(new SavingsActor("savings-2", 0));
+        String path = ref.getPath();
+        ref.tell(new Message("DEPOSIT", 5));
+        
+        CompletableFuture<Object> snapshot = actorSystem.fence(path, new Message(StatefulActor.SNAPSHOT, null));
+        ref.tell(new Message("DEPOSIT", 3));
+        CompletableFuture<Object> held = ref.askAsync(new Message("DEPOSIT", 1, true), 5000);
+        assertEquals(5, snapshot.get(5, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        assertFalse(held.isDone());
+        
+        actorSystem.resumeDelivery(path);
+        assertEquals(9, held.get(5, TimeUnit.SECONDS));
+        
+        actorSystem.fence(path, new Message(StatefulActor.SNAPSHOT, null)).get(5, TimeUnit.SECONDS);
+        ref.tell(new Message("DEPOSIT", 2));
+        List<Envelope> pending = actorSystem.takeFencedMessages(path);
+        assertEquals(1, pending.size());
+        assertEquals(2, pending.get(0).getMessage().getPayload());
+    }
+    
     // Classe de test pour les acteurs
     static class TestActor extends AbstractActor {
         private String lastMessage;
@@ -70,5 +298,144 @@ class ActorSystemTest {
             return "Received: " + lastMessage;
         }
     }
+    
+    record Add(int amount) { }
+    
+    // Plusieurs gestionnaires compatibles avec un même payload
+    static class OverlappingHandlerActor extends AbstractActor {
+        
+        public OverlappingHandlerActor(String actorId) {
+            super(actorId);
+        }
+        
+        @MessageHandler
+        private String onObject(Object payload) {
+            return "object";
+        }
+        
+        @MessageHandler
+        private String onComparable(Comparable<?> payload) {
+            return "comparable";
+        }
+        
+        @MessageHandler
+        private String onNumber(Number payload) {
+            return "number";
+        }
+    }
+    
+    // Acteur utilisant des méthodes @MessageHandler, onReceive sert de repli
+    static class HandlerActor extends AbstractActor {
+        private int total;
+        
+        public HandlerActor(String actorId) {
+            super(actorId);
+        }
+        
+        @MessageHandler
+        private void add(Add add) {
+            total += add.amount();
+        }
+        
+        @MessageHandler("ADD")
+        private void add(Integer amount, Message message) {
+            total += amount;
+        }
+        
+        @MessageHandler("GET")
+        private int get() {
+            return total;
+        }
+        
+        @Override
+        protected Object onReceive(Message message) {
+            return "Unhandled: " + message.getMessageType();
+        }
+    }
+    
+    // Acteur se renvoyant un TICK toutes les 10 ms
+    static class TickingActor extends AbstractActor {
+        private final CountDownLatch ticks = new CountDownLatch(3);
+        private Cancellable timer;
+        
+        public TickingActor(String actorId) {
+            super(actorId);
+        }
+        
+        void startTicking() {
+            timer = scheduleAtFixedRate(Duration.ZERO, Duration.ofMillis(10), "TICK");
+        }
+        
+        @MessageHandler("TICK")
+        private void tick() {
+            ticks.countDown();
+        }
+    }
+    
+    // Acteur sans verrou : un traitement concurrent ferait perdre des incréments
+    static class CounterActor extends AbstractActor {
+        private int count;
+        private int inFlight;
+        private int maxConcurrency;
+        
+        public CounterActor(String actorId) {
+            super(actorId);
+        }
+        
+        @Override
+        protected Object onReceive(Message message) {
+            inFlight++;
+            maxConcurrency = Math.max(maxConcurrency, inFlight);
+            try {
+                if ("INCREMENT".equals(message.getMessageType())) {
+                    count++;
+                }
+                return count;
+            } finally {
+                inFlight--;
+            }
+        }
+    }
+    
+    // Acteur avec état, passivable
+    static class SavingsActor extends AbstractActor implements StatefulActor<Integer> {
+        private int balance;
+        
+        public SavingsActor(String actorId, Integer balance) {
+            super(actorId);
+            this.balance = balance != null ? balance : 0;
+        }
+        
+        @Override
+        protected Object onReceive(Message message) {
+            balance += (Integer) message.getPayload();
+            return balance;
+        }
+        
+        @Override
+        public Integer snapshotState() {
+            return balance;
+        }
+    }
+    
+    // Acteur qui bloque sur son premier message jusqu'à libération
+    static class BlockingActor extends AbstractActor {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        
+        public BlockingActor(String actorId) {
+            super(actorId);
+        }
+        
+        @Override
+        protected Object onReceive(Message message) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }
+    }
 }
-
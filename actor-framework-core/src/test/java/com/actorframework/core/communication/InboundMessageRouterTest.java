@@ -0,0 +1,136 @@
+package com.actorframework.core.communication;
+
+import com.actorframework.core.actor.AbstractActor;
+import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.controller.ActorController;
+import com.actorframework.core.logging.ActorLogger;
+import com.actorframework.core.message.Message;
+import com.actorframework.core.serialization.JsonMessageSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class InboundMessageRouterTest {
+    
+    private static final String SLOW_PATH = "/user/BlockingActor/slow";
+    private static final String FAST_PATH = "/user/BlockingActor/fast";
+    
+    private ActorLogger actorLogger;
+    private ActorSystem actorSystem;
+    private InboundMessageRouter router;
+    private MockMvc mockMvc;
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    
+    @BeforeEach
+    void setUp() {
+        actorLogger = ActorLogger.disabled();
+        actorSystem = new ActorSystem(actorLogger);
+        ActorRegistry actorRegistry = new ActorRegistry(null, WebClient.builder());
+        actorRegistry.registerLocalActor(SLOW_PATH, actorSystem.createActor(new BlockingActor("slow", unblock)));
+        actorRegistry.registerLocalActor(FAST_PATH, actorSystem.createActor(new BlockingActor("fast", unblock)));
+        router = new InboundMessageRouter(actorSystem, actorRegistry, 300, 1);
+        mockMvc = MockMvcBuilders
+            .standaloneSetup(new ActorController(actorSystem, router, new JsonMessageSerializer(), null))
+            .build();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        unblock.countDown();
+        actorSystem.shutdown();
+        actorLogger.close();
+    }
+    
+    @Test
+    void testSaturatedAsksAreRejectedAndPermitsComeBack() throws Exception {
+        mockMvc.perform(ask(SLOW_PATH, "WAIT"))
+            .andExpect(request().asyncStarted());
+        assertEquals(1, router.getInFlightAsks());
+        
+        // Le seul permis est pris par l'ask bloqué : le suivant est refusé sans atteindre l'acteur
+        MvcResult rejected = mockMvc.perform(ask(FAST_PATH, "PING")).andReturn();
+        mockMvc.perform(asyncDispatch(rejected))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        
+        // L'ask bloqué expire : son permis est rendu
+        awaitTrue(() -> router.getInFlightAsks() == 0);
+        unblock.countDown();
+        
+        MvcResult accepted = mockMvc.perform(ask(FAST_PATH, "PING")).andReturn();
+        mockMvc.perform(asyncDispatch(accepted))
+            .andExpect(status().isOk())
+            .andExpect(content().string("pong"));
+        assertEquals(0, router.getInFlightAsks());
+    }
+    
+    @Test
+    void testFailedAskReleasesItsPermit() throws Exception {
+        MvcResult failed = mockMvc.perform(ask(FAST_PATH, "FAIL")).andReturn();
+        
+        awaitTrue(() -> router.getInFlightAsks() == 0);
+        assertTrue(failed.getRequest().isAsyncStarted());
+        
+        MvcResult accepted = mockMvc.perform(ask(FAST_PATH, "PING")).andReturn();
+        mockMvc.perform(asyncDispatch(accepted))
+            .andExpect(status().isOk())
+            .andExpect(content().string("pong"));
+    }
+    
+    private static RequestBuilder ask(String path, String type) {
+        return post("/api/actors/message")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"receiverPath\":\"" + path + "\",\"messageType\":\"" + type + "\",\"requiresResponse\":true}");
+    }
+    
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            Thread.sleep(10);
+        }
+    }
+    
+    static class BlockingActor extends AbstractActor {
+        private final CountDownLatch unblock;
+        
+        BlockingActor(String actorId, CountDownLatch unblock) {
+            super(actorId);
+            this.unblock = unblock;
+        }
+        
+        @Override
+        protected Object onReceive(Message message) {
+            if ("FAIL".equals(message.getMessageType())) {
+                throw new IllegalStateException("boom");
+            }
+            if ("WAIT".equals(message.getMessageType())) {
+                try {
+                    unblock.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "pong";
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.actorframework.core.communication;
+
+import com.actorframework.core.message.Message;
+import com.actorframework.core.serialization.JsonMessageSerializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RemoteMessageBatcherTest {
+    
+    private static final String SERVICE_URL = "http://remote:8081";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    
+    @Test
+    void testFailedBatchIsRetriedBeforeAskOvertakesIt() throws Exception {
+        List<String> calls = new CopyOnWriteArrayList<>();
+        AtomicInteger batchAttempts = new AtomicInteger();
+        WebClient webClient = WebClient.builder()
+            .exchangeFunction(request -> {
+                String path = request.url().getPath();
+                calls.add(path);
+                if (path.equals(RemoteMessageBatcher.BATCH_ENDPOINT)) {
+                    HttpStatus status = batchAttempts.incrementAndGet() == 1
+                        ? HttpStatus.SERVICE_UNAVAILABLE
+                        : HttpStatus.ACCEPTED;
+                    return Mono.just(ClientResponse.create(status).build());
+                }
+                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body("\"done\"")
+                    .build());
+            })
+            .build();
+        RemoteMessageBatcher batcher = new RemoteMessageBatcher(webClient, new JsonMessageSerializer(), 100,
+            Duration.ofSeconds(10), 3, Duration.ofMillis(20));
+        HttpActorTransport transport = new HttpActorTransport(webClient, batcher);
+        
+        Message tell = new Message("UPDATE", 1);
+        tell.setReceiverPath("/user/Actor/a");
+        transport.send(SERVICE_URL, tell);
+        Message ask = new Message("GET", null, true);
+        ask.setReceiverPath("/user/Actor/a");
+        
+        assertEquals("done", transport.request(SERVICE_URL, ask, 5000).get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(RemoteMessageBatcher.BATCH_ENDPOINT, RemoteMessageBatcher.BATCH_ENDPOINT,
+                             HttpActorTransport.MESSAGE_ENDPOINT), calls);
+        assertEquals(0, batcher.getDroppedCount());
+        batcher.shutdown();
+    }
+    
+    @Test
+    void testTellsCoalescedBySizeAndLingerWithOneBatchInFlightPerInstance() throws Exception {
+        Map<String, List<List<Integer>>> batches = new ConcurrentHashMap<>();
+        Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        WebClient webClient = WebClient.builder()
+            .exchangeFunction(request -> {
+                String host = request.url().getHost();
+                batches.computeIfAbsent(host, key -> new CopyOnWriteArrayList<>()).add(payloads(request));
+                AtomicInteger current = inFlight.computeIfAbsent(host, key -> new AtomicInteger());
+                maxInFlight.accumulateAndGet(current.incrementAndGet(), Math::max);
+                return Mono.delay(Duration.ofMillis(20))
+                    .doOnNext(tick -> current.decrementAndGet())
+                    .map(tick -> batchResponse(new BatchResult()));
+            })
+            .build();
+        RemoteMessageBatcher batcher = new RemoteMessageBatcher(webClient, new JsonMessageSerializer(), 3,
+            Duration.ofMillis(100), 3, Duration.ofMillis(20));
+        
+        for (int i = 0; i < 7; i++) {
+            batcher.send("http://a:8081", tell(i));
+            if (i < 2) {
+                batcher.send("http://b:8081", tell(100 + i));
+            }
+        }
+        // Sans flush : le dernier lot incomplet de chaque instance part après le délai d'attente
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (batches.getOrDefault("a", List.of()).size() < 3 || !batches.containsKey("b")) {
+            assertTrue(System.nanoTime() < deadline, "batches not sent within 5s");
+            Thread.sleep(10);
+        }
+        
+        // Lots pleins envoyés dès qu'ils sont complets, un seul en vol par instance, dans l'ordre
+        assertEquals(List.of(List.of(0, 1, 2), List.of(3, 4, 5), List.of(6)), batches.get("a"));
+        assertEquals(List.of(List.of(100, 101)), batches.get("b"));
+        assertEquals(1, maxInFlight.get());
+        batcher.shutdown();
+    }
+    
+    @Test
+    void testRejectedMessagesRetriedAndUnknownActorsDropped() throws Exception {
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        WebClient webClient = WebClient.builder()
+            .exchangeFunction(request -> {
+                List<Long> ids = new ArrayList<>();
+                List<Integer> payloads = payloads(request, ids);
+                batches.add(payloads);
+                BatchResult result = new BatchResult();
+                if (batches.size() == 1) {
+                    // Deuxième destinataire saturé, troisième inconnu du service
+                    result.setAccepted(1);
+                    result.getRejected().add(ids.get(1));
+                    result.getNotFound().add(ids.get(2));
+                } else {
+                    result.setAccepted(payloads.size());
+                }
+                return Mono.just(batchResponse(result));
+            })
+            .build();
+        RemoteMessageBatcher batcher = new RemoteMessageBatcher(webClient, new JsonMessageSerializer(), 100,
+            Duration.ofMillis(10), 3, Duration.ofMillis(20));
+        
+        for (int i = 0; i < 3; i++) {
+            batcher.send(SERVICE_URL, tell(i));
+        }
+        batcher.flush(SERVICE_URL).get(5, TimeUnit.SECONDS);
+        
+        assertEquals(List.of(List.of(0, 1, 2), List.of(1)), batches);
+        assertEquals(1, batcher.getDroppedCount());
+        batcher.shutdown();
+    }
+    
+    private static Message tell(int value) {
+        Message message = new Message("UPDATE", value);
+        message.setReceiverPath("/user/Actor/" + value);
+        return message;
+    }
+    
+    private static List<Integer> payloads(ClientRequest request) {
+        return payloads(request, new ArrayList<>());
+    }
+    
+    /**
+     * Payloads du lot envoyé, dans l'ordre ; {@code ids} reçoit les identifiants des messages
+     */
+    private static List<Integer> payloads(ClientRequest request, List<Long> ids) {
+        MockClientHttpRequest body = new MockClientHttpRequest(request.method(), request.url());
+        request.writeTo(body, ExchangeStrategies.withDefaults()).block();
+        List<Integer> payloads = new ArrayList<>();
+        try {
+            for (JsonNode message : OBJECT_MAPPER.readTree(body.getBodyAsString().block())) {
+                payloads.add(message.get("payload").asInt());
+                ids.add(message.get("messageId").asLong());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return payloads;
+    }
+    
+    private static ClientResponse batchResponse(BatchResult result) {
+        try {
+            return ClientResponse.create(HttpStatus.ACCEPTED)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(OBJECT_MAPPER.writeValueAsString(result))
+                .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
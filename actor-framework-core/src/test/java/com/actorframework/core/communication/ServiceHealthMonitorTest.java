@@ -0,0 +1,93 @@
+package com.actorframework.core.communication;
+
+import com.actorframework.core.scheduling.HashedWheelTimer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServiceHealthMonitorTest {
+    
+    private final HashedWheelTimer timer = new HashedWheelTimer();
+    
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+    
+    @Test
+    void testAvailabilityFollowsBackgroundProbes() throws Exception {
+        AtomicReference<HttpStatus> health = new AtomicReference<>(HttpStatus.SERVICE_UNAVAILABLE);
+        AtomicInteger probes = new AtomicInteger();
+        WebClient webClient = WebClient.builder()
+            .exchangeFunction(request -> {
+                probes.incrementAndGet();
+                return Mono.just(ClientResponse.create(health.get()).build());
+            })
+            .build();
+        ServiceHealthMonitor monitor = new ServiceHealthMonitor(new StaticDiscoveryClient(), webClient, timer,
+            Duration.ofMillis(20), Duration.ofSeconds(10), Duration.ofSeconds(1));
+        
+        // Pas encore sondé : la présence dans Eureka suffit
+        assertTrue(monitor.isServiceAvailable("remote-service"));
+        
+        monitor.watch("remote-service");
+        awaitTrue(() -> !monitor.isServiceAvailable("remote-service"));
+        
+        health.set(HttpStatus.OK);
+        awaitTrue(() -> monitor.isServiceAvailable("remote-service"));
+        
+        // La résolution ne déclenche aucune sonde
+        monitor.close();
+        int probesBefore = probes.get();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(monitor.isServiceAvailable("remote-service"));
+        }
+        assertFalse(monitor.isServiceAvailable("unknown-service"));
+        Thread.sleep(50);
+        assertEquals(probesBefore, probes.get());
+    }
+    
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "condition not met in time");
+            Thread.sleep(10);
+        }
+    }
+    
+    // Une instance unique pour remote-service
+    static class StaticDiscoveryClient implements DiscoveryClient {
+        
+        @Override
+        public String description() {
+            return "static";
+        }
+        
+        @Override
+        public List<ServiceInstance> getInstances(String serviceId) {
+            if (!"remote-service".equals(serviceId)) {
+                return List.of();
+            }
+            return List.of(new DefaultServiceInstance("remote-1", serviceId, "localhost", 9999, false));
+        }
+        
+        @Override
+        public List<String> getServices() {
+            return List.of("remote-service");
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.actorframework.core.communication;
+
+import com.actorframework.core.message.Message;
+import com.actorframework.core.serialization.JsonMessageSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebSocketActorTransportTest {
+    
+    private final JsonMessageSerializer serializer = new JsonMessageSerializer();
+    private final RecordingFallback fallback = new RecordingFallback();
+    // Payloads des tell reçus par le pair sur la connexion WebSocket
+    private final List<Object> receivedTells = new CopyOnWriteArrayList<>();
+    private final List<Connection> serverConnections = new CopyOnWriteArrayList<>();
+    private DisposableServer server;
+    private WebSocketActorTransport transport;
+    private String serviceUrl;
+    
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+            .port(0)
+            .route(routes -> routes.ws(WebSocketActorTransport.WEBSOCKET_ENDPOINT, (in, out) -> {
+                in.withConnection(serverConnections::add);
+                return out.sendString(in.receive().asString().mapNotNull(this::answer));
+            }))
+            .bindNow();
+        serviceUrl = "http://localhost:" + server.port();
+        transport = new WebSocketActorTransport(serializer, fallback);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        transport.shutdown();
+        server.disposeNow();
+    }
+    
+    @Test
+    void testAskFallsBackWhileConnectingThenUsesTheSocket() throws Exception {
+        // Premier message : la connexion s'établit en arrière-plan, le repli répond
+        assertEquals("fallback", transport.request(serviceUrl, ask("first"), 5000).get(5, TimeUnit.SECONDS));
+        assertEquals(1, fallback.requests.size());
+        
+        awaitTrue(() -> "socket:ping".equals(transport.request(serviceUrl, ask("ping"), 5000).join()));
+        int fallbackRequests = fallback.requests.size();
+        
+        assertEquals("socket:pong", transport.request(serviceUrl, ask("pong"), 5000).get(5, TimeUnit.SECONDS));
+        transport.send(serviceUrl, tell("score"));
+        awaitTrue(() -> receivedTells.contains("score"));
+        assertEquals(fallbackRequests, fallback.requests.size());
+        assertFalse(fallback.tells.contains("score"));
+    }
+    
+    @Test
+    void testTellsBufferedWhenConnectionDropsAreResentOverFallback() throws Exception {
+        // Repli jamais vidé : à l'ouverture, les trames restent dans le tampon de la connexion
+        fallback.flush = new CompletableFuture<>();
+        List<Object> sent = new ArrayList<>();
+        int next = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        do {
+            assertTrue(System.nanoTime() < deadline, "connection not opened within 5s");
+            sent.add(next);
+            transport.send(serviceUrl, tell(next++));
+            Thread.sleep(10);
+        } while (fallback.tells.size() == sent.size());
+        for (int i = 0; i < 3; i++) {
+            sent.add(next);
+            transport.send(serviceUrl, tell(next++));
+        }
+        
+        // Coupure côté pair
+        serverConnections.forEach(Connection::dispose);
+        
+        awaitTrue(() -> fallback.tells.size() == sent.size());
+        assertEquals(sent, fallback.tells);
+        assertTrue(receivedTells.isEmpty());
+    }
+    
+    /**
+     * Pair WebSocket : enregistre les tell, répond aux ask par {@code socket:<payload>}
+     */
+    private String answer(String text) {
+        TransportFrame frame = serializer.deserialize(text.getBytes(StandardCharsets.UTF_8), TransportFrame.class);
+        Message message = frame.getMessage();
+        if (!message.isRequiresResponse()) {
+            receivedTells.add(message.getPayload());
+            return null;
+        }
+        TransportFrame reply = TransportFrame.reply(message.getMessageId(), "socket:" + message.getPayload());
+        return new String(serializer.serialize(reply), StandardCharsets.UTF_8);
+    }
+    
+    private static Message ask(Object payload) {
+        Message message = new Message("ASK", payload, true);
+        message.setReceiverPath("/user/Actor/a");
+        return message;
+    }
+    
+    private static Message tell(Object payload) {
+        Message message = new Message("TELL", payload);
+        message.setReceiverPath("/user/Actor/a");
+        return message;
+    }
+    
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            Thread.sleep(10);
+        }
+    }
+    
+    /**
+     * Transport de repli : enregistre les tell, répond {@code fallback} aux ask
+     */
+    static class RecordingFallback implements ActorTransport {
+        
+        private final List<Object> tells = new CopyOnWriteArrayList<>();
+        private final List<Object> requests = new CopyOnWriteArrayList<>();
+        private volatile CompletableFuture<Void> flush = CompletableFuture.completedFuture(null);
+        
+        @Override
+        public void send(String serviceUrl, Message message) {
+            tells.add(message.getPayload());
+        }
+        
+        @Override
+        public CompletableFuture<Object> request(String serviceUrl, Message message, long timeoutMillis) {
+            requests.add(message.getPayload());
+            return CompletableFuture.completedFuture("fallback");
+        }
+        
+        @Override
+        public CompletableFuture<Void> flush(String serviceUrl) {
+            return flush;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.actorframework.core.discovery;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServiceInstanceResolverTest {
+    
+    private final ListDiscoveryClient discoveryClient = new ListDiscoveryClient();
+    
+    @Test
+    void testRoundRobinUsesCachedInstancesRefreshedOnHeartbeat() {
+        discoveryClient.setPorts(8081, 8091);
+        ServiceInstanceResolver resolver =
+            new ServiceInstanceResolver(discoveryClient, LoadBalancingStrategy.ROUND_ROBIN, null);
+        
+        Set<String> urls = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            urls.add(resolver.resolveUrl("player", "http://fallback"));
+        }
+        assertEquals(Set.of("http://localhost:8081", "http://localhost:8091"), urls);
+        assertEquals(1, discoveryClient.lookups.get());
+        
+        discoveryClient.setPorts(8081, 8091, 8101);
+        assertEquals(2, resolver.getEndpoints("player").size());
+        resolver.onApplicationEvent(new HeartbeatEvent(this, 1L));
+        assertEquals(3, resolver.getEndpoints("player").size());
+        
+        discoveryClient.setPorts();
+        resolver.refreshAll();
+        int lookups = discoveryClient.lookups.get();
+        assertEquals("http://fallback", resolver.resolveUrl("player", "http://fallback"));
+        assertEquals("http://fallback", resolver.resolveUrl("player", "http://fallback"));
+        // Liste vide mise en cache jusqu'au prochain rafraîchissement
+        assertEquals(lookups, discoveryClient.lookups.get());
+        
+        discoveryClient.setPorts(8081);
+        resolver.onApplicationEvent(new HeartbeatEvent(this, 2L));
+        assertEquals("http://localhost:8081", resolver.resolveUrl("player", "http://fallback"));
+    }
+    
+    @Test
+    void testLeastOutstandingAvoidsBusyInstances() {
+        discoveryClient.setPorts(8081, 8091, 8101);
+        ServiceInstanceResolver resolver =
+            new ServiceInstanceResolver(discoveryClient, LoadBalancingStrategy.LEAST_OUTSTANDING, null);
+        
+        // Deux requêtes sans réponse occupent deux instances
+        List<CompletableFuture<String>> pending = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            pending.add(future);
+            resolver.callAsync("player", "http://fallback", url -> future);
+        }
+        Set<String> idle = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            idle.add(resolver.choose("player").getUrl());
+        }
+        assertEquals(1, idle.size());
+        
+        pending.forEach(future -> future.complete("done"));
+        assertEquals(0, resolver.getEndpoints("player").stream()
+            .mapToInt(ServiceEndpoint::getOutstandingRequests).sum());
+    }
+    
+    @Test
+    void testOwnersMoveOnlyToAndFromChangedInstances() {
+        discoveryClient.setPorts(8081, 8091);
+        ServiceInstanceResolver resolver = new ServiceInstanceResolver(discoveryClient);
+        List<String> changes = new ArrayList<>();
+        resolver.addMembershipListener((serviceName, ring) -> changes.add(serviceName + ring.getMembers().size()));
+        
+        Map<String, String> before = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            String path = "/user/PlayerActor/player-" + i;
+            before.put(path, resolver.owner("player", path).getUrl());
+        }
+        assertTrue(before.values().stream().filter("http://localhost:8081"::equals).count() > 350);
+        
+        // Même liste d'instances : anneau conservé, pas de notification
+        resolver.refreshAll();
+        assertTrue(changes.isEmpty());
+        
+        discoveryClient.setPorts(8081, 8091, 8101);
+        resolver.refreshAll();
+        assertEquals(List.of("player3"), changes);
+        int moved = 0;
+        for (Map.Entry<String, String> entry : before.entrySet()) {
+            String owner = resolver.owner("player", entry.getKey()).getUrl();
+            if (!owner.equals(entry.getValue())) {
+                assertEquals("http://localhost:8101", owner);
+                moved++;
+            }
+        }
+        assertTrue(moved > 200 && moved < 450, "moved " + moved);
+    }
+    
+    // Instances de "player" sur localhost, comptage des interrogations
+    static class ListDiscoveryClient implements DiscoveryClient {
+        
+        private final AtomicInteger lookups = new AtomicInteger();
+        private volatile List<ServiceInstance> instances = List.of();
+        
+        void setPorts(int... ports) {
+            List<ServiceInstance> list = new ArrayList<>();
+            for (int port : ports) {
+                list.add(new DefaultServiceInstance("player-" + port, "player", "localhost", port, false));
+            }
+            instances = list;
+        }
+        
+        @Override
+        public String description() {
+            return "list";
+        }
+        
+        @Override
+        public List<ServiceInstance> getInstances(String serviceId) {
+            lookups.incrementAndGet();
+            return "player".equals(serviceId) ? instances : List.of();
+        }
+        
+        @Override
+        public List<String> getServices() {
+            return List.of("player");
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.actorframework.core.logging;
+
+import com.actorframework.core.actor.AbstractActor;
+import com.actorframework.core.message.Message;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActorLoggerTest {
+    
+    @TempDir
+    Path logDir;
+    
+    @Test
+    void testEventsJournaledInOrderOnClose() {
+        ActorLogger actorLogger = new ActorLogger(logDir.toString(), 16, LogOverflowStrategy.BLOCK,
+                                                  4, Duration.ofSeconds(10));
+        AbstractActor actor = new AbstractActor("logged-1") { };
+        AbstractActor other = new AbstractActor("logged-2") { };
+        
+        actorLogger.logActorCreation(actor);
+        actorLogger.logActorCreation(other);
+        for (int i = 0; i < 100; i++) {
+            Message message = new Message("PING", i, true);
+            actorLogger.logMessageReceived(actor, message);
+            actorLogger.logMessageSent(actor, message, i);
+        }
+        actorLogger.close();
+        
+        List<JournalRecord> history = ActorJournalReader.actorHistory(logDir, null, "logged-1", 0);
+        assertEquals(201, history.size());
+        assertTrue(history.get(0).toLogLine().contains("[logged-1] ACTOR_CREATED - Actor created at path: "));
+        assertTrue(history.get(200).toLogLine().endsWith("Type: PING, Response: 99"));
+        assertEquals(0, actorLogger.getDroppedCount());
+    }
+    
+    @Test
+    void testFullBufferDropsEvents() {
+        ActorLogger actorLogger = new ActorLogger(logDir.toString(), 2, LogOverflowStrategy.DROP,
+                                                  1, Duration.ofMillis(1));
+        AbstractActor actor = new AbstractActor("logged-3") { };
+        
+        for (int i = 0; i < 100_000; i++) {
+            actorLogger.logActorCreation(actor);
+        }
+        actorLogger.close();
+        
+        assertTrue(actorLogger.getDroppedCount() > 0);
+    }
+    
+    @Test
+    void testSegmentsRotateAndOldestAreDeleted() throws Exception {
+        ActorJournal journal = new ActorJournal(logDir, "node", 4096, 3);
+        LogEvent event = new LogEvent();
+        for (int i = 0; i < 1000; i++) {
+            event.set(LogEvent.Kind.MESSAGE_RECEIVED, "player-" + (i % 10), i, "/user/ScoreboardActor/game-1",
+                      "PERFORM_ACTION", i + 1, null);
+            journal.append(event);
+        }
+        journal.close();
+        
+        List<Path> segments = ActorJournalReader.segments(logDir, "node");
+        assertEquals(3, segments.size());
+        List<JournalRecord> history = ActorJournalReader.actorHistory(logDir, "node", "player-9", 5);
+        assertEquals(5, history.size());
+        assertEquals(1000, history.get(4).messageId());
+    }
+}
@@ -0,0 +1,76 @@
+package com.actorframework.core.message;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NodeSequenceIdGeneratorTest {
+    
+    @Test
+    void testIdCarriesNodeAndSequence() {
+        NodeSequenceIdGenerator generator = new NodeSequenceIdGenerator(NodeSequenceIdGenerator.MAX_NODE_ID);
+        
+        long first = generator.nextId();
+        long second = generator.nextId();
+        
+        assertTrue(first > 0);
+        assertEquals(NodeSequenceIdGenerator.MAX_NODE_ID, NodeSequenceIdGenerator.nodeOf(first));
+        assertEquals(1, NodeSequenceIdGenerator.sequenceOf(first));
+        assertEquals(2, NodeSequenceIdGenerator.sequenceOf(second));
+        assertNotEquals(Message.NO_ID, new NodeSequenceIdGenerator(0).nextId());
+        assertThrows(IllegalArgumentException.class,
+                     () -> new NodeSequenceIdGenerator(NodeSequenceIdGenerator.MAX_NODE_ID + 1));
+    }
+    
+    @Test
+    void testIdsAreUniqueAcrossThreads() throws Exception {
+        NodeSequenceIdGenerator generator = new NodeSequenceIdGenerator(42);
+        int threads = 8;
+        int idsPerThread = 10_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < idsPerThread; j++) {
+                        ids.add(generator.nextId());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        assertEquals(threads * idsPerThread, ids.size());
+        assertTrue(ids.stream().allMatch(id -> NodeSequenceIdGenerator.nodeOf(id) == 42));
+    }
+    
+    @Test
+    void testEqualityDoesNotAssignIds() {
+        Message first = new Message("PING", null);
+        Message second = new Message("PING", null);
+        second.setTimestamp(first.getTimestamp());
+        
+        assertEquals(first, second);
+        first.toString();
+        assertEquals(Message.NO_ID, first.peekMessageId());
+        assertEquals(Message.NO_ID, second.peekMessageId());
+    }
+}
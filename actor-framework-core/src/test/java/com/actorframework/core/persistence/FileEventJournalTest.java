@@ -0,0 +1,260 @@
+package com.actorframework.core.persistence;
+
+import com.actorframework.core.actor.ActorRef;
+import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.actor.EventSourcedActor;
+import com.actorframework.core.communication.ActorAlreadyHostedException;
+import com.actorframework.core.communication.ActorHandoff;
+import com.actorframework.core.communication.ActorRegistry;
+import com.actorframework.core.communication.ActorTransfer;
+import com.actorframework.core.logging.ActorLogger;
+import com.actorframework.core.message.Message;
+import com.actorframework.core.serialization.PayloadTypeRegistry;
+import com.actorframework.core.sharding.InMemorySnapshotStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileEventJournalTest {
+    
+    @TempDir
+    Path journalDir;
+    
+    private FileEventJournal open() {
+        return new FileEventJournal(journalDir, "node", new PayloadTypeRegistry(), new ObjectMapper(), 4096, false);
+    }
+    
+    @Test
+    void testEventsAndSnapshotsSurviveReopen() {
+        try (FileEventJournal journal = open()) {
+            journal.saveSnapshot("/user/Counter/a", 0, new Counter("a", 0));
+            for (int i = 1; i <= 500; i++) {
+                assertEquals(i, journal.append("/user/Counter/a", i));
+                if (i == 300) {
+                    journal.saveSnapshot("/user/Counter/a", 300, new Counter("a", 300));
+                }
+            }
+            journal.append("/user/Counter/b", 7);
+        }
+        
+        try (FileEventJournal journal = open()) {
+            assertEquals(Set.of("/user/Counter/a", "/user/Counter/b"), journal.getPersistenceIds());
+            assertEquals(500, journal.getHighestSequenceNr("/user/Counter/a"));
+            Snapshot<Counter> snapshot = journal.loadSnapshot("/user/Counter/a", Counter.class);
+            assertEquals(300, snapshot.sequenceNr());
+            assertEquals(new Counter("a", 300), snapshot.state());
+            
+            List<Object> events = new ArrayList<>();
+            assertEquals(200, journal.replay("/user/Counter/a", snapshot.sequenceNr() + 1, events::add));
+            assertEquals(301, events.get(0));
+            assertEquals(500, events.get(199));
+            assertThrows(IllegalArgumentException.class,
+                () -> journal.saveSnapshot("/user/Counter/a", 10, new Counter("a", 10)));
+        }
+    }
+    
+    @Test
+    void testSnapshotFileReplacesSnapshottedSegments() throws Exception {
+        try (FileEventJournal journal = open()) {
+            for (int i = 1; i <= 2000; i++) {
+                journal.append("/user/Counter/a", i);
+                if (i % 100 == 0) {
+                    journal.saveSnapshot("/user/Counter/a", i, new Counter("a", i));
+                }
+            }
+            journal.append("/user/Counter/b", 1);
+            journal.append("/user/Counter/b", 2);
+            journal.checkpoint();
+            journal.append("/user/Counter/a", 2001);
+        }
+        // Seuls subsistent le segment des événements de b et les segments écrits après le point de reprise
+        try (Stream<Path> files = Files.list(journalDir)) {
+            assertTrue(files.filter(path -> path.toString().endsWith(FileEventJournal.SEGMENT_SUFFIX)).count() <= 3);
+        }
+        
+        try (FileEventJournal journal = open()) {
+            assertEquals(new Counter("a", 2000), journal.loadSnapshot("/user/Counter/a", Counter.class).state());
+            List<Object> events = new ArrayList<>();
+            journal.replay("/user/Counter/a", 2001, events::add);
+            journal.replay("/user/Counter/b", 1, events::add);
+            assertEquals(List.of(2001, 1, 2), events);
+        }
+    }
+    
+    @Test
+    void testDeletedStreamIsNotRecovered() {
+        try (FileEventJournal journal = open()) {
+            journal.append("/user/Counter/a", 1);
+            journal.delete("/user/Counter/a");
+            assertEquals(0, journal.getHighestSequenceNr("/user/Counter/a"));
+        }
+        try (FileEventJournal journal = open()) {
+            assertTrue(journal.getPersistenceIds().isEmpty());
+        }
+    }
+    
+    @Test
+    void testJournalCannotBeOpenedTwice() {
+        try (FileEventJournal journal = open()) {
+            assertThrows(IllegalStateException.class, this::open);
+        }
+    }
+    
+    @Test
+    void testConcurrentAppendsAreGroupedAndKeepEachStreamInOrder() throws Exception {
+        int threads = 8;
+        int eventsPerThread = 300;
+        try (FileEventJournal journal = open()) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                // Deux threads par flux : les numéros de séquence sont attribués par le thread d'écriture
+                String persistenceId = "/user/Counter/" + t % 4;
+                writers.add(executor.submit(() -> {
+                    for (int i = 1; i <= eventsPerThread; i++) {
+                        journal.append(persistenceId, i);
+                        if (i % 100 == 0) {
+                            journal.checkpoint();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+        }
+        
+        try (FileEventJournal journal = open()) {
+            for (int s = 0; s < 4; s++) {
+                String persistenceId = "/user/Counter/" + s;
+                assertEquals(2L * eventsPerThread, journal.getHighestSequenceNr(persistenceId));
+                List<Object> events = new ArrayList<>();
+                assertEquals(2L * eventsPerThread, journal.replay(persistenceId, 1, events::add));
+                assertEquals(2L * eventsPerThread * (eventsPerThread + 1) / 2,
+                             events.stream().mapToInt(event -> (Integer) event).sum());
+            }
+        }
+    }
+    
+    @Test
+    void testEventSourcedActorRecoversItsState() throws Exception {
+        String path;
+        try (FileEventJournal journal = open()) {
+            ActorSystem actorSystem = new ActorSystem(new ActorLogger(journalDir.resolve("actors")));
+            actorSystem.enablePersistence(journal, 10);
+            ActorRef ref = actorSystem.createActor(new CounterActor("counter-1"));
+            path = ref.getPath();
+            for (int i = 1; i <= 25; i++) {
+                ref.ask(new Message("ADD", 1, true), 5000);
+            }
+            actorSystem.shutdown();
+        }
+        
+        try (FileEventJournal journal = open()) {
+            assertEquals(20, journal.loadSnapshot(path, Counter.class).sequenceNr());
+            ActorSystem actorSystem = new ActorSystem(new ActorLogger(journalDir.resolve("actors")));
+            actorSystem.enablePersistence(journal, 10);
+            ActorRef ref = actorSystem.createActor(new CounterActor("counter-1"));
+            assertEquals(26, ref.ask(new Message("ADD", 1, true), 5000));
+            actorSystem.shutdown();
+        }
+    }
+    
+    @Test
+    void testRecoveredActorIsCreatedOnFirstMessage() throws Exception {
+        try (FileEventJournal journal = open()) {
+            journal.saveSnapshot("/user/CounterActor/counter-2", 0, new Counter("counter-2", 40));
+            journal.append("/user/CounterActor/counter-2", 2);
+        }
+        
+        try (FileEventJournal journal = open()) {
+            ActorSystem actorSystem = new ActorSystem(new ActorLogger(journalDir.resolve("actors")));
+            actorSystem.registerActorType(CounterActor.class, Counter.class,
+                (actorId, state) -> new CounterActor(actorId));
+            actorSystem.enablePersistence(journal, 10);
+            actorSystem.enableSharding(new InMemorySnapshotStore(new ObjectMapper()), 10, Duration.ofMinutes(10));
+            ActorRecovery recovery = new ActorRecovery(actorSystem, new ActorRegistry(null, WebClient.builder()),
+                                                       journal, true);
+            
+            assertEquals(1, recovery.recoverActors());
+            assertEquals(0, actorSystem.getActiveActorCount());
+            ActorRef ref = actorSystem.getActorRef("/user/CounterActor/counter-2");
+            assertEquals(43, ref.ask(new Message("ADD", 1, true), 5000));
+            actorSystem.shutdown();
+        }
+    }
+    
+    @Test
+    void testDuplicateHandoffKeepsRunningActorAndItsHistory() {
+        try (FileEventJournal journal = open()) {
+            ActorSystem actorSystem = new ActorSystem(ActorLogger.disabled());
+            actorSystem.registerActorType(CounterActor.class, Counter.class,
+                (actorId, state) -> new CounterActor(actorId));
+            actorSystem.enablePersistence(journal, 10);
+            ActorHandoff handoff = new ActorHandoff(actorSystem, new ActorRegistry(null, WebClient.builder()),
+                                                    null, null, new ObjectMapper(), ActorHandoff.DEFAULT_TIMEOUT);
+            ActorTransfer transfer = new ActorTransfer("CounterActor", "counter-3", new Counter("counter-3", 0));
+            ActorRef ref = handoff.receive(transfer);
+            for (int i = 1; i <= 5; i++) {
+                ref.ask(new Message("ADD", 1, true), 5000);
+            }
+            
+            // Renvoyé par un expéditeur dont le premier transfert a expiré après l'activation
+            assertThrows(ActorAlreadyHostedException.class, () -> handoff.receive(transfer));
+            
+            assertSame(ref, actorSystem.getActorRef(ref.getPath()));
+            assertEquals(6, ref.ask(new Message("ADD", 1, true), 5000));
+            assertEquals(6, journal.getHighestSequenceNr(ref.getPath()));
+            actorSystem.shutdown();
+        }
+    }
+    
+    record Counter(String id, int value) {
+    }
+    
+    // Compteur persisté : chaque ajout est un événement
+    static class CounterActor extends EventSourcedActor<Counter> {
+        private int value;
+        
+        CounterActor(String actorId) {
+            super(actorId, Counter.class);
+        }
+        
+        @Override
+        protected Object onReceive(Message message) {
+            persist(message.getPayload());
+            return value;
+        }
+        
+        @Override
+        protected void applyEvent(Object event) {
+            value += (Integer) event;
+        }
+        
+        @Override
+        protected void restoreState(Counter state) {
+            value = state.value();
+        }
+        
+        @Override
+        public Counter snapshotState() {
+            return new Counter(getActorId(), value);
+        }
+    }
+}
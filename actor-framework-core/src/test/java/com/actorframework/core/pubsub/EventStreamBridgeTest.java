@@ -0,0 +1,171 @@
+package com.actorframework.core.pubsub;
+
+import com.actorframework.core.actor.AbstractActor;
+import com.actorframework.core.actor.ActorRef;
+import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.communication.ActorTransport;
+import com.actorframework.core.discovery.ServiceInstanceResolver;
+import com.actorframework.core.logging.ActorLogger;
+import com.actorframework.core.message.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventStreamBridgeTest {
+    
+    private static final String PUBLISHER_SERVICE = "nba-game-service";
+    private static final String PUBLISHER_URL = "http://game:8083";
+    private static final String SUBSCRIBER_URL = "http://team:8082";
+    private static final Duration LEASE = Duration.ofMillis(300);
+    
+    private final LoopbackTransport transport = new LoopbackTransport();
+    private final ActorLogger actorLogger = ActorLogger.disabled();
+    private ActorSystem publisher;
+    private ActorSystem subscriber;
+    private ActorRef publisherBridge;
+    
+    @BeforeEach
+    void setUp() {
+        ServiceInstanceResolver resolver = new ServiceInstanceResolver(new PublisherDiscoveryClient());
+        publisher = new ActorSystem(actorLogger);
+        subscriber = new ActorSystem(actorLogger);
+        publisherBridge = startBridge(publisher, resolver, PUBLISHER_URL);
+        startBridge(subscriber, resolver, SUBSCRIBER_URL);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+        subscriber.shutdown();
+        actorLogger.close();
+    }
+    
+    @Test
+    void testRemoteSubscriptionForwardsEventsUntilLeaseExpires() throws Exception {
+        RecordingActor recorder = new RecordingActor("recorder-1");
+        ActorRef recorderRef = subscriber.createActor(recorder);
+        subscriber.getEventStream().subscribeRemote(PUBLISHER_SERVICE, "scores", recorderRef);
+        
+        // Une seule souscription, envoyée à l'instance éditrice
+        awaitTrue(() -> transport.sent(PUBLISHER_URL, EventStreamBridge.SUBSCRIBE) == 1);
+        sync(publisherBridge);
+        
+        assertEquals(0, publisher.getEventStream().publish("scores", "1-0"));
+        assertEquals("1-0", recorder.events.poll(5, TimeUnit.SECONDS));
+        
+        // Le bail est renouvelé tant qu'un acteur local est abonné
+        Thread.sleep(LEASE.toMillis() * 2);
+        assertTrue(transport.sent(PUBLISHER_URL, EventStreamBridge.SUBSCRIBE) > 1);
+        publisher.getEventStream().publish("scores", "2-0");
+        assertEquals("2-0", recorder.events.poll(5, TimeUnit.SECONDS));
+        
+        // Plus d'abonné local : la souscription n'est plus renouvelée et expire chez l'éditeur
+        subscriber.stopActor(recorderRef.getPath());
+        awaitTrue(() -> {
+            int forwarded = transport.sent(SUBSCRIBER_URL, "scores");
+            publisher.getEventStream().publish("scores", "3-0");
+            sync(publisherBridge);
+            return transport.sent(SUBSCRIBER_URL, "scores") == forwarded;
+        });
+        int renewals = transport.sent(PUBLISHER_URL, EventStreamBridge.SUBSCRIBE);
+        Thread.sleep(LEASE.toMillis());
+        assertEquals(renewals, transport.sent(PUBLISHER_URL, EventStreamBridge.SUBSCRIBE));
+    }
+    
+    private ActorRef startBridge(ActorSystem actorSystem, ServiceInstanceResolver resolver, String localUrl) {
+        EventStreamBridge bridge = new EventStreamBridge(actorSystem.getEventStream(), transport, resolver,
+                                                         () -> localUrl, LEASE);
+        ActorRef bridgeRef = actorSystem.createActor(bridge);
+        transport.nodes.put(localUrl, bridgeRef);
+        return bridgeRef;
+    }
+    
+    // Le pont traite ses messages dans l'ordre : un ask sans gestionnaire attend les précédents
+    private static void sync(ActorRef bridge) {
+        bridge.askAsync(new Message("SYNC", null, true), 5000).join();
+    }
+    
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            Thread.sleep(10);
+        }
+    }
+    
+    /**
+     * Transport en mémoire : remet chaque message au pont du nœud désigné par l'URL
+     */
+    static class LoopbackTransport implements ActorTransport {
+        
+        private final Map<String, ActorRef> nodes = new ConcurrentHashMap<>();
+        private final List<Map.Entry<String, String>> sent = new CopyOnWriteArrayList<>();
+        
+        @Override
+        public void send(String serviceUrl, Message message) {
+            sent.add(Map.entry(serviceUrl, message.getMessageType()));
+            nodes.get(serviceUrl).tell(message);
+        }
+        
+        @Override
+        public CompletableFuture<Object> request(String serviceUrl, Message message, long timeoutMillis) {
+            return nodes.get(serviceUrl).askAsync(message, timeoutMillis);
+        }
+        
+        int sent(String serviceUrl, String messageType) {
+            return (int) sent.stream()
+                .filter(entry -> entry.getKey().equals(serviceUrl) && entry.getValue().equals(messageType))
+                .count();
+        }
+    }
+    
+    static class PublisherDiscoveryClient implements DiscoveryClient {
+        
+        @Override
+        public String description() {
+            return "publisher";
+        }
+        
+        @Override
+        public List<ServiceInstance> getInstances(String serviceId) {
+            return PUBLISHER_SERVICE.equals(serviceId)
+                ? List.of(new DefaultServiceInstance("game-1", PUBLISHER_SERVICE, "game", 8083, false))
+                : List.of();
+        }
+        
+        @Override
+        public List<String> getServices() {
+            return List.of(PUBLISHER_SERVICE);
+        }
+    }
+    
+    static class RecordingActor extends AbstractActor {
+        private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+        
+        RecordingActor(String actorId) {
+            super(actorId);
+        }
+        
+        @Override
+        protected Object onReceive(Message message) {
+            events.add(message.getPayload());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.actorframework.core.serialization;
+
+import com.actorframework.core.communication.TransportFrame;
+import com.actorframework.core.message.Message;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryMessageSerializerTest {
+    
+    private BinaryMessageSerializer serializer;
+    
+    @BeforeEach
+    void setUp() {
+        serializer = new BinaryMessageSerializer(new PayloadTypeRegistry(), new ObjectMapper().findAndRegisterModules());
+    }
+    
+    @Test
+    void testMessageRoundTripKeepsPayloadTypes() {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("action", "SCORE");
+        payload.put("points", 3);
+        payload.put("clock", 7_200_000_000L);
+        payload.put("ratio", 0.5);
+        payload.put("players", List.of("p1", "p2"));
+        Message message = new Message("PERFORM_ACTION", payload, true);
+        message.setReceiverPath("remote://nba-player-service/user/PlayerActor/player-1");
+        
+        Message read = serializer.deserialize(serializer.serialize(message), Message.class);
+        
+        assertEquals(message, read);
+        assertInstanceOf(Integer.class, ((Map<?, ?>) read.getPayload()).get("points"));
+        assertInstanceOf(Long.class, ((Map<?, ?>) read.getPayload()).get("clock"));
+    }
+    
+    @Test
+    void testTransportFrameRoundTrip() {
+        Message message = new Message("GET_FATIGUE", null, true);
+        TransportFrame frame = TransportFrame.message(message);
+        
+        assertEquals(frame, serializer.deserialize(serializer.serialize(frame), TransportFrame.class));
+        
+        TransportFrame error = TransportFrame.error(message.getMessageId(), TransportFrame.ErrorCode.TIMEOUT, "late");
+        assertEquals(error, serializer.deserialize(serializer.serialize(error), TransportFrame.class));
+    }
+    
+    @Test
+    void testRegisteredPayloadType() {
+        PayloadTypeRegistry registry = new PayloadTypeRegistry();
+        registry.register(PayloadTypeRegistry.FIRST_APPLICATION_TYPE_ID, Score.class, new PayloadCodec<>() {
+            @Override
+            public void write(Score value, BinaryWriter out, BinaryMessageSerializer serializer) {
+                out.writeSignedInt(value.home);
+                out.writeSignedInt(value.away);
+            }
+            
+            @Override
+            public Score read(BinaryReader in, BinaryMessageSerializer serializer) {
+                return new Score(in.readSignedInt(), in.readSignedInt());
+            }
+        });
+        BinaryMessageSerializer typed = new BinaryMessageSerializer(registry, new ObjectMapper());
+        
+        Score read = typed.deserialize(typed.serialize(new Score(101, 99)), Score.class);
+        
+        assertEquals(101, read.home);
+        assertEquals(99, read.away);
+        assertThrows(IllegalArgumentException.class,
+            () -> registry.register(1, String.class, null));
+    }
+    
+    static class Score {
+        final int home;
+        final int away;
+        
+        Score(int home, int away) {
+            this.home = home;
+            this.away = away;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.nba.game;
 
+import com.nba.player.message.PlayerMessages;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 
 @SpringBootApplication(scanBasePackages = {"com.nba.game", "com.actorframework.core"})
+@Import(PlayerMessages.class)
 public class GameServiceApplication {
     
     public static void main(String[] args) {
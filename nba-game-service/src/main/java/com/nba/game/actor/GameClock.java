@@ -0,0 +1,87 @@
+package com.nba.game.actor;
+
+import java.time.Duration;
+
+/**
+ * Vitesse du chronomètre d'un match : temps réel (1), accélérée (ex: 100) ou aussi vite que possible.
+ * Chaque TICK avance le match d'un nombre fixe de secondes de jeu : le déroulé ne dépend que
+ * de la suite des messages reçus par le ScoreboardActor, pas de l'horloge murale.
+ */
+public record GameClock(double speed) {
+    
+    public static final GameClock REAL_TIME = new GameClock(1);
+    public static final GameClock AS_FAST_AS_POSSIBLE = new GameClock(Double.POSITIVE_INFINITY);
+    
+    /**
+     * Intervalle minimal entre deux TICK planifiés (précision de la minuterie partagée).
+     * Au-delà de 100x, un TICK avance le match de plusieurs secondes.
+     */
+    static final Duration MIN_TICK_INTERVAL = Duration.ofMillis(10);
+    
+    public GameClock {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("Clock speed must be positive: " + speed);
+        }
+    }
+    
+    /**
+     * Lit une vitesse : null (temps réel), nombre, "100", "100x", "realtime" ou "max"
+     */
+    public static GameClock parse(Object value) {
+        if (value == null) {
+            return REAL_TIME;
+        }
+        if (value instanceof Number number) {
+            return new GameClock(number.doubleValue());
+        }
+        String text = value.toString().trim().toLowerCase();
+        switch (text) {
+            case "", "realtime", "real-time":
+                return REAL_TIME;
+            case "max", "unlimited":
+                return AS_FAST_AS_POSSIBLE;
+            default:
+                if (text.endsWith("x")) {
+                    text = text.substring(0, text.length() - 1);
+                }
+                try {
+                    return new GameClock(Double.parseDouble(text));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid clock speed: " + value);
+                }
+        }
+    }
+    
+    /**
+     * Sans minuterie : chaque TICK traité renvoie immédiatement le suivant dans la boîte aux lettres
+     */
+    public boolean isUnthrottled() {
+        return Double.isInfinite(speed);
+    }
+    
+    /**
+     * Secondes de jeu écoulées par TICK
+     */
+    public int secondsPerTick() {
+        if (isUnthrottled()) {
+            return 1;
+        }
+        double perMinInterval = speed * MIN_TICK_INTERVAL.toNanos() / 1_000_000_000.0;
+        return perMinInterval > 1 ? (int) Math.ceil(perMinInterval) : 1;
+    }
+    
+    /**
+     * Intervalle réel entre deux TICK planifiés
+     */
+    public Duration tickInterval() {
+        if (isUnthrottled()) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.round(secondsPerTick() * 1_000_000_000.0 / speed));
+    }
+    
+    @Override
+    public String toString() {
+        return isUnthrottled() ? "max" : speed + "x";
+    }
+}
@@ -1,129 +1,248 @@
 package com.nba.game.actor;
 
-import com.actorframework.core.actor.AbstractActor;
 import com.actorframework.core.actor.ActorRef;
+import com.actorframework.core.actor.EventSourcedActor;
+import com.actorframework.core.actor.MessageHandler;
 import com.actorframework.core.communication.ActorRegistry;
 import com.actorframework.core.message.Message;
+import com.actorframework.core.scheduling.Cancellable;
+import com.nba.game.event.ScoreChanged;
 import com.nba.game.model.Game;
+import com.nba.game.stream.ScoreStreams;
+import com.nba.game.stream.ScoreUpdate;
+import com.nba.player.message.ActionType;
+import com.nba.player.message.PlayerAction;
+import com.nba.player.message.StatsUpdate;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Acteur représentant le tableau de score d'un match NBA.
  * Met à jour le score, gère le chronomètre et diffuse les mises à jour.
+ * Son état ({@link State}) le suit quand il est déplacé vers une autre réplique du service :
+ * un match en cours y reprend avec la même vitesse de chronomètre.
+ * Les points marqués sont des événements ({@link ScoreChanged}) écrits dans le journal du service ;
+ * un instantané est pris à chaque étape du match (début, fin de quart-temps, fin) : après un redémarrage,
+ * le match reprend au score exact et au chronomètre du dernier instantané.
+ * Chaque changement du tableau de score est publié une fois dans {@link ScoreStreams},
+ * qui le diffuse à tous les spectateurs du match (le chronomètre seul au plus une fois par seconde),
+ * et sur le sujet de chaque équipe du flux d'événements des acteurs ({@link ScoreUpdate#topicOf}).
  */
 @Slf4j
 @Getter
 @Setter
-public class ScoreboardActor extends AbstractActor {
+public class ScoreboardActor extends EventSourcedActor<ScoreboardActor.State> {
+    
+    private static final long CLOCK_PUBLISH_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
     
     private Game game;
     private ActorRegistry actorRegistry;
-    private ScheduledExecutorService timer;
+    // Chronomètre : TICK périodique planifié sur la minuterie partagée de l'ActorSystem
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Cancellable clock;
+    @Setter(AccessLevel.NONE)
+    private GameClock gameClock = GameClock.REAL_TIME;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private int clockGeneration;
     private boolean gameRunning = false;
     private com.nba.game.service.TeamRecordService teamRecordService;
+    private ScoreStreams scoreStreams;
+    // Dernière publication (System.nanoTime) : limite la diffusion du chronomètre seul
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long lastClockPublish;
     
     public ScoreboardActor(String actorId) {
-        super(actorId);
+        super(actorId, State.class);
     }
     
     public ScoreboardActor(String actorId, Game game, ActorRegistry actorRegistry) {
-        super(actorId);
+        super(actorId, State.class);
         this.game = game;
         this.actorRegistry = actorRegistry;
-        this.timer = new ScheduledThreadPoolExecutor(1);
     }
     
     public ScoreboardActor(String actorId, Game game, ActorRegistry actorRegistry, 
                           com.nba.game.service.TeamRecordService teamRecordService) {
-        super(actorId);
+        super(actorId, State.class);
         this.game = game;
         this.actorRegistry = actorRegistry;
         this.teamRecordService = teamRecordService;
-        this.timer = new ScheduledThreadPoolExecutor(1);
     }
     
-    @Override
-    protected Object onReceive(Message message) {
-        String messageType = message.getMessageType();
+    /**
+     * Recrée un tableau de score à partir de son état capturé
+     */
+    public ScoreboardActor(String actorId, State state, ActorRegistry actorRegistry,
+                          com.nba.game.service.TeamRecordService teamRecordService, ScoreStreams scoreStreams) {
+        this(actorId, state.game(), actorRegistry, teamRecordService);
+        this.scoreStreams = scoreStreams;
+        this.gameClock = GameClock.parse(state.clockSpeed());
+        this.gameRunning = state.gameRunning();
+    }
+    
+    /**
+     * État d'un tableau de score, transmis lorsqu'il change de réplique
+     */
+    public record State(Game game, String clockSpeed, boolean gameRunning) {
         
-        switch (messageType) {
-            case "START_GAME":
-                return startGame();
-                
-            case "STOP_GAME":
-                return stopGame();
-                
-            case "UPDATE_SCORE":
-                return updateScore((Map<String, Object>) message.getPayload());
-                
-            case "GET_SCORE":
-                return getScore();
-                
-            case "GET_GAME_STATUS":
-                return getGameStatus();
-                
-            case "PLAYER_ACTION":
-                return handlePlayerAction((Map<String, Object>) message.getPayload());
-                
-            case "END_QUARTER":
-                return endQuarter();
-                
-            case "END_GAME":
-                return endGame();
-                
-            case "GENERATE_COMPLETE_GAME":
-                return generateCompleteGame();
-                
-            default:
-                log.warn("Unknown message type: {}", messageType);
-                return null;
+        /**
+         * État d'un match qui vient d'être créé
+         */
+        public static State of(Game game) {
+            return new State(game, null, false);
+        }
+    }
+    
+    @Override
+    public State snapshotState() {
+        Game copy = new Game(game.getId(), game.getHomeTeamId(), game.getAwayTeamId(), game.getStatus(),
+            game.getHomeScore(), game.getAwayScore(), game.getQuarter(), game.getTimeRemaining(),
+            new java.util.ArrayList<>(game.getHomePlayerIds()), new java.util.ArrayList<>(game.getAwayPlayerIds()));
+        return new State(copy, gameClock.toString(), gameRunning);
+    }
+    
+    @Override
+    protected void restoreState(State state) {
+        this.game = state.game();
+        this.gameClock = GameClock.parse(state.clockSpeed());
+        this.gameRunning = state.gameRunning();
+    }
+    
+    @Override
+    protected void applyEvent(Object event) {
+        if (event instanceof ScoreChanged scoreChanged) {
+            if ("HOME".equals(scoreChanged.team())) {
+                game.setHomeScore(game.getHomeScore() + scoreChanged.points());
+            } else if ("AWAY".equals(scoreChanged.team())) {
+                game.setAwayScore(game.getAwayScore() + scoreChanged.points());
+            }
+        }
+    }
+    
+    /**
+     * Un match en cours recréé sur cette réplique reprend son chronomètre et sa diffusion
+     */
+    @Override
+    public void preStart() {
+        super.preStart();
+        if (scoreStreams != null && game != null) {
+            scoreStreams.open(ScoreUpdate.of(game));
+        }
+        if (gameRunning) {
+            startClock();
         }
     }
     
     @Override
     public void postStop() {
         super.postStop();
-        if (timer != null) {
-            timer.shutdown();
+        stopClock();
+        if (scoreStreams != null && game != null) {
+            scoreStreams.close(game.getId());
+        }
+    }
+    
+    /**
+     * Publie le tableau de score aux spectateurs du match
+     */
+    private void publishScore() {
+        ScoreUpdate update = ScoreUpdate.of(game);
+        if (scoreStreams != null) {
+            scoreStreams.publish(update);
+            lastClockPublish = System.nanoTime();
+        }
+        // Abonnés des équipes (ex: CoachActor du service Team), sans coût si aucun n'est abonné
+        if (self() != null) {
+            if (game.getHomeTeamId() != null) {
+                publish(ScoreUpdate.topicOf(game.getHomeTeamId()), update);
+            }
+            if (game.getAwayTeamId() != null) {
+                publish(ScoreUpdate.topicOf(game.getAwayTeamId()), update);
+            }
         }
     }
     
-    private String startGame() {
+    /**
+     * Démarre le match ; le payload optionnel fixe la vitesse du chronomètre (voir {@link GameClock#parse})
+     */
+    @MessageHandler("START_GAME")
+    private String startGame(Object speed) {
         if (gameRunning) {
             return "Game already running";
         }
         
+        gameClock = GameClock.parse(speed);
         game.setStatus("IN_PROGRESS");
         gameRunning = true;
         
+        saveSnapshot();
+        publishScore();
+        
         // Récupérer les joueurs des équipes et les faire rejoindre le match
         addPlayersToGame();
         
-        // Démarrer le chronomètre
-        timer.scheduleAtFixedRate(() -> {
-            if (gameRunning && game.getTimeRemaining() > 0) {
-                game.setTimeRemaining(game.getTimeRemaining() - 1);
-                
-                // Fin du quart-temps
-                if (game.getTimeRemaining() == 0) {
-                    endQuarter();
-                }
-            }
-        }, 1, 1, TimeUnit.SECONDS);
+        startClock();
         
-        log.info("Game {} started", game.getId());
+        log.info("Game {} started (clock speed {})", game.getId(), gameClock);
         return "Game started";
     }
     
+    /**
+     * Démarre le chronomètre : des TICK déposés dans la boîte aux lettres, comme les autres messages.
+     * Chaque TICK porte la génération du chronomètre : ceux d'un chronomètre arrêté sont ignorés.
+     */
+    private void startClock() {
+        stopClock();
+        int generation = ++clockGeneration;
+        if (gameClock.isUnthrottled()) {
+            self().tell(new Message("TICK", generation));
+        } else {
+            Duration interval = gameClock.tickInterval();
+            clock = scheduleAtFixedRate(interval, interval, () -> new Message("TICK", generation));
+        }
+    }
+    
+    /**
+     * Avance le chronomètre (traité sur le thread de l'acteur, sans concurrence avec le score)
+     */
+    @MessageHandler("TICK")
+    private void tick(Integer generation) {
+        if (generation == null || generation != clockGeneration || !gameRunning) {
+            return;
+        }
+        if (game.getTimeRemaining() > 0) {
+            game.setTimeRemaining(Math.max(0, game.getTimeRemaining() - gameClock.secondsPerTick()));
+            
+            // Fin du quart-temps
+            if (game.getTimeRemaining() == 0) {
+                endQuarter();
+            } else if (System.nanoTime() - lastClockPublish >= CLOCK_PUBLISH_INTERVAL_NANOS) {
+                publishScore();
+            }
+        }
+        // Aussi vite que possible : le TICK suivant passe derrière les messages déjà en attente
+        if (gameRunning && gameClock.isUnthrottled()) {
+            self().tell(new Message("TICK", generation));
+        }
+    }
+    
+    private void stopClock() {
+        clockGeneration++;
+        if (clock != null) {
+            clock.cancel();
+            clock = null;
+        }
+    }
+    
     /**
      * Utilise les joueurs sélectionnés lors de la création du match et les fait rejoindre le match
      */
@@ -173,74 +292,77 @@ public class ScoreboardActor extends AbstractActor {
         }
     }
     
+    @MessageHandler("STOP_GAME")
     private String stopGame() {
         gameRunning = false;
+        stopClock();
         game.setStatus("FINISHED");
+        saveSnapshot();
+        publishScore();
         log.info("Game {} stopped. Final score: {} - {}", 
                  game.getId(), game.getHomeScore(), game.getAwayScore());
         return "Game stopped";
     }
     
-    private Map<String, Object> getScore() {
-        Map<String, Object> score = new HashMap<>();
-        score.put("gameId", game.getId());
-        score.put("homeScore", game.getHomeScore());
-        score.put("awayScore", game.getAwayScore());
-        score.put("quarter", game.getQuarter());
-        score.put("timeRemaining", game.getTimeRemaining());
-        score.put("status", game.getStatus());
-        return score;
+    @MessageHandler("GET_SCORE")
+    private ScoreUpdate getScore() {
+        return ScoreUpdate.of(game);
     }
     
+    @MessageHandler("GET_GAME_STATUS")
     private Map<String, Object> getGameStatus() {
         Map<String, Object> status = new HashMap<>();
         status.put("game", game);
         status.put("running", gameRunning);
+        status.put("clockSpeed", gameClock.toString());
         return status;
     }
     
+    /**
+     * Mise à jour du score au format Map (team, points)
+     */
+    @MessageHandler("UPDATE_SCORE")
     private String updateScore(Map<String, Object> update) {
-        String team = (String) update.get("team");
-        int points = (Integer) update.get("points");
-        
-        if ("HOME".equals(team)) {
-            game.setHomeScore(game.getHomeScore() + points);
-        } else if ("AWAY".equals(team)) {
-            game.setAwayScore(game.getAwayScore() + points);
-        }
+        return updateScore((String) update.get("team"), ((Number) update.get("points")).intValue());
+    }
+    
+    private String updateScore(String team, int points) {
+        persist(new ScoreChanged(team, points));
+        publishScore();
         
         log.info("Score updated: {} - {} (Game: {})", 
                  game.getHomeScore(), game.getAwayScore(), game.getId());
         return "Score updated";
     }
     
+    /**
+     * Action de jeu au format Map (ancien format, avant PlayerAction)
+     */
+    @MessageHandler("PLAYER_ACTION")
     private String handlePlayerAction(Map<String, Object> action) {
-        String playerId = (String) action.get("playerId");
-        String actionType = (String) action.get("action");
-        String team = (String) action.get("team");
+        Object points = action.get("points");
+        return handlePlayerAction(new PlayerAction(
+            (String) action.get("playerId"),
+            (String) action.get("team"),
+            ActionType.valueOf((String) action.get("action")),
+            points instanceof Number ? ((Number) points).intValue() : 0));
+    }
+    
+    @MessageHandler
+    private String handlePlayerAction(PlayerAction action) {
+        String playerId = action.playerId();
         
         if (playerId == null || playerId.isEmpty()) {
-            log.warn("Player action received without playerId, action: {}", actionType);
+            log.warn("Player action received without playerId, action: {}", action.action());
         } else {
             // Notifier le joueur via le service Player
             String playerPath = "/nba-player-service/user/PlayerActor/player-" + playerId;
             ActorRef playerRef = actorRegistry.resolveActor(playerPath);
             
             if (playerRef != null) {
-                // Créer un payload avec l'action et les points si c'est un panier
-                Map<String, Object> actionPayload = new HashMap<>();
-                actionPayload.put("action", actionType);
-                if ("SCORE".equals(actionType) && action.containsKey("points")) {
-                    actionPayload.put("points", action.get("points"));
-                }
-                
                 try {
-                    // Utiliser ask() au lieu de tell() pour s'assurer que le message est traité
-                    // Mais avec un timeout court pour ne pas bloquer
-                    Message playerMessage = new Message("PERFORM_ACTION", actionPayload, false);
-                    playerRef.tell(playerMessage);
-                    log.info("✅ Sent PERFORM_ACTION message to player {}: action={}, points={}", 
-                             playerId, actionType, actionPayload.getOrDefault("points", "N/A"));
+                    playerRef.tell(Message.of(action));
+                    log.info("✅ Sent {} to player {}", action, playerId);
                 } catch (Exception e) {
                     log.error("❌ Error sending message to player {}: {}", playerId, e.getMessage(), e);
                 }
@@ -252,17 +374,14 @@ public class ScoreboardActor extends AbstractActor {
         }
         
         // Mettre à jour le score si c'est un panier
-        if ("SCORE".equals(actionType)) {
-            int points = action.containsKey("points") ? (Integer) action.get("points") : 2;
-            Map<String, Object> scoreUpdate = new HashMap<>();
-            scoreUpdate.put("team", team);
-            scoreUpdate.put("points", points);
-            updateScore(scoreUpdate);
+        if (action.action() == ActionType.SCORE) {
+            updateScore(action.team(), action.scoredPoints());
         }
         
         return "Action processed";
     }
     
+    @MessageHandler("END_QUARTER")
     private String endQuarter() {
         game.setQuarter(game.getQuarter() + 1);
         
@@ -270,6 +389,8 @@ public class ScoreboardActor extends AbstractActor {
             return endGame();
         } else {
             game.setTimeRemaining(720); // 12 minutes
+            saveSnapshot();
+            publishScore();
             log.info("Quarter {} ended. Score: {} - {}", 
                      game.getQuarter() - 1, game.getHomeScore(), game.getAwayScore());
             return "Quarter ended, starting quarter " + game.getQuarter();
@@ -279,13 +400,17 @@ public class ScoreboardActor extends AbstractActor {
     /**
      * Termine le match et met à jour les victoires/défaites des équipes
      */
+    @MessageHandler("END_GAME")
     private String endGame() {
         if (!gameRunning && "FINISHED".equals(game.getStatus())) {
             return "Game already finished";
         }
         
         gameRunning = false;
+        stopClock();
         game.setStatus("FINISHED");
+        saveSnapshot();
+        publishScore();
         
         // Déterminer le gagnant et mettre à jour les victoires/défaites
         String winnerTeamId;
@@ -330,6 +455,7 @@ public class ScoreboardActor extends AbstractActor {
      * Génère un match complet avec score et statistiques pour tous les joueurs
      * Démontre le système d'acteurs en action avec communication inter-microservices
      */
+    @MessageHandler("GENERATE_COMPLETE_GAME")
     private String generateCompleteGame() {
         if (game.getStatus().equals("FINISHED")) {
             return "Game already finished";
@@ -529,13 +655,8 @@ public class ScoreboardActor extends AbstractActor {
             ActorRef playerRef = actorRegistry.resolveActor(playerPath);
             
             if (playerRef != null) {
-                Map<String, Object> statsUpdate = new HashMap<>();
-                if (points > 0) statsUpdate.put("points", points);
-                if (rebounds > 0) statsUpdate.put("rebounds", rebounds);
-                if (assists > 0) statsUpdate.put("assists", assists);
                 // Ne pas inclure steals, blocks, fatigue
-                
-                Message updateMessage = new Message("UPDATE_STATS", statsUpdate, false);
+                Message updateMessage = Message.of(new StatsUpdate(points, rebounds, assists, 0, 0));
                 playerRef.tell(updateMessage);
                 
                 log.debug("📈 Updated stats for player {}: {}pts, {}reb, {}ast", 
@@ -548,4 +669,3 @@ public class ScoreboardActor extends AbstractActor {
         }
     }
 }
-
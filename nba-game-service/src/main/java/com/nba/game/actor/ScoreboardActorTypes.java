@@ -0,0 +1,28 @@
+package com.nba.game.actor;
+
+import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.actor.ActorTypeRegistrar;
+import com.actorframework.core.communication.ActorRegistry;
+import com.nba.game.service.TeamRecordService;
+import com.nba.game.stream.ScoreStreams;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Enregistre le ScoreboardActor comme type d'acteur recréable à partir de son état
+ * (création sur la réplique propriétaire, déplacement entre répliques)
+ */
+@Component
+@RequiredArgsConstructor
+public class ScoreboardActorTypes implements ActorTypeRegistrar {
+    
+    private final ActorRegistry actorRegistry;
+    private final TeamRecordService teamRecordService;
+    private final ScoreStreams scoreStreams;
+    
+    @Override
+    public void registerActorTypes(ActorSystem actorSystem) {
+        actorSystem.registerActorType(ScoreboardActor.class, ScoreboardActor.State.class,
+            (actorId, state) -> new ScoreboardActor(actorId, state, actorRegistry, teamRecordService, scoreStreams));
+    }
+}
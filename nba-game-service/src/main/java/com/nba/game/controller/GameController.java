@@ -1,20 +1,32 @@
 package com.nba.game.controller;
 
 import com.actorframework.core.actor.ActorRef;
-import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.communication.ActorHandoff;
 import com.actorframework.core.communication.ActorRegistry;
 import com.actorframework.core.message.Message;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nba.game.actor.GameClock;
 import com.nba.game.actor.ScoreboardActor;
 import com.nba.game.model.Game;
 import com.nba.game.service.TeamValidationService;
+import com.nba.game.stream.ScoreStreams;
+import com.nba.game.stream.ScoreUpdate;
+import com.nba.player.message.PlayerAction;
+import com.nba.player.message.StatsUpdate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -22,13 +34,20 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class GameController {
     
-    private final ActorSystem actorSystem;
+    // Commentaire SSE périodique : garde la connexion ouverte à travers les proxys pendant les temps morts
+    static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+    
+    private final ActorHandoff actorHandoff;
     private final ActorRegistry actorRegistry;
     private final TeamValidationService teamValidationService;
-    private final com.nba.game.service.TeamRecordService teamRecordService;
+    private final ScoreStreams scoreStreams;
+    private final ObjectMapper objectMapper;
     
+    /**
+     * Crée le match ; son tableau de score est créé sur la réplique du service qui en est propriétaire
+     */
     @PostMapping("/create")
-    public ResponseEntity<Map<String, Object>> createGame(@RequestBody Game game) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> createGame(@RequestBody Game game) {
         // Valider que les deux équipes existent
         if (!teamValidationService.bothTeamsExist(game.getHomeTeamId(), game.getAwayTeamId())) {
             Map<String, Object> errorResponse = new HashMap<>();
@@ -50,7 +69,7 @@ public class GameController {
             errorResponse.put("homeTeamExists", homeExists);
             errorResponse.put("awayTeamExists", awayExists);
             
-            return ResponseEntity.badRequest().body(errorResponse);
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(errorResponse));
         }
         
         // Récupérer automatiquement tous les joueurs des équipes
@@ -61,28 +80,28 @@ public class GameController {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("error", "Home team not found");
             errorResponse.put("message", "Impossible de récupérer l'équipe domicile");
-            return ResponseEntity.badRequest().body(errorResponse);
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(errorResponse));
         }
         
         if (awayPlayerIds == null || awayPlayerIds.isEmpty()) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("error", "Away team not found");
             errorResponse.put("message", "Impossible de récupérer l'équipe visiteur");
-            return ResponseEntity.badRequest().body(errorResponse);
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(errorResponse));
         }
         
         if (homePlayerIds.size() < 5) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("error", "Insufficient home players");
             errorResponse.put("message", "L'équipe domicile doit avoir au moins 5 joueurs (actuellement: " + homePlayerIds.size() + ")");
-            return ResponseEntity.badRequest().body(errorResponse);
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(errorResponse));
         }
         
         if (awayPlayerIds.size() < 5) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("error", "Insufficient away players");
             errorResponse.put("message", "L'équipe visiteur doit avoir au moins 5 joueurs (actuellement: " + awayPlayerIds.size() + ")");
-            return ResponseEntity.badRequest().body(errorResponse);
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(errorResponse));
         }
         
         // Utiliser tous les joueurs des équipes
@@ -90,52 +109,97 @@ public class GameController {
         game.setAwayPlayerIds(awayPlayerIds);
         
         String actorId = "scoreboard-" + game.getId();
-        ScoreboardActor actor = new ScoreboardActor(actorId, game, actorRegistry, teamRecordService);
-        ActorRef actorRef = actorSystem.createActor(actor);
-        actorRegistry.registerLocalActor(actor.getActorPath(), actorRef);
-        
-        Map<String, Object> response = new HashMap<>();
-        response.put("actorId", actorId);
-        response.put("path", actor.getActorPath());
-        response.put("game", game);
-        return ResponseEntity.ok(response);
+        return actorHandoff.spawn(ScoreboardActor.class, actorId, ScoreboardActor.State.of(game))
+            .thenApply(actorRef -> {
+                Map<String, Object> response = new HashMap<>();
+                response.put("actorId", actorId);
+                response.put("path", "/user/ScoreboardActor/" + actorId);
+                response.put("game", game);
+                return ResponseEntity.ok(response);
+            });
     }
     
+    /**
+     * Démarre le match. {@code speed} accélère le chronomètre : 1 (temps réel, par défaut), 100, ou max
+     * (un match complet simulé en quelques millisecondes, pour les tests de charge)
+     */
     @PostMapping("/{gameId}/start")
-    public ResponseEntity<String> startGame(@PathVariable String gameId) {
+    public CompletableFuture<ResponseEntity<String>> startGame(
+            @PathVariable String gameId,
+            @RequestParam(required = false) String speed) {
         ActorRef actorRef = actorRegistry.resolveActor("/user/ScoreboardActor/scoreboard-" + gameId);
         if (actorRef == null) {
-            return ResponseEntity.notFound().build();
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+        }
+        
+        try {
+            GameClock.parse(speed);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(e.getMessage()));
         }
         
-        Message message = new Message("START_GAME", null, true);
-        Object response = actorRef.ask(message, 5000);
-        return ResponseEntity.ok(response.toString());
+        Message message = new Message("START_GAME", speed, true);
+        return actorRef.askAsync(message, 5000)
+            .thenApply(response -> ResponseEntity.ok(String.valueOf(response)));
     }
     
     @GetMapping("/{gameId}/score")
-    public ResponseEntity<Object> getScore(@PathVariable String gameId) {
+    public CompletableFuture<ResponseEntity<Object>> getScore(@PathVariable String gameId) {
         ActorRef actorRef = actorRegistry.resolveActor("/user/ScoreboardActor/scoreboard-" + gameId);
         if (actorRef == null) {
-            return ResponseEntity.notFound().build();
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
         }
         
         Message message = new Message("GET_SCORE", null, true);
-        Object response = actorRef.ask(message, 5000);
-        return ResponseEntity.ok(response);
+        return actorRef.askAsync(message, 5000).thenApply(ResponseEntity::ok);
+    }
+    
+    /**
+     * Tableau de score en direct (Server-Sent Events) : le score actuel, puis chaque changement
+     * publié par le ScoreboardActor, jusqu'à la fin du match. Tous les spectateurs d'un match
+     * partagent la même diffusion : aucune demande à l'acteur par spectateur quand le match est hébergé ici.
+     */
+    @GetMapping(value = "/{gameId}/score/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<ScoreUpdate>>> streamScore(@PathVariable String gameId) {
+        ActorRef actorRef = actorRegistry.resolveActor("/user/ScoreboardActor/scoreboard-" + gameId);
+        if (actorRef == null) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        Flux<ScoreUpdate> updates = scoreStreams.localUpdates(gameId);
+        if (updates == null) {
+            // Acteur passivé (réactivé par la demande, qui ouvre sa diffusion) ou hébergé par une autre réplique
+            updates = Mono.fromFuture(() -> askScore(actorRef)).flatMapMany(current -> {
+                Flux<ScoreUpdate> local = scoreStreams.localUpdates(gameId);
+                return local != null ? local : scoreStreams.remoteUpdates(gameId, () -> askScore(actorRef));
+            });
+        }
+        
+        Flux<ServerSentEvent<ScoreUpdate>> events = updates
+            .takeUntil(ScoreUpdate::finished)
+            .map(update -> ServerSentEvent.builder(update).event("score").build());
+        return ResponseEntity.ok(events.publish(shared -> Flux.merge(shared,
+            Flux.interval(HEARTBEAT_INTERVAL)
+                .map(tick -> ServerSentEvent.<ScoreUpdate>builder().comment("heartbeat").build())
+                .takeUntilOther(shared.ignoreElements()))));
+    }
+    
+    private CompletableFuture<ScoreUpdate> askScore(ActorRef actorRef) {
+        return actorRef.askAsync(new Message("GET_SCORE", null, true), 5000)
+            .thenApply(score -> objectMapper.convertValue(score, ScoreUpdate.class));
     }
     
     @PostMapping("/{gameId}/action")
     public ResponseEntity<String> recordAction(
             @PathVariable String gameId,
-            @RequestBody Map<String, Object> action) {
+            @RequestBody PlayerAction action) {
         
         ActorRef actorRef = actorRegistry.resolveActor("/user/ScoreboardActor/scoreboard-" + gameId);
         if (actorRef == null) {
             return ResponseEntity.notFound().build();
         }
         
-        Message message = new Message("PLAYER_ACTION", action, false);
+        Message message = Message.of(action);
         actorRef.tell(message);
         return ResponseEntity.accepted().body("Action recorded");
     }
@@ -158,56 +222,46 @@ public class GameController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Player not found: " + playerId);
         }
         
-        Map<String, Object> updatePayload = new HashMap<>();
-        if (statsUpdate.containsKey("points")) {
-            updatePayload.put("points", statsUpdate.get("points"));
-        }
-        if (statsUpdate.containsKey("rebounds")) {
-            updatePayload.put("rebounds", statsUpdate.get("rebounds"));
-        }
-        if (statsUpdate.containsKey("assists")) {
-            updatePayload.put("assists", statsUpdate.get("assists"));
-        }
-        if (statsUpdate.containsKey("steals")) {
-            updatePayload.put("steals", statsUpdate.get("steals"));
-        }
-        if (statsUpdate.containsKey("blocks")) {
-            updatePayload.put("blocks", statsUpdate.get("blocks"));
-        }
-        
-        Message message = new Message("UPDATE_STATS", updatePayload, false);
+        StatsUpdate update = new StatsUpdate(
+            intValue(statsUpdate, "points"), intValue(statsUpdate, "rebounds"), intValue(statsUpdate, "assists"),
+            intValue(statsUpdate, "steals"), intValue(statsUpdate, "blocks"));
+        Message message = Message.of(update);
         playerRef.tell(message);
         
         return ResponseEntity.accepted().body("Player stats updated");
     }
     
+    private static int intValue(Map<String, Object> values, String key) {
+        Object value = values.get(key);
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+    
     @PostMapping("/{gameId}/end")
-    public ResponseEntity<String> endGame(@PathVariable String gameId) {
+    public CompletableFuture<ResponseEntity<String>> endGame(@PathVariable String gameId) {
         ActorRef actorRef = actorRegistry.resolveActor("/user/ScoreboardActor/scoreboard-" + gameId);
         if (actorRef == null) {
-            return ResponseEntity.notFound().build();
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
         }
         
         Message message = new Message("END_GAME", null, true);
-        Object response = actorRef.ask(message, 5000);
-        return ResponseEntity.ok(response.toString());
+        return actorRef.askAsync(message, 5000)
+            .thenApply(response -> ResponseEntity.ok(String.valueOf(response)));
     }
     
     @PostMapping("/{gameId}/generate-complete")
-    public ResponseEntity<Map<String, Object>> generateCompleteGame(@PathVariable String gameId) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> generateCompleteGame(@PathVariable String gameId) {
         ActorRef actorRef = actorRegistry.resolveActor("/user/ScoreboardActor/scoreboard-" + gameId);
         if (actorRef == null) {
-            return ResponseEntity.notFound().build();
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
         }
         
         Message message = new Message("GENERATE_COMPLETE_GAME", null, true);
-        Object response = actorRef.ask(message, 30000); // Timeout plus long pour générer toutes les stats
-        
-        Map<String, Object> result = new HashMap<>();
-        result.put("message", response != null ? response.toString() : "Game generated");
-        result.put("gameId", gameId);
-        
-        return ResponseEntity.ok(result);
+        // Timeout plus long pour générer toutes les stats
+        return actorRef.askAsync(message, 30000).thenApply(response -> {
+            Map<String, Object> result = new HashMap<>();
+            result.put("message", response != null ? response.toString() : "Game generated");
+            result.put("gameId", gameId);
+            return ResponseEntity.ok(result);
+        });
     }
 }
-
@@ -0,0 +1,91 @@
+package com.nba.game.event;
+
+import com.actorframework.core.serialization.BinaryMessageSerializer;
+import com.actorframework.core.serialization.BinaryReader;
+import com.actorframework.core.serialization.BinaryWriter;
+import com.actorframework.core.serialization.PayloadCodec;
+import com.actorframework.core.serialization.PayloadTypeRegistrar;
+import com.actorframework.core.serialization.PayloadTypeRegistry;
+import com.nba.game.actor.ScoreboardActor;
+import com.nba.game.model.Game;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enregistre les événements du ScoreboardActor, écrits dans le journal du service, et son état
+ * ({@link ScoreboardActor.State} : match en cours, chronomètre) pour ses instantanés.
+ * Identifiants distincts de ceux des messages et événements du joueur ({@code PlayerMessages}, {@code PlayerEvents}).
+ */
+@Component
+public class GameEvents implements PayloadTypeRegistrar {
+    
+    public static final int SCORE_CHANGED_TYPE_ID = PayloadTypeRegistry.FIRST_APPLICATION_TYPE_ID + 4;
+    public static final int SCOREBOARD_STATE_TYPE_ID = PayloadTypeRegistry.FIRST_APPLICATION_TYPE_ID + 8;
+    
+    @Override
+    public void registerPayloadTypes(PayloadTypeRegistry registry) {
+        registry.register(SCORE_CHANGED_TYPE_ID, ScoreChanged.class, new PayloadCodec<>() {
+            @Override
+            public void write(ScoreChanged value, BinaryWriter out, BinaryMessageSerializer serializer) {
+                out.writeString(value.team());
+                out.writeSignedInt(value.points());
+            }
+            
+            @Override
+            public ScoreChanged read(BinaryReader in, BinaryMessageSerializer serializer) {
+                return new ScoreChanged(in.readString(), in.readSignedInt());
+            }
+        });
+        
+        registry.register(SCOREBOARD_STATE_TYPE_ID, ScoreboardActor.State.class, new PayloadCodec<>() {
+            @Override
+            public void write(ScoreboardActor.State value, BinaryWriter out, BinaryMessageSerializer serializer) {
+                Game game = value.game();
+                out.writeBoolean(game != null);
+                if (game != null) {
+                    out.writeString(game.getId());
+                    out.writeString(game.getHomeTeamId());
+                    out.writeString(game.getAwayTeamId());
+                    out.writeString(game.getStatus());
+                    out.writeSignedInt(game.getHomeScore());
+                    out.writeSignedInt(game.getAwayScore());
+                    out.writeSignedInt(game.getQuarter());
+                    out.writeSignedInt(game.getTimeRemaining());
+                    writeIds(game.getHomePlayerIds(), out);
+                    writeIds(game.getAwayPlayerIds(), out);
+                }
+                out.writeString(value.clockSpeed());
+                out.writeBoolean(value.gameRunning());
+            }
+            
+            @Override
+            public ScoreboardActor.State read(BinaryReader in, BinaryMessageSerializer serializer) {
+                Game game = null;
+                if (in.readBoolean()) {
+                    game = new Game(in.readString(), in.readString(), in.readString(), in.readString(),
+                        in.readSignedInt(), in.readSignedInt(), in.readSignedInt(), in.readSignedInt(),
+                        readIds(in), readIds(in));
+                }
+                return new ScoreboardActor.State(game, in.readString(), in.readBoolean());
+            }
+        });
+    }
+    
+    private static void writeIds(List<String> ids, BinaryWriter out) {
+        out.writeVarInt(ids != null ? ids.size() : 0);
+        if (ids != null) {
+            ids.forEach(out::writeString);
+        }
+    }
+    
+    private static List<String> readIds(BinaryReader in) {
+        int size = in.readVarInt();
+        List<String> ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add(in.readString());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,7 @@
+package com.nba.game.event;
+
+/**
+ * Points marqués par une équipe ({@code HOME} ou {@code AWAY})
+ */
+public record ScoreChanged(String team, int points) {
+}
@@ -1,52 +1,35 @@
 package com.nba.game.service;
 
+import com.actorframework.core.discovery.ServiceInstanceResolver;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cloud.client.ServiceInstance;
-import org.springframework.cloud.client.discovery.DiscoveryClient;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.Duration;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
  * Service pour mettre à jour les records des équipes (victoires/défaites)
  * Utilise Eureka pour la découverte de services
+ * Chaque équipe est tenue par une seule réplique du Team Service (flux {@code /teams/<id>}) :
+ * les appels sont routés vers l'instance propriétaire de l'équipe plutôt que répartis
  */
 @Slf4j
 @Service
 public class TeamRecordService {
     
     private final WebClient webClient;
-    private final DiscoveryClient discoveryClient;
+    private final ServiceInstanceResolver instanceResolver;
     private static final String TEAM_SERVICE_NAME = "nba-team-service";
+    // Clé de routage d'une équipe, son flux dans le journal du Team Service
+    private static final String TEAM_KEY_PREFIX = "/teams/";
+    // Repli pour le développement local si Eureka n'est pas disponible
+    private static final String TEAM_SERVICE_FALLBACK_URL = "http://localhost:8082";
     
-    public TeamRecordService(WebClient.Builder webClientBuilder, DiscoveryClient discoveryClient) {
+    public TeamRecordService(WebClient.Builder webClientBuilder, ServiceInstanceResolver instanceResolver) {
         this.webClient = webClientBuilder.build();
-        this.discoveryClient = discoveryClient;
-    }
-    
-    /**
-     * Obtient l'URL du service Team via Eureka
-     */
-    private String getTeamServiceUrl() {
-        try {
-            List<ServiceInstance> instances = discoveryClient.getInstances(TEAM_SERVICE_NAME);
-            if (instances != null && !instances.isEmpty()) {
-                ServiceInstance instance = instances.get(0);
-                String url = "http://" + instance.getHost() + ":" + instance.getPort();
-                log.debug("Found team service at: {}", url);
-                return url;
-            }
-        } catch (Exception e) {
-            log.warn("Error discovering team service via Eureka: {}", e.getMessage());
-        }
-        
-        // Fallback pour développement local si Eureka n'est pas disponible
-        log.warn("Team service not found in Eureka, using fallback URL");
-        return "http://localhost:8082";
+        this.instanceResolver = instanceResolver;
     }
     
     /**
@@ -54,17 +37,19 @@ public class TeamRecordService {
      */
     public void updateTeamRecord(String teamId, boolean isWin) {
         try {
-            String serviceUrl = getTeamServiceUrl();
             Map<String, Boolean> requestBody = new HashMap<>();
             requestBody.put("isWin", isWin);
             
-            Map<String, Object> response = webClient.post()
-                .uri(serviceUrl + "/api/teams/{teamId}/update-record", teamId)
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .timeout(Duration.ofSeconds(5))
-                .block();
+            Map<String, Object> response = instanceResolver.callOwnerAsync(TEAM_SERVICE_NAME,
+                    TEAM_KEY_PREFIX + teamId, TEAM_SERVICE_FALLBACK_URL,
+                    serviceUrl -> webClient.post()
+                        .uri(serviceUrl + "/api/teams/{teamId}/update-record", teamId)
+                        .bodyValue(requestBody)
+                        .retrieve()
+                        .bodyToMono(Map.class)
+                        .timeout(Duration.ofSeconds(5))
+                        .toFuture())
+                .join();
             
             if (response != null) {
                 log.info("✅ Team {} record updated: {} wins, {} losses", 
@@ -0,0 +1,93 @@
+package com.nba.game.stream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Flux des tableaux de score : une diffusion par match, partagée par tous ses spectateurs.
+ * Le ScoreboardActor hébergé sur cette réplique publie chaque changement une seule fois
+ * ({@link #open}, {@link #publish}, {@link #close}, appelés sur le thread de l'acteur) ;
+ * chaque spectateur ne coûte qu'un abonnement au puits du match, qui rejoue la dernière mise à jour.
+ * Un match hébergé par une autre réplique est interrogé une fois par seconde, quel que soit
+ * le nombre de spectateurs connectés à celle-ci.
+ */
+@Slf4j
+@Component
+public class ScoreStreams {
+    
+    static final Duration REMOTE_POLL_INTERVAL = Duration.ofSeconds(1);
+    
+    private final Map<String, Sinks.Many<ScoreUpdate>> localStreams = new ConcurrentHashMap<>();
+    private final Map<String, Flux<ScoreUpdate>> remoteStreams = new ConcurrentHashMap<>();
+    
+    /**
+     * Ouvre la diffusion d'un match hébergé sur cette réplique, à partir de son score actuel
+     */
+    public void open(ScoreUpdate current) {
+        Sinks.Many<ScoreUpdate> sink = Sinks.many().replay().latest();
+        sink.tryEmitNext(current);
+        Sinks.Many<ScoreUpdate> previous = localStreams.put(current.gameId(), sink);
+        if (previous != null) {
+            previous.tryEmitComplete();
+        }
+    }
+    
+    /**
+     * Diffuse une mise à jour à tous les spectateurs du match
+     */
+    public void publish(ScoreUpdate update) {
+        Sinks.Many<ScoreUpdate> sink = localStreams.get(update.gameId());
+        if (sink == null) {
+            return;
+        }
+        Sinks.EmitResult result = sink.tryEmitNext(update);
+        if (result.isFailure()) {
+            log.warn("Score update for game {} not delivered: {}", update.gameId(), result);
+        }
+    }
+    
+    /**
+     * Ferme la diffusion d'un match qui quitte cette réplique (arrêt, passivation, déplacement) :
+     * les spectateurs se reconnectent et suivent le match là où il est repris
+     */
+    public void close(String gameId) {
+        Sinks.Many<ScoreUpdate> sink = localStreams.remove(gameId);
+        if (sink != null) {
+            sink.tryEmitComplete();
+        }
+    }
+    
+    /**
+     * Mises à jour d'un match hébergé sur cette réplique, en commençant par la dernière
+     * @return null si le match n'est pas actif sur cette réplique
+     */
+    public Flux<ScoreUpdate> localUpdates(String gameId) {
+        Sinks.Many<ScoreUpdate> sink = localStreams.get(gameId);
+        return sink != null ? sink.asFlux() : null;
+    }
+    
+    /**
+     * Mises à jour d'un match hébergé par une autre réplique : une interrogation par seconde
+     * partagée par ses spectateurs, arrêtée quand le dernier se déconnecte ou que le match est terminé
+     */
+    public Flux<ScoreUpdate> remoteUpdates(String gameId, Supplier<CompletableFuture<ScoreUpdate>> poll) {
+        return remoteStreams.computeIfAbsent(gameId, id -> Flux.interval(Duration.ZERO, REMOTE_POLL_INTERVAL)
+            // Une seule interrogation à la fois : les secondes écoulées pendant une réponse lente sont sautées
+            .onBackpressureDrop()
+            .flatMap(tick -> Mono.fromFuture(poll), 1)
+            .distinctUntilChanged()
+            .takeUntil(ScoreUpdate::finished)
+            .doFinally(signal -> remoteStreams.remove(id))
+            .replay(1)
+            .refCount());
+    }
+}
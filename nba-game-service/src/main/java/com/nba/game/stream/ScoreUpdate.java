@@ -0,0 +1,33 @@
+package com.nba.game.stream;
+
+import com.nba.game.model.Game;
+
+/**
+ * Tableau de score d'un match à un instant donné : réponse de {@code GET_SCORE},
+ * événement diffusé aux spectateurs du flux {@code /api/games/{gameId}/score/stream}
+ * et publié sur le sujet de chaque équipe ({@link #topicOf}) du flux d'événements des acteurs
+ */
+public record ScoreUpdate(String gameId, String homeTeamId, String awayTeamId, int homeScore, int awayScore,
+                          int quarter, int timeRemaining, String status) {
+    
+    private static final String TOPIC_PREFIX = "scores/";
+    
+    public static ScoreUpdate of(Game game) {
+        return new ScoreUpdate(game.getId(), game.getHomeTeamId(), game.getAwayTeamId(), game.getHomeScore(),
+                               game.getAwayScore(), game.getQuarter(), game.getTimeRemaining(), game.getStatus());
+    }
+    
+    /**
+     * Sujet des scores des matchs d'une équipe (ex: {@code scores/team-1})
+     */
+    public static String topicOf(String teamId) {
+        return TOPIC_PREFIX + teamId;
+    }
+    
+    /**
+     * Dernière mise à jour d'un match : le flux se termine après elle
+     */
+    public boolean finished() {
+        return "FINISHED".equals(status);
+    }
+}
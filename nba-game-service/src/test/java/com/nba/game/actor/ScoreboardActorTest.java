@@ -0,0 +1,112 @@
+package com.nba.game.actor;
+
+import com.actorframework.core.actor.ActorRef;
+import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.communication.ActorRegistry;
+import com.actorframework.core.logging.ActorLogger;
+import com.actorframework.core.message.Message;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nba.game.controller.GameController;
+import com.nba.game.model.Game;
+import com.nba.game.stream.ScoreStreams;
+import com.nba.game.stream.ScoreUpdate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreboardActorTest {
+    
+    private ActorLogger actorLogger;
+    private ActorSystem actorSystem;
+    
+    @TempDir
+    Path logDir;
+    
+    @BeforeEach
+    void setUp() {
+        actorLogger = new ActorLogger(logDir);
+        actorSystem = new ActorSystem(actorLogger);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        actorSystem.shutdown();
+        actorLogger.close();
+    }
+    
+    @Test
+    void testGameClockSpeeds() {
+        assertEquals(Duration.ofSeconds(1), GameClock.parse(null).tickInterval());
+        assertEquals(Duration.ofMillis(10), GameClock.parse("100x").tickInterval());
+        assertEquals(10, GameClock.parse(1000).secondsPerTick());
+        assertTrue(GameClock.parse("max").isUnthrottled());
+        assertThrows(IllegalArgumentException.class, () -> GameClock.parse("fast"));
+    }
+    
+    @Test
+    void testUnthrottledClockPlaysFullGame() throws Exception {
+        Game game = new Game();
+        game.setId("1");
+        ScoreboardActor actor = new ScoreboardActor("scoreboard-1", game, null);
+        ActorRef ref = actorSystem.createActor(actor);
+        
+        ref.tell(new Message("UPDATE_SCORE", Map.of("team", "HOME", "points", 3)));
+        assertEquals("Game started", ref.ask(new Message("START_GAME", "max", true), 5000));
+        
+        long deadline = System.currentTimeMillis() + 10_000;
+        ScoreUpdate score;
+        do {
+            Thread.sleep(5);
+            score = (ScoreUpdate) ref.ask(new Message("GET_SCORE", null, true), 5000);
+        } while (!score.finished() && System.currentTimeMillis() < deadline);
+        
+        assertEquals("FINISHED", score.status());
+        assertEquals(5, score.quarter());
+        assertEquals(0, score.timeRemaining());
+        assertEquals(3, score.homeScore());
+    }
+    
+    @Test
+    void testScoreStreamPushesEachChangeUntilGameEnds() {
+        Game game = new Game();
+        game.setId("1");
+        ScoreStreams scoreStreams = new ScoreStreams();
+        ScoreboardActor actor = new ScoreboardActor("scoreboard-1", game, null);
+        actor.setScoreStreams(scoreStreams);
+        ActorRef ref = actorSystem.createActor(actor);
+        ActorRegistry actorRegistry = new ActorRegistry(null, WebClient.builder());
+        actorRegistry.registerLocalActor("/user/ScoreboardActor/scoreboard-1", ref);
+        GameController controller = new GameController(null, actorRegistry, null, scoreStreams, new ObjectMapper());
+        
+        ref.tell(new Message("UPDATE_SCORE", Map.of("team", "HOME", "points", 3)));
+        ref.tell(new Message("UPDATE_SCORE", Map.of("team", "AWAY", "points", 2)));
+        // Deux spectateurs abonnés à la même diffusion
+        Flux<ServerSentEvent<ScoreUpdate>> stream = controller.streamScore("1").getBody();
+        Mono<List<ScoreUpdate>> first = stream.mapNotNull(ServerSentEvent::data).collectList().cache();
+        Mono<List<ScoreUpdate>> second = stream.mapNotNull(ServerSentEvent::data).collectList().cache();
+        first.subscribe();
+        second.subscribe();
+        ref.tell(new Message("UPDATE_SCORE", Map.of("team", "HOME", "points", 2)));
+        ref.tell(new Message("END_GAME", null));
+        
+        List<ScoreUpdate> updates = first.block(Duration.ofSeconds(5));
+        assertEquals(updates, second.block(Duration.ofSeconds(5)));
+        ScoreUpdate last = updates.get(updates.size() - 1);
+        assertTrue(last.finished());
+        assertEquals(5, last.homeScore());
+        assertEquals(2, last.awayScore());
+        assertEquals(404, controller.streamScore("2").getStatusCode().value());
+    }
+}
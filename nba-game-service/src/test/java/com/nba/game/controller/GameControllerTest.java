@@ -0,0 +1,81 @@
+package com.nba.game.controller;
+
+import com.actorframework.core.actor.AbstractActor;
+import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.actor.MessageHandler;
+import com.actorframework.core.communication.ActorRegistry;
+import com.actorframework.core.logging.ActorLogger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nba.player.message.ActionType;
+import com.nba.player.message.PlayerAction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class GameControllerTest {
+    
+    @TempDir
+    Path logDir;
+    
+    @Test
+    void testRecordActionAcceptsFrontendPayload() throws Exception {
+        ActorLogger actorLogger = new ActorLogger(logDir);
+        ActorSystem actorSystem = new ActorSystem(actorLogger);
+        try {
+            RecordingScoreboard scoreboard = new RecordingScoreboard("scoreboard-1");
+            ActorRegistry actorRegistry = new ActorRegistry(null, WebClient.builder());
+            actorRegistry.registerLocalActor("/user/ScoreboardActor/scoreboard-1", actorSystem.createActor(scoreboard));
+            MockMvc mockMvc = MockMvcBuilders
+                .standaloneSetup(new GameController(null, actorRegistry, null, null, new ObjectMapper()))
+                .build();
+            
+            // Corps envoyés par recordAction() dans nba-frontend/index.html
+            mockMvc.perform(post("/api/games/1/action")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"playerId\":\"7\",\"action\":\"SCORE\",\"team\":\"AWAY\",\"points\":3}"))
+                .andExpect(status().isAccepted());
+            mockMvc.perform(post("/api/games/1/action")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"playerId\":\"7\",\"action\":\"REBOUND\",\"team\":\"HOME\",\"points\":0}"))
+                .andExpect(status().isAccepted());
+            
+            assertEquals(new PlayerAction("7", "AWAY", ActionType.SCORE, 3),
+                         scoreboard.actions.poll(5, TimeUnit.SECONDS));
+            assertEquals(new PlayerAction("7", "HOME", ActionType.REBOUND, 0),
+                         scoreboard.actions.poll(5, TimeUnit.SECONDS));
+            
+            mockMvc.perform(post("/api/games/2/action")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"playerId\":\"7\",\"action\":\"SCORE\",\"team\":\"HOME\",\"points\":2}"))
+                .andExpect(status().isNotFound());
+        } finally {
+            actorSystem.shutdown();
+            actorLogger.close();
+        }
+    }
+    
+    static class RecordingScoreboard extends AbstractActor {
+        private final BlockingQueue<PlayerAction> actions = new LinkedBlockingQueue<>();
+        
+        RecordingScoreboard(String actorId) {
+            super(actorId);
+        }
+        
+        @MessageHandler
+        private void onAction(PlayerAction action) {
+            actions.add(action);
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package com.nba.player.actor;
 
-import com.actorframework.core.actor.AbstractActor;
-import com.actorframework.core.message.Message;
+import com.actorframework.core.actor.EventSourcedActor;
+import com.actorframework.core.actor.MessageHandler;
+import com.nba.player.event.ConditionChanged;
+import com.nba.player.event.PlayerStatsChanged;
+import com.nba.player.event.StatsUpdated;
+import com.nba.player.message.ActionType;
+import com.nba.player.message.PlayerAction;
+import com.nba.player.message.StatsUpdate;
 import com.nba.player.model.Player;
 import com.nba.player.model.PlayerStats;
 import lombok.Getter;
@@ -14,11 +20,18 @@ import java.util.Map;
 /**
  * Acteur représentant un joueur NBA.
  * Gère l'état du joueur, ses statistiques et sa forme physique.
+ * Les messages sont dispatchés par les méthodes {@link MessageHandler} : messages typés
+ * ({@link PlayerAction}, {@link StatsUpdate}) ou par type de message pour l'ancien format.
+ * Son état ({@link State}) le suit quand il est déplacé vers une autre réplique du service.
+ * Chaque changement d'état est un événement ({@link StatsUpdated}, {@link ConditionChanged}) écrit
+ * dans le journal du service : statistiques et condition survivent à un redémarrage.
+ * Ses totaux sont publiés ({@link PlayerStatsChanged}) à chaque changement et à son démarrage,
+ * pour les classements de la ligue.
  */
 @Slf4j
 @Getter
 @Setter
-public class PlayerActor extends AbstractActor {
+public class PlayerActor extends EventSourcedActor<PlayerActor.State> {
     
     private Player player;
     private PlayerStats stats;
@@ -27,7 +40,7 @@ public class PlayerActor extends AbstractActor {
     private boolean inGame;
     
     public PlayerActor(String actorId) {
-        super(actorId);
+        super(actorId, State.class);
         this.stats = new PlayerStats();
         this.fatigueLevel = 0;
         this.injured = false;
@@ -35,7 +48,7 @@ public class PlayerActor extends AbstractActor {
     }
     
     public PlayerActor(String actorId, Player player) {
-        super(actorId);
+        super(actorId, State.class);
         this.player = player;
         this.stats = new PlayerStats();
         this.fatigueLevel = 0;
@@ -43,58 +56,72 @@ public class PlayerActor extends AbstractActor {
         this.inGame = false;
     }
     
-    @Override
-    protected Object onReceive(Message message) {
-        String messageType = message.getMessageType();
+    /**
+     * Recrée un joueur à partir de son état capturé
+     */
+    public PlayerActor(String actorId, State state) {
+        super(actorId, State.class);
+        this.player = state.player();
+        this.stats = state.stats() != null ? state.stats() : new PlayerStats();
+        this.fatigueLevel = state.fatigueLevel();
+        this.injured = state.injured();
+        this.inGame = state.inGame();
+    }
+    
+    /**
+     * État d'un joueur, transmis lorsqu'il change de réplique
+     */
+    public record State(Player player, PlayerStats stats, int fatigueLevel, boolean injured, boolean inGame) {
         
-        switch (messageType) {
-            case "GET_PLAYER_INFO":
-                return getPlayerInfo();
-                
-            case "UPDATE_STATS":
-                return updateStats((Map<String, Object>) message.getPayload());
-                
-            case "GET_STATS":
-                return stats;
-                
-            case "SET_FATIGUE":
-                setFatigueLevel((Integer) message.getPayload());
-                return "Fatigue updated";
-                
-            case "GET_FATIGUE":
-                return fatigueLevel;
-                
-            case "SET_INJURED":
-                setInjured((Boolean) message.getPayload());
-                return "Injury status updated";
-                
-            case "IS_AVAILABLE":
-                return isAvailable();
-                
-            case "JOIN_GAME":
-                return joinGame();
-                
-            case "LEAVE_GAME":
-                return leaveGame();
-                
-            case "PERFORM_ACTION":
-                // Le payload peut être une String (ancien format) ou une Map (nouveau format)
-                Object payload = message.getPayload();
-                if (payload instanceof Map) {
-                    return performAction((Map<String, Object>) payload);
-                } else if (payload instanceof String) {
-                    return performAction((String) payload);
-                } else {
-                    log.warn("Unknown payload type for PERFORM_ACTION: {}", payload);
-                    return "Invalid action payload";
-                }
-                
-            default:
-                log.warn("Unknown message type: {}", messageType);
-                return null;
+        /**
+         * État d'un joueur qui vient d'être créé
+         */
+        public static State of(Player player) {
+            return new State(player, new PlayerStats(), 0, false, false);
+        }
+    }
+    
+    @Override
+    public State snapshotState() {
+        return new State(player, stats.copy(), fatigueLevel, injured, inGame);
+    }
+    
+    @Override
+    protected void restoreState(State state) {
+        this.player = state.player();
+        this.stats = state.stats() != null ? state.stats() : new PlayerStats();
+        this.fatigueLevel = state.fatigueLevel();
+        this.injured = state.injured();
+        this.inGame = state.inGame();
+    }
+    
+    @Override
+    public void preStart() {
+        super.preStart();
+        // Joueur repris ou réactivé : ses totaux sont de nouveau classés
+        if (stats.getPoints() + stats.getRebounds() + stats.getAssists() + stats.getSteals() + stats.getBlocks() > 0) {
+            publishStats();
+        }
+    }
+    
+    @Override
+    protected void applyEvent(Object event) {
+        if (event instanceof StatsUpdated update) {
+            stats.addPoints(update.points());
+            stats.addRebounds(update.rebounds());
+            stats.addAssists(update.assists());
+            stats.addSteals(update.steals());
+            stats.addBlocks(update.blocks());
+            // Augmenter la fatigue avec chaque action
+            fatigueLevel = Math.min(100, fatigueLevel + 1);
+        } else if (event instanceof ConditionChanged condition) {
+            fatigueLevel = condition.fatigueLevel();
+            injured = condition.injured();
+            inGame = condition.inGame();
         }
     }
     
+    @MessageHandler("GET_PLAYER_INFO")
     private Map<String, Object> getPlayerInfo() {
         Map<String, Object> info = new HashMap<>();
         info.put("actorId", getActorId());
@@ -106,114 +133,163 @@ public class PlayerActor extends AbstractActor {
         return info;
     }
     
+    @MessageHandler("GET_STATS")
+    private PlayerStats getCurrentStats() {
+        return stats;
+    }
+    
+    @MessageHandler("SET_FATIGUE")
+    private String onSetFatigue(Number level) {
+        persist(new ConditionChanged(level.intValue(), injured, inGame));
+        return "Fatigue updated";
+    }
+    
+    @MessageHandler("GET_FATIGUE")
+    private int getCurrentFatigue() {
+        return fatigueLevel;
+    }
+    
+    @MessageHandler("SET_INJURED")
+    private String onSetInjured(Boolean status) {
+        persist(new ConditionChanged(fatigueLevel, status, inGame));
+        return "Injury status updated";
+    }
+    
+    @MessageHandler("IS_AVAILABLE")
+    private boolean onIsAvailable() {
+        return isAvailable();
+    }
+    
+    /**
+     * Mise à jour des statistiques au format Map (endpoint update-player-stats, ancien format)
+     */
+    @MessageHandler("UPDATE_STATS")
     private String updateStats(Map<String, Object> updates) {
-        if (updates.containsKey("points")) {
-            stats.addPoints((Integer) updates.get("points"));
-        }
-        if (updates.containsKey("rebounds")) {
-            stats.addRebounds((Integer) updates.get("rebounds"));
-        }
-        if (updates.containsKey("assists")) {
-            stats.addAssists((Integer) updates.get("assists"));
-        }
-        if (updates.containsKey("steals")) {
-            stats.addSteals((Integer) updates.get("steals"));
-        }
-        if (updates.containsKey("blocks")) {
-            stats.addBlocks((Integer) updates.get("blocks"));
-        }
-        
-        // Augmenter la fatigue avec chaque action
-        fatigueLevel = Math.min(100, fatigueLevel + 1);
+        return updateStats(new StatsUpdate(
+            intValue(updates, "points"), intValue(updates, "rebounds"), intValue(updates, "assists"),
+            intValue(updates, "steals"), intValue(updates, "blocks")));
+    }
+    
+    private static int intValue(Map<String, Object> values, String key) {
+        Object value = values.get(key);
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+    
+    @MessageHandler
+    private String updateStats(StatsUpdate update) {
+        persist(new StatsUpdated(update.points(), update.rebounds(), update.assists(),
+            update.steals(), update.blocks()));
+        publishStats();
         
         log.info("Player {} stats updated: {}", getActorId(), stats);
         return "Stats updated";
     }
     
+    private void publishStats() {
+        if (self() != null) {
+            publish(new PlayerStatsChanged(getActorId(), player != null ? player.getName() : null,
+                player != null ? player.getTeamId() : null, stats.getPoints(), stats.getRebounds(),
+                stats.getAssists(), stats.getSteals(), stats.getBlocks()));
+        }
+    }
+    
     private boolean isAvailable() {
         return !injured && fatigueLevel < 90;
     }
     
+    @MessageHandler("JOIN_GAME")
     private String joinGame() {
         if (!isAvailable()) {
             return "Player not available";
         }
-        inGame = true;
+        persist(new ConditionChanged(fatigueLevel, injured, true));
         log.info("Player {} joined the game", getActorId());
         return "Joined game";
     }
     
+    @MessageHandler("LEAVE_GAME")
     private String leaveGame() {
-        inGame = false;
+        persist(new ConditionChanged(fatigueLevel, injured, false));
         log.info("Player {} left the game", getActorId());
         return "Left game";
     }
     
-    private String performAction(String action) {
-        Map<String, Object> actionData = new HashMap<>();
-        actionData.put("action", action);
-        return performAction(actionData);
-    }
-    
-    private String performAction(Map<String, Object> actionData) {
-        log.info("🎮 Player {} received PERFORM_ACTION: {}", getActorId(), actionData);
+    /**
+     * Action de jeu au format Map ou String (ancien format, avant PlayerAction)
+     */
+    @MessageHandler("PERFORM_ACTION")
+    private String performAction(Object payload) {
+        String action;
+        int points = 0;
+        if (payload instanceof Map) {
+            Map<?, ?> actionData = (Map<?, ?>) payload;
+            action = (String) actionData.get("action");
+            if (actionData.get("points") instanceof Number) {
+                points = ((Number) actionData.get("points")).intValue();
+            }
+        } else if (payload instanceof String) {
+            action = (String) payload;
+        } else {
+            log.warn("Unknown payload type for PERFORM_ACTION: {}", payload);
+            return "Invalid action payload";
+        }
         
-        String action = (String) actionData.get("action");
         if (action == null) {
             log.warn("PERFORM_ACTION received without action type");
             return "Invalid action";
         }
+        ActionType actionType;
+        try {
+            actionType = ActionType.valueOf(action);
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown action type: {}", action);
+            return "Unknown action: " + action;
+        }
+        return performAction(new PlayerAction(getActorId(), null, actionType, points));
+    }
+    
+    @MessageHandler
+    private String performAction(PlayerAction action) {
+        log.info("🎮 Player {} received {}", getActorId(), action);
         
         // Si le joueur n'est pas encore dans le match, le faire rejoindre automatiquement
         if (!inGame) {
-            log.info("Player {} not in game, auto-joining for action {}", getActorId(), action);
-            inGame = true;
+            log.info("Player {} not in game, auto-joining for action {}", getActorId(), action.action());
+            persist(new ConditionChanged(fatigueLevel, injured, true));
         }
         
-        // Sauvegarder les stats avant la mise à jour pour le log
-        int pointsBefore = stats.getPoints();
-        int reboundsBefore = stats.getRebounds();
-        int assistsBefore = stats.getAssists();
-        
         // Simuler une action de jeu
-        Map<String, Object> statUpdate = new HashMap<>();
-        switch (action) {
-            case "SCORE":
-                // Utiliser les points passés dans l'action, ou 2 par défaut
-                int points = actionData.containsKey("points") ? 
-                    ((Number) actionData.get("points")).intValue() : 2;
-                statUpdate.put("points", points);
+        switch (action.action()) {
+            case SCORE:
+                int points = action.scoredPoints();
                 log.info("🏀 Player {} scored {} points (was: {}, now: {})", 
-                        getActorId(), points, pointsBefore, pointsBefore + points);
+                        getActorId(), points, stats.getPoints(), stats.getPoints() + points);
+                updateStats(new StatsUpdate(points, 0, 0, 0, 0));
                 break;
-            case "REBOUND":
-                statUpdate.put("rebounds", 1);
+            case REBOUND:
                 log.info("🏀 Player {} got a rebound (was: {}, now: {})", 
-                        getActorId(), reboundsBefore, reboundsBefore + 1);
+                        getActorId(), stats.getRebounds(), stats.getRebounds() + 1);
+                updateStats(new StatsUpdate(0, 1, 0, 0, 0));
                 break;
-            case "ASSIST":
-                statUpdate.put("assists", 1);
+            case ASSIST:
                 log.info("🏀 Player {} made an assist (was: {}, now: {})", 
-                        getActorId(), assistsBefore, assistsBefore + 1);
+                        getActorId(), stats.getAssists(), stats.getAssists() + 1);
+                updateStats(new StatsUpdate(0, 0, 1, 0, 0));
                 break;
-            case "STEAL":
-                statUpdate.put("steals", 1);
+            case STEAL:
                 log.info("🏀 Player {} made a steal", getActorId());
+                updateStats(new StatsUpdate(0, 0, 0, 1, 0));
                 break;
-            case "BLOCK":
-                statUpdate.put("blocks", 1);
+            case BLOCK:
                 log.info("🏀 Player {} made a block", getActorId());
+                updateStats(new StatsUpdate(0, 0, 0, 0, 1));
                 break;
-            default:
-                log.warn("Unknown action type: {}", action);
-                return "Unknown action: " + action;
         }
         
-        updateStats(statUpdate);
         log.info("✅ Player {} stats updated after {}: Points={}, Rebounds={}, Assists={}, Steals={}, Blocks={}", 
-                 getActorId(), action, stats.getPoints(), stats.getRebounds(), 
+                 getActorId(), action.action(), stats.getPoints(), stats.getRebounds(), 
                  stats.getAssists(), stats.getSteals(), stats.getBlocks());
-        return "Action performed: " + action;
+        return "Action performed: " + action.action();
     }
 }
 
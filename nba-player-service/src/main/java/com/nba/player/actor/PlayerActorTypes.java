@@ -0,0 +1,18 @@
+package com.nba.player.actor;
+
+import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.actor.ActorTypeRegistrar;
+import org.springframework.stereotype.Component;
+
+/**
+ * Enregistre le PlayerActor comme type d'acteur recréable à partir de son état
+ * (création sur la réplique propriétaire, déplacement entre répliques)
+ */
+@Component
+public class PlayerActorTypes implements ActorTypeRegistrar {
+    
+    @Override
+    public void registerActorTypes(ActorSystem actorSystem) {
+        actorSystem.registerActorType(PlayerActor.class, PlayerActor.State.class, PlayerActor::new);
+    }
+}
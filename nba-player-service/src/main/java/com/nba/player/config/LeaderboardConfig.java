@@ -0,0 +1,23 @@
+package com.nba.player.config;
+
+import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.communication.ActorRegistry;
+import com.nba.player.leaderboard.LeaderboardActor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LeaderboardConfig {
+    
+    /**
+     * Classements de la ligue de cette réplique (acteur {@value LeaderboardActor#PATH})
+     */
+    @Bean
+    public LeaderboardActor leaderboardActor(ActorSystem actorSystem, ActorRegistry actorRegistry,
+                                             @Value("${spring.application.name}") String serviceName) {
+        LeaderboardActor leaderboard = new LeaderboardActor(serviceName);
+        actorRegistry.registerLocalActor(leaderboard.getActorPath(), actorSystem.createActor(leaderboard));
+        return leaderboard;
+    }
+}
@@ -1,20 +1,29 @@
 package com.nba.player.controller;
 
 import com.actorframework.core.actor.ActorRef;
-import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.communication.ActorHandoff;
 import com.actorframework.core.communication.ActorRegistry;
 import com.actorframework.core.message.Message;
 import com.nba.player.actor.PlayerActor;
+import com.nba.player.leaderboard.LeaderboardActor;
+import com.nba.player.leaderboard.LeaderboardCategory;
+import com.nba.player.leaderboard.LeaderboardQuery;
 import com.nba.player.model.Player;
+import com.nba.player.model.PlayerInfoResult;
 import com.nba.player.service.TeamCommunicationService;
 import com.nba.team.model.Team;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -22,19 +31,24 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class PlayerController {
     
-    private final ActorSystem actorSystem;
+    private static final int MAX_BATCH_SIZE = 100;
+    
+    private final ActorHandoff actorHandoff;
     private final ActorRegistry actorRegistry;
     private final TeamCommunicationService teamCommunicationService;
     
+    /**
+     * Crée le joueur ; son acteur est créé sur la réplique du service qui en est propriétaire
+     */
     @PostMapping("/create")
-    public ResponseEntity<Map<String, Object>> createPlayer(@RequestBody Player player) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> createPlayer(@RequestBody Player player) {
         // Valider que l'équipe est fournie et existe avant de créer le joueur
         if (player.getTeamId() == null || player.getTeamId().isEmpty()) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("error", "Team is required");
             errorResponse.put("message", "L'équipe est obligatoire. Veuillez créer une équipe d'abord, puis sélectionnez-la lors de la création du joueur.");
             log.warn("Cannot create player {}: teamId is required", player.getId());
-            return ResponseEntity.badRequest().body(errorResponse);
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(errorResponse));
         }
         
         // Vérifier que l'équipe existe
@@ -44,7 +58,7 @@ public class PlayerController {
             errorResponse.put("message", "L'équipe avec l'ID " + player.getTeamId() + " n'existe pas. Veuillez créer l'équipe d'abord.");
             errorResponse.put("teamId", player.getTeamId());
             log.warn("Cannot create player {}: team {} does not exist", player.getId(), player.getTeamId());
-            return ResponseEntity.badRequest().body(errorResponse);
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(errorResponse));
         }
         
         // Ajouter le joueur à l'équipe
@@ -52,30 +66,87 @@ public class PlayerController {
         log.info("✅ Player {} added to team {}", player.getId(), player.getTeamId());
         
         String actorId = "player-" + player.getId();
-        PlayerActor actor = new PlayerActor(actorId, player);
-        ActorRef actorRef = actorSystem.createActor(actor);
-        actorRegistry.registerLocalActor(actor.getActorPath(), actorRef);
+        return actorHandoff.spawn(PlayerActor.class, actorId, PlayerActor.State.of(player))
+            .thenApply(actorRef -> {
+                Map<String, Object> response = new HashMap<>();
+                response.put("actorId", actorId);
+                response.put("path", "/user/PlayerActor/" + actorId);
+                response.put("player", player);
+                if (player.getTeamId() != null) {
+                    response.put("teamId", player.getTeamId());
+                }
+                return ResponseEntity.ok(response);
+            });
+    }
+    
+    @GetMapping("/{actorId}/info")
+    public CompletableFuture<ResponseEntity<Object>> getPlayerInfo(@PathVariable String actorId) {
+        ActorRef actorRef = actorRegistry.resolveActor("/user/PlayerActor/" + actorId);
+        if (actorRef == null) {
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+        }
         
-        Map<String, Object> response = new HashMap<>();
-        response.put("actorId", actorId);
-        response.put("path", actor.getActorPath());
-        response.put("player", player);
-        if (player.getTeamId() != null) {
-            response.put("teamId", player.getTeamId());
+        Message message = new Message("GET_PLAYER_INFO", null, true);
+        return actorRef.askAsync(message, 5000).thenApply(ResponseEntity::ok);
+    }
+    
+    /**
+     * Informations de plusieurs joueurs en une requête (identifiants {@code 1} ou {@code player-1}) :
+     * les asks partent en parallèle et chaque réponse est écrite dès qu'elle arrive (NDJSON, dans l'ordre
+     * d'arrivée) ; la durée totale est celle du joueur le plus lent
+     */
+    @PostMapping(value = "/info:batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<PlayerInfoResult>> getPlayerInfoBatch(@RequestBody List<String> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
         }
-        return ResponseEntity.ok(response);
+        
+        Flux<PlayerInfoResult> results = Flux.fromIterable(ids)
+            .map(id -> id.startsWith("player-") ? id : "player-" + id)
+            .distinct()
+            .flatMap(this::askPlayerInfo, MAX_BATCH_SIZE);
+        return ResponseEntity.ok(results);
     }
     
-    @GetMapping("/{actorId}/info")
-    public ResponseEntity<Object> getPlayerInfo(@PathVariable String actorId) {
+    private Mono<PlayerInfoResult> askPlayerInfo(String actorId) {
         ActorRef actorRef = actorRegistry.resolveActor("/user/PlayerActor/" + actorId);
         if (actorRef == null) {
-            return ResponseEntity.notFound().build();
+            return Mono.just(PlayerInfoResult.failed(actorId, "Player not found"));
         }
         
         Message message = new Message("GET_PLAYER_INFO", null, true);
-        Object response = actorRef.ask(message, 5000);
-        return ResponseEntity.ok(response);
+        return Mono.fromFuture(() -> actorRef.askAsync(message, 5000))
+            .map(info -> PlayerInfoResult.of(actorId, info))
+            // Un ask résolu à null (réponse absente) ne doit pas faire disparaître le joueur du flux
+            .defaultIfEmpty(PlayerInfoResult.failed(actorId, "No response"))
+            .onErrorResume(e -> Mono.just(PlayerInfoResult.failed(actorId, String.valueOf(e.getMessage()))));
+    }
+    
+    /**
+     * Page d'un classement de la ligue : {@code points}, {@code rebounds}, {@code assists}, {@code steals}
+     * ou {@code blocks} (au plus {@value LeaderboardActor#MAX_PAGE_SIZE} joueurs par page)
+     */
+    @GetMapping("/leaderboards/{category}")
+    public CompletableFuture<ResponseEntity<Object>> getLeaderboard(
+            @PathVariable String category,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int limit) {
+        
+        LeaderboardCategory leaderboardCategory = LeaderboardCategory.parse(category);
+        if (leaderboardCategory == null || offset < 0) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Invalid leaderboard query");
+            errorResponse.put("categories", LeaderboardCategory.values());
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(errorResponse));
+        }
+        
+        ActorRef leaderboardRef = actorRegistry.resolveActor(LeaderboardActor.PATH);
+        if (leaderboardRef == null) {
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+        }
+        
+        Message message = Message.of(new LeaderboardQuery(leaderboardCategory, offset, limit), true);
+        return leaderboardRef.askAsync(message, 5000).thenApply(ResponseEntity::ok);
     }
     
     @PostMapping("/{actorId}/action")
@@ -96,15 +167,15 @@ public class PlayerController {
     }
     
     @PostMapping("/{actorId}/join-game")
-    public ResponseEntity<String> joinGame(@PathVariable String actorId) {
+    public CompletableFuture<ResponseEntity<String>> joinGame(@PathVariable String actorId) {
         ActorRef actorRef = actorRegistry.resolveActor("/user/PlayerActor/" + actorId);
         if (actorRef == null) {
-            return ResponseEntity.notFound().build();
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
         }
         
         Message message = new Message("JOIN_GAME", null, true);
-        Object response = actorRef.ask(message, 5000);
-        return ResponseEntity.ok(response.toString());
+        return actorRef.askAsync(message, 5000)
+            .thenApply(response -> ResponseEntity.ok(String.valueOf(response)));
     }
 }
 
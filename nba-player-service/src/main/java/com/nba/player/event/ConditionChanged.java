@@ -0,0 +1,7 @@
+package com.nba.player.event;
+
+/**
+ * Nouvelle condition d'un joueur : fatigue, blessure, présence dans un match
+ */
+public record ConditionChanged(int fatigueLevel, boolean injured, boolean inGame) {
+}
@@ -0,0 +1,127 @@
+package com.nba.player.event;
+
+import com.actorframework.core.serialization.BinaryMessageSerializer;
+import com.actorframework.core.serialization.BinaryReader;
+import com.actorframework.core.serialization.BinaryWriter;
+import com.actorframework.core.serialization.PayloadCodec;
+import com.actorframework.core.serialization.PayloadTypeRegistrar;
+import com.actorframework.core.serialization.PayloadTypeRegistry;
+import com.nba.player.actor.PlayerActor;
+import com.nba.player.message.PlayerMessages;
+import com.nba.player.model.Player;
+import com.nba.player.model.PlayerStats;
+import org.springframework.stereotype.Component;
+
+/**
+ * Enregistre les événements du PlayerActor, écrits dans le journal du service.
+ * Leurs identifiants suivent ceux de {@link PlayerMessages}.
+ * Son état ({@link PlayerActor.State}) a aussi un encodage binaire : ses instantanés restent compacts
+ * dans le journal et son point de reprise.
+ * {@link PlayerStatsChanged}, publié sur le flux d'événements, est transmis aux autres répliques du service.
+ */
+@Component
+public class PlayerEvents implements PayloadTypeRegistrar {
+    
+    public static final int STATS_UPDATED_TYPE_ID = PlayerMessages.STATS_UPDATE_TYPE_ID + 1;
+    public static final int CONDITION_CHANGED_TYPE_ID = PlayerMessages.STATS_UPDATE_TYPE_ID + 2;
+    // Après les événements du match et de l'équipe (GameEvents, TeamEvents)
+    public static final int PLAYER_STATE_TYPE_ID = PayloadTypeRegistry.FIRST_APPLICATION_TYPE_ID + 7;
+    // Après les états du tableau de score et de l'équipe
+    public static final int PLAYER_STATS_CHANGED_TYPE_ID = PayloadTypeRegistry.FIRST_APPLICATION_TYPE_ID + 10;
+    
+    @Override
+    public void registerPayloadTypes(PayloadTypeRegistry registry) {
+        registry.register(STATS_UPDATED_TYPE_ID, StatsUpdated.class, new PayloadCodec<>() {
+            @Override
+            public void write(StatsUpdated value, BinaryWriter out, BinaryMessageSerializer serializer) {
+                out.writeSignedInt(value.points());
+                out.writeSignedInt(value.rebounds());
+                out.writeSignedInt(value.assists());
+                out.writeSignedInt(value.steals());
+                out.writeSignedInt(value.blocks());
+            }
+            
+            @Override
+            public StatsUpdated read(BinaryReader in, BinaryMessageSerializer serializer) {
+                return new StatsUpdated(in.readSignedInt(), in.readSignedInt(), in.readSignedInt(),
+                    in.readSignedInt(), in.readSignedInt());
+            }
+        });
+        
+        registry.register(CONDITION_CHANGED_TYPE_ID, ConditionChanged.class, new PayloadCodec<>() {
+            @Override
+            public void write(ConditionChanged value, BinaryWriter out, BinaryMessageSerializer serializer) {
+                out.writeSignedInt(value.fatigueLevel());
+                out.writeBoolean(value.injured());
+                out.writeBoolean(value.inGame());
+            }
+            
+            @Override
+            public ConditionChanged read(BinaryReader in, BinaryMessageSerializer serializer) {
+                return new ConditionChanged(in.readSignedInt(), in.readBoolean(), in.readBoolean());
+            }
+        });
+        
+        registry.register(PLAYER_STATS_CHANGED_TYPE_ID, PlayerStatsChanged.class, new PayloadCodec<>() {
+            @Override
+            public void write(PlayerStatsChanged value, BinaryWriter out, BinaryMessageSerializer serializer) {
+                out.writeString(value.actorId());
+                out.writeString(value.name());
+                out.writeString(value.teamId());
+                out.writeSignedInt(value.points());
+                out.writeSignedInt(value.rebounds());
+                out.writeSignedInt(value.assists());
+                out.writeSignedInt(value.steals());
+                out.writeSignedInt(value.blocks());
+            }
+            
+            @Override
+            public PlayerStatsChanged read(BinaryReader in, BinaryMessageSerializer serializer) {
+                return new PlayerStatsChanged(in.readString(), in.readString(), in.readString(), in.readSignedInt(),
+                    in.readSignedInt(), in.readSignedInt(), in.readSignedInt(), in.readSignedInt());
+            }
+        });
+        
+        registry.register(PLAYER_STATE_TYPE_ID, PlayerActor.State.class, new PayloadCodec<>() {
+            @Override
+            public void write(PlayerActor.State value, BinaryWriter out, BinaryMessageSerializer serializer) {
+                Player player = value.player();
+                out.writeBoolean(player != null);
+                if (player != null) {
+                    out.writeString(player.getId());
+                    out.writeString(player.getName());
+                    out.writeString(player.getPosition());
+                    out.writeSignedInt(player.getJerseyNumber());
+                    out.writeString(player.getTeamId());
+                }
+                PlayerStats stats = value.stats() != null ? value.stats() : new PlayerStats();
+                out.writeSignedInt(stats.getPoints());
+                out.writeSignedInt(stats.getRebounds());
+                out.writeSignedInt(stats.getAssists());
+                out.writeSignedInt(stats.getSteals());
+                out.writeSignedInt(stats.getBlocks());
+                out.writeSignedInt(stats.getMinutesPlayed());
+                out.writeSignedInt(value.fatigueLevel());
+                out.writeBoolean(value.injured());
+                out.writeBoolean(value.inGame());
+            }
+            
+            @Override
+            public PlayerActor.State read(BinaryReader in, BinaryMessageSerializer serializer) {
+                Player player = null;
+                if (in.readBoolean()) {
+                    player = new Player(in.readString(), in.readString(), in.readString(),
+                        in.readSignedInt(), in.readString());
+                }
+                PlayerStats stats = new PlayerStats();
+                stats.setPoints(in.readSignedInt());
+                stats.setRebounds(in.readSignedInt());
+                stats.setAssists(in.readSignedInt());
+                stats.setSteals(in.readSignedInt());
+                stats.setBlocks(in.readSignedInt());
+                stats.setMinutesPlayed(in.readSignedInt());
+                return new PlayerActor.State(player, stats, in.readSignedInt(), in.readBoolean(), in.readBoolean());
+            }
+        });
+    }
+}
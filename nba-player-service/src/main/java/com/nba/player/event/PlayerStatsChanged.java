@@ -0,0 +1,9 @@
+package com.nba.player.event;
+
+/**
+ * Totaux des statistiques d'un joueur après un changement, publiés sur le flux d'événements
+ * (sujet {@code PlayerStatsChanged}) pour les classements de la ligue
+ */
+public record PlayerStatsChanged(String actorId, String name, String teamId, int points, int rebounds,
+                                 int assists, int steals, int blocks) {
+}
@@ -0,0 +1,7 @@
+package com.nba.player.event;
+
+/**
+ * Statistiques ajoutées à celles d'un joueur (sa fatigue augmente d'un point)
+ */
+public record StatsUpdated(int points, int rebounds, int assists, int steals, int blocks) {
+}
@@ -0,0 +1,82 @@
+package com.nba.player.leaderboard;
+
+import com.actorframework.core.actor.AbstractActor;
+import com.actorframework.core.actor.MessageHandler;
+import com.actorframework.core.pubsub.EventStream;
+import com.nba.player.event.PlayerStatsChanged;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Classements de la ligue (points, rebonds, passes, interceptions, contres), un acteur par réplique.
+ * Alimenté par les {@link PlayerStatsChanged} publiés par chaque PlayerActor, ceux de cette réplique
+ * et ceux des autres répliques du service : chaque réplique classe tous les joueurs.
+ * Les événements portent les totaux du joueur : seule sa position dans chaque catégorie modifiée est
+ * mise à jour, en O(log n) ({@link RankedSkipList}).
+ * Un joueur est classé dès qu'il a des statistiques et qu'il est actif (créé, repris ou réactivé).
+ */
+@Slf4j
+public class LeaderboardActor extends AbstractActor {
+    
+    public static final String ACTOR_ID = "leaderboards";
+    public static final String PATH = "/user/LeaderboardActor/" + ACTOR_ID;
+    public static final int MAX_PAGE_SIZE = 100;
+    
+    // Service dont les autres répliques publient aussi des statistiques (null : cette réplique seule)
+    private final String serviceName;
+    private final Map<String, PlayerStatsChanged> players = new HashMap<>();
+    private final Map<LeaderboardCategory, RankedSkipList> boards = new EnumMap<>(LeaderboardCategory.class);
+    
+    public LeaderboardActor(String serviceName) {
+        super(ACTOR_ID);
+        this.serviceName = serviceName;
+        for (LeaderboardCategory category : LeaderboardCategory.values()) {
+            boards.put(category, new RankedSkipList());
+        }
+    }
+    
+    @Override
+    public void preStart() {
+        super.preStart();
+        if (serviceName != null) {
+            subscribeRemote(serviceName, EventStream.topicOf(PlayerStatsChanged.class));
+        } else {
+            subscribe(PlayerStatsChanged.class);
+        }
+    }
+    
+    @MessageHandler
+    private void onStatsChanged(PlayerStatsChanged stats) {
+        PlayerStatsChanged previous = players.put(stats.actorId(), stats);
+        for (LeaderboardCategory category : LeaderboardCategory.values()) {
+            int value = category.statOf(stats);
+            RankedSkipList board = boards.get(category);
+            if (previous != null) {
+                int previousValue = category.statOf(previous);
+                if (previousValue == value) {
+                    continue;
+                }
+                board.remove(stats.actorId(), previousValue);
+            }
+            board.insert(stats.actorId(), value);
+        }
+    }
+    
+    @MessageHandler
+    private LeaderboardPage getPage(LeaderboardQuery query) {
+        RankedSkipList board = boards.get(query.category());
+        int limit = Math.min(Math.max(query.limit(), 0), MAX_PAGE_SIZE);
+        List<LeaderboardPage.Entry> entries = new ArrayList<>(Math.min(limit, board.size()));
+        board.forEach(query.offset(), limit, (actorId, value) -> {
+            PlayerStatsChanged player = players.get(actorId);
+            entries.add(new LeaderboardPage.Entry(query.offset() + entries.size() + 1, actorId,
+                player.name(), player.teamId(), value));
+        });
+        return new LeaderboardPage(query.category(), board.size(), query.offset(), entries);
+    }
+}
@@ -0,0 +1,38 @@
+package com.nba.player.leaderboard;
+
+import com.nba.player.event.PlayerStatsChanged;
+
+import java.util.Locale;
+import java.util.function.ToIntFunction;
+
+/**
+ * Statistique classée par un leaderboard
+ */
+public enum LeaderboardCategory {
+    POINTS(PlayerStatsChanged::points),
+    REBOUNDS(PlayerStatsChanged::rebounds),
+    ASSISTS(PlayerStatsChanged::assists),
+    STEALS(PlayerStatsChanged::steals),
+    BLOCKS(PlayerStatsChanged::blocks);
+    
+    private final ToIntFunction<PlayerStatsChanged> value;
+    
+    LeaderboardCategory(ToIntFunction<PlayerStatsChanged> value) {
+        this.value = value;
+    }
+    
+    public int statOf(PlayerStatsChanged stats) {
+        return value.applyAsInt(stats);
+    }
+    
+    /**
+     * @return null si la catégorie est inconnue
+     */
+    public static LeaderboardCategory parse(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
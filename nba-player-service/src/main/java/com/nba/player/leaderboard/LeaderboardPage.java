@@ -0,0 +1,13 @@
+package com.nba.player.leaderboard;
+
+import java.util.List;
+
+/**
+ * Page d'un leaderboard
+ * @param total Nombre de joueurs classés
+ */
+public record LeaderboardPage(LeaderboardCategory category, int total, int offset, List<Entry> entries) {
+    
+    public record Entry(int rank, String actorId, String name, String teamId, int value) {
+    }
+}
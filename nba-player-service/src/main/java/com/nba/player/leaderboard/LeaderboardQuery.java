@@ -0,0 +1,7 @@
+package com.nba.player.leaderboard;
+
+/**
+ * Demande d'une page de leaderboard au {@link LeaderboardActor}
+ */
+public record LeaderboardQuery(LeaderboardCategory category, int offset, int limit) {
+}
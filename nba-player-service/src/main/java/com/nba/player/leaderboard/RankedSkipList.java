@@ -0,0 +1,139 @@
+package com.nba.player.leaderboard;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Liste à enjambements indexée : joueurs triés par valeur décroissante (puis identifiant croissant).
+ * Chaque lien connaît le nombre d'éléments qu'il enjambe : insertion, suppression et accès par rang
+ * sont en O(log n) attendu, une page de k joueurs en O(log n + k).
+ * Non thread-safe : utilisée par le seul {@link LeaderboardActor}.
+ */
+final class RankedSkipList {
+    
+    private static final int MAX_LEVEL = 32;
+    
+    private final Node head = new Node(null, 0, MAX_LEVEL);
+    private int level = 1;
+    private int size;
+    
+    private static final class Node {
+        private final String key;
+        private final int value;
+        private final Node[] next;
+        // Nombre d'éléments enjambés par next[i] (jusqu'à la fin de la liste si next[i] est null)
+        private final int[] span;
+        
+        private Node(String key, int value, int level) {
+            this.key = key;
+            this.value = value;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    void insert(String key, int value) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && precedes(x.next[i], key, value)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+        Node node = new Node(key, value, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+    
+    /**
+     * @return false si l'élément n'était pas dans la liste
+     */
+    boolean remove(String key, int value) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && precedes(x.next[i], key, value)) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        Node node = x.next[0];
+        if (node == null || node.value != value || !node.key.equals(key)) {
+            return false;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == node) {
+                update[i].span[i] += node.span[i] - 1;
+                update[i].next[i] = node.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+    
+    /**
+     * Parcourt au plus {@code limit} éléments à partir du rang {@code offset} (0 = premier)
+     */
+    void forEach(int offset, int limit, ObjIntConsumer<String> action) {
+        if (offset < 0 || offset >= size || limit <= 0) {
+            return;
+        }
+        // Descente jusqu'au (offset + 1)-ième élément en suivant les enjambements
+        int target = offset + 1;
+        int traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0 && traversed < target; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= target) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+        }
+        for (int count = 0; x != null && count < limit; count++, x = x.next[0]) {
+            action.accept(x.key, x.value);
+        }
+    }
+    
+    // Le nœud est classé avant (key, value) : valeur plus grande, ou égale avec un identifiant plus petit
+    private static boolean precedes(Node node, String key, int value) {
+        return node.value > value || (node.value == value && node.key.compareTo(key) < 0);
+    }
+    
+    private static int randomLevel() {
+        int nodeLevel = 1;
+        // Un niveau de plus avec une probabilité 1/4
+        while (nodeLevel < MAX_LEVEL && ThreadLocalRandom.current().nextInt(4) == 0) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+}
@@ -0,0 +1,12 @@
+package com.nba.player.message;
+
+/**
+ * Actions de jeu qu'un joueur peut réaliser pendant un match.
+ */
+public enum ActionType {
+    SCORE,
+    REBOUND,
+    ASSIST,
+    STEAL,
+    BLOCK
+}
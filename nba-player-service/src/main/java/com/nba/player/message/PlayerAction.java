@@ -0,0 +1,18 @@
+package com.nba.player.message;
+
+/**
+ * Action de jeu d'un joueur, envoyée par le ScoreboardActor au PlayerActor.
+ * @param team HOME ou AWAY
+ * @param points Points marqués pour un SCORE (0 : panier à 2 points)
+ */
+public record PlayerAction(String playerId, String team, ActionType action, int points) {
+    
+    public static final int DEFAULT_POINTS = 2;
+    
+    /**
+     * Points réellement marqués (panier à 2 points si non précisé)
+     */
+    public int scoredPoints() {
+        return points > 0 ? points : DEFAULT_POINTS;
+    }
+}
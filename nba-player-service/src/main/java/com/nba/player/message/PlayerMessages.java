@@ -0,0 +1,57 @@
+package com.nba.player.message;
+
+import com.actorframework.core.serialization.BinaryMessageSerializer;
+import com.actorframework.core.serialization.BinaryReader;
+import com.actorframework.core.serialization.BinaryWriter;
+import com.actorframework.core.serialization.PayloadCodec;
+import com.actorframework.core.serialization.PayloadTypeRegistrar;
+import com.actorframework.core.serialization.PayloadTypeRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Enregistre les messages typés du PlayerActor pour le format binaire.
+ * Doit être présent dans chaque service qui les échange (player et game),
+ * avec les mêmes identifiants.
+ */
+@Component
+public class PlayerMessages implements PayloadTypeRegistrar {
+    
+    public static final int PLAYER_ACTION_TYPE_ID = PayloadTypeRegistry.FIRST_APPLICATION_TYPE_ID;
+    public static final int STATS_UPDATE_TYPE_ID = PayloadTypeRegistry.FIRST_APPLICATION_TYPE_ID + 1;
+    
+    @Override
+    public void registerPayloadTypes(PayloadTypeRegistry registry) {
+        registry.register(PLAYER_ACTION_TYPE_ID, PlayerAction.class, new PayloadCodec<>() {
+            @Override
+            public void write(PlayerAction value, BinaryWriter out, BinaryMessageSerializer serializer) {
+                out.writeString(value.playerId());
+                out.writeString(value.team());
+                out.writeByte(value.action().ordinal());
+                out.writeSignedInt(value.points());
+            }
+            
+            @Override
+            public PlayerAction read(BinaryReader in, BinaryMessageSerializer serializer) {
+                return new PlayerAction(in.readString(), in.readString(),
+                    ActionType.values()[in.readByte()], in.readSignedInt());
+            }
+        });
+        
+        registry.register(STATS_UPDATE_TYPE_ID, StatsUpdate.class, new PayloadCodec<>() {
+            @Override
+            public void write(StatsUpdate value, BinaryWriter out, BinaryMessageSerializer serializer) {
+                out.writeSignedInt(value.points());
+                out.writeSignedInt(value.rebounds());
+                out.writeSignedInt(value.assists());
+                out.writeSignedInt(value.steals());
+                out.writeSignedInt(value.blocks());
+            }
+            
+            @Override
+            public StatsUpdate read(BinaryReader in, BinaryMessageSerializer serializer) {
+                return new StatsUpdate(in.readSignedInt(), in.readSignedInt(), in.readSignedInt(),
+                    in.readSignedInt(), in.readSignedInt());
+            }
+        });
+    }
+}
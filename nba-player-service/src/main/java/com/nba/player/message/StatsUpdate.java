@@ -0,0 +1,7 @@
+package com.nba.player.message;
+
+/**
+ * Statistiques à ajouter à celles d'un joueur (ex: match généré par le ScoreboardActor).
+ */
+public record StatsUpdate(int points, int rebounds, int assists, int steals, int blocks) {
+}
@@ -0,0 +1,19 @@
+package com.nba.player.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Réponse d'un joueur dans une requête groupée ({@code POST /api/players/info:batch}) :
+ * ses informations ({@code GET_PLAYER_INFO}) ou l'erreur qui les a empêchées
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PlayerInfoResult(String actorId, Object info, String error) {
+    
+    public static PlayerInfoResult of(String actorId, Object info) {
+        return new PlayerInfoResult(actorId, info, null);
+    }
+    
+    public static PlayerInfoResult failed(String actorId, String error) {
+        return new PlayerInfoResult(actorId, null, error);
+    }
+}
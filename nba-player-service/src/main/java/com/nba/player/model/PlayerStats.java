@@ -36,5 +36,16 @@ public class PlayerStats implements Serializable {
     public void addMinutes(int minutes) {
         this.minutesPlayed += minutes;
     }
+    
+    public PlayerStats copy() {
+        PlayerStats copy = new PlayerStats();
+        copy.points = points;
+        copy.rebounds = rebounds;
+        copy.assists = assists;
+        copy.steals = steals;
+        copy.blocks = blocks;
+        copy.minutesPlayed = minutesPlayed;
+        return copy;
+    }
 }
 
@@ -1,53 +1,36 @@
 package com.nba.player.service;
 
+import com.actorframework.core.discovery.ServiceInstanceResolver;
 import com.nba.team.model.Team;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cloud.client.ServiceInstance;
-import org.springframework.cloud.client.discovery.DiscoveryClient;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.Duration;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
  * Service pour communiquer avec le Team Service
  * Utilise Eureka pour la découverte de services (conforme aux consignes)
+ * Chaque équipe est tenue par une seule réplique du Team Service (flux {@code /teams/<id>}) :
+ * les appels sont routés vers l'instance propriétaire de l'équipe plutôt que répartis
  */
 @Slf4j
 @Service
 public class TeamCommunicationService {
     
     private final WebClient webClient;
-    private final DiscoveryClient discoveryClient;
+    private final ServiceInstanceResolver instanceResolver;
     private static final String TEAM_SERVICE_NAME = "nba-team-service";
+    // Clé de routage d'une équipe, son flux dans le journal du Team Service
+    private static final String TEAM_KEY_PREFIX = "/teams/";
+    // Repli pour le développement local si Eureka n'est pas disponible
+    private static final String TEAM_SERVICE_FALLBACK_URL = "http://localhost:8082";
     
-    public TeamCommunicationService(WebClient.Builder webClientBuilder, DiscoveryClient discoveryClient) {
+    public TeamCommunicationService(WebClient.Builder webClientBuilder, ServiceInstanceResolver instanceResolver) {
         this.webClient = webClientBuilder.build();
-        this.discoveryClient = discoveryClient;
-    }
-    
-    /**
-     * Obtient l'URL du service Team via Eureka
-     */
-    private String getTeamServiceUrl() {
-        try {
-            List<ServiceInstance> instances = discoveryClient.getInstances(TEAM_SERVICE_NAME);
-            if (instances != null && !instances.isEmpty()) {
-                ServiceInstance instance = instances.get(0);
-                String url = "http://" + instance.getHost() + ":" + instance.getPort();
-                log.debug("Found team service at: {}", url);
-                return url;
-            }
-        } catch (Exception e) {
-            log.warn("Error discovering team service via Eureka: {}", e.getMessage());
-        }
-        
-        // Fallback pour développement local si Eureka n'est pas disponible
-        log.warn("Team service not found in Eureka, using fallback URL");
-        return "http://localhost:8082";
+        this.instanceResolver = instanceResolver;
     }
     
     /**
@@ -55,13 +38,15 @@ public class TeamCommunicationService {
      */
     public boolean teamExists(String teamId) {
         try {
-            String serviceUrl = getTeamServiceUrl();
-            Map<String, Boolean> response = webClient.get()
-                .uri(serviceUrl + "/api/teams/{teamId}/exists", teamId)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .timeout(Duration.ofSeconds(3))
-                .block();
+            Map<String, Boolean> response = instanceResolver.callOwnerAsync(TEAM_SERVICE_NAME,
+                    TEAM_KEY_PREFIX + teamId, TEAM_SERVICE_FALLBACK_URL,
+                    serviceUrl -> webClient.get()
+                        .uri(serviceUrl + "/api/teams/{teamId}/exists", teamId)
+                        .retrieve()
+                        .bodyToMono(Map.class)
+                        .timeout(Duration.ofSeconds(3))
+                        .toFuture())
+                .join();
             
             return response != null && Boolean.TRUE.equals(response.get("exists"));
         } catch (Exception e) {
@@ -80,14 +65,16 @@ public class TeamCommunicationService {
             team.setName(teamName != null ? teamName : teamId);
             // wins and losses are already initialized to 0 in Team class
             
-            String serviceUrl = getTeamServiceUrl();
-            Map<String, Object> response = webClient.post()
-                .uri(serviceUrl + "/api/teams/create")
-                .bodyValue(team)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .timeout(Duration.ofSeconds(5))
-                .block();
+            Map<String, Object> response = instanceResolver.callOwnerAsync(TEAM_SERVICE_NAME,
+                    TEAM_KEY_PREFIX + teamId, TEAM_SERVICE_FALLBACK_URL,
+                    serviceUrl -> webClient.post()
+                        .uri(serviceUrl + "/api/teams/create")
+                        .bodyValue(team)
+                        .retrieve()
+                        .bodyToMono(Map.class)
+                        .timeout(Duration.ofSeconds(5))
+                        .toFuture())
+                .join();
             
             if (response != null && response.containsKey("team")) {
                 log.info("✅ Team {} created automatically", teamId);
@@ -107,14 +94,16 @@ public class TeamCommunicationService {
             Map<String, String> requestBody = new HashMap<>();
             requestBody.put("playerId", playerId);
             
-            String serviceUrl = getTeamServiceUrl();
-            Map<String, Object> response = webClient.post()
-                .uri(serviceUrl + "/api/teams/{teamId}/add-player", teamId)
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .timeout(Duration.ofSeconds(3))
-                .block();
+            Map<String, Object> response = instanceResolver.callOwnerAsync(TEAM_SERVICE_NAME,
+                    TEAM_KEY_PREFIX + teamId, TEAM_SERVICE_FALLBACK_URL,
+                    serviceUrl -> webClient.post()
+                        .uri(serviceUrl + "/api/teams/{teamId}/add-player", teamId)
+                        .bodyValue(requestBody)
+                        .retrieve()
+                        .bodyToMono(Map.class)
+                        .timeout(Duration.ofSeconds(3))
+                        .toFuture())
+                .join();
             
             if (response != null) {
                 log.info("✅ Player {} added to team {}", playerId, teamId);
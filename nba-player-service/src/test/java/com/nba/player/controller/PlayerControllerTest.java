@@ -0,0 +1,87 @@
+package com.nba.player.controller;
+
+import com.actorframework.core.actor.ActorRef;
+import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.communication.ActorRegistry;
+import com.actorframework.core.logging.ActorLogger;
+import com.actorframework.core.message.Message;
+import com.nba.player.actor.PlayerActor;
+import com.nba.player.model.Player;
+import com.nba.player.model.PlayerInfoResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerControllerTest {
+    
+    @TempDir
+    Path logDir;
+    
+    @Test
+    void testInfoBatchAnswersEachPlayerOnce() {
+        ActorLogger actorLogger = new ActorLogger(logDir);
+        ActorSystem actorSystem = new ActorSystem(actorLogger);
+        try {
+            ActorRegistry actorRegistry = new ActorRegistry(null, WebClient.builder());
+            for (Player player : List.of(new Player("1", "LeBron James", "SF", 23, "LAL"),
+                                         new Player("2", "Anthony Davis", "PF", 3, "LAL"))) {
+                String actorId = "player-" + player.getId();
+                actorRegistry.registerLocalActor("/user/PlayerActor/" + actorId,
+                    actorSystem.createActor(new PlayerActor(actorId, player)));
+            }
+            // Ask résolu sans réponse, comme RemoteActorRef en cas d'erreur de transport
+            actorRegistry.registerLocalActor("/user/PlayerActor/player-3", new SilentRef());
+            PlayerController controller = new PlayerController(null, actorRegistry, null);
+            
+            List<PlayerInfoResult> results = controller.getPlayerInfoBatch(List.of("1", "player-2", "2", "3", "99"))
+                .getBody().collectList().block();
+            
+            Map<String, PlayerInfoResult> byActor = results.stream()
+                .collect(Collectors.toMap(PlayerInfoResult::actorId, Function.identity()));
+            assertEquals(4, results.size());
+            assertEquals("LeBron James", ((Player) ((Map<?, ?>) byActor.get("player-1").info()).get("player")).getName());
+            assertNotNull(byActor.get("player-2").info());
+            assertEquals("No response", byActor.get("player-3").error());
+            assertEquals("Player not found", byActor.get("player-99").error());
+        } finally {
+            actorSystem.shutdown();
+            actorLogger.close();
+        }
+    }
+    
+    static class SilentRef implements ActorRef {
+        
+        @Override
+        public String getPath() {
+            return "stub://silent";
+        }
+        
+        @Override
+        public void tell(Message message) {
+        }
+        
+        @Override
+        public Object ask(Message message, long timeoutMillis) {
+            return null;
+        }
+        
+        @Override
+        public <T> CompletableFuture<T> askAsync(Message message, long timeoutMillis) {
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+    }
+}
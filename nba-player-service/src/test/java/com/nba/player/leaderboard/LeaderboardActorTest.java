@@ -0,0 +1,86 @@
+package com.nba.player.leaderboard;
+
+import com.actorframework.core.actor.ActorRef;
+import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.logging.ActorLogger;
+import com.actorframework.core.message.Message;
+import com.nba.player.actor.PlayerActor;
+import com.nba.player.message.StatsUpdate;
+import com.nba.player.model.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardActorTest {
+    
+    @TempDir
+    Path logDir;
+    
+    @Test
+    void testRankedSkipListPagesMatchSortedOrderAfterRandomUpdates() {
+        RankedSkipList board = new RankedSkipList();
+        Map<String, Integer> values = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            String key = "player-" + random.nextInt(2_000);
+            Integer previous = values.get(key);
+            if (previous != null) {
+                assertTrue(board.remove(key, previous));
+            }
+            int value = random.nextInt(500);
+            values.put(key, value);
+            board.insert(key, value);
+        }
+        
+        List<String> expected = values.keySet().stream()
+            .sorted(Comparator.<String>comparingInt(values::get).reversed().thenComparing(Comparator.naturalOrder()))
+            .toList();
+        assertEquals(expected.size(), board.size());
+        for (int offset : new int[] {0, 1, 37, 1_000, expected.size() - 5}) {
+            List<String> page = new ArrayList<>();
+            board.forEach(offset, 10, (key, value) -> page.add(key));
+            assertEquals(expected.subList(offset, Math.min(offset + 10, expected.size())), page);
+        }
+    }
+    
+    @Test
+    void testPlayerStatsUpdatesFeedLeaderboards() {
+        ActorLogger actorLogger = new ActorLogger(logDir);
+        ActorSystem actorSystem = new ActorSystem(actorLogger);
+        try {
+            ActorRef leaderboard = actorSystem.createActor(new LeaderboardActor(null));
+            ActorRef lebron = actorSystem.createActor(
+                new PlayerActor("player-1", new Player("1", "LeBron James", "SF", 23, "LAL")));
+            ActorRef curry = actorSystem.createActor(
+                new PlayerActor("player-2", new Player("2", "Stephen Curry", "PG", 30, "GSW")));
+            
+            lebron.ask(Message.of(new StatsUpdate(20, 8, 0, 0, 0), true), 5000);
+            curry.ask(Message.of(new StatsUpdate(25, 2, 0, 0, 0), true), 5000);
+            lebron.ask(Message.of(new StatsUpdate(10, 0, 0, 0, 0), true), 5000);
+            
+            LeaderboardPage points = (LeaderboardPage) leaderboard.ask(
+                Message.of(new LeaderboardQuery(LeaderboardCategory.POINTS, 0, 10), true), 5000);
+            assertEquals(2, points.total());
+            assertEquals(List.of(new LeaderboardPage.Entry(1, "player-1", "LeBron James", "LAL", 30),
+                                 new LeaderboardPage.Entry(2, "player-2", "Stephen Curry", "GSW", 25)),
+                         points.entries());
+            
+            LeaderboardPage rebounds = (LeaderboardPage) leaderboard.ask(
+                Message.of(new LeaderboardQuery(LeaderboardCategory.REBOUNDS, 1, 10), true), 5000);
+            assertEquals(List.of(new LeaderboardPage.Entry(2, "player-2", "Stephen Curry", "GSW", 2)),
+                         rebounds.entries());
+        } finally {
+            actorSystem.shutdown();
+            actorLogger.close();
+        }
+    }
+}
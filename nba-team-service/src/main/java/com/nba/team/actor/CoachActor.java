@@ -2,6 +2,8 @@ package com.nba.team.actor;
 
 import com.actorframework.core.actor.AbstractActor;
 import com.actorframework.core.actor.ActorRef;
+import com.actorframework.core.actor.MessageHandler;
+import com.actorframework.core.actor.StatefulActor;
 import com.actorframework.core.communication.ActorRegistry;
 import com.actorframework.core.message.Message;
 import lombok.Getter;
@@ -13,17 +15,25 @@ import java.util.*;
 /**
  * Acteur représentant un coach NBA.
  * Prend des décisions tactiques, effectue des changements et adapte la stratégie.
+ * Son état ({@link State}) le suit quand il est déplacé vers une autre réplique du service.
+ * Il suit les scores des matchs de son équipe, publiés par le service Game sur le sujet
+ * {@code scores/<teamId>} du flux d'événements.
  */
 @Slf4j
 @Getter
 @Setter
-public class CoachActor extends AbstractActor {
+public class CoachActor extends AbstractActor implements StatefulActor<CoachActor.State> {
+    
+    private static final String GAME_SERVICE = "nba-game-service";
+    private static final String SCORE_TOPIC_PREFIX = "scores/";
     
     private String coachId;
     private String teamId;
     private List<String> activePlayers = new ArrayList<>();
     private String currentStrategy;
     private ActorRegistry actorRegistry;
+    // Dernier score reçu d'un match de l'équipe (non transmis avec l'état : le suivant le remplace)
+    private Map<String, Object> lastScore;
     
     public CoachActor(String actorId) {
         super(actorId);
@@ -37,41 +47,82 @@ public class CoachActor extends AbstractActor {
         this.currentStrategy = "DEFAULT";
     }
     
+    /**
+     * Recrée un coach à partir de son état capturé
+     */
+    public CoachActor(String actorId, State state, ActorRegistry actorRegistry) {
+        super(actorId);
+        this.coachId = state.coachId();
+        this.teamId = state.teamId();
+        if (state.activePlayers() != null) {
+            this.activePlayers.addAll(state.activePlayers());
+        }
+        this.currentStrategy = state.currentStrategy();
+        this.actorRegistry = actorRegistry;
+    }
+    
+    /**
+     * État d'un coach, transmis lorsqu'il change de réplique
+     */
+    public record State(String coachId, String teamId, List<String> activePlayers, String currentStrategy) {
+        
+        /**
+         * État d'un coach qui vient d'être créé
+         */
+        public static State of(String coachId, String teamId) {
+            return new State(coachId, teamId, List.of(), "DEFAULT");
+        }
+    }
+    
+    @Override
+    public State snapshotState() {
+        return new State(coachId, teamId, List.copyOf(activePlayers), currentStrategy);
+    }
+    
     @Override
+    public void preStart() {
+        super.preStart();
+        if (teamId != null && self() != null) {
+            subscribeRemote(GAME_SERVICE, scoreTopic());
+        }
+    }
+    
+    private String scoreTopic() {
+        return SCORE_TOPIC_PREFIX + teamId;
+    }
+    
+    /**
+     * Scores publiés par le service Game : le type du message est le sujet de l'équipe
+     */
+    @Override
+    @SuppressWarnings("unchecked")
     protected Object onReceive(Message message) {
-        String messageType = message.getMessageType();
-        
-        switch (messageType) {
-            case "SELECT_PLAYERS":
-                return selectPlayers((List<String>) message.getPayload());
-                
-            case "MAKE_SUBSTITUTION":
-                return makeSubstitution((Map<String, String>) message.getPayload());
-                
-            case "ADJUST_STRATEGY":
-                return adjustStrategy((String) message.getPayload());
-                
-            case "GET_STRATEGY":
-                return currentStrategy;
-                
-            case "GET_ACTIVE_PLAYERS":
-                return activePlayers;
-                
-            case "PLAYER_INJURED":
-                return handlePlayerInjury((String) message.getPayload());
-                
-            case "PLAYER_FATIGUED":
-                return handlePlayerFatigue((String) message.getPayload());
-                
-            case "UPDATE_TEAM_RECORD":
-                return updateTeamRecord((Map<String, Object>) message.getPayload());
-                
-            default:
-                log.warn("Unknown message type: {}", messageType);
-                return null;
+        if (teamId != null && scoreTopic().equals(message.getMessageType())
+                && message.getPayload() instanceof Map<?, ?> score) {
+            lastScore = (Map<String, Object>) score;
+            log.debug("Coach {} received score of game {}: {}-{}", coachId, score.get("gameId"),
+                score.get("homeScore"), score.get("awayScore"));
+            return null;
         }
+        return super.onReceive(message);
+    }
+    
+    @MessageHandler("GET_LAST_SCORE")
+    private Map<String, Object> getLastScore() {
+        return lastScore;
+    }
+    
+    @MessageHandler("GET_STRATEGY")
+    private String getStrategy() {
+        return currentStrategy;
+    }
+    
+    @MessageHandler("GET_ACTIVE_PLAYERS")
+    private List<String> getCurrentActivePlayers() {
+        return activePlayers;
     }
     
+    @MessageHandler("SELECT_PLAYERS")
     private String selectPlayers(List<String> playerIds) {
         if (playerIds == null) {
             log.warn("Received null playerIds list");
@@ -84,6 +135,7 @@ public class CoachActor extends AbstractActor {
         return "Players selected: " + playerIds.size();
     }
     
+    @MessageHandler("MAKE_SUBSTITUTION")
     private String makeSubstitution(Map<String, String> substitution) {
         String playerOut = substitution.get("playerOut");
         String playerIn = substitution.get("playerIn");
@@ -101,6 +153,7 @@ public class CoachActor extends AbstractActor {
         return "Substitution failed: player not in game";
     }
     
+    @MessageHandler("ADJUST_STRATEGY")
     private String adjustStrategy(String newStrategy) {
         String oldStrategy = currentStrategy;
         currentStrategy = newStrategy;
@@ -108,6 +161,7 @@ public class CoachActor extends AbstractActor {
         return "Strategy changed to: " + newStrategy;
     }
     
+    @MessageHandler("PLAYER_INJURED")
     private String handlePlayerInjury(String playerId) {
         log.warn("Coach {} handling injury for player {}", coachId, playerId);
         
@@ -119,6 +173,7 @@ public class CoachActor extends AbstractActor {
         return "Handled player injury: " + playerId;
     }
     
+    @MessageHandler("PLAYER_FATIGUED")
     private String handlePlayerFatigue(String playerId) {
         log.info("Coach {} handling fatigue for player {}", coachId, playerId);
         
@@ -153,6 +208,7 @@ public class CoachActor extends AbstractActor {
         }
     }
     
+    @MessageHandler("UPDATE_TEAM_RECORD")
     private String updateTeamRecord(Map<String, Object> payload) {
         Boolean isWin = (Boolean) payload.get("isWin");
         if (isWin == null) {
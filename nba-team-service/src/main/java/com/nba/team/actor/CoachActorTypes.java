@@ -0,0 +1,24 @@
+package com.nba.team.actor;
+
+import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.actor.ActorTypeRegistrar;
+import com.actorframework.core.communication.ActorRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Enregistre le CoachActor comme type d'acteur recréable à partir de son état
+ * (création sur la réplique propriétaire, déplacement entre répliques)
+ */
+@Component
+@RequiredArgsConstructor
+public class CoachActorTypes implements ActorTypeRegistrar {
+    
+    private final ActorRegistry actorRegistry;
+    
+    @Override
+    public void registerActorTypes(ActorSystem actorSystem) {
+        actorSystem.registerActorType(CoachActor.class, CoachActor.State.class,
+            (actorId, state) -> new CoachActor(actorId, state, actorRegistry));
+    }
+}
@@ -2,19 +2,27 @@ package com.nba.team.controller;
 
 import com.actorframework.core.actor.ActorRef;
 import com.actorframework.core.actor.ActorSystem;
+import com.actorframework.core.communication.ActorHandoff;
 import com.actorframework.core.communication.ActorRegistry;
 import com.actorframework.core.message.Message;
 import com.nba.team.actor.CoachActor;
+import com.nba.team.model.RosterItem;
 import com.nba.team.model.Team;
+import com.nba.team.service.LeagueStandings;
 import com.nba.team.service.TeamService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @RestController
@@ -22,38 +30,44 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class TeamController {
     
+    private static final String PLAYER_ACTOR_PATH = "/nba-player-service/user/PlayerActor/";
+    
     private final ActorSystem actorSystem;
     private final ActorRegistry actorRegistry;
+    private final ActorHandoff actorHandoff;
     private final TeamService teamService;
+    private final LeagueStandings leagueStandings;
     
+    /**
+     * Crée l'équipe ; son coach actor est créé sur la réplique du service qui en est propriétaire
+     */
     @PostMapping("/create")
-    public ResponseEntity<Map<String, Object>> createTeam(@RequestBody Team team) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> createTeam(@RequestBody Team team) {
         try {
             // Vérifier si l'équipe existe déjà
             if (teamService.teamExists(team.getId())) {
                 Map<String, Object> response = new HashMap<>();
                 response.put("error", "Team already exists");
                 response.put("message", "L'équipe avec l'ID " + team.getId() + " existe déjà");
-                return ResponseEntity.badRequest().body(response);
+                return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(response));
             }
             
             // Créer le coach actor - utiliser teamId pour la cohérence
             String coachActorId = "coach-" + team.getId();
-            CoachActor coachActor = new CoachActor(coachActorId, coachActorId, team.getId(), actorRegistry);
-            ActorRef coachRef = actorSystem.createActor(coachActor);
-            String actorPath = coachActor.getActorPath();
-            actorRegistry.registerLocalActor(actorPath, coachRef);
-            
-            // Ajouter l'équipe au service
-            teamService.addTeam(team);
-            
-            log.info("Team created: {} with coach actor at path: {}", team.getId(), actorPath);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("coachActorId", coachActorId);
-            response.put("path", actorPath);
-            response.put("team", team);
-            return ResponseEntity.ok(response);
+            String actorPath = "/user/CoachActor/" + coachActorId;
+            return actorHandoff.spawn(CoachActor.class, coachActorId, CoachActor.State.of(coachActorId, team.getId()))
+                .thenApply(coachRef -> {
+                    // Ajouter l'équipe au service
+                    teamService.addTeam(team);
+                    
+                    log.info("Team created: {} with coach actor at path: {}", team.getId(), actorPath);
+                    
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("coachActorId", coachActorId);
+                    response.put("path", actorPath);
+                    response.put("team", team);
+                    return ResponseEntity.ok(response);
+                });
         } catch (Exception e) {
             log.error("Error creating team: {}", team.getId(), e);
             throw e;
@@ -65,6 +79,15 @@ public class TeamController {
         return ResponseEntity.ok(teamService.getAllTeams());
     }
     
+    /**
+     * Classement de la ligue (pourcentage de victoires, matchs de retard), servi depuis le dernier
+     * instantané de {@link LeagueStandings} déjà sérialisé
+     */
+    @GetMapping(value = "/standings", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getStandings() {
+        return ResponseEntity.ok(leagueStandings.getSnapshot().json());
+    }
+    
     @GetMapping("/{teamId}")
     public ResponseEntity<Team> getTeam(@PathVariable String teamId) {
         Team team = teamService.getTeam(teamId);
@@ -90,6 +113,40 @@ public class TeamController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Équipe et informations de ses joueurs en une requête (NDJSON) : l'équipe d'abord, puis chaque joueur
+     * dès que son acteur du service Player a répondu ; les asks partent tous en parallèle
+     */
+    @GetMapping(value = "/{teamId}/roster", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<RosterItem>> getRoster(@PathVariable String teamId) {
+        Team team = teamService.getTeam(teamId);
+        if (team == null) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        List<String> playerIds;
+        synchronized (team) {
+            playerIds = List.copyOf(team.getPlayerIds());
+        }
+        Flux<RosterItem> players = Flux.fromIterable(playerIds)
+            .flatMap(playerId -> askPlayerInfo("player-" + playerId), Math.max(playerIds.size(), 1));
+        return ResponseEntity.ok(Flux.concat(Mono.just(RosterItem.of(team)), players));
+    }
+    
+    private Mono<RosterItem> askPlayerInfo(String actorId) {
+        ActorRef playerRef = actorRegistry.resolveActor(PLAYER_ACTOR_PATH + actorId);
+        if (playerRef == null) {
+            return Mono.just(RosterItem.failed(actorId, "Player not found"));
+        }
+        
+        Message message = new Message("GET_PLAYER_INFO", null, true);
+        return Mono.fromFuture(() -> playerRef.askAsync(message, 5000))
+            .map(info -> RosterItem.player(actorId, info))
+            // Un ask résolu à null (réponse absente) ne doit pas faire disparaître le joueur du flux
+            .defaultIfEmpty(RosterItem.failed(actorId, "No response"))
+            .onErrorResume(e -> Mono.just(RosterItem.failed(actorId, String.valueOf(e.getMessage()))));
+    }
+    
     @GetMapping("/{teamId}/exists")
     public ResponseEntity<Map<String, Boolean>> teamExists(@PathVariable String teamId) {
         Map<String, Boolean> response = new HashMap<>();
@@ -125,7 +182,7 @@ public class TeamController {
     }
     
     @PostMapping("/{teamId}/coach/select-players")
-    public ResponseEntity<String> selectPlayers(
+    public CompletableFuture<ResponseEntity<String>> selectPlayers(
             @PathVariable String teamId,
             @RequestBody List<String> playerIds) {
         
@@ -156,7 +213,7 @@ public class TeamController {
                 if (coachRef == null) {
                     // Dernière tentative : essayer de recréer l'acteur si l'équipe existe
                     log.warn("Actor not found, but this might be a timing issue. Please try creating the team again or wait a moment.");
-                    return ResponseEntity.status(404).body("Coach actor not found. Please make sure:\n1. You created the team with ID: " + teamId + "\n2. Wait a moment after creating the team\n3. Try again");
+                    return CompletableFuture.completedFuture(ResponseEntity.status(404).body("Coach actor not found. Please make sure:\n1. You created the team with ID: " + teamId + "\n2. Wait a moment after creating the team\n3. Try again"));
                 }
             }
             
@@ -164,51 +221,70 @@ public class TeamController {
             
             log.debug("Found coach actor, sending SELECT_PLAYERS message");
             Message message = new Message("SELECT_PLAYERS", playerIds, true);
-            Object response = coachRef.ask(message, 5000);
-            
-            if (response == null) {
-                log.warn("No response from coach actor");
-                return ResponseEntity.status(500).body("No response from coach actor");
-            }
-            
-            log.info("Successfully selected players: {}", response);
-            return ResponseEntity.ok(response.toString());
+            return coachRef.askAsync(message, 5000)
+                .thenApply(response -> {
+                    if (response == null) {
+                        log.warn("No response from coach actor");
+                        return ResponseEntity.status(500).body("No response from coach actor");
+                    }
+                    
+                    log.info("Successfully selected players: {}", response);
+                    return ResponseEntity.ok(response.toString());
+                })
+                .exceptionally(e -> selectPlayersError(teamId, e instanceof CompletionException ? e.getCause() : e));
         } catch (Exception e) {
-            log.error("Error selecting players for team {}", teamId, e);
-            e.printStackTrace();
-            return ResponseEntity.status(500).body("Error: " + e.getMessage() + " - " + e.getClass().getName());
+            return CompletableFuture.completedFuture(selectPlayersError(teamId, e));
         }
     }
     
+    private ResponseEntity<String> selectPlayersError(String teamId, Throwable e) {
+        log.error("Error selecting players for team {}", teamId, e);
+        return ResponseEntity.status(500).body("Error: " + e.getMessage() + " - " + e.getClass().getName());
+    }
+    
     @PostMapping("/{teamId}/coach/substitute")
-    public ResponseEntity<String> makeSubstitution(
+    public CompletableFuture<ResponseEntity<String>> makeSubstitution(
             @PathVariable String teamId,
             @RequestBody Map<String, String> substitution) {
         
         ActorRef coachRef = actorRegistry.resolveActor("/user/CoachActor/coach-" + teamId);
         if (coachRef == null) {
-            return ResponseEntity.notFound().build();
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
         }
         
         Message message = new Message("MAKE_SUBSTITUTION", substitution, true);
-        Object response = coachRef.ask(message, 5000);
-        return ResponseEntity.ok(response.toString());
+        return coachRef.askAsync(message, 5000)
+            .thenApply(response -> ResponseEntity.ok(String.valueOf(response)));
     }
     
     @PostMapping("/{teamId}/coach/strategy")
-    public ResponseEntity<String> adjustStrategy(
+    public CompletableFuture<ResponseEntity<String>> adjustStrategy(
             @PathVariable String teamId,
             @RequestBody Map<String, String> request) {
         
         ActorRef coachRef = actorRegistry.resolveActor("/user/CoachActor/coach-" + teamId);
         if (coachRef == null) {
-            return ResponseEntity.notFound().build();
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
         }
         
         String strategy = request.get("strategy");
         Message message = new Message("ADJUST_STRATEGY", strategy, true);
-        Object response = coachRef.ask(message, 5000);
-        return ResponseEntity.ok(response.toString());
+        return coachRef.askAsync(message, 5000)
+            .thenApply(response -> ResponseEntity.ok(String.valueOf(response)));
+    }
+    
+    /**
+     * Dernier score d'un match de l'équipe, reçu par son coach du service Game
+     */
+    @GetMapping("/{teamId}/coach/last-score")
+    public CompletableFuture<ResponseEntity<Object>> getLastScore(@PathVariable String teamId) {
+        ActorRef coachRef = actorRegistry.resolveActor("/user/CoachActor/coach-" + teamId);
+        if (coachRef == null) {
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
+        }
+        
+        return coachRef.askAsync(new Message("GET_LAST_SCORE", null, true), 5000)
+            .thenApply(response -> response != null ? ResponseEntity.ok(response) : ResponseEntity.noContent().build());
     }
     
     @PostMapping("/{teamId}/update-record")
@@ -223,19 +299,11 @@ public class TeamController {
             return ResponseEntity.badRequest().body(error);
         }
         
-        Team team = teamService.getTeam(teamId);
+        Team team = teamService.recordResult(teamId, isWin);
         if (team == null) {
             return ResponseEntity.notFound().build();
         }
         
-        if (isWin) {
-            team.setWins(team.getWins() + 1);
-        } else {
-            team.setLosses(team.getLosses() + 1);
-        }
-        
-        teamService.updateTeam(team);
-        
         Map<String, Object> response = new HashMap<>();
         response.put("teamId", teamId);
         response.put("wins", team.getWins());
@@ -0,0 +1,7 @@
+package com.nba.team.event;
+
+/**
+ * Joueur ajouté à l'effectif de l'équipe
+ */
+public record PlayerAddedToTeam(String playerId) {
+}
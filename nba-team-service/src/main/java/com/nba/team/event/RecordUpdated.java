@@ -0,0 +1,7 @@
+package com.nba.team.event;
+
+/**
+ * Résultat d'un match joué par l'équipe
+ */
+public record RecordUpdated(boolean win) {
+}
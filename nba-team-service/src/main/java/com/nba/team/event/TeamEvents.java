@@ -0,0 +1,78 @@
+package com.nba.team.event;
+
+import com.actorframework.core.serialization.BinaryMessageSerializer;
+import com.actorframework.core.serialization.BinaryReader;
+import com.actorframework.core.serialization.BinaryWriter;
+import com.actorframework.core.serialization.PayloadCodec;
+import com.actorframework.core.serialization.PayloadTypeRegistrar;
+import com.actorframework.core.serialization.PayloadTypeRegistry;
+import com.nba.team.model.Team;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enregistre les événements des équipes, écrits dans le journal du service, et l'équipe elle-même
+ * (effectif et bilan) pour ses instantanés.
+ * Identifiants distincts de ceux des messages et événements des autres services.
+ */
+@Component
+public class TeamEvents implements PayloadTypeRegistrar {
+    
+    public static final int RECORD_UPDATED_TYPE_ID = PayloadTypeRegistry.FIRST_APPLICATION_TYPE_ID + 5;
+    public static final int PLAYER_ADDED_TYPE_ID = PayloadTypeRegistry.FIRST_APPLICATION_TYPE_ID + 6;
+    public static final int TEAM_TYPE_ID = PayloadTypeRegistry.FIRST_APPLICATION_TYPE_ID + 9;
+    
+    @Override
+    public void registerPayloadTypes(PayloadTypeRegistry registry) {
+        registry.register(RECORD_UPDATED_TYPE_ID, RecordUpdated.class, new PayloadCodec<>() {
+            @Override
+            public void write(RecordUpdated value, BinaryWriter out, BinaryMessageSerializer serializer) {
+                out.writeBoolean(value.win());
+            }
+            
+            @Override
+            public RecordUpdated read(BinaryReader in, BinaryMessageSerializer serializer) {
+                return new RecordUpdated(in.readBoolean());
+            }
+        });
+        
+        registry.register(PLAYER_ADDED_TYPE_ID, PlayerAddedToTeam.class, new PayloadCodec<>() {
+            @Override
+            public void write(PlayerAddedToTeam value, BinaryWriter out, BinaryMessageSerializer serializer) {
+                out.writeString(value.playerId());
+            }
+            
+            @Override
+            public PlayerAddedToTeam read(BinaryReader in, BinaryMessageSerializer serializer) {
+                return new PlayerAddedToTeam(in.readString());
+            }
+        });
+        
+        registry.register(TEAM_TYPE_ID, Team.class, new PayloadCodec<>() {
+            @Override
+            public void write(Team value, BinaryWriter out, BinaryMessageSerializer serializer) {
+                out.writeString(value.getId());
+                out.writeString(value.getName());
+                List<String> playerIds = value.getPlayerIds() != null ? value.getPlayerIds() : List.of();
+                out.writeVarInt(playerIds.size());
+                playerIds.forEach(out::writeString);
+                out.writeSignedInt(value.getWins());
+                out.writeSignedInt(value.getLosses());
+            }
+            
+            @Override
+            public Team read(BinaryReader in, BinaryMessageSerializer serializer) {
+                String id = in.readString();
+                String name = in.readString();
+                int size = in.readVarInt();
+                List<String> playerIds = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    playerIds.add(in.readString());
+                }
+                return new Team(id, name, playerIds, in.readSignedInt(), in.readSignedInt());
+            }
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package com.nba.team.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Élément du flux d'un effectif ({@code GET /api/teams/{teamId}/roster}) : l'équipe en premier,
+ * puis un élément par joueur, ses informations ou l'erreur qui les a empêchées
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RosterItem(Team team, String actorId, Object info, String error) {
+    
+    public static RosterItem of(Team team) {
+        return new RosterItem(team, null, null, null);
+    }
+    
+    public static RosterItem player(String actorId, Object info) {
+        return new RosterItem(null, actorId, info, null);
+    }
+    
+    public static RosterItem failed(String actorId, String error) {
+        return new RosterItem(null, actorId, null, error);
+    }
+}
@@ -0,0 +1,10 @@
+package com.nba.team.model;
+
+/**
+ * Ligne du classement de la ligue
+ * @param winPercentage Pourcentage de victoires (0 à 1, arrondi au millième ; 0 sans match joué)
+ * @param gamesBehind Matchs de retard sur le premier : ((V1 - V) + (D - D1)) / 2
+ */
+public record Standing(int rank, String teamId, String teamName, int wins, int losses,
+                       double winPercentage, double gamesBehind) {
+}
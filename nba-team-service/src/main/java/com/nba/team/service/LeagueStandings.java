@@ -0,0 +1,130 @@
+package com.nba.team.service;
+
+import com.actorframework.core.serialization.SerializationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nba.team.model.Standing;
+import com.nba.team.model.Team;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Classement de la ligue, vue matérialisée côté lecture.
+ * Chaque résultat enregistré ({@code /update-record}) ne replace que l'équipe concernée dans le classement
+ * déjà trié, puis publie un nouvel {@link Snapshot} immuable qui remplace le précédent en une écriture.
+ * Les lectures ne prennent aucun verrou et n'allouent rien : le JSON du classement est produit
+ * une fois par changement, pas à chaque requête.
+ */
+@Slf4j
+@Component
+public class LeagueStandings {
+    
+    // Pourcentage de victoires décroissant (comparé sans arrondi), puis victoires, défaites et identifiant
+    private static final Comparator<Standing> ORDER = ((Comparator<Standing>) LeagueStandings::compareWinPercentage)
+        .thenComparing(Comparator.comparingInt(Standing::wins).reversed())
+        .thenComparingInt(Standing::losses)
+        .thenComparing(Standing::teamId);
+    
+    private final ObjectMapper objectMapper;
+    // Classement courant, modifié uniquement sous le verrou de l'écrivain
+    private Standing[] rows = new Standing[0];
+    private volatile Snapshot snapshot;
+    
+    /**
+     * Classement publié à un instant donné
+     * @param version Incrémentée à chaque changement
+     * @param json Classement déjà sérialisé, servi tel quel par {@code GET /api/teams/standings}
+     */
+    public record Snapshot(long version, List<Standing> standings, byte[] json) {
+    }
+    
+    public LeagueStandings(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.snapshot = publish(0, rows);
+    }
+    
+    /**
+     * Dernier classement publié (lecture sans verrou)
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+    
+    /**
+     * Reconstruit le classement à partir de toutes les équipes (reprise au démarrage)
+     */
+    public synchronized void load(Collection<Team> teams) {
+        Standing[] loaded = new Standing[teams.size()];
+        int i = 0;
+        for (Team team : teams) {
+            loaded[i++] = standing(team.getId(), team.getName(), team.getWins(), team.getLosses());
+        }
+        Arrays.sort(loaded, ORDER);
+        rows = loaded;
+        snapshot = publish(snapshot.version() + 1, rows);
+    }
+    
+    /**
+     * Ajoute une équipe ou met à jour son bilan : seule sa ligne est déplacée
+     */
+    public synchronized void update(String teamId, String teamName, int wins, int losses) {
+        Standing updated = standing(teamId, teamName, wins, losses);
+        Standing[] others = rows;
+        for (int i = 0; i < rows.length; i++) {
+            if (rows[i].teamId().equals(teamId)) {
+                if (rows[i].equals(updated)) {
+                    return;
+                }
+                others = new Standing[rows.length - 1];
+                System.arraycopy(rows, 0, others, 0, i);
+                System.arraycopy(rows, i + 1, others, i, others.length - i);
+                break;
+            }
+        }
+        int position = Arrays.binarySearch(others, updated, ORDER);
+        position = position >= 0 ? position : -position - 1;
+        Standing[] next = new Standing[others.length + 1];
+        System.arraycopy(others, 0, next, 0, position);
+        next[position] = updated;
+        System.arraycopy(others, position, next, position + 1, others.length - position);
+        rows = next;
+        snapshot = publish(snapshot.version() + 1, rows);
+    }
+    
+    /**
+     * Rangs et matchs de retard dépendent du premier : recalculés en un passage sur le classement trié
+     */
+    private Snapshot publish(long version, Standing[] sorted) {
+        Standing[] ranked = new Standing[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            Standing row = sorted[i];
+            double gamesBehind = ((sorted[0].wins() - row.wins()) + (row.losses() - sorted[0].losses())) / 2.0;
+            ranked[i] = new Standing(i + 1, row.teamId(), row.teamName(), row.wins(), row.losses(),
+                                     row.winPercentage(), gamesBehind);
+        }
+        List<Standing> standings = List.of(ranked);
+        try {
+            return new Snapshot(version, standings, objectMapper.writeValueAsBytes(standings));
+        } catch (IOException e) {
+            throw new SerializationException("Cannot encode league standings", e);
+        }
+    }
+    
+    private static Standing standing(String teamId, String teamName, int wins, int losses) {
+        int played = wins + losses;
+        double winPercentage = played == 0 ? 0.0 : Math.round(wins * 1000.0 / played) / 1000.0;
+        return new Standing(0, teamId, teamName, wins, losses, winPercentage, 0.0);
+    }
+    
+    private static int compareWinPercentage(Standing a, Standing b) {
+        // a.wins / a.played comparé à b.wins / b.played, par produit en croix
+        long left = (long) b.wins() * Math.max(a.wins() + a.losses(), 1);
+        long right = (long) a.wins() * Math.max(b.wins() + b.losses(), 1);
+        return Long.compare(left, right);
+    }
+}
@@ -1,21 +1,53 @@
 package com.nba.team.service;
 
+import com.actorframework.core.config.ActorFrameworkProperties;
+import com.actorframework.core.persistence.EventJournal;
+import com.actorframework.core.persistence.Snapshot;
+import com.nba.team.event.PlayerAddedToTeam;
+import com.nba.team.event.RecordUpdated;
 import com.nba.team.model.Team;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Service pour gérer la liste des équipes créées
+ * Service pour gérer la liste des équipes créées.
+ * Chaque équipe est un flux du journal d'événements du service ({@code /teams/<id>}) :
+ * création et modifications sont des instantanés, résultats et recrues des événements.
+ * Les équipes sont reprises du journal au démarrage du service.
+ * Chaque création et chaque résultat mettent aussi à jour le classement ({@link LeagueStandings}).
  */
+@Slf4j
 @Service
 @Getter
 public class TeamService {
     
+    private static final String PERSISTENCE_PREFIX = "/teams/";
+    
     // Map pour stocker les équipes créées (teamId -> Team)
     private final Map<String, Team> createdTeams = new ConcurrentHashMap<>();
+    // Liste immuable des équipes, remplacée à chaque création : servie sans copie par getAllTeams
+    @Getter(AccessLevel.NONE)
+    private volatile List<Team> teamList = List.of();
+    private final LeagueStandings standings;
+    // Journal du service (null si la persistance est désactivée)
+    @Getter(AccessLevel.NONE)
+    private final EventJournal journal;
+    @Getter(AccessLevel.NONE)
+    private final int snapshotEvery;
+    
+    public TeamService(ObjectProvider<EventJournal> journal, ActorFrameworkProperties properties,
+                       LeagueStandings standings) {
+        this.journal = journal.getIfAvailable();
+        this.snapshotEvery = properties.getPersistence().getSnapshotEvery();
+        this.standings = standings;
+        recoverTeams();
+    }
     
     /**
      * Vérifie si une équipe existe
@@ -29,6 +61,9 @@ public class TeamService {
      */
     public void addTeam(Team team) {
         createdTeams.put(team.getId(), team);
+        refreshTeamList();
+        saveSnapshot(team);
+        updateStanding(team);
     }
     
     /**
@@ -39,10 +74,14 @@ public class TeamService {
     }
     
     /**
-     * Récupère toutes les équipes créées
+     * Récupère toutes les équipes créées (liste immuable)
      */
     public List<Team> getAllTeams() {
-        return new ArrayList<>(createdTeams.values());
+        return teamList;
+    }
+    
+    private synchronized void refreshTeamList() {
+        teamList = List.copyOf(createdTeams.values());
     }
     
     /**
@@ -51,6 +90,9 @@ public class TeamService {
     public void updateTeam(Team team) {
         if (createdTeams.containsKey(team.getId())) {
             createdTeams.put(team.getId(), team);
+            refreshTeamList();
+            saveSnapshot(team);
+            updateStanding(team);
         }
     }
     
@@ -59,8 +101,92 @@ public class TeamService {
      */
     public void addPlayerToTeam(String teamId, String playerId) {
         Team team = createdTeams.get(teamId);
-        if (team != null && !team.getPlayerIds().contains(playerId)) {
-            team.getPlayerIds().add(playerId);
+        if (team != null) {
+            synchronized (team) {
+                if (!team.getPlayerIds().contains(playerId)) {
+                    persist(team, new PlayerAddedToTeam(playerId));
+                }
+            }
+        }
+    }
+    
+    /**
+     * Enregistre le résultat d'un match de l'équipe
+     * @return L'équipe mise à jour, null si elle n'existe pas
+     */
+    public Team recordResult(String teamId, boolean win) {
+        Team team = createdTeams.get(teamId);
+        if (team != null) {
+            synchronized (team) {
+                persist(team, new RecordUpdated(win));
+                updateStanding(team);
+            }
+        }
+        return team;
+    }
+    
+    private void persist(Team team, Object event) {
+        long sequenceNr = 0;
+        if (journal != null) {
+            sequenceNr = journal.append(PERSISTENCE_PREFIX + team.getId(), event);
+        }
+        applyEvent(team, event);
+        if (journal != null && snapshotEvery > 0 && sequenceNr % snapshotEvery == 0) {
+            journal.saveSnapshot(PERSISTENCE_PREFIX + team.getId(), sequenceNr, team);
+        }
+    }
+    
+    private static void applyEvent(Team team, Object event) {
+        if (event instanceof RecordUpdated recordUpdated) {
+            if (recordUpdated.win()) {
+                team.setWins(team.getWins() + 1);
+            } else {
+                team.setLosses(team.getLosses() + 1);
+            }
+        } else if (event instanceof PlayerAddedToTeam playerAdded) {
+            team.getPlayerIds().add(playerAdded.playerId());
+        }
+    }
+    
+    private void updateStanding(Team team) {
+        synchronized (team) {
+            standings.update(team.getId(), team.getName(), team.getWins(), team.getLosses());
+        }
+    }
+    
+    private void saveSnapshot(Team team) {
+        if (journal != null) {
+            synchronized (team) {
+                String persistenceId = PERSISTENCE_PREFIX + team.getId();
+                journal.saveSnapshot(persistenceId, journal.getHighestSequenceNr(persistenceId), team);
+            }
+        }
+    }
+    
+    /**
+     * Reprend chaque équipe de son dernier instantané, puis rejoue les événements suivants
+     */
+    private void recoverTeams() {
+        if (journal == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        for (String persistenceId : journal.getPersistenceIds()) {
+            if (!persistenceId.startsWith(PERSISTENCE_PREFIX)) {
+                continue;
+            }
+            Snapshot<Team> snapshot = journal.loadSnapshot(persistenceId, Team.class);
+            if (snapshot == null) {
+                log.warn("Team stream {} has no snapshot, not recovered", persistenceId);
+                continue;
+            }
+            Team team = snapshot.state();
+            journal.replay(persistenceId, snapshot.sequenceNr() + 1, event -> applyEvent(team, event));
+            createdTeams.put(team.getId(), team);
         }
+        refreshTeamList();
+        standings.load(createdTeams.values());
+        log.info("Recovered {} teams from the event journal in {} ms",
+                 createdTeams.size(), (System.nanoTime() - start) / 1_000_000);
     }
 }
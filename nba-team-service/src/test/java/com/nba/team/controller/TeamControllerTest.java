@@ -0,0 +1,81 @@
+package com.nba.team.controller;
+
+import com.actorframework.core.actor.ActorRef;
+import com.actorframework.core.communication.ActorRegistry;
+import com.actorframework.core.config.ActorFrameworkProperties;
+import com.actorframework.core.message.Message;
+import com.actorframework.core.persistence.EventJournal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nba.team.model.RosterItem;
+import com.nba.team.model.Team;
+import com.nba.team.service.LeagueStandings;
+import com.nba.team.service.TeamService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TeamControllerTest {
+    
+    @Test
+    void testRosterStreamsTeamThenOneItemPerPlayer() {
+        LeagueStandings standings = new LeagueStandings(new ObjectMapper());
+        TeamService teamService = new TeamService(new StaticListableBeanFactory().getBeanProvider(EventJournal.class),
+                                                  new ActorFrameworkProperties(), standings);
+        teamService.addTeam(new Team("LAL", "Lakers", new ArrayList<>(List.of("1", "2", "3")), 0, 0));
+        ActorRegistry actorRegistry = new ActorRegistry(null, WebClient.builder());
+        actorRegistry.registerLocalActor("/nba-player-service/user/PlayerActor/player-1",
+                                         new StubPlayerRef(Map.of("name", "LeBron James")));
+        // Ask résolu sans réponse, comme RemoteActorRef en cas d'erreur de transport
+        actorRegistry.registerLocalActor("/nba-player-service/user/PlayerActor/player-2", new StubPlayerRef(null));
+        TeamController controller = new TeamController(null, actorRegistry, null, teamService, standings);
+        
+        List<RosterItem> items = controller.getRoster("LAL").getBody().collectList().block();
+        
+        assertEquals(4, items.size());
+        assertEquals("Lakers", items.get(0).team().getName());
+        Map<String, RosterItem> byActor = items.subList(1, items.size()).stream()
+            .collect(Collectors.toMap(RosterItem::actorId, Function.identity()));
+        assertEquals(Map.of("name", "LeBron James"), byActor.get("player-1").info());
+        assertEquals("No response", byActor.get("player-2").error());
+        assertEquals("Player not found", byActor.get("player-3").error());
+        assertEquals(HttpStatus.NOT_FOUND, controller.getRoster("BOS").getStatusCode());
+    }
+    
+    record StubPlayerRef(Object info) implements ActorRef {
+        
+        @Override
+        public String getPath() {
+            return "stub://player";
+        }
+        
+        @Override
+        public void tell(Message message) {
+        }
+        
+        @Override
+        public Object ask(Message message, long timeoutMillis) {
+            return info;
+        }
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletableFuture<T> askAsync(Message message, long timeoutMillis) {
+            return CompletableFuture.completedFuture((T) info);
+        }
+        
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.nba.team.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nba.team.model.Standing;
+import com.nba.team.model.Team;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeagueStandingsTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Test
+    void testResultsMoveTeamAndRecomputeGamesBehind() throws Exception {
+        LeagueStandings standings = new LeagueStandings(objectMapper);
+        standings.load(List.of(new Team("BOS", "Celtics", new ArrayList<>(), 10, 2),
+                               new Team("LAL", "Lakers", new ArrayList<>(), 8, 4),
+                               new Team("GSW", "Warriors", new ArrayList<>(), 3, 1)));
+        
+        assertEquals(List.of("BOS", "GSW", "LAL"), teamIds(standings));
+        Standing lakers = standings.getSnapshot().standings().get(2);
+        assertEquals(0.667, lakers.winPercentage());
+        assertEquals(2.0, lakers.gamesBehind());
+        
+        LeagueStandings.Snapshot before = standings.getSnapshot();
+        standings.update("GSW", "Warriors", 11, 1);
+        
+        LeagueStandings.Snapshot after = standings.getSnapshot();
+        assertEquals(List.of("GSW", "BOS", "LAL"), teamIds(standings));
+        assertEquals(before.version() + 1, after.version());
+        assertEquals(List.of(0.0, 1.0, 3.0), after.standings().stream().map(Standing::gamesBehind).toList());
+        // L'instantané précédent n'est pas modifié
+        assertEquals("BOS", before.standings().get(0).teamId());
+        
+        List<?> json = objectMapper.readValue(after.json(), List.class);
+        assertEquals(1, ((Map<?, ?>) json.get(0)).get("rank"));
+        assertEquals("GSW", ((Map<?, ?>) json.get(0)).get("teamId"));
+        
+        // Bilan inchangé : aucun nouvel instantané
+        standings.update("LAL", "Lakers", 8, 4);
+        assertSame(after, standings.getSnapshot());
+    }
+    
+    private static List<String> teamIds(LeagueStandings standings) {
+        return standings.getSnapshot().standings().stream().map(Standing::teamId).toList();
+    }
+}